@@ -27,8 +27,7 @@ public abstract class JoglApplicationBase implements Application {
     protected JoglNet net;
     JoglFiles files;
     OpenALAudio audio;
-    protected final Array<Runnable> runnables = new Array<Runnable>();
-    protected final Array<Runnable> executedRunnables = new Array<Runnable>();
+    protected final JoglRunnableQueue runnables = new JoglRunnableQueue(60);
     int logLevel = LOG_INFO;
     protected ApplicationLogger applicationLogger;
     protected ApplicationListener listener;
@@ -40,6 +39,7 @@ public abstract class JoglApplicationBase implements Application {
         JoglNativesLoader.load();
         this.applicationLogger = new JoglApplicationLogger();
         this.listener = listener;
+        runnables.setBudget((long) (config.runnableBudget * 1000000));
         this.graphics = createGraphics(listener, config);
         this.input = createInput(graphics);
         if (!JoglApplicationConfiguration.disableAudio && Gdx.audio == null) {
@@ -163,23 +163,28 @@ public abstract class JoglApplicationBase implements Application {
 
     @Override
     public void postRunnable(Runnable runnable) {
-        synchronized (runnables) {
-            runnables.add(runnable);
-            Gdx.graphics.requestRendering();
-        }
+        runnables.post(runnable);
+        Gdx.graphics.requestRendering();
     }
 
+    /**
+     * Runs the posted runnables within {@link JoglApplicationConfiguration#runnableBudget}, the remaining ones are run by the
+     * next frame.
+     *
+     * @return whether any runnable was run
+     */
     public boolean executeRunnables() {
-        synchronized (runnables) {
-            for (int i = runnables.size - 1; i >= 0; i--)
-                executedRunnables.add(runnables.get(i));
-            runnables.clear();
-        }
-        if (executedRunnables.size == 0) return false;
-        do
-            executedRunnables.pop().run();
-        while (executedRunnables.size > 0);
-        return true;
+        final Object event = JoglFlightRecorder.begin(JoglFlightRecorder.RUNNABLES);
+        final int run = runnables.run();
+        // the runnables are run before the frame they precede is counted
+        JoglFlightRecorder.commit(event, graphics.frameId + 1, run, runnables.getDepth());
+        if (!runnables.isEmpty()) graphics.requestRendering();
+        return run > 0;
+    }
+
+    /** @return the queue of the posted runnables, e.g. to read its depth and latency */
+    public JoglRunnableQueue getRunnableQueue() {
+        return runnables;
     }
 
     @Override
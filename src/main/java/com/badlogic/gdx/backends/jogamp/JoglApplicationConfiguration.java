@@ -26,6 +26,58 @@ public abstract class JoglApplicationConfiguration {
 	public static boolean disableAudio;
 	/** whether to attempt use OpenGL ES 3.0. **/
 	public boolean useGL30 = false;
+	/** whether the GL wrapper resolves the GL interfaces once per context instead of looking up the current GL on every call.
+	 * Only use it when all the GL calls are made on the rendering thread. **/
+	public boolean bindGLContext = false;
+	/** whether every GL call checks that the calling thread owns the context the GL wrapper is bound to, for debugging **/
+	public boolean checkGLContextThread = false;
+	/** whether to emulate client-side vertex arrays and index buffers on core profile contexts, where they were removed, see
+	 * {@link JoglClientArrays} **/
+	public boolean emulateClientArrays = true;
+	/** whether to drop the GL calls that wouldn't change the bound objects or the blend, depth and cull state, see
+	 * {@link JoglGLStateCache} **/
+	public boolean cacheGLState = false;
+	/** whether to remember the uniform and attribute locations of each program, see {@link JoglGLLocationCache} **/
+	public boolean cacheGLLocations = false;
+	/** whether to count and time the GL calls of each frame, see {@link JoglGLProfiler} **/
+	public boolean profileGL = false;
+	/** number of frames of the rolling window of the GL profiler **/
+	public int glProfilerWindow = 60;
+	/** whether to measure the GPU time of each frame with timer queries, see {@link JoglGPUTimer}. Ignored when the context
+	 * doesn't support them. **/
+	public boolean timeGPU = false;
+	/** the directory, relative to the external storage path, where the binaries of the linked programs are cached so that
+	 * later launches skip compiling and linking the shaders, null to disable the cache, see {@link JoglProgramBinaryCache}.
+	 * Ignored when the driver can't retrieve program binaries. **/
+	public String programBinaryCache = null;
+	/** the size in bytes above which the least recently used program binaries are deleted **/
+	public long programBinaryCacheSize = 32 * 1024 * 1024;
+	/** whether to run a loader thread with a context sharing the objects of the rendering one, so that uploads don't compete
+	 * with the rendering, see {@link JoglResourceLoader} **/
+	public boolean resourceLoader = false;
+	/** decides when the render loop starts the frames, null to pace them to {@link #foregroundFPS} and {@link #backgroundFPS},
+	 * see {@link JoglRenderLoop} **/
+	public JoglRenderLoop.Scheduler renderLoopScheduler = null;
+	/** priority of the render loop thread **/
+	public int renderThreadPriority = Thread.NORM_PRIORITY;
+	/** run on the render loop thread before the first frame, e.g. to set its CPU affinity with a native library, can be null **/
+	public Runnable renderThreadInitializer = null;
+	/** the time in milliseconds the posted runnables may take per frame, the remaining ones are run by the next frames, 0 for
+	 * no limit, see {@link JoglRunnableQueue} **/
+	public float runnableBudget = 0;
+	/** called at {@link #fixedTimestepRate} before each frame is rendered, see {@link JoglFixedTimestep}, null to only use
+	 * the variable delta time **/
+	public JoglFixedTimestep.Listener fixedTimestepListener = null;
+	/** number of fixed updates per second **/
+	public int fixedTimestepRate = 60;
+	/** the maximum number of fixed updates per frame, the simulation doesn't catch up beyond **/
+	public int fixedTimestepMaxSteps = 5;
+	/** number of frames the percentiles of {@link JoglFrameStats} are computed over **/
+	public int frameStatsWindow = 300;
+	/** told about the frames taking at least {@link #hitchThreshold} milliseconds, along with their phases, can be null **/
+	public JoglFrameStats.HitchListener hitchListener = null;
+	/** the frame time in milliseconds from which a frame is a hitch **/
+	public float hitchThreshold = 50;
 	/** number of bits per color channel **/
 	public int r = 8, g = 8, b = 8, a = 8;
 	/** number of bits for depth and stencil buffer **/
@@ -53,9 +105,9 @@ public abstract class JoglApplicationConfiguration {
 	/** the audio device buffer count **/
 	public int audioDeviceBufferCount = 9;
 	/** Target framerate when the window is in the foreground. The CPU sleeps as needed. Use 0 to never sleep. **/
-	public int foregroundFPS = 60;//FIXME use it
+	public int foregroundFPS = 60;
 	/** Target framerate when the window is not in the foreground. The CPU sleeps as needed. Use 0 to never sleep, -1 to not render. **/
-	public int backgroundFPS = 60;//FIXME use it
+	public int backgroundFPS = 60;
 
 	public JoglApplicationConfiguration() {
 		super();
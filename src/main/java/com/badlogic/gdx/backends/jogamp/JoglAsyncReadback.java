@@ -0,0 +1,219 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.nio.ByteBuffer;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+
+/** Reads regions of the framebuffer back without stalling the pipeline. Each read goes into a GL_PIXEL_PACK_BUFFER taken from
+ * a small ring and the pixels are handed to a callback once the copy is done, a few frames later: when a fence sync is
+ * signaled on GL 3, after as many frames as there are buffers otherwise. When pixel buffer objects aren't supported, the
+ * region is read with a plain glReadPixels and the callback is called right away.
+ * <p>
+ * {@link #request(int, int, int, int, Callback)} can be called from any thread, the reads happen on the rendering thread in
+ * {@link #update(long)}, after the frame was rendered. The pixels are RGBA, 4 bytes each, with the bottom row first. */
+public class JoglAsyncReadback {
+	/** GL_READ_ONLY, missing from {@link GL30} */
+	static final int GL_READ_ONLY = 0x88B8;
+
+	/** Receives the pixels of a region on the rendering thread. */
+	public interface Callback {
+		/** @param pixels the RGBA pixels, only valid during the call */
+		void pixels (ByteBuffer pixels, int width, int height);
+	}
+
+	static class Request {
+		int x, y, width, height;
+		Callback callback;
+		int buffer;
+		long fence;
+		long frameId;
+	}
+
+	private final int buffers;
+	private final Array<Request> requested = new Array<Request>();
+	/** the reads waiting for their copy to complete, the oldest first */
+	private final Array<Request> inFlight = new Array<Request>();
+	private final IntArray freeBuffers = new IntArray();
+	/** the capacity of each buffer object, by name */
+	private final IntArray capacities = new IntArray();
+	private final IntArray names = new IntArray();
+
+	private GL20 gl;
+	private JoglGL20 jogl;
+	private JoglGL30 jogl30;
+	private boolean pixelBuffers;
+	private ByteBuffer pixels;
+	private long completed;
+
+	/** @param buffers the number of pixel buffer objects, hence of reads in flight */
+	public JoglAsyncReadback (int buffers) {
+		if (buffers < 1) throw new IllegalArgumentException("buffers must be at least 1: " + buffers);
+		this.buffers = buffers;
+	}
+
+	/** Sets the GL the reads are made with, whenever a context is created. The reads in flight in the previous context are
+	 * requested again.
+	 * @param gl the GL used by the application, which may be decorated
+	 * @param jogl the wrapper it ends with, for the calls missing from {@link GL20}
+	 * @param pixelBuffers whether the context supports pixel buffer objects */
+	public void setGL (GL20 gl, JoglGL20 jogl, boolean pixelBuffers) {
+		synchronized (requested) {
+			for (int i = inFlight.size - 1; i >= 0; i--)
+				requested.insert(0, inFlight.get(i));
+		}
+		inFlight.clear();
+		freeBuffers.clear();
+		capacities.clear();
+		names.clear();
+		this.gl = gl;
+		this.jogl = jogl;
+		this.jogl30 = jogl instanceof JoglGL30 ? (JoglGL30)jogl : null;
+		this.pixelBuffers = pixelBuffers;
+	}
+
+	/** @return whether the reads go through pixel buffer objects rather than a plain glReadPixels */
+	public boolean usesPixelBuffers () {
+		return pixelBuffers;
+	}
+
+	/** Requests the pixels of a region of the framebuffer at the end of the next rendered frame. Can be called from any
+	 * thread. */
+	public void request (int x, int y, int width, int height, Callback callback) {
+		if (width <= 0 || height <= 0) throw new IllegalArgumentException("Empty region: " + width + "x" + height);
+		if (callback == null) throw new IllegalArgumentException("callback must not be null");
+		final Request request = new Request();
+		request.x = x;
+		request.y = y;
+		request.width = width;
+		request.height = height;
+		request.callback = callback;
+		synchronized (requested) {
+			requested.add(request);
+		}
+	}
+
+	/** @return the number of reads waiting for their copy to complete */
+	public int getInFlight () {
+		return inFlight.size;
+	}
+
+	/** @return the number of regions delivered so far */
+	public long getCompleted () {
+		return completed;
+	}
+
+	/** Delivers the completed reads and issues the requested ones, must be called on the rendering thread after the frame was
+	 * rendered. */
+	public void update (long frameId) {
+		if (gl == null) return;
+		while (inFlight.size > 0 && isComplete(inFlight.first(), frameId))
+			deliver(inFlight.removeIndex(0));
+
+		synchronized (requested) {
+			while (requested.size > 0 && (!pixelBuffers || inFlight.size < buffers)) {
+				final Request request = requested.removeIndex(0);
+				if (pixelBuffers)
+					read(request, frameId);
+				else
+					readNow(request);
+			}
+		}
+	}
+
+	private boolean isComplete (Request request, long frameId) {
+		if (request.fence == 0) return frameId - request.frameId >= buffers;
+		final int status = jogl30.glClientWaitSync(request.fence, 0, 0);
+		if (status == GL30.GL_WAIT_FAILED) throw new GdxRuntimeException("glClientWaitSync failed");
+		return status == GL30.GL_ALREADY_SIGNALED || status == GL30.GL_CONDITION_SATISFIED;
+	}
+
+	private void read (Request request, long frameId) {
+		final int size = request.width * request.height * 4;
+		final int buffer = freeBuffers.size > 0 ? freeBuffers.pop() : newBuffer();
+		gl.glBindBuffer(GL30.GL_PIXEL_PACK_BUFFER, buffer);
+		final int index = names.indexOf(buffer);
+		if (capacities.get(index) < size) {
+			gl.glBufferData(GL30.GL_PIXEL_PACK_BUFFER, size, null, GL30.GL_STREAM_READ);
+			capacities.set(index, size);
+		}
+		jogl.glReadPixels(request.x, request.y, request.width, request.height, GL20.GL_RGBA, GL20.GL_UNSIGNED_BYTE, 0L);
+		gl.glBindBuffer(GL30.GL_PIXEL_PACK_BUFFER, 0);
+		request.buffer = buffer;
+		request.frameId = frameId;
+		request.fence = jogl30 != null ? jogl30.glFenceSync(GL30.GL_SYNC_GPU_COMMANDS_COMPLETE, 0) : 0;
+		inFlight.add(request);
+	}
+
+	private int newBuffer () {
+		final int buffer = gl.glGenBuffer();
+		names.add(buffer);
+		capacities.add(0);
+		return buffer;
+	}
+
+	private void deliver (Request request) {
+		if (request.fence != 0) jogl30.glDeleteSync(request.fence);
+		gl.glBindBuffer(GL30.GL_PIXEL_PACK_BUFFER, request.buffer);
+		final ByteBuffer mapped = jogl.glMapBuffer(GL30.GL_PIXEL_PACK_BUFFER, GL_READ_ONLY);
+		if (mapped == null) {
+			gl.glBindBuffer(GL30.GL_PIXEL_PACK_BUFFER, 0);
+			freeBuffers.add(request.buffer);
+			throw new GdxRuntimeException("Couldn't map the pixel pack buffer");
+		}
+		try {
+			mapped.clear();
+			mapped.limit(request.width * request.height * 4);
+			completed++;
+			request.callback.pixels(mapped, request.width, request.height);
+		} finally {
+			jogl.glUnmapBuffer(GL30.GL_PIXEL_PACK_BUFFER);
+			gl.glBindBuffer(GL30.GL_PIXEL_PACK_BUFFER, 0);
+			freeBuffers.add(request.buffer);
+		}
+	}
+
+	private void readNow (Request request) {
+		final int size = request.width * request.height * 4;
+		if (pixels == null || pixels.capacity() < size) pixels = BufferUtils.newByteBuffer(size);
+		pixels.clear();
+		pixels.limit(size);
+		gl.glReadPixels(request.x, request.y, request.width, request.height, GL20.GL_RGBA, GL20.GL_UNSIGNED_BYTE, pixels);
+		pixels.clear();
+		pixels.limit(size);
+		completed++;
+		request.callback.pixels(pixels, request.width, request.height);
+	}
+
+	/** Deletes the buffer objects and the fences, dropping the reads in flight. Must be called while the context is current. */
+	public void dispose () {
+		if (gl == null) return;
+		for (int i = 0; i < inFlight.size; i++)
+			if (inFlight.get(i).fence != 0) jogl30.glDeleteSync(inFlight.get(i).fence);
+		inFlight.clear();
+		for (int i = 0; i < names.size; i++)
+			gl.glDeleteBuffer(names.get(i));
+		names.clear();
+		capacities.clear();
+		freeBuffers.clear();
+	}
+}
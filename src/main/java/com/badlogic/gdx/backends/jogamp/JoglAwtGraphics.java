@@ -234,7 +234,7 @@ public class JoglAwtGraphics extends JoglGraphicsBase {
 		if (frame == null) return false;
 
 		// create new canvas, sharing the rendering context with the old canvas
-		// and pause the animator
+		// and pause the render loop
 		super.pause();
 		GLCanvas newCanvas = new GLCanvas(canvas.getChosenGLCapabilities(), null, device);
 		newCanvas.setSharedContext(canvas.getContext());
@@ -286,7 +286,7 @@ public class JoglAwtGraphics extends JoglGraphicsBase {
 			if (frame == null) return false;
 
 			// create new canvas, sharing the rendering context with the old canvas
-			// and pause the animator
+			// and pause the render loop
 			super.pause();
 			GLCanvas newCanvas = new GLCanvas(canvas.getChosenGLCapabilities(), null, device);
 			newCanvas.setSharedContext(canvas.getContext());
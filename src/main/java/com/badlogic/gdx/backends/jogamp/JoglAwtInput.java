@@ -37,10 +37,7 @@ import java.awt.event.MouseWheelListener;
 import java.awt.event.WindowEvent;
 import java.awt.event.WindowFocusListener;
 import java.awt.image.BufferedImage;
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.Arrays;
 
 import javax.swing.JDialog;
 import javax.swing.JFrame;
@@ -58,59 +55,26 @@ import javax.swing.event.DocumentListener;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.InputProcessor;
-import com.badlogic.gdx.utils.Pool;
 
 public class JoglAwtInput implements JoglInput, MouseMotionListener, MouseListener, MouseWheelListener, KeyListener {
-	class KeyEvent {
-		static final int KEY_DOWN = 0;
-		static final int KEY_UP = 1;
-		static final int KEY_TYPED = 2;
-
-		long timeStamp;
-		int type;
-		int keyCode;
-		char keyChar;
-	}
-
-	class TouchEvent {
-		static final int TOUCH_DOWN = 0;
-		static final int TOUCH_UP = 1;
-		static final int TOUCH_DRAGGED = 2;
-		static final int TOUCH_MOVED = 3;
-		static final int TOUCH_SCROLLED = 4;
-
-		long timeStamp;
-		int type;
-		int x;
-		int y;
-		int pointer;
-		int button;
-		int scrollAmount;
-	}
-
-	Pool<KeyEvent> usedKeyEvents = new Pool<KeyEvent>(16, 1000) {
-		protected KeyEvent newObject () {
-			return new KeyEvent();
-		}
-	};
-
-	Pool<TouchEvent> usedTouchEvents = new Pool<TouchEvent>(16, 1000) {
-		protected TouchEvent newObject () {
-			return new TouchEvent();
-		}
-	};
-
-	List<KeyEvent> keyEvents = new ArrayList<KeyEvent>();
-	List<TouchEvent> touchEvents = new ArrayList<TouchEvent>();
+	/** the events queued by the toolkit thread for the rendering thread */
+	final JoglInputEventQueue events = new JoglInputEventQueue(JoglInputEventQueue.DEFAULT_CAPACITY);
 	int touchX = 0;
 	int touchY = 0;
 	int deltaX = 0;
 	int deltaY = 0;
 	boolean touchDown = false;
 	boolean justTouched = false;
-	Set<Integer> keys = new HashSet<Integer>();
-	Set<Integer> pressedButtons = new HashSet<Integer>();
-	InputProcessor processor;
+	/** the state of the keys and of the buttons, indexed by libgdx key code and button, only used by the rendering thread */
+	final boolean[] keys = new boolean[256];
+	final boolean[] justPressedKeys = new boolean[256];
+	final boolean[] justReleasedKeys = new boolean[256];
+	final boolean[] pressedButtons = new boolean[5];
+	int pressedKeyCount;
+	int pressedButtonCount;
+	boolean keyJustPressed;
+	boolean keyJustReleased;
+	volatile InputProcessor processor;
 	Component component;
 	boolean catched = false;
 	Robot robot = null;
@@ -287,12 +251,8 @@ public class JoglAwtInput implements JoglInput, MouseMotionListener, MouseListen
 
 	@Override
 	public boolean isKeyPressed (int key) {
-		synchronized (this) {
-			if (key == Input.Keys.ANY_KEY)
-				return keys.size() > 0;
-				else
-					return keys.contains(key);
-		}
+		if (key == Input.Keys.ANY_KEY) return pressedKeyCount > 0;
+		return key >= 0 && key < keys.length && keys[key];
 	}
 
 	@Override
@@ -318,79 +278,103 @@ public class JoglAwtInput implements JoglInput, MouseMotionListener, MouseListen
 		return isTouched(pointer) ? 1 : 0;
 	}
 
+	/** Processes the events queued so far, updating the state of the keys and of the pointer. The events queued meanwhile are left
+	 * to the next frame. */
 	@Override
 	public void processEvents () {
-		synchronized (this) {
-			justTouched = false;
-
-			if (processor != null) {
-				InputProcessor processor = this.processor;
-
-				int len = keyEvents.size();
-				for (int i = 0; i < len; i++) {
-					KeyEvent e = keyEvents.get(i);
-					currentEventTimeStamp = e.timeStamp;
-					switch (e.type) {
-					case KeyEvent.KEY_DOWN:
-						processor.keyDown(e.keyCode);
-						break;
-					case KeyEvent.KEY_UP:
-						processor.keyUp(e.keyCode);
-						break;
-					case KeyEvent.KEY_TYPED:
-						processor.keyTyped(e.keyChar);
-					}
-					usedKeyEvents.free(e);
+		justTouched = false;
+		if (keyJustPressed) {
+			keyJustPressed = false;
+			Arrays.fill(justPressedKeys, false);
+		}
+		if (keyJustReleased) {
+			keyJustReleased = false;
+			Arrays.fill(justReleasedKeys, false);
+		}
+		final InputProcessor processor = this.processor;
+		boolean touched = false;
+		for (int i = events.size(); i > 0; i--) {
+			final JoglInputEventQueue.Event e = events.peek();
+			currentEventTimeStamp = e.timeStamp;
+			switch (e.type) {
+			case JoglInputEventQueue.KEY_DOWN:
+				if (!keys[e.keyCode]) {
+					keys[e.keyCode] = true;
+					pressedKeyCount++;
+					justPressedKeys[e.keyCode] = true;
+					keyJustPressed = true;
 				}
-
-				len = touchEvents.size();
-				for (int i = 0; i < len; i++) {
-					TouchEvent e = touchEvents.get(i);
-					currentEventTimeStamp = e.timeStamp;
-					switch (e.type) {
-					case TouchEvent.TOUCH_DOWN:
-						processor.touchDown(e.x, e.y, e.pointer, e.button);
-						justTouched = true;
-						break;
-					case TouchEvent.TOUCH_UP:
-						processor.touchUp(e.x, e.y, e.pointer, e.button);
-						break;
-					case TouchEvent.TOUCH_DRAGGED:
-						processor.touchDragged(e.x, e.y, e.pointer);
-						break;
-					case TouchEvent.TOUCH_MOVED:
-						processor.mouseMoved(e.x, e.y);
-						break;
-					case TouchEvent.TOUCH_SCROLLED:
-						processor.scrolled(e.scrollAmount);
-						break;
-					}
-					usedTouchEvents.free(e);
+				if (processor != null) processor.keyDown(e.keyCode);
+				break;
+			case JoglInputEventQueue.KEY_UP:
+				if (keys[e.keyCode]) {
+					keys[e.keyCode] = false;
+					pressedKeyCount--;
+					justReleasedKeys[e.keyCode] = true;
+					keyJustReleased = true;
 				}
-			} else {
-				int len = touchEvents.size();
-				for (int i = 0; i < len; i++) {
-					TouchEvent event = touchEvents.get(i);
-					if (event.type == TouchEvent.TOUCH_DOWN) justTouched = true;
-					usedTouchEvents.free(event);
+				if (processor != null) processor.keyUp(e.keyCode);
+				break;
+			case JoglInputEventQueue.KEY_TYPED:
+				if (processor != null) processor.keyTyped(e.keyChar);
+				break;
+			case JoglInputEventQueue.TOUCH_DOWN:
+				moveTo(e.x, e.y);
+				touchDown = true;
+				justTouched = true;
+				if (!pressedButtons[e.button]) {
+					pressedButtons[e.button] = true;
+					pressedButtonCount++;
 				}
-
-				len = keyEvents.size();
-				for (int i = 0; i < len; i++) {
-					usedKeyEvents.free(keyEvents.get(i));
+				if (processor != null) processor.touchDown(e.x, e.y, e.pointer, e.button);
+				break;
+			case JoglInputEventQueue.TOUCH_UP:
+				moveTo(e.x, e.y);
+				if (pressedButtons[e.button]) {
+					pressedButtons[e.button] = false;
+					pressedButtonCount--;
 				}
+				if (pressedButtonCount == 0) touchDown = false;
+				if (processor != null) processor.touchUp(e.x, e.y, e.pointer, e.button);
+				break;
+			case JoglInputEventQueue.TOUCH_DRAGGED:
+				moveTo(e.x, e.y);
+				if (processor != null) processor.touchDragged(e.x, e.y, e.pointer);
+				break;
+			case JoglInputEventQueue.TOUCH_MOVED:
+				moveTo(e.x, e.y);
+				if (processor != null) processor.mouseMoved(e.x, e.y);
+				break;
+			case JoglInputEventQueue.TOUCH_ENTERED:
+				touchX = e.x;
+				touchY = e.y;
+				break;
+			case JoglInputEventQueue.TOUCH_SCROLLED:
+				if (processor != null) processor.scrolled((int) e.scrollAmount);
+				break;
 			}
+			if (e.type >= JoglInputEventQueue.TOUCH_DOWN && e.type != JoglInputEventQueue.TOUCH_ENTERED) touched = true;
+			events.remove();
+		}
 
-			if (touchEvents.size() == 0) {
-				deltaX = 0;
-				deltaY = 0;
-			}
-
-			keyEvents.clear();
-			touchEvents.clear();
+		if (!touched) {
+			deltaX = 0;
+			deltaY = 0;
 		}
 	}
 
+	private void moveTo (int x, int y) {
+		deltaX = x - touchX;
+		deltaY = y - touchY;
+		touchX = x;
+		touchY = y;
+	}
+
+	/** @return the queue of the events waiting for {@link #processEvents()} */
+	public JoglInputEventQueue getEventQueue () {
+		return events;
+	}
+
 	@Override
 	public void setCatchBackKey (boolean catchBack) {
 
@@ -403,42 +387,14 @@ public class JoglAwtInput implements JoglInput, MouseMotionListener, MouseListen
 
 	@Override
 	public void mouseDragged (MouseEvent e) {
-		synchronized (this) {
-			TouchEvent event = usedTouchEvents.obtain();
-			event.pointer = 0;
-			event.x = e.getX();
-			event.y = e.getY();
-			event.type = TouchEvent.TOUCH_DRAGGED;
-			event.timeStamp = System.nanoTime();
-			touchEvents.add(event);
-
-			deltaX = event.x - touchX;
-			deltaY = event.y - touchY;
-			touchX = event.x;
-			touchY = event.y;
-			checkCatched(e);
-			Gdx.graphics.requestRendering();
-		}
+		queueTouch(JoglInputEventQueue.TOUCH_DRAGGED, e);
+		checkCatched(e);
 	}
 
 	@Override
 	public void mouseMoved (MouseEvent e) {
-		synchronized (this) {
-			TouchEvent event = usedTouchEvents.obtain();
-			event.pointer = 0;
-			event.x = e.getX();
-			event.y = e.getY();
-			event.type = TouchEvent.TOUCH_MOVED;
-			event.timeStamp = System.nanoTime();
-			touchEvents.add(event);
-
-			deltaX = event.x - touchX;
-			deltaY = event.y - touchY;
-			touchX = event.x;
-			touchY = event.y;
-			checkCatched(e);
-			Gdx.graphics.requestRendering();
-		}
+		queueTouch(JoglInputEventQueue.TOUCH_MOVED, e);
+		checkCatched(e);
 	}
 
 	@Override
@@ -447,10 +403,9 @@ public class JoglAwtInput implements JoglInput, MouseMotionListener, MouseListen
 
 	@Override
 	public void mouseEntered (MouseEvent e) {
-		touchX = e.getX();
-		touchY = e.getY();
+		// the pointer state is only written by the rendering thread
+		queueTouch(JoglInputEventQueue.TOUCH_ENTERED, e);
 		checkCatched(e);
-		Gdx.graphics.requestRendering();
 	}
 
 	@Override
@@ -478,200 +433,167 @@ public class JoglAwtInput implements JoglInput, MouseMotionListener, MouseListen
 
 	@Override
 	public void mousePressed (MouseEvent e) {
-		synchronized (this) {
-			TouchEvent event = usedTouchEvents.obtain();
-			event.pointer = 0;
-			event.x = e.getX();
-			event.y = e.getY();
-			event.type = TouchEvent.TOUCH_DOWN;
-			event.button = toGdxButton(e.getButton());
-			event.timeStamp = System.nanoTime();
-			touchEvents.add(event);
-
-			deltaX = event.x - touchX;
-			deltaY = event.y - touchY;
-			touchX = event.x;
-			touchY = event.y;
-			touchDown = true;
-			pressedButtons.add(event.button);
-			Gdx.graphics.requestRendering();
-		}
+		queueTouch(JoglInputEventQueue.TOUCH_DOWN, e);
 	}
 
 	@Override
 	public void mouseReleased (MouseEvent e) {
-		synchronized (this) {
-			TouchEvent event = usedTouchEvents.obtain();
-			event.pointer = 0;
-			event.x = e.getX();
-			event.y = e.getY();
-			event.button = toGdxButton(e.getButton());
-			event.type = TouchEvent.TOUCH_UP;
-			event.timeStamp = System.nanoTime();
-			touchEvents.add(event);
-
-			deltaX = event.x - touchX;
-			deltaY = event.y - touchY;
-			touchX = event.x;
-			touchY = event.y;
-			pressedButtons.remove(event.button);
-			if (pressedButtons.size() == 0) touchDown = false;
-			Gdx.graphics.requestRendering();
-		}
+		queueTouch(JoglInputEventQueue.TOUCH_UP, e);
 	}
 
 	@Override
 	public void mouseWheelMoved (MouseWheelEvent e) {
-		synchronized (this) {
-			TouchEvent event = usedTouchEvents.obtain();
-			event.pointer = 0;
-			event.type = TouchEvent.TOUCH_SCROLLED;
-			event.scrollAmount = e.getWheelRotation();
-			event.timeStamp = System.nanoTime();
-			touchEvents.add(event);
-			Gdx.graphics.requestRendering();
-		}
+		final JoglInputEventQueue.Event event = events.next(false);
+		if (event == null) return;
+		event.pointer = 0;
+		event.type = JoglInputEventQueue.TOUCH_SCROLLED;
+		event.scrollAmount = e.getWheelRotation();
+		event.timeStamp = System.nanoTime();
+		events.publish();
+		Gdx.graphics.requestRendering();
+	}
+
+	private void queueTouch (int type, MouseEvent e) {
+		final boolean move = type == JoglInputEventQueue.TOUCH_DRAGGED || type == JoglInputEventQueue.TOUCH_MOVED
+			|| type == JoglInputEventQueue.TOUCH_ENTERED;
+		final JoglInputEventQueue.Event event = events.next(move);
+		if (event == null) return;
+		event.pointer = 0;
+		event.x = e.getX();
+		event.y = e.getY();
+		event.button = move ? 0 : toGdxButton(e.getButton());
+		event.type = type;
+		event.timeStamp = System.nanoTime();
+		events.publish();
+		Gdx.graphics.requestRendering();
 	}
 
 	@Override
 	public void keyPressed (java.awt.event.KeyEvent e) {
-		synchronized (this) {
-			KeyEvent event = usedKeyEvents.obtain();
-			event.keyChar = 0;
-			event.keyCode = translateKeyCode(e.getKeyCode());
-			event.type = KeyEvent.KEY_DOWN;
-			event.timeStamp = System.nanoTime();
-			keyEvents.add(event);
-			keys.add(event.keyCode);
-			Gdx.graphics.requestRendering();
-		}
+		queueKey(JoglInputEventQueue.KEY_DOWN, translateKeyCode(e.getKeyCode()), (char) 0);
 	}
 
 	@Override
 	public void keyReleased (java.awt.event.KeyEvent e) {
-		synchronized (this) {
-			KeyEvent event = usedKeyEvents.obtain();
-			event.keyChar = 0;
-			event.keyCode = translateKeyCode(e.getKeyCode());
-			event.type = KeyEvent.KEY_UP;
-			event.timeStamp = System.nanoTime();
-			keyEvents.add(event);
-			keys.remove(event.keyCode);
-			Gdx.graphics.requestRendering();
-		}
+		queueKey(JoglInputEventQueue.KEY_UP, translateKeyCode(e.getKeyCode()), (char) 0);
 	}
 
 	@Override
 	public void keyTyped (java.awt.event.KeyEvent e) {
-		synchronized (this) {
-			KeyEvent event = usedKeyEvents.obtain();
-			event.keyChar = e.getKeyChar();
-			event.keyCode = 0;
-			event.type = KeyEvent.KEY_TYPED;
-			event.timeStamp = System.nanoTime();
-			keyEvents.add(event);
-			Gdx.graphics.requestRendering();
-		}
+		queueKey(JoglInputEventQueue.KEY_TYPED, 0, e.getKeyChar());
+	}
+
+	private void queueKey (int type, int keyCode, char keyChar) {
+		final JoglInputEventQueue.Event event = events.next(false);
+		if (event == null) return;
+		event.keyChar = keyChar;
+		event.keyCode = keyCode;
+		event.type = type;
+		event.timeStamp = System.nanoTime();
+		events.publish();
+		Gdx.graphics.requestRendering();
+	}
+
+	/** the libgdx key codes indexed by AWT key code, the translated ones all being below 1024 but VK_ALT_GRAPH */
+	private static final int[] keyCodes = new int[1024];
+	static {
+		keyCodes[java.awt.event.KeyEvent.VK_ADD] = Input.Keys.PLUS;
+		keyCodes[java.awt.event.KeyEvent.VK_SUBTRACT] = Input.Keys.MINUS;
+		keyCodes[java.awt.event.KeyEvent.VK_0] = Input.Keys.NUM_0;
+		keyCodes[java.awt.event.KeyEvent.VK_1] = Input.Keys.NUM_1;
+		keyCodes[java.awt.event.KeyEvent.VK_2] = Input.Keys.NUM_2;
+		keyCodes[java.awt.event.KeyEvent.VK_3] = Input.Keys.NUM_3;
+		keyCodes[java.awt.event.KeyEvent.VK_4] = Input.Keys.NUM_4;
+		keyCodes[java.awt.event.KeyEvent.VK_5] = Input.Keys.NUM_5;
+		keyCodes[java.awt.event.KeyEvent.VK_6] = Input.Keys.NUM_6;
+		keyCodes[java.awt.event.KeyEvent.VK_7] = Input.Keys.NUM_7;
+		keyCodes[java.awt.event.KeyEvent.VK_8] = Input.Keys.NUM_8;
+		keyCodes[java.awt.event.KeyEvent.VK_9] = Input.Keys.NUM_9;
+		keyCodes[java.awt.event.KeyEvent.VK_A] = Input.Keys.A;
+		keyCodes[java.awt.event.KeyEvent.VK_B] = Input.Keys.B;
+		keyCodes[java.awt.event.KeyEvent.VK_C] = Input.Keys.C;
+		keyCodes[java.awt.event.KeyEvent.VK_D] = Input.Keys.D;
+		keyCodes[java.awt.event.KeyEvent.VK_E] = Input.Keys.E;
+		keyCodes[java.awt.event.KeyEvent.VK_F] = Input.Keys.F;
+		keyCodes[java.awt.event.KeyEvent.VK_G] = Input.Keys.G;
+		keyCodes[java.awt.event.KeyEvent.VK_H] = Input.Keys.H;
+		keyCodes[java.awt.event.KeyEvent.VK_I] = Input.Keys.I;
+		keyCodes[java.awt.event.KeyEvent.VK_J] = Input.Keys.J;
+		keyCodes[java.awt.event.KeyEvent.VK_K] = Input.Keys.K;
+		keyCodes[java.awt.event.KeyEvent.VK_L] = Input.Keys.L;
+		keyCodes[java.awt.event.KeyEvent.VK_M] = Input.Keys.M;
+		keyCodes[java.awt.event.KeyEvent.VK_N] = Input.Keys.N;
+		keyCodes[java.awt.event.KeyEvent.VK_O] = Input.Keys.O;
+		keyCodes[java.awt.event.KeyEvent.VK_P] = Input.Keys.P;
+		keyCodes[java.awt.event.KeyEvent.VK_Q] = Input.Keys.Q;
+		keyCodes[java.awt.event.KeyEvent.VK_R] = Input.Keys.R;
+		keyCodes[java.awt.event.KeyEvent.VK_S] = Input.Keys.S;
+		keyCodes[java.awt.event.KeyEvent.VK_T] = Input.Keys.T;
+		keyCodes[java.awt.event.KeyEvent.VK_U] = Input.Keys.U;
+		keyCodes[java.awt.event.KeyEvent.VK_V] = Input.Keys.V;
+		keyCodes[java.awt.event.KeyEvent.VK_W] = Input.Keys.W;
+		keyCodes[java.awt.event.KeyEvent.VK_X] = Input.Keys.X;
+		keyCodes[java.awt.event.KeyEvent.VK_Y] = Input.Keys.Y;
+		keyCodes[java.awt.event.KeyEvent.VK_Z] = Input.Keys.Z;
+		keyCodes[java.awt.event.KeyEvent.VK_ALT] = Input.Keys.ALT_LEFT;
+		keyCodes[java.awt.event.KeyEvent.VK_BACK_SLASH] = Input.Keys.BACKSLASH;
+		keyCodes[java.awt.event.KeyEvent.VK_COMMA] = Input.Keys.COMMA;
+		keyCodes[java.awt.event.KeyEvent.VK_DELETE] = Input.Keys.DEL;
+		keyCodes[java.awt.event.KeyEvent.VK_LEFT] = Input.Keys.DPAD_LEFT;
+		keyCodes[java.awt.event.KeyEvent.VK_RIGHT] = Input.Keys.DPAD_RIGHT;
+		keyCodes[java.awt.event.KeyEvent.VK_UP] = Input.Keys.DPAD_UP;
+		keyCodes[java.awt.event.KeyEvent.VK_DOWN] = Input.Keys.DPAD_DOWN;
+		keyCodes[java.awt.event.KeyEvent.VK_ENTER] = Input.Keys.ENTER;
+		keyCodes[java.awt.event.KeyEvent.VK_HOME] = Input.Keys.HOME;
+		keyCodes[java.awt.event.KeyEvent.VK_MINUS] = Input.Keys.MINUS;
+		keyCodes[java.awt.event.KeyEvent.VK_PERIOD] = Input.Keys.PERIOD;
+		keyCodes[java.awt.event.KeyEvent.VK_PLUS] = Input.Keys.PLUS;
+		keyCodes[java.awt.event.KeyEvent.VK_SEMICOLON] = Input.Keys.SEMICOLON;
+		keyCodes[java.awt.event.KeyEvent.VK_SHIFT] = Input.Keys.SHIFT_LEFT;
+		keyCodes[java.awt.event.KeyEvent.VK_SLASH] = Input.Keys.SLASH;
+		keyCodes[java.awt.event.KeyEvent.VK_SPACE] = Input.Keys.SPACE;
+		keyCodes[java.awt.event.KeyEvent.VK_TAB] = Input.Keys.TAB;
+		keyCodes[java.awt.event.KeyEvent.VK_BACK_SPACE] = Input.Keys.DEL;
+		keyCodes[java.awt.event.KeyEvent.VK_CONTROL] = Input.Keys.CONTROL_LEFT;
+		keyCodes[java.awt.event.KeyEvent.VK_ESCAPE] = Input.Keys.ESCAPE;
+		keyCodes[java.awt.event.KeyEvent.VK_END] = Input.Keys.END;
+		keyCodes[java.awt.event.KeyEvent.VK_INSERT] = Input.Keys.INSERT;
+		keyCodes[java.awt.event.KeyEvent.VK_NUMPAD5] = Input.Keys.DPAD_CENTER;
+		keyCodes[java.awt.event.KeyEvent.VK_PAGE_UP] = Input.Keys.PAGE_UP;
+		keyCodes[java.awt.event.KeyEvent.VK_PAGE_DOWN] = Input.Keys.PAGE_DOWN;
+		keyCodes[java.awt.event.KeyEvent.VK_F1] = Input.Keys.F1;
+		keyCodes[java.awt.event.KeyEvent.VK_F2] = Input.Keys.F2;
+		keyCodes[java.awt.event.KeyEvent.VK_F3] = Input.Keys.F3;
+		keyCodes[java.awt.event.KeyEvent.VK_F4] = Input.Keys.F4;
+		keyCodes[java.awt.event.KeyEvent.VK_F5] = Input.Keys.F5;
+		keyCodes[java.awt.event.KeyEvent.VK_F6] = Input.Keys.F6;
+		keyCodes[java.awt.event.KeyEvent.VK_F7] = Input.Keys.F7;
+		keyCodes[java.awt.event.KeyEvent.VK_F8] = Input.Keys.F8;
+		keyCodes[java.awt.event.KeyEvent.VK_F9] = Input.Keys.F9;
+		keyCodes[java.awt.event.KeyEvent.VK_F10] = Input.Keys.F10;
+		keyCodes[java.awt.event.KeyEvent.VK_F11] = Input.Keys.F11;
+		keyCodes[java.awt.event.KeyEvent.VK_F12] = Input.Keys.F12;
+		keyCodes[java.awt.event.KeyEvent.VK_COLON] = Input.Keys.COLON;
+		keyCodes[java.awt.event.KeyEvent.VK_NUMPAD0] = Input.Keys.NUM_0;
+		keyCodes[java.awt.event.KeyEvent.VK_NUMPAD1] = Input.Keys.NUM_1;
+		keyCodes[java.awt.event.KeyEvent.VK_NUMPAD2] = Input.Keys.NUM_2;
+		keyCodes[java.awt.event.KeyEvent.VK_NUMPAD3] = Input.Keys.NUM_3;
+		keyCodes[java.awt.event.KeyEvent.VK_NUMPAD4] = Input.Keys.NUM_4;
+		keyCodes[java.awt.event.KeyEvent.VK_NUMPAD6] = Input.Keys.NUM_6;
+		keyCodes[java.awt.event.KeyEvent.VK_NUMPAD7] = Input.Keys.NUM_7;
+		keyCodes[java.awt.event.KeyEvent.VK_NUMPAD8] = Input.Keys.NUM_8;
+		keyCodes[java.awt.event.KeyEvent.VK_NUMPAD9] = Input.Keys.NUM_9;
 	}
 
 	protected static int translateKeyCode (int keyCode) {
-		if (keyCode == java.awt.event.KeyEvent.VK_ADD) return Input.Keys.PLUS;
-		if (keyCode == java.awt.event.KeyEvent.VK_SUBTRACT) return Input.Keys.MINUS;
-		if (keyCode == java.awt.event.KeyEvent.VK_0) return Input.Keys.NUM_0;
-		if (keyCode == java.awt.event.KeyEvent.VK_1) return Input.Keys.NUM_1;
-		if (keyCode == java.awt.event.KeyEvent.VK_2) return Input.Keys.NUM_2;
-		if (keyCode == java.awt.event.KeyEvent.VK_3) return Input.Keys.NUM_3;
-		if (keyCode == java.awt.event.KeyEvent.VK_4) return Input.Keys.NUM_4;
-		if (keyCode == java.awt.event.KeyEvent.VK_5) return Input.Keys.NUM_5;
-		if (keyCode == java.awt.event.KeyEvent.VK_6) return Input.Keys.NUM_6;
-		if (keyCode == java.awt.event.KeyEvent.VK_7) return Input.Keys.NUM_7;
-		if (keyCode == java.awt.event.KeyEvent.VK_8) return Input.Keys.NUM_8;
-		if (keyCode == java.awt.event.KeyEvent.VK_9) return Input.Keys.NUM_9;
-		if (keyCode == java.awt.event.KeyEvent.VK_A) return Input.Keys.A;
-		if (keyCode == java.awt.event.KeyEvent.VK_B) return Input.Keys.B;
-		if (keyCode == java.awt.event.KeyEvent.VK_C) return Input.Keys.C;
-		if (keyCode == java.awt.event.KeyEvent.VK_D) return Input.Keys.D;
-		if (keyCode == java.awt.event.KeyEvent.VK_E) return Input.Keys.E;
-		if (keyCode == java.awt.event.KeyEvent.VK_F) return Input.Keys.F;
-		if (keyCode == java.awt.event.KeyEvent.VK_G) return Input.Keys.G;
-		if (keyCode == java.awt.event.KeyEvent.VK_H) return Input.Keys.H;
-		if (keyCode == java.awt.event.KeyEvent.VK_I) return Input.Keys.I;
-		if (keyCode == java.awt.event.KeyEvent.VK_J) return Input.Keys.J;
-		if (keyCode == java.awt.event.KeyEvent.VK_K) return Input.Keys.K;
-		if (keyCode == java.awt.event.KeyEvent.VK_L) return Input.Keys.L;
-		if (keyCode == java.awt.event.KeyEvent.VK_M) return Input.Keys.M;
-		if (keyCode == java.awt.event.KeyEvent.VK_N) return Input.Keys.N;
-		if (keyCode == java.awt.event.KeyEvent.VK_O) return Input.Keys.O;
-		if (keyCode == java.awt.event.KeyEvent.VK_P) return Input.Keys.P;
-		if (keyCode == java.awt.event.KeyEvent.VK_Q) return Input.Keys.Q;
-		if (keyCode == java.awt.event.KeyEvent.VK_R) return Input.Keys.R;
-		if (keyCode == java.awt.event.KeyEvent.VK_S) return Input.Keys.S;
-		if (keyCode == java.awt.event.KeyEvent.VK_T) return Input.Keys.T;
-		if (keyCode == java.awt.event.KeyEvent.VK_U) return Input.Keys.U;
-		if (keyCode == java.awt.event.KeyEvent.VK_V) return Input.Keys.V;
-		if (keyCode == java.awt.event.KeyEvent.VK_W) return Input.Keys.W;
-		if (keyCode == java.awt.event.KeyEvent.VK_X) return Input.Keys.X;
-		if (keyCode == java.awt.event.KeyEvent.VK_Y) return Input.Keys.Y;
-		if (keyCode == java.awt.event.KeyEvent.VK_Z) return Input.Keys.Z;
-		if (keyCode == java.awt.event.KeyEvent.VK_ALT) return Input.Keys.ALT_LEFT;
+		if (keyCode >= 0 && keyCode < keyCodes.length) return keyCodes[keyCode];
 		if (keyCode == java.awt.event.KeyEvent.VK_ALT_GRAPH) return Input.Keys.ALT_RIGHT;
-		if (keyCode == java.awt.event.KeyEvent.VK_BACK_SLASH) return Input.Keys.BACKSLASH;
-		if (keyCode == java.awt.event.KeyEvent.VK_COMMA) return Input.Keys.COMMA;
-		if (keyCode == java.awt.event.KeyEvent.VK_DELETE) return Input.Keys.DEL;
-		if (keyCode == java.awt.event.KeyEvent.VK_LEFT) return Input.Keys.DPAD_LEFT;
-		if (keyCode == java.awt.event.KeyEvent.VK_RIGHT) return Input.Keys.DPAD_RIGHT;
-		if (keyCode == java.awt.event.KeyEvent.VK_UP) return Input.Keys.DPAD_UP;
-		if (keyCode == java.awt.event.KeyEvent.VK_DOWN) return Input.Keys.DPAD_DOWN;
-		if (keyCode == java.awt.event.KeyEvent.VK_ENTER) return Input.Keys.ENTER;
-		if (keyCode == java.awt.event.KeyEvent.VK_HOME) return Input.Keys.HOME;
-		if (keyCode == java.awt.event.KeyEvent.VK_MINUS) return Input.Keys.MINUS;
-		if (keyCode == java.awt.event.KeyEvent.VK_PERIOD) return Input.Keys.PERIOD;
-		if (keyCode == java.awt.event.KeyEvent.VK_PLUS) return Input.Keys.PLUS;
-		if (keyCode == java.awt.event.KeyEvent.VK_SEMICOLON) return Input.Keys.SEMICOLON;
-		if (keyCode == java.awt.event.KeyEvent.VK_SHIFT) return Input.Keys.SHIFT_LEFT;
-		if (keyCode == java.awt.event.KeyEvent.VK_SLASH) return Input.Keys.SLASH;
-		if (keyCode == java.awt.event.KeyEvent.VK_SPACE) return Input.Keys.SPACE;
-		if (keyCode == java.awt.event.KeyEvent.VK_TAB) return Input.Keys.TAB;
-		if (keyCode == java.awt.event.KeyEvent.VK_BACK_SPACE) return Input.Keys.DEL;
-		if (keyCode == java.awt.event.KeyEvent.VK_CONTROL) return Input.Keys.CONTROL_LEFT;
-		if (keyCode == java.awt.event.KeyEvent.VK_ESCAPE) return Input.Keys.ESCAPE;
-		if (keyCode == java.awt.event.KeyEvent.VK_END) return Input.Keys.END;
-		if (keyCode == java.awt.event.KeyEvent.VK_INSERT) return Input.Keys.INSERT;
-		if (keyCode == java.awt.event.KeyEvent.VK_NUMPAD5) return Input.Keys.DPAD_CENTER;
-		if (keyCode == java.awt.event.KeyEvent.VK_PAGE_UP) return Input.Keys.PAGE_UP;
-		if (keyCode == java.awt.event.KeyEvent.VK_PAGE_DOWN) return Input.Keys.PAGE_DOWN;
-		if (keyCode == java.awt.event.KeyEvent.VK_F1) return Input.Keys.F1;
-		if (keyCode == java.awt.event.KeyEvent.VK_F2) return Input.Keys.F2;
-		if (keyCode == java.awt.event.KeyEvent.VK_F3) return Input.Keys.F3;
-		if (keyCode == java.awt.event.KeyEvent.VK_F4) return Input.Keys.F4;
-		if (keyCode == java.awt.event.KeyEvent.VK_F5) return Input.Keys.F5;
-		if (keyCode == java.awt.event.KeyEvent.VK_F6) return Input.Keys.F6;
-		if (keyCode == java.awt.event.KeyEvent.VK_F7) return Input.Keys.F7;
-		if (keyCode == java.awt.event.KeyEvent.VK_F8) return Input.Keys.F8;
-		if (keyCode == java.awt.event.KeyEvent.VK_F9) return Input.Keys.F9;
-		if (keyCode == java.awt.event.KeyEvent.VK_F10) return Input.Keys.F10;
-		if (keyCode == java.awt.event.KeyEvent.VK_F11) return Input.Keys.F11;
-		if (keyCode == java.awt.event.KeyEvent.VK_F12) return Input.Keys.F12;
-		if (keyCode == java.awt.event.KeyEvent.VK_COLON) return Input.Keys.COLON;
-		if (keyCode == java.awt.event.KeyEvent.VK_NUMPAD0) return Input.Keys.NUM_0;
-		if (keyCode == java.awt.event.KeyEvent.VK_NUMPAD1) return Input.Keys.NUM_1;
-		if (keyCode == java.awt.event.KeyEvent.VK_NUMPAD2) return Input.Keys.NUM_2;
-		if (keyCode == java.awt.event.KeyEvent.VK_NUMPAD3) return Input.Keys.NUM_3;
-		if (keyCode == java.awt.event.KeyEvent.VK_NUMPAD4) return Input.Keys.NUM_4;
-		if (keyCode == java.awt.event.KeyEvent.VK_NUMPAD5) return Input.Keys.NUM_5;
-		if (keyCode == java.awt.event.KeyEvent.VK_NUMPAD6) return Input.Keys.NUM_6;
-		if (keyCode == java.awt.event.KeyEvent.VK_NUMPAD7) return Input.Keys.NUM_7;
-		if (keyCode == java.awt.event.KeyEvent.VK_NUMPAD8) return Input.Keys.NUM_8;
-		if (keyCode == java.awt.event.KeyEvent.VK_NUMPAD9) return Input.Keys.NUM_9;
-
 		return Input.Keys.UNKNOWN;
 	}
 
 	@Override
 	public void setInputProcessor (InputProcessor processor) {
-		synchronized (this) {
-			this.processor = processor;
-		}
+		this.processor = processor;
 	}
 
 	@Override
@@ -690,7 +612,7 @@ public class JoglAwtInput implements JoglInput, MouseMotionListener, MouseListen
 
 	@Override
 	public boolean isButtonPressed (int button) {
-		return pressedButtons.contains(button);
+		return button >= 0 && button < pressedButtons.length && pressedButtons[button];
 	}
 
 	@Override
@@ -815,9 +737,15 @@ public class JoglAwtInput implements JoglInput, MouseMotionListener, MouseListen
 	}
 
 	@Override
-	public boolean isKeyJustPressed(int key) {
-		// TODO Auto-generated method stub
-		return false;
+	public boolean isKeyJustPressed (int key) {
+		if (key == Input.Keys.ANY_KEY) return keyJustPressed;
+		return key >= 0 && key < justPressedKeys.length && justPressedKeys[key];
+	}
+
+	/** @return whether the key was released by the events of the last {@link #processEvents()} */
+	public boolean isKeyJustReleased (int key) {
+		if (key == Input.Keys.ANY_KEY) return keyJustReleased;
+		return key >= 0 && key < justReleasedKeys.length && justReleasedKeys[key];
 	}
 
 	@Override
@@ -0,0 +1,425 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.utils.IntIntMap;
+
+/** A GL decorator emulating client-side vertex arrays on core profile contexts, where glVertexAttribPointer and glDrawElements
+ * can't take buffers anymore. The client arrays are uploaded at draw time into a streaming buffer object, orphaned whenever it
+ * is full, and the draw is made from there; client indices go through a second streaming buffer. Only the vertices the draw
+ * reads are uploaded: from first to first + count - 1 for the arrays, between the smallest and the largest client index for
+ * the elements. The arrays are only uploaded up to their limit when the indices are in a buffer object. A default vertex array
+ * object is bound whenever the application doesn't bind its own, as core profiles require one.
+ * <p>
+ * Client arrays are only used while the default vertex array object is bound. Like the rest of the GL, it must only be used
+ * on the thread owning the context. */
+public class JoglClientArrays extends JoglGLDecorator {
+	static final int MAX_ATTRIBUTES = 32;
+	static final int INITIAL_CAPACITY = 256 * 1024;
+
+	/** A buffer object the client data is appended to, its store is orphaned when full. */
+	final class StreamBuffer {
+		final int target;
+		int handle;
+		int capacity;
+		int offset;
+		long orphans, uploadedBytes;
+
+		StreamBuffer (int target) {
+			this.target = target;
+			handle = gl20.glGenBuffer();
+		}
+
+		/** Appends the given bytes of the buffer to the bound stream buffer, leaving its position unchanged.
+		 * @param from the offset of the bytes in the buffer, a multiple of its element size
+		 * @param minStart the smallest offset the data may have in the stream buffer, a multiple of 16
+		 * @return the offset of the data in the stream buffer */
+		int upload (Buffer data, int from, int bytes, int minStart) {
+			int start = Math.max((offset + 15) & ~15, minStart);
+			if (start + bytes > capacity) {
+				start = minStart;
+				while (capacity < start + bytes)
+					capacity = capacity == 0 ? INITIAL_CAPACITY : capacity * 2;
+				gl20.glBufferData(target, capacity, null, GL20.GL_STREAM_DRAW);
+				orphans++;
+			}
+			final int position = data.position();
+			data.position(from / elementSize(data));
+			gl20.glBufferSubData(target, start, bytes, data);
+			data.position(position);
+			offset = start + bytes;
+			uploadedBytes += bytes;
+			return start;
+		}
+	}
+
+	private final StreamBuffer vertices;
+	private final StreamBuffer indices;
+	private final int defaultVertexArray;
+
+	// the client arrays set with glVertexAttribPointer, by attribute index
+	private final Buffer[] clientBuffers = new Buffer[MAX_ATTRIBUTES];
+	private final int[] clientPositions = new int[MAX_ATTRIBUTES];
+	private final int[] sizes = new int[MAX_ATTRIBUTES];
+	private final int[] types = new int[MAX_ATTRIBUTES];
+	private final boolean[] normalized = new boolean[MAX_ATTRIBUTES];
+	private final int[] strides = new int[MAX_ATTRIBUTES];
+	private final boolean[] enabled = new boolean[MAX_ATTRIBUTES];
+	private final int[] divisors = new int[MAX_ATTRIBUTES];
+	private int clientArrays;
+
+	// the client buffers uploaded for the current draw, the bytes read from them, and the offset of their start once uploaded
+	private final Buffer[] uploaded = new Buffer[MAX_ATTRIBUTES];
+	private final int[] uploadedFrom = new int[MAX_ATTRIBUTES];
+	private final int[] uploadedTo = new int[MAX_ATTRIBUTES];
+	private final int[] uploadedFirstAttribute = new int[MAX_ATTRIBUTES];
+	private final int[] uploadedOffsets = new int[MAX_ATTRIBUTES];
+
+	// the range of the client indices of the current draw
+	private int minIndex, maxIndex;
+
+	// the bindings of the application
+	private int arrayBuffer;
+	private int vertexArray;
+	private final IntIntMap elementArrayBuffers = new IntIntMap();
+
+	/** Creates the streaming buffers and binds the default vertex array object, must be called while the context is current. */
+	public JoglClientArrays (GL30 gl) {
+		super(gl);
+		vertices = new StreamBuffer(GL20.GL_ARRAY_BUFFER);
+		indices = new StreamBuffer(GL20.GL_ELEMENT_ARRAY_BUFFER);
+		final int[] arrays = new int[1];
+		gl.glGenVertexArrays(1, arrays, 0);
+		defaultVertexArray = arrays[0];
+		gl.glBindVertexArray(defaultVertexArray);
+	}
+
+	/** @return the number of times a streaming buffer was orphaned */
+	public long getOrphans () {
+		return vertices.orphans + indices.orphans;
+	}
+
+	/** @return the number of client array and index bytes streamed */
+	public long getUploadedBytes () {
+		return vertices.uploadedBytes + indices.uploadedBytes;
+	}
+
+	static int elementSize (Buffer buffer) {
+		if (buffer instanceof ByteBuffer) return 1;
+		if (buffer instanceof ShortBuffer || buffer instanceof CharBuffer) return 2;
+		if (buffer instanceof IntBuffer || buffer instanceof FloatBuffer) return 4;
+		return 8;
+	}
+
+	/** @return the bytes of a vertex attribute */
+	static int attributeSize (int size, int type) {
+		switch (type) {
+		case GL20.GL_BYTE:
+		case GL20.GL_UNSIGNED_BYTE:
+			return size;
+		case GL20.GL_SHORT:
+		case GL20.GL_UNSIGNED_SHORT:
+		case GL30.GL_HALF_FLOAT:
+			return size * 2;
+		case GL30.GL_INT_2_10_10_10_REV:
+		case GL30.GL_UNSIGNED_INT_2_10_10_10_REV:
+			return 4;
+		default:
+			return size * 4;
+		}
+	}
+
+	/** Uploads the vertices the draw reads from the enabled client arrays and points the attributes to them. Each buffer is
+	 * uploaded once, from the first byte to the last byte its attributes read, so that interleaved attributes share it. The
+	 * attributes with a divisor read the instances instead.
+	 * @param first the first vertex read
+	 * @param last the last vertex read, or -1 to read the arrays up to their limit
+	 * @param instances the number of instances drawn */
+	private void bindClientArrays (int first, int last, int instances) {
+		if (clientArrays == 0 || vertexArray != 0) return;
+		int uploads = 0;
+		for (int index = 0; index < MAX_ATTRIBUTES; index++) {
+			final Buffer buffer = clientBuffers[index];
+			if (buffer == null || !enabled[index]) continue;
+			final int attributeSize = attributeSize(sizes[index], types[index]);
+			final int stride = strides[index] != 0 ? strides[index] : attributeSize;
+			final int start = clientPositions[index] * elementSize(buffer);
+			final int limit = buffer.limit() * elementSize(buffer);
+			final int from, to;
+			if (divisors[index] != 0) {
+				from = start;
+				to = (int)Math.min(limit, start + (long)Math.max(instances - 1, 0) / divisors[index] * stride + attributeSize);
+			} else if (last == -1) {
+				from = start;
+				to = limit;
+			} else {
+				from = (int)Math.min(limit, start + (long)first * stride);
+				to = (int)Math.min(limit, start + (long)Math.max(first, last) * stride + attributeSize);
+			}
+			int i = 0;
+			while (i < uploads && uploaded[i] != buffer)
+				i++;
+			if (i == uploads) {
+				uploaded[uploads] = buffer;
+				uploadedFrom[uploads] = from;
+				uploadedTo[uploads] = to;
+				uploadedFirstAttribute[uploads++] = start;
+			} else {
+				uploadedFrom[i] = Math.min(uploadedFrom[i], from);
+				uploadedTo[i] = Math.max(uploadedTo[i], to);
+				uploadedFirstAttribute[i] = Math.min(uploadedFirstAttribute[i], start);
+			}
+		}
+		gl20.glBindBuffer(GL20.GL_ARRAY_BUFFER, vertices.handle);
+		for (int i = 0; i < uploads; i++) {
+			final Buffer buffer = uploaded[i];
+			// keeps the alignment of the attributes, and their offsets positive once the bytes before are skipped
+			final int from = uploadedFrom[i] & ~15;
+			final int to = Math.max(from, uploadedTo[i]);
+			final int minStart = Math.max(0, from - uploadedFirstAttribute[i] + 15) & ~15;
+			uploadedOffsets[i] = vertices.upload(buffer, from, to - from, minStart) - from;
+		}
+		for (int index = 0; index < MAX_ATTRIBUTES; index++) {
+			final Buffer buffer = clientBuffers[index];
+			if (buffer == null || !enabled[index]) continue;
+			int i = 0;
+			while (uploaded[i] != buffer)
+				i++;
+			gl20.glVertexAttribPointer(index, sizes[index], types[index], normalized[index], strides[index],
+				uploadedOffsets[i] + clientPositions[index] * elementSize(buffer));
+		}
+		for (int i = 0; i < uploads; i++)
+			uploaded[i] = null;
+		gl20.glBindBuffer(GL20.GL_ARRAY_BUFFER, arrayBuffer);
+	}
+
+	/** Sets {@link #minIndex} and {@link #maxIndex} to the range of the client indices of a draw.
+	 * @return false when the type of the indices isn't known */
+	private boolean findIndexRange (Buffer indices, int count, int type) {
+		final int position = indices.position();
+		final int indexSize = type == GL20.GL_UNSIGNED_BYTE ? 1 : type == GL20.GL_UNSIGNED_SHORT ? 2 : 4;
+		if (count * indexSize > indices.remaining() * elementSize(indices)) return false;
+		int min = Integer.MAX_VALUE, max = -1;
+		if (indices instanceof ShortBuffer) {
+			final ShortBuffer shorts = (ShortBuffer)indices;
+			for (int i = 0; i < count; i++) {
+				final int index = shorts.get(position + i) & 0xffff;
+				if (index < min) min = index;
+				if (index > max) max = index;
+			}
+		} else if (indices instanceof IntBuffer) {
+			final IntBuffer ints = (IntBuffer)indices;
+			for (int i = 0; i < count; i++) {
+				final int index = ints.get(position + i);
+				if (index < 0) return false;
+				if (index < min) min = index;
+				if (index > max) max = index;
+			}
+		} else if (indices instanceof ByteBuffer) {
+			final ByteBuffer bytes = (ByteBuffer)indices;
+			for (int i = 0; i < count; i++) {
+				final int index;
+				if (type == GL20.GL_UNSIGNED_BYTE)
+					index = bytes.get(position + i) & 0xff;
+				else if (type == GL20.GL_UNSIGNED_SHORT)
+					index = bytes.getShort(position + i * 2) & 0xffff;
+				else
+					index = bytes.getInt(position + i * 4);
+				if (index < 0) return false;
+				if (index < min) min = index;
+				if (index > max) max = index;
+			}
+		} else
+			return false;
+		if (max == -1) min = max = 0;
+		minIndex = min;
+		maxIndex = max;
+		return true;
+	}
+
+	/** Uploads the client arrays for a draw of client indices. */
+	private void bindClientArrays (Buffer indices, int count, int type) {
+		if (clientArrays == 0 || vertexArray != 0) return;
+		if (findIndexRange(indices, count, type))
+			bindClientArrays(minIndex, maxIndex, 1);
+		else
+			bindClientArrays(0, -1, 1);
+	}
+
+	/** Uploads the remaining client indices and binds the streaming index buffer.
+	 * @return the offset of the indices */
+	private int bindClientIndices (Buffer indices) {
+		gl20.glBindBuffer(GL20.GL_ELEMENT_ARRAY_BUFFER, this.indices.handle);
+		return this.indices.upload(indices, indices.position() * elementSize(indices), indices.remaining() * elementSize(indices), 0);
+	}
+
+	private void restoreElementArrayBuffer () {
+		gl20.glBindBuffer(GL20.GL_ELEMENT_ARRAY_BUFFER, elementArrayBuffers.get(vertexArray, 0));
+	}
+
+	@Override
+	public void glVertexAttribPointer (int indx, int size, int type, boolean normalized, int stride, Buffer ptr) {
+		if (indx >= MAX_ATTRIBUTES) throw new IllegalArgumentException("Attribute index out of range: " + indx);
+		if (clientBuffers[indx] == null) clientArrays++;
+		clientBuffers[indx] = ptr;
+		clientPositions[indx] = ptr.position();
+		sizes[indx] = size;
+		types[indx] = type;
+		this.normalized[indx] = normalized;
+		strides[indx] = stride;
+	}
+
+	@Override
+	public void glVertexAttribPointer (int indx, int size, int type, boolean normalized, int stride, int ptr) {
+		if (indx < MAX_ATTRIBUTES && clientBuffers[indx] != null) {
+			clientBuffers[indx] = null;
+			clientArrays--;
+		}
+		gl20.glVertexAttribPointer(indx, size, type, normalized, stride, ptr);
+	}
+
+	@Override
+	public void glEnableVertexAttribArray (int index) {
+		if (index < MAX_ATTRIBUTES) enabled[index] = true;
+		gl20.glEnableVertexAttribArray(index);
+	}
+
+	@Override
+	public void glDisableVertexAttribArray (int index) {
+		if (index < MAX_ATTRIBUTES) enabled[index] = false;
+		gl20.glDisableVertexAttribArray(index);
+	}
+
+	@Override
+	public void glVertexAttribDivisor (int index, int divisor) {
+		if (index < MAX_ATTRIBUTES) divisors[index] = divisor;
+		gl30.glVertexAttribDivisor(index, divisor);
+	}
+
+	@Override
+	public void glBindBuffer (int target, int buffer) {
+		if (target == GL20.GL_ARRAY_BUFFER)
+			arrayBuffer = buffer;
+		else if (target == GL20.GL_ELEMENT_ARRAY_BUFFER) elementArrayBuffers.put(vertexArray, buffer);
+		gl20.glBindBuffer(target, buffer);
+	}
+
+	@Override
+	public void glDeleteBuffer (int buffer) {
+		forgetBuffer(buffer);
+		gl20.glDeleteBuffer(buffer);
+	}
+
+	@Override
+	public void glDeleteBuffers (int n, IntBuffer buffers) {
+		for (int i = 0; i < n; i++)
+			forgetBuffer(buffers.get(buffers.position() + i));
+		gl20.glDeleteBuffers(n, buffers);
+	}
+
+	private void forgetBuffer (int buffer) {
+		if (arrayBuffer == buffer) arrayBuffer = 0;
+		if (elementArrayBuffers.get(vertexArray, 0) == buffer) elementArrayBuffers.remove(vertexArray, 0);
+	}
+
+	@Override
+	public void glBindVertexArray (int array) {
+		vertexArray = array;
+		gl30.glBindVertexArray(array == 0 ? defaultVertexArray : array);
+	}
+
+	@Override
+	public void glDeleteVertexArrays (int n, int[] arrays, int offset) {
+		for (int i = 0; i < n; i++) {
+			elementArrayBuffers.remove(arrays[offset + i], 0);
+			if (arrays[offset + i] == vertexArray) glBindVertexArray(0);
+		}
+		gl30.glDeleteVertexArrays(n, arrays, offset);
+	}
+
+	@Override
+	public void glDeleteVertexArrays (int n, IntBuffer arrays) {
+		for (int i = 0; i < n; i++) {
+			final int array = arrays.get(arrays.position() + i);
+			elementArrayBuffers.remove(array, 0);
+			if (array == vertexArray) glBindVertexArray(0);
+		}
+		gl30.glDeleteVertexArrays(n, arrays);
+	}
+
+	@Override
+	public void glDrawArrays (int mode, int first, int count) {
+		bindClientArrays(first, first + Math.max(count, 1) - 1, 1);
+		gl20.glDrawArrays(mode, first, count);
+	}
+
+	@Override
+	public void glDrawElements (int mode, int count, int type, int indices) {
+		// the indices are in a buffer object
+		bindClientArrays(0, -1, 1);
+		gl20.glDrawElements(mode, count, type, indices);
+	}
+
+	@Override
+	public void glDrawElements (int mode, int count, int type, Buffer indices) {
+		bindClientArrays(indices, count, type);
+		final int offset = bindClientIndices(indices);
+		gl20.glDrawElements(mode, count, type, offset);
+		restoreElementArrayBuffer();
+	}
+
+	@Override
+	public void glDrawRangeElements (int mode, int start, int end, int count, int type, Buffer indices) {
+		bindClientArrays(start, end, 1);
+		final int offset = bindClientIndices(indices);
+		gl30.glDrawRangeElements(mode, start, end, count, type, offset);
+		restoreElementArrayBuffer();
+	}
+
+	@Override
+	public void glDrawRangeElements (int mode, int start, int end, int count, int type, int offset) {
+		bindClientArrays(start, end, 1);
+		gl30.glDrawRangeElements(mode, start, end, count, type, offset);
+	}
+
+	@Override
+	public void glDrawArraysInstanced (int mode, int first, int count, int instanceCount) {
+		bindClientArrays(first, first + Math.max(count, 1) - 1, instanceCount);
+		gl30.glDrawArraysInstanced(mode, first, count, instanceCount);
+	}
+
+	@Override
+	public void glDrawElementsInstanced (int mode, int count, int type, int indicesOffset, int instanceCount) {
+		bindClientArrays(0, -1, instanceCount);
+		gl30.glDrawElementsInstanced(mode, count, type, indicesOffset, instanceCount);
+	}
+
+	/** Deletes the streaming buffers and the default vertex array object, must be called while the context is current. */
+	public void dispose () {
+		gl20.glDeleteBuffer(vertices.handle);
+		gl20.glDeleteBuffer(indices.handle);
+		gl30.glDeleteVertexArrays(1, new int[] {defaultVertexArray}, 0);
+	}
+}
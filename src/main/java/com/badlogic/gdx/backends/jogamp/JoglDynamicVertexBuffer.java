@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.nio.ByteBuffer;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** A buffer object vertices are appended to by writing straight into driver memory. Each {@link #map(int)} maps the range
+ * following the previously written one without synchronization, which is safe because a range is never written twice: once
+ * the buffer is full, its store is orphaned and the driver hands out fresh memory while the GPU still reads the old one.
+ * <p>
+ * Typical use, e.g. in a sprite batch or a particle system:
+ *
+ * <pre>
+ * ByteBuffer vertices = buffer.map(count * vertexSize);
+ * // write the vertices
+ * int offset = buffer.unmap();
+ * // glVertexAttribPointer(..., offset) then draw
+ * </pre>
+ *
+ * Requires OpenGL 3.0 or GL_ARB_map_buffer_range. Like the rest of the GL, it must only be used on the thread owning the
+ * context. */
+public class JoglDynamicVertexBuffer {
+	private final GL20 gl;
+	private final JoglGL30 jogl;
+	private final int target;
+	private final int usage;
+	private final int capacity;
+	private final int alignment;
+	private int handle;
+
+	private int offset;
+	private int mappedOffset = -1;
+	private int mappedLength;
+	private long orphans, appends, appendedBytes;
+
+	/** @param gl the GL used by the application, which may be decorated
+	 * @param jogl the wrapper it ends with, for glMapBufferRange
+	 * @param target {@link GL20#GL_ARRAY_BUFFER} or {@link GL20#GL_ELEMENT_ARRAY_BUFFER}
+	 * @param capacity the size of the buffer store in bytes
+	 * @param alignment the alignment in bytes of the appended ranges, the vertex size so that the offset of a range divided by
+	 *           it is the index of its first vertex */
+	public JoglDynamicVertexBuffer (GL20 gl, JoglGL30 jogl, int target, int capacity, int alignment) {
+		if (capacity <= 0) throw new IllegalArgumentException("capacity must be positive: " + capacity);
+		if (alignment <= 0) throw new IllegalArgumentException("alignment must be positive: " + alignment);
+		this.gl = gl;
+		this.jogl = jogl;
+		this.target = target;
+		this.usage = GL20.GL_STREAM_DRAW;
+		this.capacity = capacity;
+		this.alignment = alignment;
+		handle = gl.glGenBuffer();
+		gl.glBindBuffer(target, handle);
+		gl.glBufferData(target, capacity, null, usage);
+	}
+
+	public int getHandle () {
+		return handle;
+	}
+
+	public void bind () {
+		gl.glBindBuffer(target, handle);
+	}
+
+	/** Binds the buffer and maps the next free range of the given size, orphaning the store when it doesn't fit.
+	 * @return the direct view of the range to write the vertices to, valid until {@link #unmap()} */
+	public ByteBuffer map (int bytes) {
+		if (mappedOffset != -1) throw new GdxRuntimeException("The buffer is already mapped");
+		if (bytes <= 0 || bytes > capacity) throw new IllegalArgumentException("Can't map " + bytes + " bytes of " + capacity);
+		gl.glBindBuffer(target, handle);
+		int start = (offset + alignment - 1) / alignment * alignment;
+		final int access = GL30.GL_MAP_WRITE_BIT | GL30.GL_MAP_UNSYNCHRONIZED_BIT | GL30.GL_MAP_INVALIDATE_RANGE_BIT;
+		if (start + bytes > capacity) {
+			orphan();
+			start = 0;
+		}
+		final ByteBuffer mapped = jogl.glMapBufferRange(target, start, bytes, access);
+		if (mapped == null) throw new GdxRuntimeException("Couldn't map the vertex buffer");
+		mappedOffset = start;
+		mappedLength = bytes;
+		mapped.clear();
+		return mapped;
+	}
+
+	/** Unmaps the range returned by the last {@link #map(int)}, the buffer stays bound.
+	 * @return the offset of the range in bytes, to pass to glVertexAttribPointer or glDrawElements */
+	public int unmap () {
+		if (mappedOffset == -1) throw new GdxRuntimeException("The buffer isn't mapped");
+		final int start = mappedOffset;
+		mappedOffset = -1;
+		offset = start + mappedLength;
+		appends++;
+		appendedBytes += mappedLength;
+		// the content is undefined when the store was corrupted while mapped, e.g. by a mode switch
+		if (!jogl.glUnmapBuffer(target)) throw new GdxRuntimeException("The vertex buffer content was lost");
+		return start;
+	}
+
+	/** Appends the given vertices.
+	 * @return the offset of the vertices in bytes */
+	public int append (float[] vertices, int offset, int count) {
+		map(count * 4).asFloatBuffer().put(vertices, offset, count);
+		return unmap();
+	}
+
+	/** Gives the buffer a fresh store so the next append starts at its beginning, e.g. at the start of each frame. The GPU
+	 * keeps reading the previous store until it's done with it. The buffer stays bound. */
+	public void orphan () {
+		gl.glBindBuffer(target, handle);
+		gl.glBufferData(target, capacity, null, usage);
+		offset = 0;
+		orphans++;
+	}
+
+	/** @return the number of times the store was orphaned */
+	public long getOrphans () {
+		return orphans;
+	}
+
+	/** @return the number of ranges written */
+	public long getAppends () {
+		return appends;
+	}
+
+	public long getAppendedBytes () {
+		return appendedBytes;
+	}
+
+	public void dispose () {
+		if (mappedOffset != -1) {
+			gl.glBindBuffer(target, handle);
+			jogl.glUnmapBuffer(target);
+			mappedOffset = -1;
+		}
+		gl.glDeleteBuffer(handle);
+		handle = 0;
+	}
+}
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+/** Runs a simulation at a fixed rate whatever the frame rate: each frame calls {@link Listener#fixedUpdate(float)} as many
+ * times as whole ticks elapsed, possibly none, and the rendering interpolates between the last two ticks with
+ * {@link #getAlpha()}. The time is accumulated in nanoseconds, so the ticks don't drift.
+ * <p>
+ * When a frame took longer than {@link #getMaxSteps()} ticks, e.g. after a stall, the simulation doesn't catch up and the
+ * extra ticks are dropped, otherwise each frame would take longer to simulate than the last one. */
+public class JoglFixedTimestep {
+	/** The fixed update of a simulation, called on the rendering thread before
+	 * {@link com.badlogic.gdx.ApplicationListener#render()}. */
+	public interface Listener {
+		/** @param step the duration of a tick in seconds */
+		void fixedUpdate (float step);
+	}
+
+	private final Listener listener;
+	private final long stepNanos;
+	private final float step;
+	private final int maxSteps;
+	private long accumulator;
+	private long ticks;
+	private long dropped;
+
+	/** @param rate the number of ticks per second
+	 * @param maxSteps the maximum number of ticks per frame */
+	public JoglFixedTimestep (Listener listener, int rate, int maxSteps) {
+		if (listener == null) throw new IllegalArgumentException("listener must not be null");
+		if (rate <= 0) throw new IllegalArgumentException("rate must be > 0: " + rate);
+		if (maxSteps <= 0) throw new IllegalArgumentException("maxSteps must be > 0: " + maxSteps);
+		this.listener = listener;
+		this.stepNanos = 1000000000L / rate;
+		this.step = stepNanos / 1000000000f;
+		this.maxSteps = maxSteps;
+	}
+
+	/** Runs the ticks elapsed during a frame.
+	 * @param nanos the duration of the frame
+	 * @return the number of ticks run */
+	public int advance (long nanos) {
+		accumulator += Math.max(nanos, 0);
+		int steps = 0;
+		while (accumulator >= stepNanos) {
+			if (steps == maxSteps) {
+				final long extra = accumulator / stepNanos;
+				dropped += extra;
+				accumulator -= extra * stepNanos;
+				break;
+			}
+			listener.fixedUpdate(step);
+			accumulator -= stepNanos;
+			steps++;
+			ticks++;
+		}
+		return steps;
+	}
+
+	/** @return how far the time is between the last tick and the next one, from 0 to 1, to interpolate the rendered state */
+	public float getAlpha () {
+		return accumulator / (float)stepNanos;
+	}
+
+	/** @return the duration of a tick in seconds */
+	public float getStep () {
+		return step;
+	}
+
+	public int getMaxSteps () {
+		return maxSteps;
+	}
+
+	/** @return the number of ticks run */
+	public long getTicks () {
+		return ticks;
+	}
+
+	/** @return the number of ticks dropped because a frame exceeded {@link #getMaxSteps()} */
+	public long getDropped () {
+		return dropped;
+	}
+
+	/** Drops the accumulated time, e.g. on resume so that the pause isn't simulated. */
+	public void reset () {
+		accumulator = 0;
+	}
+}
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import com.badlogic.gdx.Gdx;
+
+/** Emits JDK Flight Recorder events from the frame loop, the GL uploads and the shader builds, so that a recording lines up
+ * the GC pauses and the safepoints with the slow frames. Each event carries the ID of its frame, see
+ * {@link com.badlogic.gdx.Graphics#getFrameId()}, and its duration. The events are in the "libGDX/JOGL backend" category and
+ * named after their type, e.g. com.badlogic.gdx.backends.jogamp.Frame.
+ * <p>
+ * An event is only created while a recording enables its type, otherwise {@link #begin(int)} returns null and costs a field
+ * read. The events themselves, JoglFlightEvents, are in src/main/java11, only built when the JDK has the jdk.jfr module, and
+ * loaded by reflection, so that the backend still builds and runs on Java 7 and 8, where nothing is ever recorded. */
+public final class JoglFlightRecorder {
+	/** a displayed frame, its value is 1 when it was rendered */
+	public static final int FRAME = 0;
+	/** the posted runnables run by a frame, its values are the numbers of runnables run and deferred */
+	public static final int RUNNABLES = 1;
+	/** the processing of the input events */
+	public static final int INPUT = 2;
+	/** the update of the audio */
+	public static final int AUDIO = 3;
+	/** a glCompileShader call, its value is the shader */
+	public static final int SHADER_COMPILE = 4;
+	/** a glLinkProgram call, its value is the program */
+	public static final int PROGRAM_LINK = 5;
+	/** a glTexImage2D or glTexSubImage2D call, its values are the width and the height */
+	public static final int TEXTURE_UPLOAD = 6;
+
+	/** Creates and records the events, implemented by JoglFlightEvents. */
+	interface Events {
+		/** @return the started event, null when its type isn't recorded */
+		Object begin (int type);
+
+		void commit (Object event, long frameId, long a, long b);
+	}
+
+	private static final Events events = load();
+
+	private JoglFlightRecorder () {
+	}
+
+	private static Events load () {
+		try {
+			return (Events)Class.forName("com.badlogic.gdx.backends.jogamp.JoglFlightEvents").getDeclaredConstructor().newInstance();
+		} catch (Throwable t) {
+			// built or run with Java 7 or 8, or a JVM without the flight recorder
+			return null;
+		}
+	}
+
+	/** @return whether the events can be recorded */
+	public static boolean isAvailable () {
+		return events != null;
+	}
+
+	/** Starts an event.
+	 * @param type one of the event types of this class
+	 * @return the event to pass to {@link #commit(Object, long, long, long)}, null when its type isn't recorded */
+	public static Object begin (int type) {
+		return events != null ? events.begin(type) : null;
+	}
+
+	/** Ends an event and records it, does nothing when it is null. */
+	public static void commit (Object event, long frameId) {
+		if (event != null) events.commit(event, frameId, 0, 0);
+	}
+
+	/** Ends an event and records it with the values of its type, does nothing when it is null. */
+	public static void commit (Object event, long frameId, long a, long b) {
+		if (event != null) events.commit(event, frameId, a, b);
+	}
+
+	/** @return the ID of the current frame, -1 before the graphics exist */
+	static long frameId () {
+		return Gdx.graphics != null ? Gdx.graphics.getFrameId() : -1;
+	}
+}
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import com.badlogic.gdx.math.WindowedMean;
+
+/** Paces the frames to a target rate without burning a core: it sleeps until shortly before the next frame is due and spins
+ * for the rest, the spin phase being as long as the longest recent oversleep of the platform so that the frames start within a
+ * fraction of a millisecond of their deadline.
+ * <p>
+ * The deadlines follow each other at a fixed period rather than being measured from the end of the previous frame, so that
+ * a late frame is followed by an early one. When the frames fall more than a period behind, the pacer gives up catching up. */
+public class JoglFramePacer {
+	/** the initial and minimal length of the spin phase, in nanoseconds */
+	static final long MIN_SPIN_NANOS = 1000000L;
+	/** the longest the spin phase can get, in nanoseconds */
+	static final long MAX_SPIN_NANOS = 4000000L;
+
+	private long nextFrame;
+	private long period;
+	private long spinNanos = MIN_SPIN_NANOS;
+	private final WindowedMean error;
+	private long maxError;
+
+	/** @param window the number of frames the pacing error is averaged over */
+	public JoglFramePacer (int window) {
+		error = new WindowedMean(window);
+	}
+
+	/** Waits until the next frame of the given rate is due, must be called once per frame.
+	 * @param fps the target frame rate, 0 or less not to wait */
+	public void sync (int fps) {
+		if (fps <= 0) {
+			nextFrame = 0;
+			return;
+		}
+		final long period = 1000000000L / fps;
+		long now = System.nanoTime();
+		if (period != this.period || nextFrame == 0) {
+			// a new target starts right away
+			this.period = period;
+			nextFrame = now;
+		}
+		final long deadline = nextFrame;
+		while (deadline - now > spinNanos) {
+			final long sleep = deadline - now - spinNanos;
+			try {
+				Thread.sleep(sleep / 1000000L, (int)(sleep % 1000000L));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+			final long woken = System.nanoTime();
+			adjustSpin(woken - now - sleep);
+			now = woken;
+		}
+		while (deadline - now > 0) {
+			Thread.yield();
+			now = System.nanoTime();
+		}
+
+		final long late = now - deadline;
+		error.addValue(late);
+		maxError = Math.max(maxError, late);
+		nextFrame = deadline + period;
+		// don't try to catch up with the frames missed by a stall
+		if (now - nextFrame > period) nextFrame = now + period;
+	}
+
+	/** Makes the spin phase as long as the worst oversleep, decaying slowly towards the minimum. */
+	private void adjustSpin (long overslept) {
+		if (overslept > spinNanos)
+			spinNanos = Math.min(overslept, MAX_SPIN_NANOS);
+		else
+			spinNanos = Math.max(MIN_SPIN_NANOS, spinNanos - (spinNanos - overslept) / 64);
+	}
+
+	/** @return the mean delay between the deadlines and the actual starts of the recent frames in nanoseconds, 0 until the
+	 *         window is filled */
+	public float getPacingError () {
+		return error.hasEnoughData() ? error.getMean() : 0;
+	}
+
+	/** @return the longest delay between a deadline and the actual start of a frame in nanoseconds, since the last
+	 *         {@link #resetStats()} */
+	public long getMaxPacingError () {
+		return maxError;
+	}
+
+	/** @return the current length of the spin phase in nanoseconds */
+	public long getSpinNanos () {
+		return spinNanos;
+	}
+
+	public void resetStats () {
+		error.clear();
+		maxError = 0;
+	}
+}
@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/** The state of the frames of a {@link JoglGraphicsBase}, shared by the rendering thread and the threads requesting rendering
+ * or pausing the application without any lock, so that they never wait for a frame to end:
+ *
+ * <pre>
+ * PAUSED --resume--> RUNNING --beginFrame--> RENDERING --endFrame--> RUNNING
+ *    ^                  |                       |
+ *    +------pause-------+        PAUSING <--pause (waits for endFrame unless called from the frame)
+ *    +-----------------endFrame-----+
+ * </pre>
+ *
+ * Only {@link #pause()} waits, for the frame in progress to end, so that the application is never paused while it renders. It
+ * gives up after {@link #PAUSE_TIMEOUT} milliseconds, e.g. when the frame is stuck in the driver. */
+public class JoglFrameState {
+	public static final int RUNNING = 0;
+	public static final int RENDERING = 1;
+	/** a frame is in progress and the application is paused once it ends */
+	public static final int PAUSING = 2;
+	public static final int PAUSED = 3;
+	/** the milliseconds {@link #pause()} waits for the frame in progress to end */
+	public static final long PAUSE_TIMEOUT = 1000;
+
+	private final AtomicInteger state = new AtomicInteger(PAUSED);
+	private final AtomicBoolean renderRequested = new AtomicBoolean();
+	private volatile Thread renderingThread;
+	/** the threads waiting in {@link #pause()}, unparked by {@link #endFrame()} */
+	private final ConcurrentLinkedQueue<Thread> pausingThreads = new ConcurrentLinkedQueue<Thread>();
+
+	/** Requests a frame to be rendered, can be called from any thread. */
+	public void requestRendering () {
+		// a plain read first, so that the producers don't contend on the cache line once the request is set
+		if (!renderRequested.get()) renderRequested.set(true);
+	}
+
+	/** @return whether rendering was requested since the last call, the request being cleared */
+	public boolean consumeRenderRequest () {
+		return renderRequested.get() && renderRequested.getAndSet(false);
+	}
+
+	/** @return whether rendering was requested, without clearing the request */
+	public boolean isRenderRequested () {
+		return renderRequested.get();
+	}
+
+	/** Starts a frame on the calling thread.
+	 * @return false when the application is paused and no frame must be rendered */
+	public boolean beginFrame () {
+		if (!state.compareAndSet(RUNNING, RENDERING)) return false;
+		renderingThread = Thread.currentThread();
+		return true;
+	}
+
+	/** Ends the frame started by {@link #beginFrame()}, pausing the application when it was paused meanwhile. */
+	public void endFrame () {
+		renderingThread = null;
+		if (!state.compareAndSet(RENDERING, RUNNING)) {
+			state.set(PAUSED);
+			for (Thread thread : pausingThreads)
+				LockSupport.unpark(thread);
+		}
+	}
+
+	/** Pauses the application, waiting for the frame in progress to end unless called from it, in which case the application is
+	 * paused once the frame ends.
+	 * @return false when the frame in progress didn't end within {@link #PAUSE_TIMEOUT} milliseconds, or when called from it:
+	 *         the application is paused once it ends */
+	public boolean pause () {
+		final Thread thread = Thread.currentThread();
+		long deadline = 0;
+		try {
+			while (true) {
+				final int current = state.get();
+				if (current == PAUSED) return true;
+				if (current == RUNNING) {
+					if (state.compareAndSet(RUNNING, PAUSED)) return true;
+					continue;
+				}
+				if (current == RENDERING && !state.compareAndSet(RENDERING, PAUSING)) continue;
+				if (renderingThread == thread) return false;
+				final long now = System.nanoTime();
+				if (deadline == 0) {
+					deadline = now + TimeUnit.MILLISECONDS.toNanos(PAUSE_TIMEOUT);
+					// registered before the state is read again, so that the unpark of endFrame isn't missed
+					pausingThreads.add(thread);
+					continue;
+				}
+				if (now - deadline >= 0) return false;
+				LockSupport.parkNanos(this, deadline - now);
+			}
+		} finally {
+			if (deadline != 0) pausingThreads.remove(thread);
+		}
+	}
+
+	/** Resumes the application, cancelling a pause requested from the frame in progress. */
+	public void resume () {
+		if (!state.compareAndSet(PAUSED, RUNNING)) state.compareAndSet(PAUSING, RENDERING);
+	}
+
+	/** @return whether the application is paused or will be once the frame in progress ends */
+	public boolean isPaused () {
+		return state.get() >= PAUSING;
+	}
+
+	/** @return whether the calling thread is rendering the frame in progress */
+	public boolean isRenderingThread () {
+		return renderingThread == Thread.currentThread();
+	}
+
+	/** @return {@link #RUNNING}, {@link #RENDERING}, {@link #PAUSING} or {@link #PAUSED} */
+	public int getState () {
+		return state.get();
+	}
+}
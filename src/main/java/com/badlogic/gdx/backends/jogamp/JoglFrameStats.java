@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.backends.jogamp.JoglRenderLoop.Phase;
+
+/** The frame times of the last frames and the time spent in each {@link Phase} of them, recorded by the render loop without
+ * allocating, from which percentiles are read, e.g. to find the hitches that a mean frame rate hides. A
+ * {@link HitchListener} is told about each frame exceeding a threshold, along with its phases.
+ * <p>
+ * The frame time is the time between the ends of two rendered frames, or the duration of the frame when the previous one
+ * wasn't rendered, e.g. when rendering on demand. The times are kept in a histogram with a resolution of about 3%, the max is
+ * exact. Read it on the rendering thread, e.g. from {@link com.badlogic.gdx.ApplicationListener#render()}. */
+public class JoglFrameStats {
+	/** Told about the frames exceeding the hitch threshold, on the rendering thread. */
+	public interface HitchListener {
+		/** @param frameNanos the frame time
+		 * @param phaseNanos the time spent in each phase of the frame, indexed by {@link Phase#ordinal()}, only valid during the
+		 *           call */
+		void hitch (long frameNanos, long[] phaseNanos);
+	}
+
+	/** sub-buckets per power of 2 of the microseconds, the upper half being used above 64 */
+	static final int SUB_BUCKETS = 64;
+	/** enough for about a minute */
+	static final int BUCKETS = 768;
+
+	private static final int SERIES = Phase.values().length + 1;
+	private static final int TOTAL = SERIES - 1;
+
+	private final int window;
+	/** the recorded times of each series, the frame time last, in a ring of window frames */
+	private final long[][] times;
+	private final int[][] histograms;
+	private int next, count;
+
+	private HitchListener hitchListener;
+	private long hitchThreshold;
+	private long hitches;
+
+	/** @param window the number of frames the statistics are computed over */
+	public JoglFrameStats (int window) {
+		if (window <= 0) throw new IllegalArgumentException("window must be > 0: " + window);
+		this.window = window;
+		times = new long[SERIES][window];
+		histograms = new int[SERIES][BUCKETS];
+	}
+
+	/** @param listener told about the frames whose frame time is at least the threshold, null to disable
+	 * @param threshold in nanoseconds */
+	public void setHitchListener (HitchListener listener, long threshold) {
+		this.hitchListener = listener;
+		this.hitchThreshold = threshold;
+	}
+
+	/** Records a frame.
+	 * @param phaseNanos the time spent in each phase, indexed by {@link Phase#ordinal()} */
+	public void record (long frameNanos, long[] phaseNanos) {
+		for (int i = 0; i < SERIES; i++) {
+			final long time = i == TOTAL ? frameNanos : phaseNanos[i];
+			if (count == window) histograms[i][bucket(times[i][next])]--;
+			histograms[i][bucket(time)]++;
+			times[i][next] = time;
+		}
+		next = (next + 1) % window;
+		if (count < window) count++;
+		if (hitchListener != null && frameNanos >= hitchThreshold) {
+			hitches++;
+			hitchListener.hitch(frameNanos, phaseNanos);
+		}
+	}
+
+	static int bucket (long nanos) {
+		final long micros = nanos / 1000;
+		if (micros < SUB_BUCKETS) return (int)Math.max(micros, 0);
+		final int shift = 64 - Long.numberOfLeadingZeros(micros) - 6;
+		return Math.min((int)(shift * SUB_BUCKETS / 2 + (micros >> shift)), BUCKETS - 1);
+	}
+
+	/** @return the upper bound of a bucket in nanoseconds */
+	static long bucketLimit (int bucket) {
+		if (bucket < SUB_BUCKETS) return (bucket + 1) * 1000L;
+		final int shift = bucket / (SUB_BUCKETS / 2) - 1;
+		return ((bucket - shift * SUB_BUCKETS / 2 + 1L) << shift) * 1000L;
+	}
+
+	/** @param percentile from 0 to 100, e.g. 99
+	 * @return the frame time in nanoseconds that the given percentage of the recorded frames don't exceed, 0 without frames */
+	public long getPercentile (float percentile) {
+		return percentile(TOTAL, percentile);
+	}
+
+	/** @return the time in nanoseconds spent in the phase that the given percentage of the recorded frames don't exceed */
+	public long getPercentile (Phase phase, float percentile) {
+		return percentile(phase.ordinal(), percentile);
+	}
+
+	private long percentile (int series, float percentile) {
+		if (count == 0) return 0;
+		final int rank = Math.max(1, (int)Math.ceil(count * Math.min(Math.max(percentile, 0), 100) / 100));
+		final int[] histogram = histograms[series];
+		int seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += histogram[i];
+			if (seen >= rank) return Math.min(bucketLimit(i), max(series));
+		}
+		return max(series);
+	}
+
+	/** @return the longest recorded frame time in nanoseconds */
+	public long getMax () {
+		return max(TOTAL);
+	}
+
+	/** @return the longest recorded time spent in the phase in nanoseconds */
+	public long getMax (Phase phase) {
+		return max(phase.ordinal());
+	}
+
+	private long max (int series) {
+		final long[] times = this.times[series];
+		long max = 0;
+		for (int i = 0; i < count; i++)
+			max = Math.max(max, times[i]);
+		return max;
+	}
+
+	/** @return the number of recorded frames, at most the window */
+	public int getCount () {
+		return count;
+	}
+
+	public int getWindow () {
+		return window;
+	}
+
+	/** @return the number of frames reported to the hitch listener since the last {@link #reset()} */
+	public long getHitches () {
+		return hitches;
+	}
+
+	public void reset () {
+		for (int i = 0; i < SERIES; i++)
+			Arrays.fill(histograms[i], 0);
+		next = 0;
+		count = 0;
+		hitches = 0;
+	}
+}
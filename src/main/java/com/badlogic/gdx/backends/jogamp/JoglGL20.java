@@ -18,405 +18,486 @@ package com.badlogic.gdx.backends.jogamp;
 
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.nio.FloatBuffer;
 import java.nio.IntBuffer;
 
-import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GL2ES3;
 import com.jogamp.opengl.GLContext;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 
 /** An implementation of the {@link GL20} interface based on JoGLContext.getCurrentGL(). Note that Jogl shaders and OpenGL ES shaders will not be 100%
  * compatible. Some glGetXXX methods are not implemented.
+ * <p>
+ * By default every call looks up the current GL of the calling thread. A wrapper created with {@link #JoglGL20(GL, boolean)}
+ * is bound to a single context instead: the GL, GL2ES2, GL2ES3 and GL2 interfaces are resolved once and reused for every call.
  * 
  * @author mzechner */
 public class JoglGL20 implements GL20 {
+	GL boundGL;
+	GL2ES2 boundGL2ES2;
+	GL2ES3 boundGL2ES3;
+	GL2 boundGL2;
+	boolean checkThread;
+
+	/** Arrays reused by the calls returning object names and strings so that they don't allocate, one set per thread as the
+	 * wrapper may be used with several contexts. */
+	static final class Scratch {
+		final int[] ints = new int[1];
+		final int[] sizes = new int[1];
+		final int[] types = new int[1];
+		byte[] bytes = new byte[256];
+
+		byte[] bytes (int size) {
+			if (bytes.length < size) bytes = new byte[size];
+			return bytes;
+		}
+	}
+
+	static final ThreadLocal<Scratch> scratch = new ThreadLocal<Scratch>() {
+		@Override
+		protected Scratch initialValue () {
+			return new Scratch();
+		}
+	};
 
 	public JoglGL20 () {
 	}
 
+	/** Creates a wrapper bound to the given GL instead of looking up the current GL on every call. The wrapper must be
+	 * recreated or rebound whenever the context changes.
+	 * @param gl the GL of the context this wrapper dispatches to
+	 * @param checkThread whether every call checks that the calling thread owns the bound context */
+	public JoglGL20 (GL gl, boolean checkThread) {
+		this.checkThread = checkThread;
+		bind(gl);
+	}
+
+	/** Resolves the GL interfaces of the given GL once, null reverts to looking up the current GL on every call. */
+	void bind (GL gl) {
+		boundGL = gl;
+		boundGL2ES2 = gl != null && gl.isGL2ES2() ? gl.getGL2ES2() : null;
+		boundGL2ES3 = gl != null && gl.isGL2ES3() ? gl.getGL2ES3() : null;
+		boundGL2 = gl != null && gl.isGL2() ? gl.getGL2() : null;
+	}
+
+	/** @return whether this wrapper is bound to a context rather than looking up the current GL on every call */
+	public boolean isBound () {
+		return boundGL != null;
+	}
+
+	protected final GL gl () {
+		if (boundGL == null) return GLContext.getCurrentGL();
+		if (checkThread) assertContextThread();
+		return boundGL;
+	}
+
+	protected final GL2ES2 gl2es2 () {
+		if (boundGL == null) return GLContext.getCurrentGL().getGL2ES2();
+		if (checkThread) assertContextThread();
+		// let JOGL report the missing profile when the context doesn't provide it
+		return boundGL2ES2 != null ? boundGL2ES2 : boundGL.getGL2ES2();
+	}
+
+	protected final GL2ES3 gl2es3 () {
+		if (boundGL == null) return GLContext.getCurrentGL().getGL2ES3();
+		if (checkThread) assertContextThread();
+		return boundGL2ES3 != null ? boundGL2ES3 : boundGL.getGL2ES3();
+	}
+
+	protected final GL2 gl2 () {
+		if (boundGL == null) return GLContext.getCurrentGL().getGL2();
+		if (checkThread) assertContextThread();
+		return boundGL2 != null ? boundGL2 : boundGL.getGL2();
+	}
+
+	void assertContextThread () {
+		final GLContext context = boundGL.getContext();
+		if (context == null || !context.isCurrent()) {
+			throw new GdxRuntimeException("The bound GL context is not current on thread " + Thread.currentThread().getName());
+		}
+	}
+
 	@Override
 	public void glActiveTexture (int texture) {
-		GLContext.getCurrentGL().glActiveTexture(texture);
+		gl().glActiveTexture(texture);
 	}
 
 	@Override
 	public void glAttachShader (int program, int shader) {
-		GLContext.getCurrentGL().getGL2ES2().glAttachShader(program, shader);
+		gl2es2().glAttachShader(program, shader);
 	}
 
 	@Override
 	public void glBindAttribLocation (int program, int index, String name) {
-		GLContext.getCurrentGL().getGL2ES2().glBindAttribLocation(program, index, name);
+		gl2es2().glBindAttribLocation(program, index, name);
 	}
 
 	@Override
 	public void glBindBuffer (int target, int buffer) {
-		GLContext.getCurrentGL().glBindBuffer(target, buffer);
+		gl().glBindBuffer(target, buffer);
 	}
 
 	@Override
 	public void glBindFramebuffer (int target, int framebuffer) {
-		GLContext.getCurrentGL().glBindFramebuffer(target, framebuffer);
+		gl().glBindFramebuffer(target, framebuffer);
 	}
 
 	@Override
 	public void glBindRenderbuffer (int target, int renderbuffer) {
-		GLContext.getCurrentGL().glBindRenderbuffer(target, renderbuffer);
+		gl().glBindRenderbuffer(target, renderbuffer);
 	}
 
 	@Override
 	public void glBindTexture (int target, int texture) {
-		GLContext.getCurrentGL().glBindTexture(target, texture);
+		gl().glBindTexture(target, texture);
 	}
 
 	@Override
 	public void glBlendColor (float red, float green, float blue, float alpha) {
-		GLContext.getCurrentGL().getGL2ES2().glBlendColor(red, green, blue, alpha);
+		gl2es2().glBlendColor(red, green, blue, alpha);
 	}
 
 	@Override
 	public void glBlendEquation (int mode) {
-		GLContext.getCurrentGL().glBlendEquation(mode);
+		gl().glBlendEquation(mode);
 	}
 
 	@Override
 	public void glBlendEquationSeparate (int modeRGB, int modeAlpha) {
-		GLContext.getCurrentGL().glBlendEquationSeparate(modeRGB, modeAlpha);
+		gl().glBlendEquationSeparate(modeRGB, modeAlpha);
 	}
 
 	@Override
 	public void glBlendFunc (int sfactor, int dfactor) {
-		GLContext.getCurrentGL().glBlendFunc(sfactor, dfactor);
+		gl().glBlendFunc(sfactor, dfactor);
 	}
 
 	@Override
 	public void glBlendFuncSeparate (int srcRGB, int dstRGB, int srcAlpha, int dstAlpha) {
-		GLContext.getCurrentGL().glBlendFuncSeparate(srcRGB, dstRGB, srcAlpha, dstAlpha);
+		gl().glBlendFuncSeparate(srcRGB, dstRGB, srcAlpha, dstAlpha);
 	}
 
 	@Override
 	public void glBufferData (int target, int size, Buffer data, int usage) {
-		GLContext.getCurrentGL().glBufferData(target, size, data, usage);
+		gl().glBufferData(target, size, data, usage);
 	}
 
 	@Override
 	public void glBufferSubData (int target, int offset, int size, Buffer data) {
-		GLContext.getCurrentGL().glBufferSubData(target, offset, size, data);
+		gl().glBufferSubData(target, offset, size, data);
 	}
 
 	@Override
 	public int glCheckFramebufferStatus (int target) {
-		return GLContext.getCurrentGL().glCheckFramebufferStatus(target);
+		return gl().glCheckFramebufferStatus(target);
 	}
 
 	@Override
 	public void glClear (int mask) {
-		GLContext.getCurrentGL().glClear(mask);
+		gl().glClear(mask);
 	}
 
 	@Override
 	public void glClearColor (float red, float green, float blue, float alpha) {
-		GLContext.getCurrentGL().glClearColor(red, green, blue, alpha);
+		gl().glClearColor(red, green, blue, alpha);
 	}
 
 	@Override
 	public void glClearDepthf (float depth) {
-		GLContext.getCurrentGL().glClearDepth(depth);
+		gl().glClearDepth(depth);
 	}
 
 	@Override
 	public void glClearStencil (int s) {
-		GLContext.getCurrentGL().glClearStencil(s);
+		gl().glClearStencil(s);
 	}
 
 	@Override
 	public void glColorMask (boolean red, boolean green, boolean blue, boolean alpha) {
-		GLContext.getCurrentGL().glColorMask(red, green, blue, alpha);
+		gl().glColorMask(red, green, blue, alpha);
 	}
 
 	@Override
 	public void glCompileShader (int shader) {
-		GLContext.getCurrentGL().getGL2ES2().glCompileShader(shader);
+		final Object event = JoglFlightRecorder.begin(JoglFlightRecorder.SHADER_COMPILE);
+		gl2es2().glCompileShader(shader);
+		if (event != null) JoglFlightRecorder.commit(event, JoglFlightRecorder.frameId(), shader, 0);
 	}
 
 	@Override
 	public void glCompressedTexImage2D (int target, int level, int internalformat, int width, int height, int border,
 		int imageSize, Buffer data) {
-		GLContext.getCurrentGL().glCompressedTexImage2D(target, level, internalformat, width, height, border, imageSize, data);
+		gl().glCompressedTexImage2D(target, level, internalformat, width, height, border, imageSize, data);
 	}
 
 	@Override
 	public void glCompressedTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format,
 		int imageSize, Buffer data) {
-		GLContext.getCurrentGL().glCompressedTexSubImage2D(target, level, xoffset, yoffset, width, height, format, imageSize, data);
+		gl().glCompressedTexSubImage2D(target, level, xoffset, yoffset, width, height, format, imageSize, data);
 	}
 
 	@Override
 	public void glCopyTexImage2D (int target, int level, int internalformat, int x, int y, int width, int height, int border) {
-		GLContext.getCurrentGL().glCopyTexImage2D(target, level, internalformat, x, y, width, height, border);
+		gl().glCopyTexImage2D(target, level, internalformat, x, y, width, height, border);
 	}
 
 	@Override
 	public void glCopyTexSubImage2D (int target, int level, int xoffset, int yoffset, int x, int y, int width, int height) {
-		GLContext.getCurrentGL().glCopyTexSubImage2D(target, level, xoffset, yoffset, x, y, width, height);
+		gl().glCopyTexSubImage2D(target, level, xoffset, yoffset, x, y, width, height);
 	}
 
 	@Override
 	public int glCreateProgram () {
-		return GLContext.getCurrentGL().getGL2ES2().glCreateProgram();
+		return gl2es2().glCreateProgram();
 	}
 
 	@Override
 	public int glCreateShader (int type) {
-		return GLContext.getCurrentGL().getGL2ES2().glCreateShader(type);
+		return gl2es2().glCreateShader(type);
 	}
 
 	@Override
 	public void glCullFace (int mode) {
-		GLContext.getCurrentGL().glCullFace(mode);
+		gl().glCullFace(mode);
 	}
 
 	@Override
 	public void glDeleteBuffers (int n, IntBuffer buffers) {
-		GLContext.getCurrentGL().glDeleteBuffers(n, buffers);
+		gl().glDeleteBuffers(n, buffers);
 	}
 
 	@Override
 	public void glDeleteFramebuffers (int n, IntBuffer framebuffers) {
-		GLContext.getCurrentGL().glDeleteFramebuffers(n, framebuffers);
+		gl().glDeleteFramebuffers(n, framebuffers);
 	}
 
 	@Override
 	public void glDeleteProgram (int program) {
-		GLContext.getCurrentGL().getGL2ES2().glDeleteProgram(program);
+		gl2es2().glDeleteProgram(program);
 	}
 
 	@Override
 	public void glDeleteRenderbuffers (int n, IntBuffer renderbuffers) {
-		GLContext.getCurrentGL().glDeleteRenderbuffers(n, renderbuffers);
+		gl().glDeleteRenderbuffers(n, renderbuffers);
 	}
 
 	@Override
 	public void glDeleteShader (int shader) {
-		GLContext.getCurrentGL().getGL2ES2().glDeleteShader(shader);
+		gl2es2().glDeleteShader(shader);
 	}
 
 	@Override
 	public void glDeleteTextures (int n, IntBuffer textures) {
-		GLContext.getCurrentGL().glDeleteTextures(n, textures);
+		gl().glDeleteTextures(n, textures);
 	}
 
 	@Override
 	public void glDepthFunc (int func) {
-		GLContext.getCurrentGL().glDepthFunc(func);
+		gl().glDepthFunc(func);
 	}
 
 	@Override
 	public void glDepthMask (boolean flag) {
-		GLContext.getCurrentGL().glDepthMask(flag);
+		gl().glDepthMask(flag);
 	}
 
 	@Override
 	public void glDepthRangef (float zNear, float zFar) {
-		GLContext.getCurrentGL().glDepthRange(zNear, zFar);
+		gl().glDepthRange(zNear, zFar);
 	}
 
 	@Override
 	public void glDetachShader (int program, int shader) {
-		GLContext.getCurrentGL().getGL2ES2().glDetachShader(program, shader);
+		gl2es2().glDetachShader(program, shader);
 	}
 
 	@Override
 	public void glDisable (int cap) {
-		GLContext.getCurrentGL().glDisable(cap);
+		gl().glDisable(cap);
 	}
 
 	@Override
 	public void glDisableVertexAttribArray (int index) {
-		GLContext.getCurrentGL().getGL2ES2().glDisableVertexAttribArray(index);
+		gl2es2().glDisableVertexAttribArray(index);
 	}
 
 	@Override
 	public void glDrawArrays (int mode, int first, int count) {
-		GLContext.getCurrentGL().glDrawArrays(mode, first, count);
+		gl().glDrawArrays(mode, first, count);
 	}
 
 	@Override
 	public void glDrawElements (int mode, int count, int type, Buffer indices) {
-		if(GLContext.getCurrentGL().isGLES2()) {
-			GLContext.getCurrentGL().getGLES2().glDrawElements(mode, count, type, indices);
+		if(gl().isGLES2()) {
+			gl().getGLES2().glDrawElements(mode, count, type, indices);
 		} else {
-			GLContext.getCurrentGL().getGL2().glDrawElements(mode, count, type, indices);
+			gl2().glDrawElements(mode, count, type, indices);
 		}
 	}
 
 	@Override
 	public void glEnable (int cap) {
-		GLContext.getCurrentGL().glEnable(cap);
+		gl().glEnable(cap);
 	}
 
 	@Override
 	public void glEnableVertexAttribArray (int index) {
-		GLContext.getCurrentGL().getGL2ES2().glEnableVertexAttribArray(index);
+		gl2es2().glEnableVertexAttribArray(index);
 	}
 
 	@Override
 	public void glFinish () {
-		GLContext.getCurrentGL().glFinish();
+		gl().glFinish();
 	}
 
 	@Override
 	public void glFlush () {
-		GLContext.getCurrentGL().glFlush();
+		gl().glFlush();
 	}
 
 	@Override
 	public void glFramebufferRenderbuffer (int target, int attachment, int renderbuffertarget, int renderbuffer) {
-		GLContext.getCurrentGL().glFramebufferRenderbuffer(target, attachment, renderbuffertarget, renderbuffer);
+		gl().glFramebufferRenderbuffer(target, attachment, renderbuffertarget, renderbuffer);
 	}
 
 	@Override
 	public void glFramebufferTexture2D (int target, int attachment, int textarget, int texture, int level) {
-		GLContext.getCurrentGL().glFramebufferTexture2D(target, attachment, textarget, texture, level);
+		gl().glFramebufferTexture2D(target, attachment, textarget, texture, level);
 	}
 
 	@Override
 	public void glFrontFace (int mode) {
-		GLContext.getCurrentGL().glFrontFace(mode);
+		gl().glFrontFace(mode);
 	}
 
 	@Override
 	public void glGenBuffers (int n, IntBuffer buffers) {
-		GLContext.getCurrentGL().glGenBuffers(n, buffers);
+		gl().glGenBuffers(n, buffers);
 	}
 
 	@Override
 	public void glGenFramebuffers (int n, IntBuffer framebuffers) {
-		GLContext.getCurrentGL().glGenFramebuffers(n, framebuffers);
+		gl().glGenFramebuffers(n, framebuffers);
 	}
 
 	@Override
 	public void glGenRenderbuffers (int n, IntBuffer renderbuffers) {
-		GLContext.getCurrentGL().glGenRenderbuffers(n, renderbuffers);
+		gl().glGenRenderbuffers(n, renderbuffers);
 	}
 
 	@Override
 	public void glGenTextures (int n, IntBuffer textures) {
-		GLContext.getCurrentGL().glGenTextures(n, textures);
+		gl().glGenTextures(n, textures);
 	}
 
 	@Override
 	public void glGenerateMipmap (int target) {
-		GLContext.getCurrentGL().glGenerateMipmap(target);
+		gl().glGenerateMipmap(target);
 	}
 
 	@Override
 	public String glGetActiveAttrib (int program, int index, IntBuffer size, Buffer type) {
-		int[] length = new int[1];
-		int[] sizeTmp = new int[2];
-		int[] typeTmp = new int[1];
-		byte[] name = new byte[256];
-		GLContext.getCurrentGL().getGL2ES2().glGetActiveAttrib(program, index, 256, length, 0, sizeTmp, 0, typeTmp, 0, name, 0);
+		final Scratch tmp = scratch.get();
+		tmp.ints[0] = 0;
+		gl2es2().glGetActiveAttrib(program, index, tmp.bytes.length, tmp.ints, 0, tmp.sizes, 0, tmp.types, 0, tmp.bytes, 0);
 
-		size.put(sizeTmp[0]);
-		if (type instanceof IntBuffer) ((IntBuffer)type).put(typeTmp[0]);
-		return new String(name, 0, length[0]);
+		size.put(tmp.sizes[0]);
+		if (type instanceof IntBuffer) ((IntBuffer)type).put(tmp.types[0]);
+		return new String(tmp.bytes, 0, tmp.ints[0]);
 	}
 
 	@Override
 	public String glGetActiveUniform (int program, int index, IntBuffer size, Buffer type) {
-		int[] length = new int[1];
-		int[] sizeTmp = new int[2];
-		int[] typeTmp = new int[1];
-		byte[] name = new byte[256];
-		GLContext.getCurrentGL().getGL2ES2().glGetActiveUniform(program, index, 256, length, 0, sizeTmp, 0, typeTmp, 0, name, 0);
+		final Scratch tmp = scratch.get();
+		tmp.ints[0] = 0;
+		gl2es2().glGetActiveUniform(program, index, tmp.bytes.length, tmp.ints, 0, tmp.sizes, 0, tmp.types, 0, tmp.bytes, 0);
 
-		size.put(sizeTmp[0]);
-		if (type instanceof IntBuffer) ((IntBuffer)type).put(typeTmp[0]);
-		return new String(name, 0, length[0]);
+		size.put(tmp.sizes[0]);
+		if (type instanceof IntBuffer) ((IntBuffer)type).put(tmp.types[0]);
+		return new String(tmp.bytes, 0, tmp.ints[0]);
 	}
 
 	@Override
 	public void glGetAttachedShaders (int program, int maxcount, Buffer count, IntBuffer shaders) {
-		GLContext.getCurrentGL().getGL2ES2().glGetAttachedShaders(program, maxcount, (IntBuffer)count, shaders);
+		gl2es2().glGetAttachedShaders(program, maxcount, (IntBuffer)count, shaders);
 	}
 
 	@Override
 	public int glGetAttribLocation (int program, String name) {
-		return GLContext.getCurrentGL().getGL2ES2().glGetAttribLocation(program, name);
+		return gl2es2().glGetAttribLocation(program, name);
 	}
 
 	@Override
 	public void glGetBooleanv (int pname, Buffer params) {
 		if (!(params instanceof ByteBuffer)) throw new GdxRuntimeException("params must be a direct ByteBuffer");
-		GLContext.getCurrentGL().glGetBooleanv(pname, (ByteBuffer)params);
+		gl().glGetBooleanv(pname, (ByteBuffer)params);
 	}
 
 	@Override
 	public void glGetBufferParameteriv (int target, int pname, IntBuffer params) {
-		GLContext.getCurrentGL().glGetBufferParameteriv(target, pname, params);
+		gl().glGetBufferParameteriv(target, pname, params);
 	}
 
 	@Override
 	public int glGetError () {
-		return GLContext.getCurrentGL().glGetError();
+		return gl().glGetError();
 	}
 
 	@Override
 	public void glGetFloatv (int pname, FloatBuffer params) {
-		GLContext.getCurrentGL().glGetFloatv(pname, params);
+		gl().glGetFloatv(pname, params);
 	}
 
 	@Override
 	public void glGetFramebufferAttachmentParameteriv (int target, int attachment, int pname, IntBuffer params) {
-		GLContext.getCurrentGL().glGetFramebufferAttachmentParameteriv(target, attachment, pname, params);
+		gl().glGetFramebufferAttachmentParameteriv(target, attachment, pname, params);
 	}
 
 	@Override
 	public void glGetIntegerv (int pname, IntBuffer params) {
-		GLContext.getCurrentGL().glGetIntegerv(pname, params);
+		gl().glGetIntegerv(pname, params);
 	}
 
 	@Override
 	public String glGetProgramInfoLog (int program) {
-		ByteBuffer buffer = ByteBuffer.allocateDirect(1024 * 10);
-		buffer.order(ByteOrder.nativeOrder());
-		ByteBuffer tmp = ByteBuffer.allocateDirect(4);
-		tmp.order(ByteOrder.nativeOrder());
-		IntBuffer intBuffer = tmp.asIntBuffer();
+		final Scratch tmp = scratch.get();
+		tmp.ints[0] = 0;
+		gl2es2().glGetProgramiv(program, GL20.GL_INFO_LOG_LENGTH, tmp.ints, 0);
+		final int logLength = tmp.ints[0];
+		if (logLength <= 0) return "";
 
-		GLContext.getCurrentGL().getGL2ES2().glGetProgramInfoLog(program, 1024 * 10, intBuffer, buffer);
-		int numBytes = intBuffer.get(0);
-		byte[] bytes = new byte[numBytes];
-		buffer.get(bytes);
-		return new String(bytes);
+		final byte[] bytes = tmp.bytes(logLength);
+		tmp.ints[0] = 0;
+		gl2es2().glGetProgramInfoLog(program, logLength, tmp.ints, 0, bytes, 0);
+		return new String(bytes, 0, tmp.ints[0]);
 	}
 
 	@Override
 	public void glGetProgramiv (int program, int pname, IntBuffer params) {
-		GLContext.getCurrentGL().getGL2ES2().glGetProgramiv(program, pname, params);
+		gl2es2().glGetProgramiv(program, pname, params);
 	}
 
 	@Override
 	public void glGetRenderbufferParameteriv (int target, int pname, IntBuffer params) {
-		GLContext.getCurrentGL().glGetRenderbufferParameteriv(target, pname, params);
+		gl().glGetRenderbufferParameteriv(target, pname, params);
 	}
 
 	@Override
 	public String glGetShaderInfoLog (int shader) {
-		ByteBuffer buffer = ByteBuffer.allocateDirect(1024 * 10);
-		buffer.order(ByteOrder.nativeOrder());
-		ByteBuffer tmp = ByteBuffer.allocateDirect(4);
-		tmp.order(ByteOrder.nativeOrder());
-		IntBuffer intBuffer = tmp.asIntBuffer();
+		final Scratch tmp = scratch.get();
+		tmp.ints[0] = 0;
+		gl2es2().glGetShaderiv(shader, GL20.GL_INFO_LOG_LENGTH, tmp.ints, 0);
+		final int logLength = tmp.ints[0];
+		if (logLength <= 0) return "";
 
-		GLContext.getCurrentGL().getGL2ES2().glGetShaderInfoLog(shader, 1024 * 10, intBuffer, buffer);
-		int numBytes = intBuffer.get(0);
-		byte[] bytes = new byte[numBytes];
-		buffer.get(bytes);
-		return new String(bytes);
+		final byte[] bytes = tmp.bytes(logLength);
+		tmp.ints[0] = 0;
+		gl2es2().glGetShaderInfoLog(shader, logLength, tmp.ints, 0, bytes, 0);
+		return new String(bytes, 0, tmp.ints[0]);
 	}
 
 	@Override
@@ -426,37 +507,37 @@ public class JoglGL20 implements GL20 {
 
 	@Override
 	public void glGetShaderiv (int shader, int pname, IntBuffer params) {
-		GLContext.getCurrentGL().getGL2ES2().glGetShaderiv(shader, pname, params);
+		gl2es2().glGetShaderiv(shader, pname, params);
 	}
 
 	@Override
 	public String glGetString (int name) {
-		return GLContext.getCurrentGL().glGetString(name);
+		return gl().glGetString(name);
 	}
 
 	@Override
 	public void glGetTexParameterfv (int target, int pname, FloatBuffer params) {
-		GLContext.getCurrentGL().glGetTexParameterfv(target, pname, params);
+		gl().glGetTexParameterfv(target, pname, params);
 	}
 
 	@Override
 	public void glGetTexParameteriv (int target, int pname, IntBuffer params) {
-		GLContext.getCurrentGL().glGetTexParameteriv(target, pname, params);
+		gl().glGetTexParameteriv(target, pname, params);
 	}
 
 	@Override
 	public int glGetUniformLocation (int program, String name) {
-		return GLContext.getCurrentGL().getGL2ES2().glGetUniformLocation(program, name);
+		return gl2es2().glGetUniformLocation(program, name);
 	}
 
 	@Override
 	public void glGetUniformfv (int program, int location, FloatBuffer params) {
-		GLContext.getCurrentGL().getGL2ES2().glGetUniformfv(program, location, params);
+		gl2es2().glGetUniformfv(program, location, params);
 	}
 
 	@Override
 	public void glGetUniformiv (int program, int location, IntBuffer params) {
-		GLContext.getCurrentGL().getGL2ES2().glGetUniformiv(program, location, params);
+		gl2es2().glGetUniformiv(program, location, params);
 	}
 
 	@Override
@@ -466,77 +547,79 @@ public class JoglGL20 implements GL20 {
 
 	@Override
 	public void glGetVertexAttribfv (int index, int pname, FloatBuffer params) {
-		GLContext.getCurrentGL().getGL2ES2().glGetVertexAttribfv(index, pname, params);
+		gl2es2().glGetVertexAttribfv(index, pname, params);
 	}
 
 	@Override
 	public void glGetVertexAttribiv (int index, int pname, IntBuffer params) {
-		GLContext.getCurrentGL().getGL2ES2().glGetVertexAttribiv(index, pname, params);
+		gl2es2().glGetVertexAttribiv(index, pname, params);
 	}
 
 	@Override
 	public void glHint (int target, int mode) {
-		GLContext.getCurrentGL().glHint(target, mode);
+		gl().glHint(target, mode);
 	}
 
 	@Override
 	public boolean glIsBuffer (int buffer) {
-		return GLContext.getCurrentGL().glIsBuffer(buffer);
+		return gl().glIsBuffer(buffer);
 	}
 
 	@Override
 	public boolean glIsEnabled (int cap) {
-		return GLContext.getCurrentGL().glIsEnabled(cap);
+		return gl().glIsEnabled(cap);
 	}
 
 	@Override
 	public boolean glIsFramebuffer (int framebuffer) {
-		return GLContext.getCurrentGL().glIsFramebuffer(framebuffer);
+		return gl().glIsFramebuffer(framebuffer);
 	}
 
 	@Override
 	public boolean glIsProgram (int program) {
-		return GLContext.getCurrentGL().getGL2ES2().glIsProgram(program);
+		return gl2es2().glIsProgram(program);
 	}
 
 	@Override
 	public boolean glIsRenderbuffer (int renderbuffer) {
-		return GLContext.getCurrentGL().glIsRenderbuffer(renderbuffer);
+		return gl().glIsRenderbuffer(renderbuffer);
 	}
 
 	@Override
 	public boolean glIsShader (int shader) {
-		return GLContext.getCurrentGL().getGL2ES2().glIsShader(shader);
+		return gl2es2().glIsShader(shader);
 	}
 
 	@Override
 	public boolean glIsTexture (int texture) {
-		return GLContext.getCurrentGL().glIsTexture(texture);
+		return gl().glIsTexture(texture);
 	}
 
 	@Override
 	public void glLineWidth (float width) {
-		GLContext.getCurrentGL().glLineWidth(width);
+		gl().glLineWidth(width);
 	}
 
 	@Override
 	public void glLinkProgram (int program) {
-		GLContext.getCurrentGL().getGL2ES2().glLinkProgram(program);
+		final Object event = JoglFlightRecorder.begin(JoglFlightRecorder.PROGRAM_LINK);
+		gl2es2().glLinkProgram(program);
+		if (event != null) JoglFlightRecorder.commit(event, JoglFlightRecorder.frameId(), program, 0);
 	}
 
 	@Override
 	public void glPixelStorei (int pname, int param) {
-		GLContext.getCurrentGL().glPixelStorei(pname, param);
+		gl().glPixelStorei(pname, param);
 	}
 
 	@Override
 	public void glPolygonOffset (float factor, float units) {
-		GLContext.getCurrentGL().glPolygonOffset(factor, units);
+		gl().glPolygonOffset(factor, units);
 	}
 
 	@Override
 	public void glReadPixels (int x, int y, int width, int height, int format, int type, Buffer pixels) {
-		GLContext.getCurrentGL().glReadPixels(x, y, width, height, format, type, pixels);
+		gl().glReadPixels(x, y, width, height, format, type, pixels);
 	}
 
 	@Override
@@ -546,17 +629,17 @@ public class JoglGL20 implements GL20 {
 
 	@Override
 	public void glRenderbufferStorage (int target, int internalformat, int width, int height) {
-		GLContext.getCurrentGL().glRenderbufferStorage(target, internalformat, width, height);
+		gl().glRenderbufferStorage(target, internalformat, width, height);
 	}
 
 	@Override
 	public void glSampleCoverage (float value, boolean invert) {
-		GLContext.getCurrentGL().glSampleCoverage(value, invert);
+		gl().glSampleCoverage(value, invert);
 	}
 
 	@Override
 	public void glScissor (int x, int y, int width, int height) {
-		GLContext.getCurrentGL().glScissor(x, y, width, height);
+		gl().glScissor(x, y, width, height);
 	}
 
 	@Override
@@ -566,342 +649,391 @@ public class JoglGL20 implements GL20 {
 
 	@Override
 	public void glShaderSource (int shader, String string) {
-		GLContext.getCurrentGL().getGL2ES2().glShaderSource(shader, 1, new String[] {string}, null, 0);
+		gl2es2().glShaderSource(shader, 1, new String[] {string}, null, 0);
 	}
 
 	@Override
 	public void glStencilFunc (int func, int ref, int mask) {
-		GLContext.getCurrentGL().glStencilFunc(func, ref, mask);
+		gl().glStencilFunc(func, ref, mask);
 	}
 
 	@Override
 	public void glStencilFuncSeparate (int face, int func, int ref, int mask) {
-		GLContext.getCurrentGL().getGL2ES2().glStencilFuncSeparate(face, func, ref, mask);
+		gl2es2().glStencilFuncSeparate(face, func, ref, mask);
 	}
 
 	@Override
 	public void glStencilMask (int mask) {
-		GLContext.getCurrentGL().glStencilMask(mask);
+		gl().glStencilMask(mask);
 	}
 
 	@Override
 	public void glStencilMaskSeparate (int face, int mask) {
-		GLContext.getCurrentGL().getGL2ES2().glStencilMaskSeparate(face, mask);
+		gl2es2().glStencilMaskSeparate(face, mask);
 	}
 
 	@Override
 	public void glStencilOp (int fail, int zfail, int zpass) {
-		GLContext.getCurrentGL().glStencilOp(fail, zfail, zpass);
+		gl().glStencilOp(fail, zfail, zpass);
 	}
 
 	@Override
 	public void glStencilOpSeparate (int face, int fail, int zfail, int zpass) {
-		GLContext.getCurrentGL().getGL2ES2().glStencilOpSeparate(face, fail, zfail, zpass);
+		gl2es2().glStencilOpSeparate(face, fail, zfail, zpass);
 	}
 
 	@Override
 	public void glTexImage2D (int target, int level, int internalformat, int width, int height, int border, int format, int type,
 		Buffer pixels) {
-		GLContext.getCurrentGL().glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+		final Object event = JoglFlightRecorder.begin(JoglFlightRecorder.TEXTURE_UPLOAD);
+		gl().glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+		if (event != null) JoglFlightRecorder.commit(event, JoglFlightRecorder.frameId(), width, height);
 	}
 
 	@Override
 	public void glTexParameterf (int target, int pname, float param) {
-		GLContext.getCurrentGL().glTexParameterf(target, pname, param);
+		gl().glTexParameterf(target, pname, param);
 	}
 
 	@Override
 	public void glTexParameterfv (int target, int pname, FloatBuffer params) {
-		GLContext.getCurrentGL().glTexParameterfv(target, pname, params);
+		gl().glTexParameterfv(target, pname, params);
 	}
 
 	@Override
 	public void glTexParameteri (int target, int pname, int param) {
-		GLContext.getCurrentGL().glTexParameteri(target, pname, param);
+		gl().glTexParameteri(target, pname, param);
 	}
 
 	@Override
 	public void glTexParameteriv (int target, int pname, IntBuffer params) {
-		GLContext.getCurrentGL().glTexParameteriv(target, pname, params);
+		gl().glTexParameteriv(target, pname, params);
 	}
 
 	@Override
 	public void glTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format, int type,
 		Buffer pixels) {
-		GLContext.getCurrentGL().glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+		final Object event = JoglFlightRecorder.begin(JoglFlightRecorder.TEXTURE_UPLOAD);
+		gl().glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+		if (event != null) JoglFlightRecorder.commit(event, JoglFlightRecorder.frameId(), width, height);
 	}
 
 	@Override
 	public void glUniform1f (int location, float x) {
-		GLContext.getCurrentGL().getGL2ES2().glUniform1f(location, x);
+		gl2es2().glUniform1f(location, x);
 	}
 
 	@Override
 	public void glUniform1fv (int location, int count, FloatBuffer v) {
-		GLContext.getCurrentGL().getGL2ES2().glUniform1fv(location, count, v);
+		gl2es2().glUniform1fv(location, count, v);
 	}
 
 	@Override
 	public void glUniform1i (int location, int x) {
-		GLContext.getCurrentGL().getGL2ES2().glUniform1i(location, x);
+		gl2es2().glUniform1i(location, x);
 	}
 
 	@Override
 	public void glUniform1iv (int location, int count, IntBuffer v) {
-		GLContext.getCurrentGL().getGL2ES2().glUniform1iv(location, count, v);
+		gl2es2().glUniform1iv(location, count, v);
 	}
 
 	@Override
 	public void glUniform2f (int location, float x, float y) {
-		GLContext.getCurrentGL().getGL2ES2().glUniform2f(location, x, y);
+		gl2es2().glUniform2f(location, x, y);
 	}
 
 	@Override
 	public void glUniform2fv (int location, int count, FloatBuffer v) {
-		GLContext.getCurrentGL().getGL2ES2().glUniform2fv(location, count, v);
+		gl2es2().glUniform2fv(location, count, v);
 	}
 
 	@Override
 	public void glUniform2i (int location, int x, int y) {
-		GLContext.getCurrentGL().getGL2ES2().glUniform2i(location, x, y);
+		gl2es2().glUniform2i(location, x, y);
 	}
 
 	@Override
 	public void glUniform2iv (int location, int count, IntBuffer v) {
-		GLContext.getCurrentGL().getGL2ES2().glUniform2iv(location, count, v);
+		gl2es2().glUniform2iv(location, count, v);
 	}
 
 	@Override
 	public void glUniform3f (int location, float x, float y, float z) {
-		GLContext.getCurrentGL().getGL2ES2().glUniform3f(location, x, y, z);
+		gl2es2().glUniform3f(location, x, y, z);
 	}
 
 	@Override
 	public void glUniform3fv (int location, int count, FloatBuffer v) {
-		GLContext.getCurrentGL().getGL2ES2().glUniform3fv(location, count, v);
+		gl2es2().glUniform3fv(location, count, v);
 	}
 
 	@Override
 	public void glUniform3i (int location, int x, int y, int z) {
-		GLContext.getCurrentGL().getGL2ES2().glUniform3i(location, x, y, z);
+		gl2es2().glUniform3i(location, x, y, z);
 	}
 
 	@Override
 	public void glUniform3iv (int location, int count, IntBuffer v) {
-		GLContext.getCurrentGL().getGL2ES2().glUniform3iv(location, count, v);
+		gl2es2().glUniform3iv(location, count, v);
 	}
 
 	@Override
 	public void glUniform4f (int location, float x, float y, float z, float w) {
-		GLContext.getCurrentGL().getGL2ES2().glUniform4f(location, x, y, z, w);
+		gl2es2().glUniform4f(location, x, y, z, w);
 	}
 
 	@Override
 	public void glUniform4fv (int location, int count, FloatBuffer v) {
-		GLContext.getCurrentGL().getGL2ES2().glUniform4fv(location, count, v);
+		gl2es2().glUniform4fv(location, count, v);
 	}
 
 	@Override
 	public void glUniform4i (int location, int x, int y, int z, int w) {
-		GLContext.getCurrentGL().getGL2ES2().glUniform4i(location, x, y, z, w);
+		gl2es2().glUniform4i(location, x, y, z, w);
 	}
 
 	@Override
 	public void glUniform4iv (int location, int count, IntBuffer v) {
-		GLContext.getCurrentGL().getGL2ES2().glUniform4iv(location, count, v);
+		gl2es2().glUniform4iv(location, count, v);
 	}
 
 	@Override
 	public void glUniformMatrix2fv (int location, int count, boolean transpose, FloatBuffer value) {
-		GLContext.getCurrentGL().getGL2ES2().glUniformMatrix2fv(location, count, transpose, value);
+		gl2es2().glUniformMatrix2fv(location, count, transpose, value);
 	}
 
 	@Override
 	public void glUniformMatrix3fv (int location, int count, boolean transpose, FloatBuffer value) {
-		GLContext.getCurrentGL().getGL2ES2().glUniformMatrix3fv(location, count, transpose, value);
+		gl2es2().glUniformMatrix3fv(location, count, transpose, value);
 	}
 
 	@Override
 	public void glUniformMatrix4fv (int location, int count, boolean transpose, FloatBuffer value) {
-		GLContext.getCurrentGL().getGL2ES2().glUniformMatrix4fv(location, count, transpose, value);
+		gl2es2().glUniformMatrix4fv(location, count, transpose, value);
 	}
 
 	@Override
 	public void glUseProgram (int program) {
-		GLContext.getCurrentGL().getGL2ES2().glUseProgram(program);
+		gl2es2().glUseProgram(program);
 	}
 
 	@Override
 	public void glValidateProgram (int program) {
-		GLContext.getCurrentGL().getGL2ES2().glValidateProgram(program);
+		gl2es2().glValidateProgram(program);
 	}
 
 	@Override
 	public void glVertexAttrib1f (int indx, float x) {
-		GLContext.getCurrentGL().getGL2ES2().glVertexAttrib1f(indx, x);
+		gl2es2().glVertexAttrib1f(indx, x);
 	}
 
 	@Override
 	public void glVertexAttrib1fv (int indx, FloatBuffer values) {
-		GLContext.getCurrentGL().getGL2ES2().glVertexAttrib1fv(indx, values);
+		gl2es2().glVertexAttrib1fv(indx, values);
 	}
 
 	@Override
 	public void glVertexAttrib2f (int indx, float x, float y) {
-		GLContext.getCurrentGL().getGL2ES2().glVertexAttrib2f(indx, x, y);
+		gl2es2().glVertexAttrib2f(indx, x, y);
 	}
 
 	@Override
 	public void glVertexAttrib2fv (int indx, FloatBuffer values) {
-		GLContext.getCurrentGL().getGL2ES2().glVertexAttrib2fv(indx, values);
+		gl2es2().glVertexAttrib2fv(indx, values);
 	}
 
 	@Override
 	public void glVertexAttrib3f (int indx, float x, float y, float z) {
-		GLContext.getCurrentGL().getGL2ES2().glVertexAttrib3f(indx, x, y, z);
+		gl2es2().glVertexAttrib3f(indx, x, y, z);
 	}
 
 	@Override
 	public void glVertexAttrib3fv (int indx, FloatBuffer values) {
-		GLContext.getCurrentGL().getGL2ES2().glVertexAttrib3fv(indx, values);
+		gl2es2().glVertexAttrib3fv(indx, values);
 	}
 
 	@Override
 	public void glVertexAttrib4f (int indx, float x, float y, float z, float w) {
-		GLContext.getCurrentGL().getGL2ES2().glVertexAttrib4f(indx, x, y, z, w);
+		gl2es2().glVertexAttrib4f(indx, x, y, z, w);
 	}
 
 	@Override
 	public void glVertexAttrib4fv (int indx, FloatBuffer values) {
-		GLContext.getCurrentGL().getGL2ES2().glVertexAttrib4fv(indx, values);
+		gl2es2().glVertexAttrib4fv(indx, values);
 	}
 
 	@Override
 	public void glVertexAttribPointer (int indx, int size, int type, boolean normalized, int stride, Buffer ptr) {
-		if(GLContext.getCurrentGL().isGLES2()) {
-			GLContext.getCurrentGL().getGLES2().glVertexAttribPointer(indx, size, type, normalized, stride, ptr);
+		if(gl().isGLES2()) {
+			gl().getGLES2().glVertexAttribPointer(indx, size, type, normalized, stride, ptr);
 		} else { 
-			GLContext.getCurrentGL().getGL2().glVertexAttribPointer(indx, size, type, normalized, stride, ptr);
+			gl2().glVertexAttribPointer(indx, size, type, normalized, stride, ptr);
 		}
 	}
 
 	@Override
 	public void glViewport (int x, int y, int width, int height) {
-		GLContext.getCurrentGL().glViewport(x, y, width, height);
+		gl().glViewport(x, y, width, height);
 	}
 
 	@Override
 	public void glDrawElements (int mode, int count, int type, int indices) {
-		GLContext.getCurrentGL().glDrawElements(mode, count, type, indices);
+		gl().glDrawElements(mode, count, type, indices);
 	}
 
 	@Override
 	public void glVertexAttribPointer (int indx, int size, int type, boolean normalized, int stride, int ptr) {
-		GLContext.getCurrentGL().getGL2ES2().glVertexAttribPointer(indx, size, type, normalized, stride, ptr);
+		gl2es2().glVertexAttribPointer(indx, size, type, normalized, stride, ptr);
 	}
 
 	@Override
 	public void glDeleteTexture(int texture) {
-		GLContext.getCurrentGL().glDeleteTextures(1, Buffers.newDirectIntBuffer(new int[]{texture}));
+		final int[] names = scratch.get().ints;
+		names[0] = texture;
+		gl().glDeleteTextures(1, names, 0);
 	}
 
 	@Override
 	public int glGenTexture() {
-		final IntBuffer buffer = Buffers.newDirectIntBuffer(1);
-		GLContext.getCurrentGL().glGenTextures(1, buffer);
-		return buffer.get(0);
+		final int[] names = scratch.get().ints;
+		names[0] = 0;
+		gl().glGenTextures(1, names, 0);
+		return names[0];
 	}
 
 	@Override
 	public void glDeleteBuffer(int buffer) {
-		GLContext.getCurrentGL().glDeleteBuffers(1, Buffers.newDirectIntBuffer(new int[]{buffer}));
+		final int[] names = scratch.get().ints;
+		names[0] = buffer;
+		gl().glDeleteBuffers(1, names, 0);
 	}
 
 	@Override
 	public void glDeleteFramebuffer(int framebuffer) {
-		GLContext.getCurrentGL().glDeleteFramebuffers(1, Buffers.newDirectIntBuffer(new int[]{framebuffer}));
+		final int[] names = scratch.get().ints;
+		names[0] = framebuffer;
+		gl().glDeleteFramebuffers(1, names, 0);
 	}
 
 	@Override
 	public void glDeleteRenderbuffer(int renderbuffer) {
-		GLContext.getCurrentGL().glDeleteRenderbuffers(1, Buffers.newDirectIntBuffer(new int[]{renderbuffer}));
+		final int[] names = scratch.get().ints;
+		names[0] = renderbuffer;
+		gl().glDeleteRenderbuffers(1, names, 0);
 	}
 
 	@Override
 	public int glGenBuffer() {
-		final IntBuffer buffer = Buffers.newDirectIntBuffer(1);
-		GLContext.getCurrentGL().glGenBuffers(1, buffer);
-		return buffer.get(0);
+		final int[] names = scratch.get().ints;
+		names[0] = 0;
+		gl().glGenBuffers(1, names, 0);
+		return names[0];
 	}
 
 	@Override
 	public int glGenFramebuffer() {
-		final IntBuffer buffer = Buffers.newDirectIntBuffer(1);
-		GLContext.getCurrentGL().glGenFramebuffers(1, buffer);
-		return buffer.get(0);
+		final int[] names = scratch.get().ints;
+		names[0] = 0;
+		gl().glGenFramebuffers(1, names, 0);
+		return names[0];
 	}
 
 	@Override
 	public int glGenRenderbuffer() {
-		final IntBuffer buffer = Buffers.newDirectIntBuffer(1);
-		GLContext.getCurrentGL().glGenRenderbuffers(1, buffer);
-		return buffer.get(0);
+		final int[] names = scratch.get().ints;
+		names[0] = 0;
+		gl().glGenRenderbuffers(1, names, 0);
+		return names[0];
 	}
 
 	@Override
 	public void glUniform1fv(int location, int count, float[] v, int offset) {
-		GLContext.getCurrentGL().getGL2ES2().glUniform1fv(location, count, v, offset);
+		gl2es2().glUniform1fv(location, count, v, offset);
 	}
 
 	@Override
 	public void glUniform1iv(int location, int count, int[] v, int offset) {
-		GLContext.getCurrentGL().getGL2ES2().glUniform1iv(location, count, v, offset);
+		gl2es2().glUniform1iv(location, count, v, offset);
 	}
 
 	@Override
 	public void glUniform2fv(int location, int count, float[] v, int offset) {
-		GLContext.getCurrentGL().getGL2ES2().glUniform2fv(location, count, v, offset);
+		gl2es2().glUniform2fv(location, count, v, offset);
 	}
 
 	@Override
 	public void glUniform2iv(int location, int count, int[] v, int offset) {
-		GLContext.getCurrentGL().getGL2ES2().glUniform2iv(location, count, v, offset);
+		gl2es2().glUniform2iv(location, count, v, offset);
 	}
 
 	@Override
 	public void glUniform3fv(int location, int count, float[] v, int offset) {
-		GLContext.getCurrentGL().getGL2ES2().glUniform3fv(location, count, v, offset);		
+		gl2es2().glUniform3fv(location, count, v, offset);		
 	}
 
 	@Override
 	public void glUniform3iv(int location, int count, int[] v, int offset) {
-		GLContext.getCurrentGL().getGL2ES2().glUniform3iv(location, count, v, offset);
+		gl2es2().glUniform3iv(location, count, v, offset);
 	}
 
 	@Override
 	public void glUniform4fv(int location, int count, float[] v, int offset) {
-		GLContext.getCurrentGL().getGL2ES2().glUniform4fv(location, count, v, offset);
+		gl2es2().glUniform4fv(location, count, v, offset);
 	}
 
 	@Override
 	public void glUniform4iv(int location, int count, int[] v, int offset) {
-		GLContext.getCurrentGL().getGL2ES2().glUniform4iv(location, count, v, offset);		
+		gl2es2().glUniform4iv(location, count, v, offset);		
 	}
 
 	@Override
 	public void glUniformMatrix2fv(int location, int count, boolean transpose, float[] value, int offset) {
-		GLContext.getCurrentGL().getGL2ES2().glUniformMatrix2fv(location, count, transpose, value, offset);
+		gl2es2().glUniformMatrix2fv(location, count, transpose, value, offset);
 	}
 
 	@Override
 	public void glUniformMatrix3fv(int location, int count, boolean transpose, float[] value, int offset) {
-		GLContext.getCurrentGL().getGL2ES2().glUniformMatrix3fv(location, count, transpose, value, offset);
+		gl2es2().glUniformMatrix3fv(location, count, transpose, value, offset);
 		
 	}
 
 	@Override
 	public void glUniformMatrix4fv(int location, int count, boolean transpose, float[] value, int offset) {
-		GLContext.getCurrentGL().getGL2ES2().glUniformMatrix4fv(location, count, transpose, value, offset);
+		gl2es2().glUniformMatrix4fv(location, count, transpose, value, offset);
+	}
+
+	/** Reads pixels into the buffer object bound to GL_PIXEL_PACK_BUFFER, an overload missing from {@link GL20}.
+	 * @param offset the offset in bytes in the pixel pack buffer */
+	public void glReadPixels (int x, int y, int width, int height, int format, int type, long offset) {
+		gl().glReadPixels(x, y, width, height, format, type, offset);
+	}
+
+	/** Uploads pixels from the buffer object bound to GL_PIXEL_UNPACK_BUFFER, an overload missing from {@link GL20}.
+	 * @param offset the offset in bytes in the pixel unpack buffer */
+	public void glTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format, int type,
+		long offset) {
+		gl().glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, offset);
+	}
+
+	/** Maps the whole buffer object bound to the target, missing from {@link GL20}.
+	 * @return a direct view of the buffer content, only valid until the buffer is unmapped, or null if it couldn't be mapped */
+	public ByteBuffer glMapBuffer (int target, int access) {
+		return gl().glMapBuffer(target, access);
+	}
+
+	public boolean glUnmapBuffer (int target) {
+		return gl().glUnmapBuffer(target);
+	}
+
+	/** Retrieves the binary of a linked program, missing from {@link GL20}. Requires OpenGL 4.1 or GL_ARB_get_program_binary. */
+	public void glGetProgramBinary (int program, int bufSize, IntBuffer length, IntBuffer binaryFormat, Buffer binary) {
+		gl2es2().glGetProgramBinary(program, bufSize, length, binaryFormat, binary);
 	}
 
+	/** Loads a program from a binary retrieved with {@link #glGetProgramBinary(int, int, IntBuffer, IntBuffer, Buffer)}, the
+	 * link status tells whether the driver accepted it. */
+	public void glProgramBinary (int program, int binaryFormat, Buffer binary, int length) {
+		gl2es2().glProgramBinary(program, binaryFormat, binary, length);
+	}
 }
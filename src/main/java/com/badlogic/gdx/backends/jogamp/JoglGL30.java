@@ -17,6 +17,7 @@ package com.badlogic.gdx.backends.jogamp;
 
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.FloatBuffer;
 import java.nio.IntBuffer;
 import java.nio.LongBuffer;
@@ -24,348 +25,386 @@ import java.nio.ShortBuffer;
 
 import com.badlogic.gdx.graphics.GL30;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL3ES3;
+import com.jogamp.opengl.GLBufferStorage;
 import com.jogamp.opengl.GLContext;
 
 public class JoglGL30 extends JoglGL20 implements GL30 {
+	GL3ES3 boundGL3ES3;
+
+	public JoglGL30 () {
+	}
+
+	/** @see JoglGL20#JoglGL20(GL, boolean) */
+	public JoglGL30 (GL gl, boolean checkThread) {
+		super(gl, checkThread);
+	}
+
+	@Override
+	void bind (GL gl) {
+		super.bind(gl);
+		boundGL3ES3 = gl != null && gl.isGL3ES3() ? gl.getGL3ES3() : null;
+	}
+
+	protected final GL3ES3 gl3es3 () {
+		if (boundGL == null) return GLContext.getCurrentGL().getGL3ES3();
+		if (checkThread) assertContextThread();
+		return boundGL3ES3 != null ? boundGL3ES3 : boundGL.getGL3ES3();
+	}
 
 	@Override
 	public void glReadBuffer (int mode) {		
-		GLContext.getCurrentGL().getGL2ES3().glReadBuffer(mode);
+		gl2es3().glReadBuffer(mode);
 	}
 
 	@Override
 	public void glDrawRangeElements (int mode, int start, int end, int count, int type, Buffer indices) {
-		if(indices instanceof ByteBuffer) GLContext.getCurrentGL().getGL2().glDrawRangeElements(mode, start, end, count, type, indices);
-		else if(indices instanceof ShortBuffer) GLContext.getCurrentGL().getGL2().glDrawRangeElements(mode, start, end, count, type, indices);
-		else if(indices instanceof IntBuffer) GLContext.getCurrentGL().getGL2().glDrawRangeElements(mode, start, end, count, type, indices);
+		if(indices instanceof ByteBuffer) gl2().glDrawRangeElements(mode, start, end, count, type, indices);
+		else if(indices instanceof ShortBuffer) gl2().glDrawRangeElements(mode, start, end, count, type, indices);
+		else if(indices instanceof IntBuffer) gl2().glDrawRangeElements(mode, start, end, count, type, indices);
 		else throw new GdxRuntimeException("indices must be byte, short or int buffer");
 	}
 
 	@Override
 	public void glDrawRangeElements (int mode, int start, int end, int count, int type, int offset) {
-		GLContext.getCurrentGL().getGL2ES3().glDrawRangeElements(mode, start, end, count, type, offset);
+		gl2es3().glDrawRangeElements(mode, start, end, count, type, offset);
 	}
 
 	@Override
 	public void glTexImage3D (int target, int level, int internalformat, int width, int height, int depth, int border, int format,
 		int type, Buffer pixels) {
-		if(pixels instanceof ByteBuffer) GLContext.getCurrentGL().getGL2ES2().glTexImage3D(target, level, internalformat, width, height, depth, border, format, type, pixels);
+		if(pixels instanceof ByteBuffer) gl2es2().glTexImage3D(target, level, internalformat, width, height, depth, border, format, type, pixels);
 		else throw new GdxRuntimeException("pixels must be byte buffer");
 	}
 
 	@Override
 	public void glTexImage3D (int target, int level, int internalformat, int width, int height, int depth, int border, int format,
 		int type, int offset) {
-		GLContext.getCurrentGL().getGL2ES2().glTexImage3D(target, level, internalformat, width, height, depth, border, format, type, offset);
+		gl2es2().glTexImage3D(target, level, internalformat, width, height, depth, border, format, type, offset);
 	}
 
 	@Override
 	public void glTexSubImage3D (int target, int level, int xoffset, int yoffset, int zoffset, int width, int height, int depth,
 		int format, int type, Buffer pixels) {
-		if(pixels instanceof ByteBuffer) GLContext.getCurrentGL().getGL2ES2().glTexSubImage3D(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels);
+		if(pixels instanceof ByteBuffer) gl2es2().glTexSubImage3D(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels);
 		else throw new GdxRuntimeException("pixels must be byte buffer");
 	}
 
 	@Override
 	public void glTexSubImage3D (int target, int level, int xoffset, int yoffset, int zoffset, int width, int height, int depth,
 		int format, int type, int offset) {
-		GLContext.getCurrentGL().getGL2ES2().glTexSubImage3D(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, offset);
+		gl2es2().glTexSubImage3D(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, offset);
 	}
 
 	@Override
 	public void glCopyTexSubImage3D (int target, int level, int xoffset, int yoffset, int zoffset, int x, int y, int width,
 		int height) {
-		GLContext.getCurrentGL().getGL2ES2().glCopyTexSubImage3D(target, level, xoffset, yoffset, zoffset, x, y, width, height);
+		gl2es2().glCopyTexSubImage3D(target, level, xoffset, yoffset, zoffset, x, y, width, height);
 	}
 
 	@Override
 	public void glGenQueries (int n, int[] ids, int offset) {
-		GLContext.getCurrentGL().getGL2ES2().glGenQueries(n, ids, offset);
+		gl2es2().glGenQueries(n, ids, offset);
 	}
 
 	@Override
 	public void glGenQueries (int n, IntBuffer ids) {
-		GLContext.getCurrentGL().getGL2ES2().glGenQueries(n, ids);
+		gl2es2().glGenQueries(n, ids);
 	}
 
 	@Override
 	public void glDeleteQueries (int n, int[] ids, int offset) {
-		GLContext.getCurrentGL().getGL2ES2().glGenQueries(n, ids, offset);
+		gl2es2().glDeleteQueries(n, ids, offset);
 	}
 
 	@Override
 	public void glDeleteQueries (int n, IntBuffer ids) {
-		GLContext.getCurrentGL().getGL2ES2().glGenQueries(n, ids);
+		gl2es2().glDeleteQueries(n, ids);
 	}
 
 	@Override
 	public boolean glIsQuery (int id) {
-		return GLContext.getCurrentGL().getGL2ES2().glIsQuery(id);
+		return gl2es2().glIsQuery(id);
 	}
 
 	@Override
 	public void glBeginQuery (int target, int id) {
-		GLContext.getCurrentGL().getGL2ES2().glBeginQuery(target, id);
+		gl2es2().glBeginQuery(target, id);
 	}
 
 	@Override
 	public void glEndQuery (int target) {
-		GLContext.getCurrentGL().getGL2ES2().glEndQuery(target);
+		gl2es2().glEndQuery(target);
 	}
 
 	@Override
 	public void glGetQueryiv (int target, int pname, IntBuffer params) {
-		GLContext.getCurrentGL().getGL2ES2().glGetQueryiv(target, pname, params);
+		gl2es2().glGetQueryiv(target, pname, params);
 	}
 
 	@Override
 	public void glGetQueryObjectuiv (int id, int pname, IntBuffer params) {
-		GLContext.getCurrentGL().getGL2ES2().glGetQueryObjectuiv(id, pname, params);
+		gl2es2().glGetQueryObjectuiv(id, pname, params);
 	}
 
 	@Override
 	public boolean glUnmapBuffer (int target) {
-		return GLContext.getCurrentGL().glUnmapBuffer(target);
+		return gl().glUnmapBuffer(target);
 	}
 
+	/** Only supports {@link GL30#GL_BUFFER_MAP_POINTER}. JOGL doesn't expose glGetBufferPointerv but keeps track of the mapped
+	 * buffers itself, the mapping of the buffer bound to the target is returned from there.
+	 * @return the direct view of the mapped buffer bound to the target, null if it isn't mapped */
 	@Override
 	public Buffer glGetBufferPointerv (int target, int pname) {
-		//FIXME glGetBufferPointerv should be in GL4 like glGetNamedBufferPointerv
-		//return GLContext.getCurrentGL().getGL4().glGetBufferPointerv(target, pname);
-		throw new UnsupportedOperationException("Not implemented yet");
+		if (pname != GL30.GL_BUFFER_MAP_POINTER) throw new GdxRuntimeException("Unsupported glGetBufferPointerv pname: " + pname);
+		final GL gl = gl();
+		final int buffer = gl.getBoundBuffer(target);
+		if (buffer == 0) return null;
+		final GLBufferStorage storage = gl.getBufferStorage(buffer);
+		return storage != null ? storage.getMappedBuffer() : null;
+	}
+
+	/** Maps a range of the buffer bound to the target, missing from {@link GL30}.
+	 * @return a direct view of the range in native order, only valid until the buffer is unmapped, or null if it couldn't be
+	 *         mapped */
+	public ByteBuffer glMapBufferRange (int target, int offset, int length, int access) {
+		final ByteBuffer mapped = gl().glMapBufferRange(target, offset, length, access);
+		return mapped != null ? mapped.order(ByteOrder.nativeOrder()) : null;
 	}
 
 	@Override
 	public void glDrawBuffers (int n, IntBuffer bufs) {
-		GLContext.getCurrentGL().getGL2ES2().glDrawBuffers(n, bufs);
+		gl2es2().glDrawBuffers(n, bufs);
 	}
 
 	@Override
 	public void glUniformMatrix2x3fv (int location, int count, boolean transpose, FloatBuffer value) {
-		GLContext.getCurrentGL().getGL2ES3().glUniformMatrix2x3fv(location, count, transpose, value);
+		gl2es3().glUniformMatrix2x3fv(location, count, transpose, value);
 	}
 
 	@Override
 	public void glUniformMatrix3x2fv (int location, int count, boolean transpose, FloatBuffer value) {
-		GLContext.getCurrentGL().getGL2ES3().glUniformMatrix3x2fv(location, count, transpose, value);
+		gl2es3().glUniformMatrix3x2fv(location, count, transpose, value);
 	}
 
 	@Override
 	public void glUniformMatrix2x4fv (int location, int count, boolean transpose, FloatBuffer value) {
-		GLContext.getCurrentGL().getGL2ES3().glUniformMatrix2x4fv(location, count, transpose, value);
+		gl2es3().glUniformMatrix2x4fv(location, count, transpose, value);
 	}
 
 	@Override
 	public void glUniformMatrix4x2fv (int location, int count, boolean transpose, FloatBuffer value) {
-		GLContext.getCurrentGL().getGL2ES3().glUniformMatrix4x2fv(location, count, transpose, value);
+		gl2es3().glUniformMatrix4x2fv(location, count, transpose, value);
 	}
 
 	@Override
 	public void glUniformMatrix3x4fv (int location, int count, boolean transpose, FloatBuffer value) {
-		GLContext.getCurrentGL().getGL2ES3().glUniformMatrix3x4fv(location, count, transpose, value);
+		gl2es3().glUniformMatrix3x4fv(location, count, transpose, value);
 	}
 
 
 	@Override
 	public void glUniformMatrix4x3fv (int location, int count, boolean transpose, FloatBuffer value) {
-		GLContext.getCurrentGL().getGL2ES3().glUniformMatrix4x3fv(location, count, transpose, value);
+		gl2es3().glUniformMatrix4x3fv(location, count, transpose, value);
 	}
 
 	@Override
 	public void glBlitFramebuffer (int srcX0, int srcY0, int srcX1, int srcY1, int dstX0, int dstY0, int dstX1, int dstY1,
 		int mask, int filter) {
-		GLContext.getCurrentGL().getGL2ES3().glBlitFramebuffer(srcX0, srcY0, srcX1, srcY1, dstX0, dstY0, dstX1, dstY1, mask, filter);
+		gl2es3().glBlitFramebuffer(srcX0, srcY0, srcX1, srcY1, dstX0, dstY0, dstX1, dstY1, mask, filter);
 	}
 
 	@Override
 	public void glRenderbufferStorageMultisample (int target, int samples, int internalformat, int width, int height) {
-		GLContext.getCurrentGL().glRenderbufferStorageMultisample(target, samples, internalformat, width, height);
+		gl().glRenderbufferStorageMultisample(target, samples, internalformat, width, height);
 	}
 
 	@Override
 	public void glFramebufferTexture2D (int target, int attachment, int textarget, int texture, int level) {
-		GLContext.getCurrentGL().glFramebufferTexture2D(target, attachment, textarget, texture, level);
+		gl().glFramebufferTexture2D(target, attachment, textarget, texture, level);
 	}
 
 	@Override
 	public void glFramebufferRenderbuffer (int target, int attachment, int renderbuffertarget, int renderbuffer) {
-		GLContext.getCurrentGL().glFramebufferRenderbuffer(target, attachment, renderbuffertarget, renderbuffer);
+		gl().glFramebufferRenderbuffer(target, attachment, renderbuffertarget, renderbuffer);
 	}
 
 	@Override
 	public void glFramebufferTextureLayer (int target, int attachment, int texture, int level, int layer) {
-		GLContext.getCurrentGL().getGL2ES3().glFramebufferTextureLayer(target, attachment, texture, level, layer);
+		gl2es3().glFramebufferTextureLayer(target, attachment, texture, level, layer);
 	}
 
 	@Override
 	public void glFlushMappedBufferRange (int target, int offset, int length) {
-		GLContext.getCurrentGL().glFlushMappedBufferRange(target, offset, length);
+		gl().glFlushMappedBufferRange(target, offset, length);
 	}
 
 	@Override
 	public void glBindVertexArray (int array) {
-		GLContext.getCurrentGL().getGL2ES3().glBindVertexArray(array);
+		gl2es3().glBindVertexArray(array);
 	}
 
 	@Override
 	public void glDeleteVertexArrays (int n, int[] arrays, int offset) {
-	    GLContext.getCurrentGL().getGL2ES3().glDeleteVertexArrays(n, arrays, offset);
+	    gl2es3().glDeleteVertexArrays(n, arrays, offset);
 	}
 
 	@Override
 	public void glDeleteVertexArrays (int n, IntBuffer arrays) {
-		GLContext.getCurrentGL().getGL2ES3().glDeleteVertexArrays(n, arrays);
+		gl2es3().glDeleteVertexArrays(n, arrays);
 	}
 
 	@Override
 	public void glGenVertexArrays (int n, int[] arrays, int offset) {
-		GLContext.getCurrentGL().getGL2ES3().glGenVertexArrays(n, arrays, offset);
+		gl2es3().glGenVertexArrays(n, arrays, offset);
 	}
 
 	@Override
 	public void glGenVertexArrays (int n, IntBuffer arrays) {
-		GLContext.getCurrentGL().getGL2ES3().glGenVertexArrays(n, arrays);
+		gl2es3().glGenVertexArrays(n, arrays);
 	}
 
 	@Override
 	public boolean glIsVertexArray (int array) {
-		return GLContext.getCurrentGL().getGL2ES3().glIsVertexArray(array);
+		return gl2es3().glIsVertexArray(array);
 	}
 
 	@Override
 	public void glBeginTransformFeedback (int primitiveMode) {
-		GLContext.getCurrentGL().getGL2ES3().glBeginTransformFeedback(primitiveMode);
+		gl2es3().glBeginTransformFeedback(primitiveMode);
 	}
 
 	@Override
 	public void glEndTransformFeedback () {
-		GLContext.getCurrentGL().getGL2ES3().glEndTransformFeedback();
+		gl2es3().glEndTransformFeedback();
 	}
 
 	@Override
 	public void glBindBufferRange (int target, int index, int buffer, int offset, int size) {
-		GLContext.getCurrentGL().getGL2ES3().glBindBufferRange(target, index, buffer, offset, size);
+		gl2es3().glBindBufferRange(target, index, buffer, offset, size);
 	}
 
 	@Override
 	public void glBindBufferBase (int target, int index, int buffer) {
-		GLContext.getCurrentGL().getGL2ES3().glBindBufferBase(target, index, buffer);
+		gl2es3().glBindBufferBase(target, index, buffer);
 	}
 
 	@Override
 	public void glTransformFeedbackVaryings (int program, String[] varyings, int bufferMode) {
 		//FIXME count should be passed as an input in GL30
 		final int count = varyings == null ? 0 : varyings.length;
-		GLContext.getCurrentGL().getGL2ES3().glTransformFeedbackVaryings(program, count, varyings, bufferMode);
+		gl2es3().glTransformFeedbackVaryings(program, count, varyings, bufferMode);
 	}
 
 	@Override
 	public void glVertexAttribIPointer (int index, int size, int type, int stride, int offset) {
-		GLContext.getCurrentGL().getGL2ES3().glVertexAttribIPointer(index, size, type, stride, offset);
+		gl2es3().glVertexAttribIPointer(index, size, type, stride, offset);
 	}
 
 	@Override
 	public void glGetVertexAttribIiv (int index, int pname, IntBuffer params) {
-		GLContext.getCurrentGL().getGL2ES3().glGetVertexAttribIiv(index, pname, params);
+		gl2es3().glGetVertexAttribIiv(index, pname, params);
 	}
 
 	@Override
 	public void glGetVertexAttribIuiv (int index, int pname, IntBuffer params) {
-		GLContext.getCurrentGL().getGL2ES3().glGetVertexAttribIuiv(index, pname, params);
+		gl2es3().glGetVertexAttribIuiv(index, pname, params);
 	}
 
 	@Override
 	public void glVertexAttribI4i (int index, int x, int y, int z, int w) {
-		GLContext.getCurrentGL().getGL2ES3().glVertexAttribI4i(index, x, y, z, w);
+		gl2es3().glVertexAttribI4i(index, x, y, z, w);
 	}
 
 	@Override
 	public void glVertexAttribI4ui (int index, int x, int y, int z, int w) {
-		GLContext.getCurrentGL().getGL2ES3().glVertexAttribI4ui(index, x, y, z, w);
+		gl2es3().glVertexAttribI4ui(index, x, y, z, w);
 	}
 	
 	@Override
 	public void glGetUniformuiv (int program, int location, IntBuffer params) {
-		GLContext.getCurrentGL().getGL2ES3().glGetUniformuiv(program, location, params);
+		gl2es3().glGetUniformuiv(program, location, params);
 	}
 
 	@Override
 	public int glGetFragDataLocation (int program, String name) {
-		return GLContext.getCurrentGL().getGL2ES3().glGetFragDataLocation(program, name);
+		return gl2es3().glGetFragDataLocation(program, name);
 	}
 
 	@Override
 	public void glUniform1uiv (int location, int count, IntBuffer value) {
-		GLContext.getCurrentGL().getGL2ES3().glUniform1uiv(location, count, value);
+		gl2es3().glUniform1uiv(location, count, value);
 	}
 
 	@Override
 	public void glUniform3uiv (int location, int count, IntBuffer value) {
-		GLContext.getCurrentGL().getGL2ES3().glUniform3uiv(location, count, value);
+		gl2es3().glUniform3uiv(location, count, value);
 	}
 
 	@Override
 	public void glUniform4uiv (int location, int count, IntBuffer value) {
-		GLContext.getCurrentGL().getGL2ES3().glUniform4uiv(location, count, value);
+		gl2es3().glUniform4uiv(location, count, value);
 	}
 
 	@Override
 	public void glClearBufferiv (int buffer, int drawbuffer, IntBuffer value) {
-		GLContext.getCurrentGL().getGL2ES3().glClearBufferiv(buffer, drawbuffer, value);
+		gl2es3().glClearBufferiv(buffer, drawbuffer, value);
 	}
 
 	@Override
 	public void glClearBufferuiv (int buffer, int drawbuffer, IntBuffer value) {
-		GLContext.getCurrentGL().getGL2ES3().glClearBufferuiv(buffer, drawbuffer, value);
+		gl2es3().glClearBufferuiv(buffer, drawbuffer, value);
 	}
 
 	@Override
 	public void glClearBufferfv (int buffer, int drawbuffer, FloatBuffer value) {
-		GLContext.getCurrentGL().getGL2ES3().glClearBufferfv(buffer, drawbuffer, value);
+		gl2es3().glClearBufferfv(buffer, drawbuffer, value);
 	}
 
 	@Override
 	public void glClearBufferfi (int buffer, int drawbuffer, float depth, int stencil) {
-		GLContext.getCurrentGL().getGL2ES3().glClearBufferfi(buffer, drawbuffer, depth, stencil);
+		gl2es3().glClearBufferfi(buffer, drawbuffer, depth, stencil);
 	}
 
 	@Override
 	public String glGetStringi (int name, int index) {
-		return GLContext.getCurrentGL().getGL2ES3().glGetStringi(name, index);
+		return gl2es3().glGetStringi(name, index);
 	}
 
 	@Override
 	public void glCopyBufferSubData (int readTarget, int writeTarget, int readOffset, int writeOffset, int size) {
-		GLContext.getCurrentGL().getGL2ES3().glCopyBufferSubData(readTarget, writeTarget, readOffset, writeOffset, size);
+		gl2es3().glCopyBufferSubData(readTarget, writeTarget, readOffset, writeOffset, size);
 	}
 
 	@Override
 	public void glGetUniformIndices (int program, String[] uniformNames, IntBuffer uniformIndices) {
 		//FIXME uniformCount should be passed as an input in GL30
 		final int uniformCount = uniformNames ==null ? 0 : uniformNames.length;
-		GLContext.getCurrentGL().getGL2ES3().glGetUniformIndices(program, uniformCount, uniformNames, uniformIndices);
+		gl2es3().glGetUniformIndices(program, uniformCount, uniformNames, uniformIndices);
 	}
 
 	@Override
 	public void glGetActiveUniformsiv (int program, int uniformCount, IntBuffer uniformIndices, int pname, IntBuffer params) {
-		GLContext.getCurrentGL().getGL2ES3().glGetActiveUniformsiv(program, uniformCount, uniformIndices, pname, params);
+		gl2es3().glGetActiveUniformsiv(program, uniformCount, uniformIndices, pname, params);
 	}
 
 	@Override
 	public int glGetUniformBlockIndex (int program, String uniformBlockName) {
-		return GLContext.getCurrentGL().getGL2ES3().glGetUniformBlockIndex(program, uniformBlockName);
+		return gl2es3().glGetUniformBlockIndex(program, uniformBlockName);
 	}
 
 	@Override
 	public void glGetActiveUniformBlockiv (int program, int uniformBlockIndex, int pname, IntBuffer params) {
-		GLContext.getCurrentGL().getGL2ES3().glGetActiveUniformBlockiv(program, uniformBlockIndex, pname, params);
+		gl2es3().glGetActiveUniformBlockiv(program, uniformBlockIndex, pname, params);
 	}
 
 	@Override
 	public void glGetActiveUniformBlockName (int program, int uniformBlockIndex, Buffer length, Buffer uniformBlockName) {
 		//FIXME bufSize should be passed as an input in GL30
 		final int bufSize = uniformBlockName.limit();
-		GLContext.getCurrentGL().getGL2ES3().glGetActiveUniformBlockName(program, uniformBlockIndex, bufSize, (IntBuffer)length, (ByteBuffer)uniformBlockName);
+		gl2es3().glGetActiveUniformBlockName(program, uniformBlockIndex, bufSize, (IntBuffer)length, (ByteBuffer)uniformBlockName);
 	}
 
 	@Override
@@ -377,138 +416,138 @@ public class JoglGL30 extends JoglGL20 implements GL30 {
 
 	@Override
 	public void glUniformBlockBinding (int program, int uniformBlockIndex, int uniformBlockBinding) {
-		GLContext.getCurrentGL().getGL2ES3().glUniformBlockBinding(program, uniformBlockIndex, uniformBlockBinding);
+		gl2es3().glUniformBlockBinding(program, uniformBlockIndex, uniformBlockBinding);
 	}
 
 	@Override
 	public void glDrawArraysInstanced (int mode, int first, int count, int instanceCount) {
-		GLContext.getCurrentGL().getGL2ES3().glDrawArraysInstanced(mode, first, count, instanceCount);
+		gl2es3().glDrawArraysInstanced(mode, first, count, instanceCount);
 	}
 
 	@Override
 	public void glDrawElementsInstanced (int mode, int count, int type, int indicesOffset, int instanceCount) {
-		GLContext.getCurrentGL().getGL2ES3().glDrawElementsInstanced(mode, count, type, indicesOffset, instanceCount);
+		gl2es3().glDrawElementsInstanced(mode, count, type, indicesOffset, instanceCount);
 		
 	}
 
 	@Override
 	public void glGetInteger64v (int pname, LongBuffer params) {
-		GLContext.getCurrentGL().getGL3ES3().glGetInteger64v(pname, params);
+		gl3es3().glGetInteger64v(pname, params);
 	}
 
 	@Override
 	public void glGetBufferParameteri64v (int target, int pname, LongBuffer params) {
-		GLContext.getCurrentGL().getGL3ES3().glGetBufferParameteri64v(target, pname, params);
+		gl3es3().glGetBufferParameteri64v(target, pname, params);
 	}
 
 	@Override
 	public void glGenSamplers (int count, int[] samplers, int offset) {
-		GLContext.getCurrentGL().getGL3ES3().glGenSamplers(count, samplers, offset);
+		gl3es3().glGenSamplers(count, samplers, offset);
 	}
 
 	@Override
 	public void glGenSamplers (int count, IntBuffer samplers) {
-		GLContext.getCurrentGL().getGL3ES3().glGenSamplers(count, samplers);
+		gl3es3().glGenSamplers(count, samplers);
 	}
 
 	@Override
 	public void glDeleteSamplers (int count, int[] samplers, int offset) {
-		GLContext.getCurrentGL().getGL3ES3().glDeleteSamplers(count, samplers, offset);
+		gl3es3().glDeleteSamplers(count, samplers, offset);
 	}
 
 	@Override
 	public void glDeleteSamplers (int count, IntBuffer samplers) {
-		GLContext.getCurrentGL().getGL3ES3().glDeleteSamplers(count, samplers);
+		gl3es3().glDeleteSamplers(count, samplers);
 	}
 
 	@Override
 	public boolean glIsSampler (int sampler) {
-		return GLContext.getCurrentGL().getGL3ES3().glIsSampler(sampler);
+		return gl3es3().glIsSampler(sampler);
 	}
 
 	@Override
 	public void glBindSampler (int unit, int sampler) {
-		GLContext.getCurrentGL().getGL3ES3().glBindSampler(unit, sampler);
+		gl3es3().glBindSampler(unit, sampler);
 	}
 
 	@Override
 	public void glSamplerParameteri (int sampler, int pname, int param) {
-		GLContext.getCurrentGL().getGL3ES3().glSamplerParameteri(sampler, pname, param);
+		gl3es3().glSamplerParameteri(sampler, pname, param);
 	}
 
 	@Override
 	public void glSamplerParameteriv (int sampler, int pname, IntBuffer param) {
-		GLContext.getCurrentGL().getGL3ES3().glSamplerParameteriv(sampler, pname, param);
+		gl3es3().glSamplerParameteriv(sampler, pname, param);
 	}
 
 	@Override
 	public void glSamplerParameterf (int sampler, int pname, float param) {
-		GLContext.getCurrentGL().getGL3ES3().glSamplerParameterf(sampler, pname, param);
+		gl3es3().glSamplerParameterf(sampler, pname, param);
 	}
 
 	@Override
 	public void glSamplerParameterfv (int sampler, int pname, FloatBuffer param) {
-		GLContext.getCurrentGL().getGL3ES3().glSamplerParameterfv(sampler, pname, param);
+		gl3es3().glSamplerParameterfv(sampler, pname, param);
 	}
 
 	@Override
 	public void glGetSamplerParameteriv (int sampler, int pname, IntBuffer params) {
-		GLContext.getCurrentGL().getGL3ES3().glGetSamplerParameteriv(sampler, pname, params);
+		gl3es3().glGetSamplerParameteriv(sampler, pname, params);
 	}
 
 	@Override
 	public void glGetSamplerParameterfv (int sampler, int pname, FloatBuffer params) {
-		GLContext.getCurrentGL().getGL3ES3().glGetSamplerParameterfv(sampler, pname, params);
+		gl3es3().glGetSamplerParameterfv(sampler, pname, params);
 	}
 
 	@Override
 	public void glVertexAttribDivisor (int index, int divisor) {
-		GLContext.getCurrentGL().getGL2ES3().glVertexAttribDivisor(index, divisor);
+		gl2es3().glVertexAttribDivisor(index, divisor);
 	}
 
 	@Override
 	public void glBindTransformFeedback (int target, int id) {
-		GLContext.getCurrentGL().getGL2ES3().glBindTransformFeedback(target, id);
+		gl2es3().glBindTransformFeedback(target, id);
 	}
 
 	@Override
 	public void glDeleteTransformFeedbacks (int n, int[] ids, int offset) {
-		GLContext.getCurrentGL().getGL2ES3().glDeleteTransformFeedbacks(n, ids, offset);
+		gl2es3().glDeleteTransformFeedbacks(n, ids, offset);
 	}
 
 	@Override
 	public void glDeleteTransformFeedbacks (int n, IntBuffer ids) {
-		GLContext.getCurrentGL().getGL2ES3().glDeleteTransformFeedbacks(n, ids);
+		gl2es3().glDeleteTransformFeedbacks(n, ids);
 	}
 
 	@Override
 	public void glGenTransformFeedbacks (int n, int[] ids, int offset) {
-		GLContext.getCurrentGL().getGL2ES3().glGenTransformFeedbacks(n, ids, offset);
+		gl2es3().glGenTransformFeedbacks(n, ids, offset);
 	}
 
 	@Override
 	public void glGenTransformFeedbacks (int n, IntBuffer ids) {
-		GLContext.getCurrentGL().getGL2ES3().glGenTransformFeedbacks(n, ids);
+		gl2es3().glGenTransformFeedbacks(n, ids);
 	}
 
 	@Override
 	public boolean glIsTransformFeedback (int id) {
-		return GLContext.getCurrentGL().getGL2ES3().glIsTransformFeedback(id);
+		return gl2es3().glIsTransformFeedback(id);
 	}
 
 	@Override
 	public void glPauseTransformFeedback () {
-		GLContext.getCurrentGL().getGL2ES3().glPauseTransformFeedback();
+		gl2es3().glPauseTransformFeedback();
 	}
 
 	@Override
 	public void glResumeTransformFeedback () {
-		GLContext.getCurrentGL().getGL2ES3().glResumeTransformFeedback();
+		gl2es3().glResumeTransformFeedback();
 	}
 
 	@Override
 	public void glProgramParameteri (int program, int pname, int value) {
-		GLContext.getCurrentGL().getGL2ES2().glProgramParameteri(program, pname, value);
+		gl2es2().glProgramParameteri(program, pname, value);
 	}
 
 //	@Override
@@ -518,7 +557,7 @@ public class JoglGL30 extends JoglGL20 implements GL30 {
 
 	@Override
 	public void glInvalidateFramebuffer (int target, int numAttachments, IntBuffer attachments) {
-		GLContext.getCurrentGL().getGL2ES3().glInvalidateFramebuffer(target, numAttachments, attachments);
+		gl2es3().glInvalidateFramebuffer(target, numAttachments, attachments);
 	}
 
 //	@Override
@@ -530,7 +569,22 @@ public class JoglGL30 extends JoglGL20 implements GL30 {
 	@Override
 	public void glInvalidateSubFramebuffer (int target, int numAttachments, IntBuffer attachments, int x, int y, int width,
 		int height) {
-		GLContext.getCurrentGL().getGL2ES3().glInvalidateSubFramebuffer(target, numAttachments, attachments, x, y, width, height);
+		gl2es3().glInvalidateSubFramebuffer(target, numAttachments, attachments, x, y, width, height);
+	}
+
+	/** Inserts a fence sync, missing from {@link GL30}.
+	 * @return the sync object, 0 on failure */
+	public long glFenceSync (int condition, int flags) {
+		return gl3es3().glFenceSync(condition, flags);
+	}
+
+	/** @return {@link GL30#GL_ALREADY_SIGNALED}, {@link GL30#GL_CONDITION_SATISFIED}, {@link GL30#GL_TIMEOUT_EXPIRED} or
+	 *         {@link GL30#GL_WAIT_FAILED} */
+	public int glClientWaitSync (long sync, int flags, long timeout) {
+		return gl3es3().glClientWaitSync(sync, flags, timeout);
+	}
+
+	public void glDeleteSync (long sync) {
+		gl3es3().glDeleteSync(sync);
 	}
-	
 }
@@ -0,0 +1,2300 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** A {@link GL20} recording the calls made on it into an off-heap command stream instead of executing them, so that a thread
+ * not owning the GL context can prepare the rendering commands of a frame. {@link #submit()} hands the recorded frame over to
+ * the rendering thread, which replays it with {@link #replay(GL20)}; once registered with
+ * {@link JoglGraphicsBase#addCommandBuffer(JoglGLCommandBuffer)} this happens right before
+ * {@link com.badlogic.gdx.ApplicationListener#render()}.
+ * <p>
+ * Two streams are used: one is being recorded while the other is waiting to be or being replayed. {@link #submit()} blocks
+ * when the rendering thread hasn't caught up with the previous frame yet.
+ * <p>
+ * Only the calls not returning anything can be recorded, the others (object creation, queries, ...) throw a
+ * {@link GdxRuntimeException} and must be made on the rendering thread. The content of the buffers and arrays passed to the
+ * recorded calls is copied, they can be reused as soon as the call returns. On replay, each buffer is handed to the GL as a
+ * slice of the stream of its own, valid until the replay ends. A command buffer must only be recorded by one thread at a
+ * time. */
+public class JoglGLCommandBuffer implements GL20 {
+	static final int INITIAL_CAPACITY = 64 * 1024;
+
+	static final int ACTIVE_TEXTURE = 1;
+	static final int ATTACH_SHADER = 2;
+	static final int BIND_BUFFER = 3;
+	static final int BIND_FRAMEBUFFER = 4;
+	static final int BIND_RENDERBUFFER = 5;
+	static final int BIND_TEXTURE = 6;
+	static final int BLEND_COLOR = 7;
+	static final int BLEND_EQUATION = 8;
+	static final int BLEND_EQUATION_SEPARATE = 9;
+	static final int BLEND_FUNC = 10;
+	static final int BLEND_FUNC_SEPARATE = 11;
+	static final int BUFFER_DATA = 12;
+	static final int BUFFER_SUB_DATA = 13;
+	static final int CLEAR = 14;
+	static final int CLEAR_COLOR = 15;
+	static final int CLEAR_DEPTHF = 16;
+	static final int CLEAR_STENCIL = 17;
+	static final int COLOR_MASK = 18;
+	static final int COMPILE_SHADER = 19;
+	static final int COMPRESSED_TEX_IMAGE2D = 20;
+	static final int COMPRESSED_TEX_SUB_IMAGE2D = 21;
+	static final int COPY_TEX_IMAGE2D = 22;
+	static final int COPY_TEX_SUB_IMAGE2D = 23;
+	static final int CULL_FACE = 24;
+	static final int DELETE_BUFFERS = 25;
+	static final int DELETE_FRAMEBUFFERS = 26;
+	static final int DELETE_PROGRAM = 27;
+	static final int DELETE_RENDERBUFFERS = 28;
+	static final int DELETE_SHADER = 29;
+	static final int DELETE_TEXTURES = 30;
+	static final int DEPTH_FUNC = 31;
+	static final int DEPTH_MASK = 32;
+	static final int DEPTH_RANGEF = 33;
+	static final int DETACH_SHADER = 34;
+	static final int DISABLE = 35;
+	static final int DISABLE_VERTEX_ATTRIB_ARRAY = 36;
+	static final int DRAW_ARRAYS = 37;
+	static final int DRAW_ELEMENTS_BUFFER = 38;
+	static final int ENABLE = 39;
+	static final int ENABLE_VERTEX_ATTRIB_ARRAY = 40;
+	static final int FINISH = 41;
+	static final int FLUSH = 42;
+	static final int FRAMEBUFFER_RENDERBUFFER = 43;
+	static final int FRAMEBUFFER_TEXTURE2D = 44;
+	static final int FRONT_FACE = 45;
+	static final int GENERATE_MIPMAP = 46;
+	static final int HINT = 47;
+	static final int LINE_WIDTH = 48;
+	static final int LINK_PROGRAM = 49;
+	static final int PIXEL_STOREI = 50;
+	static final int POLYGON_OFFSET = 51;
+	static final int RELEASE_SHADER_COMPILER = 52;
+	static final int RENDERBUFFER_STORAGE = 53;
+	static final int SAMPLE_COVERAGE = 54;
+	static final int SCISSOR = 55;
+	static final int STENCIL_FUNC = 56;
+	static final int STENCIL_FUNC_SEPARATE = 57;
+	static final int STENCIL_MASK = 58;
+	static final int STENCIL_MASK_SEPARATE = 59;
+	static final int STENCIL_OP = 60;
+	static final int STENCIL_OP_SEPARATE = 61;
+	static final int TEX_IMAGE2D = 62;
+	static final int TEX_PARAMETERF = 63;
+	static final int TEX_PARAMETERFV = 64;
+	static final int TEX_PARAMETERI = 65;
+	static final int TEX_PARAMETERIV = 66;
+	static final int TEX_SUB_IMAGE2D = 67;
+	static final int UNIFORM1F = 68;
+	static final int UNIFORM1FV = 69;
+	static final int UNIFORM1I = 70;
+	static final int UNIFORM1IV = 71;
+	static final int UNIFORM2F = 72;
+	static final int UNIFORM2FV = 73;
+	static final int UNIFORM2I = 74;
+	static final int UNIFORM2IV = 75;
+	static final int UNIFORM3F = 76;
+	static final int UNIFORM3FV = 77;
+	static final int UNIFORM3I = 78;
+	static final int UNIFORM3IV = 79;
+	static final int UNIFORM4F = 80;
+	static final int UNIFORM4FV = 81;
+	static final int UNIFORM4I = 82;
+	static final int UNIFORM4IV = 83;
+	static final int UNIFORM_MATRIX2FV = 84;
+	static final int UNIFORM_MATRIX3FV = 85;
+	static final int UNIFORM_MATRIX4FV = 86;
+	static final int USE_PROGRAM = 87;
+	static final int VALIDATE_PROGRAM = 88;
+	static final int VERTEX_ATTRIB1F = 89;
+	static final int VERTEX_ATTRIB1FV = 90;
+	static final int VERTEX_ATTRIB2F = 91;
+	static final int VERTEX_ATTRIB2FV = 92;
+	static final int VERTEX_ATTRIB3F = 93;
+	static final int VERTEX_ATTRIB3FV = 94;
+	static final int VERTEX_ATTRIB4F = 95;
+	static final int VERTEX_ATTRIB4FV = 96;
+	static final int VERTEX_ATTRIB_POINTER_BUFFER = 97;
+	static final int VIEWPORT = 98;
+	static final int DRAW_ELEMENTS = 99;
+	static final int VERTEX_ATTRIB_POINTER = 100;
+	static final int DELETE_TEXTURE = 101;
+	static final int DELETE_BUFFER = 102;
+	static final int DELETE_FRAMEBUFFER = 103;
+	static final int DELETE_RENDERBUFFER = 104;
+	static final int BIND_ATTRIB_LOCATION = 105;
+	static final int SHADER_SOURCE = 106;
+	static final int SHADER_BINARY = 107;
+
+	/** A growable off-heap stream of commands, each made of an opcode followed by its arguments. */
+	static final class CommandStream {
+		ByteBuffer data;
+		/** the strings of the recorded calls, referenced by index from the stream */
+		final Array<String> strings = new Array<String>();
+		int commands;
+
+		CommandStream (int capacity) {
+			allocate(capacity);
+		}
+
+		private void allocate (int capacity) {
+			data = BufferUtils.newByteBuffer(capacity);
+		}
+
+		void ensure (int bytes) {
+			if (data.remaining() >= bytes) return;
+			final ByteBuffer old = data;
+			int capacity = old.capacity() * 2;
+			while (capacity - old.position() < bytes)
+				capacity *= 2;
+			allocate(capacity);
+			old.flip();
+			data.put(old);
+		}
+
+		void begin (int opcode, int bytes) {
+			ensure(4 + bytes);
+			data.putInt(opcode);
+			commands++;
+		}
+
+		void putInt (int value) {
+			data.putInt(value);
+		}
+
+		void putFloat (float value) {
+			data.putFloat(value);
+		}
+
+		void putString (String value) {
+			data.putInt(strings.size);
+			strings.add(value);
+		}
+
+		void putBoolean (boolean value) {
+			data.putInt(value ? 1 : 0);
+		}
+
+		void putFloats (float[] values, int offset, int count) {
+			for (int i = 0; i < count; i++)
+				data.putFloat(values[offset + i]);
+		}
+
+		void putFloats (FloatBuffer values, int count) {
+			final int position = values.position();
+			for (int i = 0; i < count; i++)
+				data.putFloat(values.get(position + i));
+		}
+
+		void putInts (int[] values, int offset, int count) {
+			for (int i = 0; i < count; i++)
+				data.putInt(values[offset + i]);
+		}
+
+		void putInts (IntBuffer values, int count) {
+			final int position = values.position();
+			for (int i = 0; i < count; i++)
+				data.putInt(values.get(position + i));
+		}
+
+		/** Writes the byte count followed by the first bytes of the given buffer, -1 standing for a null buffer. The content is
+		 * padded to keep the following arguments aligned. */
+		void putBuffer (Buffer buffer, int bytes) {
+			if (buffer == null) {
+				data.putInt(-1);
+				return;
+			}
+			bytes = Math.min(bytes, remainingBytes(buffer));
+			ensure(4 + bytes + 3);
+			data.putInt(bytes);
+			final int start = data.position();
+			final int position = buffer.position();
+			if (buffer instanceof ByteBuffer) {
+				final ByteBuffer src = (ByteBuffer)buffer;
+				final int limit = src.limit();
+				src.limit(position + bytes);
+				data.put(src);
+				src.limit(limit);
+				src.position(position);
+			} else if (buffer instanceof FloatBuffer) {
+				for (int i = 0, n = bytes >> 2; i < n; i++)
+					data.putFloat(((FloatBuffer)buffer).get(position + i));
+			} else if (buffer instanceof IntBuffer) {
+				for (int i = 0, n = bytes >> 2; i < n; i++)
+					data.putInt(((IntBuffer)buffer).get(position + i));
+			} else if (buffer instanceof ShortBuffer) {
+				for (int i = 0, n = bytes >> 1; i < n; i++)
+					data.putShort(((ShortBuffer)buffer).get(position + i));
+			} else if (buffer instanceof CharBuffer) {
+				for (int i = 0, n = bytes >> 1; i < n; i++)
+					data.putChar(((CharBuffer)buffer).get(position + i));
+			} else if (buffer instanceof LongBuffer) {
+				for (int i = 0, n = bytes >> 3; i < n; i++)
+					data.putLong(((LongBuffer)buffer).get(position + i));
+			} else if (buffer instanceof DoubleBuffer) {
+				for (int i = 0, n = bytes >> 3; i < n; i++)
+					data.putDouble(((DoubleBuffer)buffer).get(position + i));
+			} else {
+				throw new GdxRuntimeException("Can't record a " + buffer.getClass().getName());
+			}
+			data.position(align(start + bytes));
+		}
+
+		void reset () {
+			data.clear();
+			strings.clear();
+			commands = 0;
+		}
+	}
+
+	private CommandStream recording;
+	private final BlockingQueue<CommandStream> pending = new ArrayBlockingQueue<CommandStream>(2);
+	private final BlockingQueue<CommandStream> free = new ArrayBlockingQueue<CommandStream>(2);
+
+	private float[] floats = new float[16];
+	private int[] ints = new int[16];
+	private FloatBuffer floatBuffer = BufferUtils.newFloatBuffer(16);
+	private IntBuffer intBuffer = BufferUtils.newIntBuffer(16);
+	/** the stream being replayed */
+	private ByteBuffer data;
+	private Array<String> strings;
+
+	public JoglGLCommandBuffer () {
+		this(INITIAL_CAPACITY);
+	}
+
+	/** @param capacity the initial capacity in bytes of each of the two command streams, they grow when needed */
+	public JoglGLCommandBuffer (int capacity) {
+		recording = new CommandStream(capacity);
+		free.add(new CommandStream(capacity));
+	}
+
+	/** @return the number of calls recorded since the last {@link #submit()} */
+	public int getRecordedCommands () {
+		return recording.commands;
+	}
+
+	/** @return the number of bytes recorded since the last {@link #submit()} */
+	public int getRecordedBytes () {
+		return recording.data.position();
+	}
+
+	/** Hands the calls recorded so far over to the rendering thread and starts recording a new frame. Blocks while the frame
+	 * submitted previously hasn't been replayed yet. Rendering is requested, so that the frame gets replayed when the
+	 * rendering isn't continuous. */
+	public void submit () {
+		try {
+			pending.put(recording);
+			recording = free.take();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new GdxRuntimeException("Interrupted while submitting commands", e);
+		}
+		if (Gdx.graphics != null) Gdx.graphics.requestRendering();
+	}
+
+	/** @return whether a submitted frame is waiting to be replayed */
+	public boolean hasPending () {
+		return !pending.isEmpty();
+	}
+
+	/** Replays the oldest submitted frame, if any, on the given GL. Must be called on the thread owning the GL context.
+	 * @return whether a frame was replayed */
+	public boolean replay (GL20 gl) {
+		final CommandStream stream = pending.peek();
+		if (stream == null) return false;
+		try {
+			replay(gl, stream);
+		} finally {
+			data = null;
+			strings = null;
+			stream.reset();
+			pending.poll();
+			free.add(stream);
+		}
+		return true;
+	}
+
+	static int align (int position) {
+		return (position + 3) & ~3;
+	}
+
+	static int remainingBytes (Buffer buffer) {
+		if (buffer == null) return 0;
+		final int remaining = buffer.remaining();
+		if (buffer instanceof ByteBuffer) return remaining;
+		if (buffer instanceof ShortBuffer || buffer instanceof CharBuffer) return remaining << 1;
+		if (buffer instanceof IntBuffer || buffer instanceof FloatBuffer) return remaining << 2;
+		return remaining << 3;
+	}
+
+	private float[] floats (int count) {
+		if (floats.length < count) floats = new float[Math.max(count, floats.length * 2)];
+		for (int i = 0; i < count; i++)
+			floats[i] = data.getFloat();
+		return floats;
+	}
+
+	private int[] ints (int count) {
+		if (ints.length < count) ints = new int[Math.max(count, ints.length * 2)];
+		for (int i = 0; i < count; i++)
+			ints[i] = data.getInt();
+		return ints;
+	}
+
+	private FloatBuffer floatBuffer (int count) {
+		if (floatBuffer.capacity() < count) floatBuffer = BufferUtils.newFloatBuffer(Math.max(count, floatBuffer.capacity() * 2));
+		floatBuffer.clear();
+		for (int i = 0; i < count; i++)
+			floatBuffer.put(data.getFloat());
+		floatBuffer.flip();
+		return floatBuffer;
+	}
+
+	private IntBuffer intBuffer (int count) {
+		if (intBuffer.capacity() < count) intBuffer = BufferUtils.newIntBuffer(Math.max(count, intBuffer.capacity() * 2));
+		intBuffer.clear();
+		for (int i = 0; i < count; i++)
+			intBuffer.put(data.getInt());
+		intBuffer.flip();
+		return intBuffer;
+	}
+
+	/** @return a slice of the replayed stream holding the next recorded buffer, or null. Callees keeping it, e.g. as a client
+	 *         array, see neither its position nor its limit change. */
+	private ByteBuffer buffer () {
+		final int bytes = data.getInt();
+		if (bytes < 0) return null;
+		final int start = data.position();
+		data.limit(start + bytes);
+		final ByteBuffer slice = data.slice().order(data.order());
+		data.limit(data.capacity());
+		data.position(align(start + bytes));
+		return slice;
+	}
+
+	private void replay (GL20 gl, CommandStream stream) {
+		data = stream.data;
+		strings = stream.strings;
+		final int end = data.position();
+		data.position(0);
+		while (data.position() < end) {
+			final int opcode = data.getInt();
+			switch (opcode) {
+			case ACTIVE_TEXTURE: {
+				final int texture = data.getInt();
+				gl.glActiveTexture(texture);
+				break;
+			}
+			case ATTACH_SHADER: {
+				final int program = data.getInt();
+				final int shader = data.getInt();
+				gl.glAttachShader(program, shader);
+				break;
+			}
+			case BIND_BUFFER: {
+				final int target = data.getInt();
+				final int buffer = data.getInt();
+				gl.glBindBuffer(target, buffer);
+				break;
+			}
+			case BIND_FRAMEBUFFER: {
+				final int target = data.getInt();
+				final int framebuffer = data.getInt();
+				gl.glBindFramebuffer(target, framebuffer);
+				break;
+			}
+			case BIND_RENDERBUFFER: {
+				final int target = data.getInt();
+				final int renderbuffer = data.getInt();
+				gl.glBindRenderbuffer(target, renderbuffer);
+				break;
+			}
+			case BIND_TEXTURE: {
+				final int target = data.getInt();
+				final int texture = data.getInt();
+				gl.glBindTexture(target, texture);
+				break;
+			}
+			case BLEND_COLOR: {
+				final float red = data.getFloat();
+				final float green = data.getFloat();
+				final float blue = data.getFloat();
+				final float alpha = data.getFloat();
+				gl.glBlendColor(red, green, blue, alpha);
+				break;
+			}
+			case BLEND_EQUATION: {
+				final int mode = data.getInt();
+				gl.glBlendEquation(mode);
+				break;
+			}
+			case BLEND_EQUATION_SEPARATE: {
+				final int modeRGB = data.getInt();
+				final int modeAlpha = data.getInt();
+				gl.glBlendEquationSeparate(modeRGB, modeAlpha);
+				break;
+			}
+			case BLEND_FUNC: {
+				final int sfactor = data.getInt();
+				final int dfactor = data.getInt();
+				gl.glBlendFunc(sfactor, dfactor);
+				break;
+			}
+			case BLEND_FUNC_SEPARATE: {
+				final int srcRGB = data.getInt();
+				final int dstRGB = data.getInt();
+				final int srcAlpha = data.getInt();
+				final int dstAlpha = data.getInt();
+				gl.glBlendFuncSeparate(srcRGB, dstRGB, srcAlpha, dstAlpha);
+				break;
+			}
+			case BUFFER_DATA: {
+				final int target = data.getInt();
+				final int size = data.getInt();
+				final int usage = data.getInt();
+				final ByteBuffer content = buffer();
+				gl.glBufferData(target, size, content, usage);
+				break;
+			}
+			case BUFFER_SUB_DATA: {
+				final int target = data.getInt();
+				final int offset = data.getInt();
+				final int size = data.getInt();
+				final ByteBuffer content = buffer();
+				gl.glBufferSubData(target, offset, size, content);
+				break;
+			}
+			case CLEAR: {
+				final int mask = data.getInt();
+				gl.glClear(mask);
+				break;
+			}
+			case CLEAR_COLOR: {
+				final float red = data.getFloat();
+				final float green = data.getFloat();
+				final float blue = data.getFloat();
+				final float alpha = data.getFloat();
+				gl.glClearColor(red, green, blue, alpha);
+				break;
+			}
+			case CLEAR_DEPTHF: {
+				final float depth = data.getFloat();
+				gl.glClearDepthf(depth);
+				break;
+			}
+			case CLEAR_STENCIL: {
+				final int s = data.getInt();
+				gl.glClearStencil(s);
+				break;
+			}
+			case COLOR_MASK: {
+				final boolean red = data.getInt() != 0;
+				final boolean green = data.getInt() != 0;
+				final boolean blue = data.getInt() != 0;
+				final boolean alpha = data.getInt() != 0;
+				gl.glColorMask(red, green, blue, alpha);
+				break;
+			}
+			case COMPILE_SHADER: {
+				final int shader = data.getInt();
+				gl.glCompileShader(shader);
+				break;
+			}
+			case COMPRESSED_TEX_IMAGE2D: {
+				final int target = data.getInt();
+				final int level = data.getInt();
+				final int internalformat = data.getInt();
+				final int width = data.getInt();
+				final int height = data.getInt();
+				final int border = data.getInt();
+				final int imageSize = data.getInt();
+				final ByteBuffer content = buffer();
+				gl.glCompressedTexImage2D(target, level, internalformat, width, height, border, imageSize, content);
+				break;
+			}
+			case COMPRESSED_TEX_SUB_IMAGE2D: {
+				final int target = data.getInt();
+				final int level = data.getInt();
+				final int xoffset = data.getInt();
+				final int yoffset = data.getInt();
+				final int width = data.getInt();
+				final int height = data.getInt();
+				final int format = data.getInt();
+				final int imageSize = data.getInt();
+				final ByteBuffer content = buffer();
+				gl.glCompressedTexSubImage2D(target, level, xoffset, yoffset, width, height, format, imageSize, content);
+				break;
+			}
+			case COPY_TEX_IMAGE2D: {
+				final int target = data.getInt();
+				final int level = data.getInt();
+				final int internalformat = data.getInt();
+				final int x = data.getInt();
+				final int y = data.getInt();
+				final int width = data.getInt();
+				final int height = data.getInt();
+				final int border = data.getInt();
+				gl.glCopyTexImage2D(target, level, internalformat, x, y, width, height, border);
+				break;
+			}
+			case COPY_TEX_SUB_IMAGE2D: {
+				final int target = data.getInt();
+				final int level = data.getInt();
+				final int xoffset = data.getInt();
+				final int yoffset = data.getInt();
+				final int x = data.getInt();
+				final int y = data.getInt();
+				final int width = data.getInt();
+				final int height = data.getInt();
+				gl.glCopyTexSubImage2D(target, level, xoffset, yoffset, x, y, width, height);
+				break;
+			}
+			case CULL_FACE: {
+				final int mode = data.getInt();
+				gl.glCullFace(mode);
+				break;
+			}
+			case DELETE_BUFFERS: {
+				final int n = data.getInt();
+				gl.glDeleteBuffers(n, intBuffer(n));
+				break;
+			}
+			case DELETE_FRAMEBUFFERS: {
+				final int n = data.getInt();
+				gl.glDeleteFramebuffers(n, intBuffer(n));
+				break;
+			}
+			case DELETE_PROGRAM: {
+				final int program = data.getInt();
+				gl.glDeleteProgram(program);
+				break;
+			}
+			case DELETE_RENDERBUFFERS: {
+				final int n = data.getInt();
+				gl.glDeleteRenderbuffers(n, intBuffer(n));
+				break;
+			}
+			case DELETE_SHADER: {
+				final int shader = data.getInt();
+				gl.glDeleteShader(shader);
+				break;
+			}
+			case DELETE_TEXTURES: {
+				final int n = data.getInt();
+				gl.glDeleteTextures(n, intBuffer(n));
+				break;
+			}
+			case DEPTH_FUNC: {
+				final int func = data.getInt();
+				gl.glDepthFunc(func);
+				break;
+			}
+			case DEPTH_MASK: {
+				final boolean flag = data.getInt() != 0;
+				gl.glDepthMask(flag);
+				break;
+			}
+			case DEPTH_RANGEF: {
+				final float zNear = data.getFloat();
+				final float zFar = data.getFloat();
+				gl.glDepthRangef(zNear, zFar);
+				break;
+			}
+			case DETACH_SHADER: {
+				final int program = data.getInt();
+				final int shader = data.getInt();
+				gl.glDetachShader(program, shader);
+				break;
+			}
+			case DISABLE: {
+				final int cap = data.getInt();
+				gl.glDisable(cap);
+				break;
+			}
+			case DISABLE_VERTEX_ATTRIB_ARRAY: {
+				final int index = data.getInt();
+				gl.glDisableVertexAttribArray(index);
+				break;
+			}
+			case DRAW_ARRAYS: {
+				final int mode = data.getInt();
+				final int first = data.getInt();
+				final int count = data.getInt();
+				gl.glDrawArrays(mode, first, count);
+				break;
+			}
+			case DRAW_ELEMENTS_BUFFER: {
+				final int mode = data.getInt();
+				final int count = data.getInt();
+				final int type = data.getInt();
+				final ByteBuffer indices = buffer();
+				gl.glDrawElements(mode, count, type, indices);
+				break;
+			}
+			case ENABLE: {
+				final int cap = data.getInt();
+				gl.glEnable(cap);
+				break;
+			}
+			case ENABLE_VERTEX_ATTRIB_ARRAY: {
+				final int index = data.getInt();
+				gl.glEnableVertexAttribArray(index);
+				break;
+			}
+			case FINISH: {
+				gl.glFinish();
+				break;
+			}
+			case FLUSH: {
+				gl.glFlush();
+				break;
+			}
+			case FRAMEBUFFER_RENDERBUFFER: {
+				final int target = data.getInt();
+				final int attachment = data.getInt();
+				final int renderbuffertarget = data.getInt();
+				final int renderbuffer = data.getInt();
+				gl.glFramebufferRenderbuffer(target, attachment, renderbuffertarget, renderbuffer);
+				break;
+			}
+			case FRAMEBUFFER_TEXTURE2D: {
+				final int target = data.getInt();
+				final int attachment = data.getInt();
+				final int textarget = data.getInt();
+				final int texture = data.getInt();
+				final int level = data.getInt();
+				gl.glFramebufferTexture2D(target, attachment, textarget, texture, level);
+				break;
+			}
+			case FRONT_FACE: {
+				final int mode = data.getInt();
+				gl.glFrontFace(mode);
+				break;
+			}
+			case GENERATE_MIPMAP: {
+				final int target = data.getInt();
+				gl.glGenerateMipmap(target);
+				break;
+			}
+			case HINT: {
+				final int target = data.getInt();
+				final int mode = data.getInt();
+				gl.glHint(target, mode);
+				break;
+			}
+			case LINE_WIDTH: {
+				final float width = data.getFloat();
+				gl.glLineWidth(width);
+				break;
+			}
+			case LINK_PROGRAM: {
+				final int program = data.getInt();
+				gl.glLinkProgram(program);
+				break;
+			}
+			case PIXEL_STOREI: {
+				final int pname = data.getInt();
+				final int param = data.getInt();
+				gl.glPixelStorei(pname, param);
+				break;
+			}
+			case POLYGON_OFFSET: {
+				final float factor = data.getFloat();
+				final float units = data.getFloat();
+				gl.glPolygonOffset(factor, units);
+				break;
+			}
+			case RELEASE_SHADER_COMPILER: {
+				gl.glReleaseShaderCompiler();
+				break;
+			}
+			case RENDERBUFFER_STORAGE: {
+				final int target = data.getInt();
+				final int internalformat = data.getInt();
+				final int width = data.getInt();
+				final int height = data.getInt();
+				gl.glRenderbufferStorage(target, internalformat, width, height);
+				break;
+			}
+			case SAMPLE_COVERAGE: {
+				final float value = data.getFloat();
+				final boolean invert = data.getInt() != 0;
+				gl.glSampleCoverage(value, invert);
+				break;
+			}
+			case SCISSOR: {
+				final int x = data.getInt();
+				final int y = data.getInt();
+				final int width = data.getInt();
+				final int height = data.getInt();
+				gl.glScissor(x, y, width, height);
+				break;
+			}
+			case STENCIL_FUNC: {
+				final int func = data.getInt();
+				final int ref = data.getInt();
+				final int mask = data.getInt();
+				gl.glStencilFunc(func, ref, mask);
+				break;
+			}
+			case STENCIL_FUNC_SEPARATE: {
+				final int face = data.getInt();
+				final int func = data.getInt();
+				final int ref = data.getInt();
+				final int mask = data.getInt();
+				gl.glStencilFuncSeparate(face, func, ref, mask);
+				break;
+			}
+			case STENCIL_MASK: {
+				final int mask = data.getInt();
+				gl.glStencilMask(mask);
+				break;
+			}
+			case STENCIL_MASK_SEPARATE: {
+				final int face = data.getInt();
+				final int mask = data.getInt();
+				gl.glStencilMaskSeparate(face, mask);
+				break;
+			}
+			case STENCIL_OP: {
+				final int fail = data.getInt();
+				final int zfail = data.getInt();
+				final int zpass = data.getInt();
+				gl.glStencilOp(fail, zfail, zpass);
+				break;
+			}
+			case STENCIL_OP_SEPARATE: {
+				final int face = data.getInt();
+				final int fail = data.getInt();
+				final int zfail = data.getInt();
+				final int zpass = data.getInt();
+				gl.glStencilOpSeparate(face, fail, zfail, zpass);
+				break;
+			}
+			case TEX_IMAGE2D: {
+				final int target = data.getInt();
+				final int level = data.getInt();
+				final int internalformat = data.getInt();
+				final int width = data.getInt();
+				final int height = data.getInt();
+				final int border = data.getInt();
+				final int format = data.getInt();
+				final int type = data.getInt();
+				final ByteBuffer pixels = buffer();
+				gl.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+				break;
+			}
+			case TEX_PARAMETERF: {
+				final int target = data.getInt();
+				final int pname = data.getInt();
+				final float param = data.getFloat();
+				gl.glTexParameterf(target, pname, param);
+				break;
+			}
+			case TEX_PARAMETERFV: {
+				final int target = data.getInt();
+				final int pname = data.getInt();
+				gl.glTexParameterfv(target, pname, floatBuffer(data.getInt()));
+				break;
+			}
+			case TEX_PARAMETERI: {
+				final int target = data.getInt();
+				final int pname = data.getInt();
+				final int param = data.getInt();
+				gl.glTexParameteri(target, pname, param);
+				break;
+			}
+			case TEX_PARAMETERIV: {
+				final int target = data.getInt();
+				final int pname = data.getInt();
+				gl.glTexParameteriv(target, pname, intBuffer(data.getInt()));
+				break;
+			}
+			case TEX_SUB_IMAGE2D: {
+				final int target = data.getInt();
+				final int level = data.getInt();
+				final int xoffset = data.getInt();
+				final int yoffset = data.getInt();
+				final int width = data.getInt();
+				final int height = data.getInt();
+				final int format = data.getInt();
+				final int type = data.getInt();
+				final ByteBuffer pixels = buffer();
+				gl.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+				break;
+			}
+			case UNIFORM1F: {
+				final int location = data.getInt();
+				final float x = data.getFloat();
+				gl.glUniform1f(location, x);
+				break;
+			}
+			case UNIFORM1FV: {
+				final int location = data.getInt();
+				final int count = data.getInt();
+				final float[] values = floats(count * 1);
+				gl.glUniform1fv(location, count, values, 0);
+				break;
+			}
+			case UNIFORM1I: {
+				final int location = data.getInt();
+				final int x = data.getInt();
+				gl.glUniform1i(location, x);
+				break;
+			}
+			case UNIFORM1IV: {
+				final int location = data.getInt();
+				final int count = data.getInt();
+				final int[] values = ints(count * 1);
+				gl.glUniform1iv(location, count, values, 0);
+				break;
+			}
+			case UNIFORM2F: {
+				final int location = data.getInt();
+				final float x = data.getFloat();
+				final float y = data.getFloat();
+				gl.glUniform2f(location, x, y);
+				break;
+			}
+			case UNIFORM2FV: {
+				final int location = data.getInt();
+				final int count = data.getInt();
+				final float[] values = floats(count * 2);
+				gl.glUniform2fv(location, count, values, 0);
+				break;
+			}
+			case UNIFORM2I: {
+				final int location = data.getInt();
+				final int x = data.getInt();
+				final int y = data.getInt();
+				gl.glUniform2i(location, x, y);
+				break;
+			}
+			case UNIFORM2IV: {
+				final int location = data.getInt();
+				final int count = data.getInt();
+				final int[] values = ints(count * 2);
+				gl.glUniform2iv(location, count, values, 0);
+				break;
+			}
+			case UNIFORM3F: {
+				final int location = data.getInt();
+				final float x = data.getFloat();
+				final float y = data.getFloat();
+				final float z = data.getFloat();
+				gl.glUniform3f(location, x, y, z);
+				break;
+			}
+			case UNIFORM3FV: {
+				final int location = data.getInt();
+				final int count = data.getInt();
+				final float[] values = floats(count * 3);
+				gl.glUniform3fv(location, count, values, 0);
+				break;
+			}
+			case UNIFORM3I: {
+				final int location = data.getInt();
+				final int x = data.getInt();
+				final int y = data.getInt();
+				final int z = data.getInt();
+				gl.glUniform3i(location, x, y, z);
+				break;
+			}
+			case UNIFORM3IV: {
+				final int location = data.getInt();
+				final int count = data.getInt();
+				final int[] values = ints(count * 3);
+				gl.glUniform3iv(location, count, values, 0);
+				break;
+			}
+			case UNIFORM4F: {
+				final int location = data.getInt();
+				final float x = data.getFloat();
+				final float y = data.getFloat();
+				final float z = data.getFloat();
+				final float w = data.getFloat();
+				gl.glUniform4f(location, x, y, z, w);
+				break;
+			}
+			case UNIFORM4FV: {
+				final int location = data.getInt();
+				final int count = data.getInt();
+				final float[] values = floats(count * 4);
+				gl.glUniform4fv(location, count, values, 0);
+				break;
+			}
+			case UNIFORM4I: {
+				final int location = data.getInt();
+				final int x = data.getInt();
+				final int y = data.getInt();
+				final int z = data.getInt();
+				final int w = data.getInt();
+				gl.glUniform4i(location, x, y, z, w);
+				break;
+			}
+			case UNIFORM4IV: {
+				final int location = data.getInt();
+				final int count = data.getInt();
+				final int[] values = ints(count * 4);
+				gl.glUniform4iv(location, count, values, 0);
+				break;
+			}
+			case UNIFORM_MATRIX2FV: {
+				final int location = data.getInt();
+				final int count = data.getInt();
+				final boolean transpose = data.getInt() != 0;
+				final float[] values = floats(count * 4);
+				gl.glUniformMatrix2fv(location, count, transpose, values, 0);
+				break;
+			}
+			case UNIFORM_MATRIX3FV: {
+				final int location = data.getInt();
+				final int count = data.getInt();
+				final boolean transpose = data.getInt() != 0;
+				final float[] values = floats(count * 9);
+				gl.glUniformMatrix3fv(location, count, transpose, values, 0);
+				break;
+			}
+			case UNIFORM_MATRIX4FV: {
+				final int location = data.getInt();
+				final int count = data.getInt();
+				final boolean transpose = data.getInt() != 0;
+				final float[] values = floats(count * 16);
+				gl.glUniformMatrix4fv(location, count, transpose, values, 0);
+				break;
+			}
+			case USE_PROGRAM: {
+				final int program = data.getInt();
+				gl.glUseProgram(program);
+				break;
+			}
+			case VALIDATE_PROGRAM: {
+				final int program = data.getInt();
+				gl.glValidateProgram(program);
+				break;
+			}
+			case VERTEX_ATTRIB1F: {
+				final int indx = data.getInt();
+				final float x = data.getFloat();
+				gl.glVertexAttrib1f(indx, x);
+				break;
+			}
+			case VERTEX_ATTRIB1FV: {
+				final int indx = data.getInt();
+				gl.glVertexAttrib1fv(indx, floatBuffer(1));
+				break;
+			}
+			case VERTEX_ATTRIB2F: {
+				final int indx = data.getInt();
+				final float x = data.getFloat();
+				final float y = data.getFloat();
+				gl.glVertexAttrib2f(indx, x, y);
+				break;
+			}
+			case VERTEX_ATTRIB2FV: {
+				final int indx = data.getInt();
+				gl.glVertexAttrib2fv(indx, floatBuffer(2));
+				break;
+			}
+			case VERTEX_ATTRIB3F: {
+				final int indx = data.getInt();
+				final float x = data.getFloat();
+				final float y = data.getFloat();
+				final float z = data.getFloat();
+				gl.glVertexAttrib3f(indx, x, y, z);
+				break;
+			}
+			case VERTEX_ATTRIB3FV: {
+				final int indx = data.getInt();
+				gl.glVertexAttrib3fv(indx, floatBuffer(3));
+				break;
+			}
+			case VERTEX_ATTRIB4F: {
+				final int indx = data.getInt();
+				final float x = data.getFloat();
+				final float y = data.getFloat();
+				final float z = data.getFloat();
+				final float w = data.getFloat();
+				gl.glVertexAttrib4f(indx, x, y, z, w);
+				break;
+			}
+			case VERTEX_ATTRIB4FV: {
+				final int indx = data.getInt();
+				gl.glVertexAttrib4fv(indx, floatBuffer(4));
+				break;
+			}
+			case VERTEX_ATTRIB_POINTER_BUFFER: {
+				final int indx = data.getInt();
+				final int size = data.getInt();
+				final int type = data.getInt();
+				final boolean normalized = data.getInt() != 0;
+				final int stride = data.getInt();
+				final ByteBuffer ptr = buffer();
+				gl.glVertexAttribPointer(indx, size, type, normalized, stride, ptr);
+				break;
+			}
+			case VIEWPORT: {
+				final int x = data.getInt();
+				final int y = data.getInt();
+				final int width = data.getInt();
+				final int height = data.getInt();
+				gl.glViewport(x, y, width, height);
+				break;
+			}
+			case DRAW_ELEMENTS: {
+				final int mode = data.getInt();
+				final int count = data.getInt();
+				final int type = data.getInt();
+				final int indices = data.getInt();
+				gl.glDrawElements(mode, count, type, indices);
+				break;
+			}
+			case VERTEX_ATTRIB_POINTER: {
+				final int indx = data.getInt();
+				final int size = data.getInt();
+				final int type = data.getInt();
+				final boolean normalized = data.getInt() != 0;
+				final int stride = data.getInt();
+				final int ptr = data.getInt();
+				gl.glVertexAttribPointer(indx, size, type, normalized, stride, ptr);
+				break;
+			}
+			case DELETE_TEXTURE: {
+				final int texture = data.getInt();
+				gl.glDeleteTexture(texture);
+				break;
+			}
+			case DELETE_BUFFER: {
+				final int buffer = data.getInt();
+				gl.glDeleteBuffer(buffer);
+				break;
+			}
+			case DELETE_FRAMEBUFFER: {
+				final int framebuffer = data.getInt();
+				gl.glDeleteFramebuffer(framebuffer);
+				break;
+			}
+			case DELETE_RENDERBUFFER: {
+				final int renderbuffer = data.getInt();
+				gl.glDeleteRenderbuffer(renderbuffer);
+				break;
+			}
+			case BIND_ATTRIB_LOCATION: {
+				final int program = data.getInt();
+				final int index = data.getInt();
+				final String name = strings.get(data.getInt());
+				gl.glBindAttribLocation(program, index, name);
+				break;
+			}
+			case SHADER_SOURCE: {
+				final int shader = data.getInt();
+				final String string = strings.get(data.getInt());
+				gl.glShaderSource(shader, string);
+				break;
+			}
+			case SHADER_BINARY: {
+				final int n = data.getInt();
+				final IntBuffer shaders = intBuffer(n);
+				final int binaryformat = data.getInt();
+				final int length = data.getInt();
+				final ByteBuffer binary = buffer();
+				gl.glShaderBinary(n, shaders, binaryformat, binary, length);
+				break;
+			}
+			default:
+				throw new GdxRuntimeException("Unknown command: " + opcode);
+			}
+		}
+	}
+
+	@Override
+	public void glActiveTexture (int texture) {
+		recording.begin(ACTIVE_TEXTURE, 4);
+		recording.putInt(texture);
+	}
+
+	@Override
+	public void glAttachShader (int program, int shader) {
+		recording.begin(ATTACH_SHADER, 8);
+		recording.putInt(program);
+		recording.putInt(shader);
+	}
+
+	@Override
+	public void glBindAttribLocation (int program, int index, String name) {
+		recording.begin(BIND_ATTRIB_LOCATION, 12);
+		recording.putInt(program);
+		recording.putInt(index);
+		recording.putString(name);
+	}
+
+	@Override
+	public void glBindBuffer (int target, int buffer) {
+		recording.begin(BIND_BUFFER, 8);
+		recording.putInt(target);
+		recording.putInt(buffer);
+	}
+
+	@Override
+	public void glBindFramebuffer (int target, int framebuffer) {
+		recording.begin(BIND_FRAMEBUFFER, 8);
+		recording.putInt(target);
+		recording.putInt(framebuffer);
+	}
+
+	@Override
+	public void glBindRenderbuffer (int target, int renderbuffer) {
+		recording.begin(BIND_RENDERBUFFER, 8);
+		recording.putInt(target);
+		recording.putInt(renderbuffer);
+	}
+
+	@Override
+	public void glBindTexture (int target, int texture) {
+		recording.begin(BIND_TEXTURE, 8);
+		recording.putInt(target);
+		recording.putInt(texture);
+	}
+
+	@Override
+	public void glBlendColor (float red, float green, float blue, float alpha) {
+		recording.begin(BLEND_COLOR, 16);
+		recording.putFloat(red);
+		recording.putFloat(green);
+		recording.putFloat(blue);
+		recording.putFloat(alpha);
+	}
+
+	@Override
+	public void glBlendEquation (int mode) {
+		recording.begin(BLEND_EQUATION, 4);
+		recording.putInt(mode);
+	}
+
+	@Override
+	public void glBlendEquationSeparate (int modeRGB, int modeAlpha) {
+		recording.begin(BLEND_EQUATION_SEPARATE, 8);
+		recording.putInt(modeRGB);
+		recording.putInt(modeAlpha);
+	}
+
+	@Override
+	public void glBlendFunc (int sfactor, int dfactor) {
+		recording.begin(BLEND_FUNC, 8);
+		recording.putInt(sfactor);
+		recording.putInt(dfactor);
+	}
+
+	@Override
+	public void glBlendFuncSeparate (int srcRGB, int dstRGB, int srcAlpha, int dstAlpha) {
+		recording.begin(BLEND_FUNC_SEPARATE, 16);
+		recording.putInt(srcRGB);
+		recording.putInt(dstRGB);
+		recording.putInt(srcAlpha);
+		recording.putInt(dstAlpha);
+	}
+
+	@Override
+	public void glBufferData (int target, int size, Buffer data, int usage) {
+		final int bytes = size;
+		recording.begin(BUFFER_DATA, 12 + 4 + bytes);
+		recording.putInt(target);
+		recording.putInt(size);
+		recording.putInt(usage);
+		recording.putBuffer(data, bytes);
+	}
+
+	@Override
+	public void glBufferSubData (int target, int offset, int size, Buffer data) {
+		final int bytes = size;
+		recording.begin(BUFFER_SUB_DATA, 12 + 4 + bytes);
+		recording.putInt(target);
+		recording.putInt(offset);
+		recording.putInt(size);
+		recording.putBuffer(data, bytes);
+	}
+
+	@Override
+	public int glCheckFramebufferStatus (int target) {
+		throw new GdxRuntimeException("glCheckFramebufferStatus returns a value and can't be recorded");
+	}
+
+	@Override
+	public void glClear (int mask) {
+		recording.begin(CLEAR, 4);
+		recording.putInt(mask);
+	}
+
+	@Override
+	public void glClearColor (float red, float green, float blue, float alpha) {
+		recording.begin(CLEAR_COLOR, 16);
+		recording.putFloat(red);
+		recording.putFloat(green);
+		recording.putFloat(blue);
+		recording.putFloat(alpha);
+	}
+
+	@Override
+	public void glClearDepthf (float depth) {
+		recording.begin(CLEAR_DEPTHF, 4);
+		recording.putFloat(depth);
+	}
+
+	@Override
+	public void glClearStencil (int s) {
+		recording.begin(CLEAR_STENCIL, 4);
+		recording.putInt(s);
+	}
+
+	@Override
+	public void glColorMask (boolean red, boolean green, boolean blue, boolean alpha) {
+		recording.begin(COLOR_MASK, 16);
+		recording.putBoolean(red);
+		recording.putBoolean(green);
+		recording.putBoolean(blue);
+		recording.putBoolean(alpha);
+	}
+
+	@Override
+	public void glCompileShader (int shader) {
+		recording.begin(COMPILE_SHADER, 4);
+		recording.putInt(shader);
+	}
+
+	@Override
+	public void glCompressedTexImage2D (int target, int level, int internalformat, int width, int height, int border, int imageSize, Buffer data) {
+		final int bytes = imageSize;
+		recording.begin(COMPRESSED_TEX_IMAGE2D, 28 + 4 + bytes);
+		recording.putInt(target);
+		recording.putInt(level);
+		recording.putInt(internalformat);
+		recording.putInt(width);
+		recording.putInt(height);
+		recording.putInt(border);
+		recording.putInt(imageSize);
+		recording.putBuffer(data, bytes);
+	}
+
+	@Override
+	public void glCompressedTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format, int imageSize, Buffer data) {
+		final int bytes = imageSize;
+		recording.begin(COMPRESSED_TEX_SUB_IMAGE2D, 32 + 4 + bytes);
+		recording.putInt(target);
+		recording.putInt(level);
+		recording.putInt(xoffset);
+		recording.putInt(yoffset);
+		recording.putInt(width);
+		recording.putInt(height);
+		recording.putInt(format);
+		recording.putInt(imageSize);
+		recording.putBuffer(data, bytes);
+	}
+
+	@Override
+	public void glCopyTexImage2D (int target, int level, int internalformat, int x, int y, int width, int height, int border) {
+		recording.begin(COPY_TEX_IMAGE2D, 32);
+		recording.putInt(target);
+		recording.putInt(level);
+		recording.putInt(internalformat);
+		recording.putInt(x);
+		recording.putInt(y);
+		recording.putInt(width);
+		recording.putInt(height);
+		recording.putInt(border);
+	}
+
+	@Override
+	public void glCopyTexSubImage2D (int target, int level, int xoffset, int yoffset, int x, int y, int width, int height) {
+		recording.begin(COPY_TEX_SUB_IMAGE2D, 32);
+		recording.putInt(target);
+		recording.putInt(level);
+		recording.putInt(xoffset);
+		recording.putInt(yoffset);
+		recording.putInt(x);
+		recording.putInt(y);
+		recording.putInt(width);
+		recording.putInt(height);
+	}
+
+	@Override
+	public int glCreateProgram () {
+		throw new GdxRuntimeException("glCreateProgram returns a value and can't be recorded");
+	}
+
+	@Override
+	public int glCreateShader (int type) {
+		throw new GdxRuntimeException("glCreateShader returns a value and can't be recorded");
+	}
+
+	@Override
+	public void glCullFace (int mode) {
+		recording.begin(CULL_FACE, 4);
+		recording.putInt(mode);
+	}
+
+	@Override
+	public void glDeleteBuffers (int n, IntBuffer buffers) {
+		recording.begin(DELETE_BUFFERS, 4 + n * 4);
+		recording.putInt(n);
+		recording.putInts(buffers, n);
+	}
+
+	@Override
+	public void glDeleteFramebuffers (int n, IntBuffer framebuffers) {
+		recording.begin(DELETE_FRAMEBUFFERS, 4 + n * 4);
+		recording.putInt(n);
+		recording.putInts(framebuffers, n);
+	}
+
+	@Override
+	public void glDeleteProgram (int program) {
+		recording.begin(DELETE_PROGRAM, 4);
+		recording.putInt(program);
+	}
+
+	@Override
+	public void glDeleteRenderbuffers (int n, IntBuffer renderbuffers) {
+		recording.begin(DELETE_RENDERBUFFERS, 4 + n * 4);
+		recording.putInt(n);
+		recording.putInts(renderbuffers, n);
+	}
+
+	@Override
+	public void glDeleteShader (int shader) {
+		recording.begin(DELETE_SHADER, 4);
+		recording.putInt(shader);
+	}
+
+	@Override
+	public void glDeleteTextures (int n, IntBuffer textures) {
+		recording.begin(DELETE_TEXTURES, 4 + n * 4);
+		recording.putInt(n);
+		recording.putInts(textures, n);
+	}
+
+	@Override
+	public void glDepthFunc (int func) {
+		recording.begin(DEPTH_FUNC, 4);
+		recording.putInt(func);
+	}
+
+	@Override
+	public void glDepthMask (boolean flag) {
+		recording.begin(DEPTH_MASK, 4);
+		recording.putBoolean(flag);
+	}
+
+	@Override
+	public void glDepthRangef (float zNear, float zFar) {
+		recording.begin(DEPTH_RANGEF, 8);
+		recording.putFloat(zNear);
+		recording.putFloat(zFar);
+	}
+
+	@Override
+	public void glDetachShader (int program, int shader) {
+		recording.begin(DETACH_SHADER, 8);
+		recording.putInt(program);
+		recording.putInt(shader);
+	}
+
+	@Override
+	public void glDisable (int cap) {
+		recording.begin(DISABLE, 4);
+		recording.putInt(cap);
+	}
+
+	@Override
+	public void glDisableVertexAttribArray (int index) {
+		recording.begin(DISABLE_VERTEX_ATTRIB_ARRAY, 4);
+		recording.putInt(index);
+	}
+
+	@Override
+	public void glDrawArrays (int mode, int first, int count) {
+		recording.begin(DRAW_ARRAYS, 12);
+		recording.putInt(mode);
+		recording.putInt(first);
+		recording.putInt(count);
+	}
+
+	@Override
+	public void glDrawElements (int mode, int count, int type, Buffer indices) {
+		final int bytes = remainingBytes(indices);
+		recording.begin(DRAW_ELEMENTS_BUFFER, 12 + 4 + bytes);
+		recording.putInt(mode);
+		recording.putInt(count);
+		recording.putInt(type);
+		recording.putBuffer(indices, bytes);
+	}
+
+	@Override
+	public void glEnable (int cap) {
+		recording.begin(ENABLE, 4);
+		recording.putInt(cap);
+	}
+
+	@Override
+	public void glEnableVertexAttribArray (int index) {
+		recording.begin(ENABLE_VERTEX_ATTRIB_ARRAY, 4);
+		recording.putInt(index);
+	}
+
+	@Override
+	public void glFinish () {
+		recording.begin(FINISH, 0);
+	}
+
+	@Override
+	public void glFlush () {
+		recording.begin(FLUSH, 0);
+	}
+
+	@Override
+	public void glFramebufferRenderbuffer (int target, int attachment, int renderbuffertarget, int renderbuffer) {
+		recording.begin(FRAMEBUFFER_RENDERBUFFER, 16);
+		recording.putInt(target);
+		recording.putInt(attachment);
+		recording.putInt(renderbuffertarget);
+		recording.putInt(renderbuffer);
+	}
+
+	@Override
+	public void glFramebufferTexture2D (int target, int attachment, int textarget, int texture, int level) {
+		recording.begin(FRAMEBUFFER_TEXTURE2D, 20);
+		recording.putInt(target);
+		recording.putInt(attachment);
+		recording.putInt(textarget);
+		recording.putInt(texture);
+		recording.putInt(level);
+	}
+
+	@Override
+	public void glFrontFace (int mode) {
+		recording.begin(FRONT_FACE, 4);
+		recording.putInt(mode);
+	}
+
+	@Override
+	public void glGenBuffers (int n, IntBuffer buffers) {
+		throw new GdxRuntimeException("glGenBuffers can't be recorded");
+	}
+
+	@Override
+	public void glGenFramebuffers (int n, IntBuffer framebuffers) {
+		throw new GdxRuntimeException("glGenFramebuffers can't be recorded");
+	}
+
+	@Override
+	public void glGenRenderbuffers (int n, IntBuffer renderbuffers) {
+		throw new GdxRuntimeException("glGenRenderbuffers can't be recorded");
+	}
+
+	@Override
+	public void glGenTextures (int n, IntBuffer textures) {
+		throw new GdxRuntimeException("glGenTextures can't be recorded");
+	}
+
+	@Override
+	public void glGenerateMipmap (int target) {
+		recording.begin(GENERATE_MIPMAP, 4);
+		recording.putInt(target);
+	}
+
+	@Override
+	public String glGetActiveAttrib (int program, int index, IntBuffer size, Buffer type) {
+		throw new GdxRuntimeException("glGetActiveAttrib returns a value and can't be recorded");
+	}
+
+	@Override
+	public String glGetActiveUniform (int program, int index, IntBuffer size, Buffer type) {
+		throw new GdxRuntimeException("glGetActiveUniform returns a value and can't be recorded");
+	}
+
+	@Override
+	public void glGetAttachedShaders (int program, int maxcount, Buffer count, IntBuffer shaders) {
+		throw new GdxRuntimeException("glGetAttachedShaders can't be recorded");
+	}
+
+	@Override
+	public int glGetAttribLocation (int program, String name) {
+		throw new GdxRuntimeException("glGetAttribLocation returns a value and can't be recorded");
+	}
+
+	@Override
+	public void glGetBooleanv (int pname, Buffer params) {
+		throw new GdxRuntimeException("glGetBooleanv can't be recorded");
+	}
+
+	@Override
+	public void glGetBufferParameteriv (int target, int pname, IntBuffer params) {
+		throw new GdxRuntimeException("glGetBufferParameteriv can't be recorded");
+	}
+
+	@Override
+	public int glGetError () {
+		throw new GdxRuntimeException("glGetError returns a value and can't be recorded");
+	}
+
+	@Override
+	public void glGetFloatv (int pname, FloatBuffer params) {
+		throw new GdxRuntimeException("glGetFloatv can't be recorded");
+	}
+
+	@Override
+	public void glGetFramebufferAttachmentParameteriv (int target, int attachment, int pname, IntBuffer params) {
+		throw new GdxRuntimeException("glGetFramebufferAttachmentParameteriv can't be recorded");
+	}
+
+	@Override
+	public void glGetIntegerv (int pname, IntBuffer params) {
+		throw new GdxRuntimeException("glGetIntegerv can't be recorded");
+	}
+
+	@Override
+	public String glGetProgramInfoLog (int program) {
+		throw new GdxRuntimeException("glGetProgramInfoLog returns a value and can't be recorded");
+	}
+
+	@Override
+	public void glGetProgramiv (int program, int pname, IntBuffer params) {
+		throw new GdxRuntimeException("glGetProgramiv can't be recorded");
+	}
+
+	@Override
+	public void glGetRenderbufferParameteriv (int target, int pname, IntBuffer params) {
+		throw new GdxRuntimeException("glGetRenderbufferParameteriv can't be recorded");
+	}
+
+	@Override
+	public String glGetShaderInfoLog (int shader) {
+		throw new GdxRuntimeException("glGetShaderInfoLog returns a value and can't be recorded");
+	}
+
+	@Override
+	public void glGetShaderPrecisionFormat (int shadertype, int precisiontype, IntBuffer range, IntBuffer precision) {
+		throw new GdxRuntimeException("glGetShaderPrecisionFormat can't be recorded");
+	}
+
+	@Override
+	public void glGetShaderiv (int shader, int pname, IntBuffer params) {
+		throw new GdxRuntimeException("glGetShaderiv can't be recorded");
+	}
+
+	@Override
+	public String glGetString (int name) {
+		throw new GdxRuntimeException("glGetString returns a value and can't be recorded");
+	}
+
+	@Override
+	public void glGetTexParameterfv (int target, int pname, FloatBuffer params) {
+		throw new GdxRuntimeException("glGetTexParameterfv can't be recorded");
+	}
+
+	@Override
+	public void glGetTexParameteriv (int target, int pname, IntBuffer params) {
+		throw new GdxRuntimeException("glGetTexParameteriv can't be recorded");
+	}
+
+	@Override
+	public int glGetUniformLocation (int program, String name) {
+		throw new GdxRuntimeException("glGetUniformLocation returns a value and can't be recorded");
+	}
+
+	@Override
+	public void glGetUniformfv (int program, int location, FloatBuffer params) {
+		throw new GdxRuntimeException("glGetUniformfv can't be recorded");
+	}
+
+	@Override
+	public void glGetUniformiv (int program, int location, IntBuffer params) {
+		throw new GdxRuntimeException("glGetUniformiv can't be recorded");
+	}
+
+	@Override
+	public void glGetVertexAttribPointerv (int index, int pname, Buffer pointer) {
+		throw new GdxRuntimeException("glGetVertexAttribPointerv can't be recorded");
+	}
+
+	@Override
+	public void glGetVertexAttribfv (int index, int pname, FloatBuffer params) {
+		throw new GdxRuntimeException("glGetVertexAttribfv can't be recorded");
+	}
+
+	@Override
+	public void glGetVertexAttribiv (int index, int pname, IntBuffer params) {
+		throw new GdxRuntimeException("glGetVertexAttribiv can't be recorded");
+	}
+
+	@Override
+	public void glHint (int target, int mode) {
+		recording.begin(HINT, 8);
+		recording.putInt(target);
+		recording.putInt(mode);
+	}
+
+	@Override
+	public boolean glIsBuffer (int buffer) {
+		throw new GdxRuntimeException("glIsBuffer returns a value and can't be recorded");
+	}
+
+	@Override
+	public boolean glIsEnabled (int cap) {
+		throw new GdxRuntimeException("glIsEnabled returns a value and can't be recorded");
+	}
+
+	@Override
+	public boolean glIsFramebuffer (int framebuffer) {
+		throw new GdxRuntimeException("glIsFramebuffer returns a value and can't be recorded");
+	}
+
+	@Override
+	public boolean glIsProgram (int program) {
+		throw new GdxRuntimeException("glIsProgram returns a value and can't be recorded");
+	}
+
+	@Override
+	public boolean glIsRenderbuffer (int renderbuffer) {
+		throw new GdxRuntimeException("glIsRenderbuffer returns a value and can't be recorded");
+	}
+
+	@Override
+	public boolean glIsShader (int shader) {
+		throw new GdxRuntimeException("glIsShader returns a value and can't be recorded");
+	}
+
+	@Override
+	public boolean glIsTexture (int texture) {
+		throw new GdxRuntimeException("glIsTexture returns a value and can't be recorded");
+	}
+
+	@Override
+	public void glLineWidth (float width) {
+		recording.begin(LINE_WIDTH, 4);
+		recording.putFloat(width);
+	}
+
+	@Override
+	public void glLinkProgram (int program) {
+		recording.begin(LINK_PROGRAM, 4);
+		recording.putInt(program);
+	}
+
+	@Override
+	public void glPixelStorei (int pname, int param) {
+		recording.begin(PIXEL_STOREI, 8);
+		recording.putInt(pname);
+		recording.putInt(param);
+	}
+
+	@Override
+	public void glPolygonOffset (float factor, float units) {
+		recording.begin(POLYGON_OFFSET, 8);
+		recording.putFloat(factor);
+		recording.putFloat(units);
+	}
+
+	@Override
+	public void glReadPixels (int x, int y, int width, int height, int format, int type, Buffer pixels) {
+		throw new GdxRuntimeException("glReadPixels can't be recorded");
+	}
+
+	@Override
+	public void glReleaseShaderCompiler () {
+		recording.begin(RELEASE_SHADER_COMPILER, 0);
+	}
+
+	@Override
+	public void glRenderbufferStorage (int target, int internalformat, int width, int height) {
+		recording.begin(RENDERBUFFER_STORAGE, 16);
+		recording.putInt(target);
+		recording.putInt(internalformat);
+		recording.putInt(width);
+		recording.putInt(height);
+	}
+
+	@Override
+	public void glSampleCoverage (float value, boolean invert) {
+		recording.begin(SAMPLE_COVERAGE, 8);
+		recording.putFloat(value);
+		recording.putBoolean(invert);
+	}
+
+	@Override
+	public void glScissor (int x, int y, int width, int height) {
+		recording.begin(SCISSOR, 16);
+		recording.putInt(x);
+		recording.putInt(y);
+		recording.putInt(width);
+		recording.putInt(height);
+	}
+
+	@Override
+	public void glShaderBinary (int n, IntBuffer shaders, int binaryformat, Buffer binary, int length) {
+		recording.begin(SHADER_BINARY, 4 + n * 4 + 8 + 4 + length);
+		recording.putInt(n);
+		recording.putInts(shaders, n);
+		recording.putInt(binaryformat);
+		recording.putInt(length);
+		recording.putBuffer(binary, length);
+	}
+
+	@Override
+	public void glShaderSource (int shader, String string) {
+		recording.begin(SHADER_SOURCE, 8);
+		recording.putInt(shader);
+		recording.putString(string);
+	}
+
+	@Override
+	public void glStencilFunc (int func, int ref, int mask) {
+		recording.begin(STENCIL_FUNC, 12);
+		recording.putInt(func);
+		recording.putInt(ref);
+		recording.putInt(mask);
+	}
+
+	@Override
+	public void glStencilFuncSeparate (int face, int func, int ref, int mask) {
+		recording.begin(STENCIL_FUNC_SEPARATE, 16);
+		recording.putInt(face);
+		recording.putInt(func);
+		recording.putInt(ref);
+		recording.putInt(mask);
+	}
+
+	@Override
+	public void glStencilMask (int mask) {
+		recording.begin(STENCIL_MASK, 4);
+		recording.putInt(mask);
+	}
+
+	@Override
+	public void glStencilMaskSeparate (int face, int mask) {
+		recording.begin(STENCIL_MASK_SEPARATE, 8);
+		recording.putInt(face);
+		recording.putInt(mask);
+	}
+
+	@Override
+	public void glStencilOp (int fail, int zfail, int zpass) {
+		recording.begin(STENCIL_OP, 12);
+		recording.putInt(fail);
+		recording.putInt(zfail);
+		recording.putInt(zpass);
+	}
+
+	@Override
+	public void glStencilOpSeparate (int face, int fail, int zfail, int zpass) {
+		recording.begin(STENCIL_OP_SEPARATE, 16);
+		recording.putInt(face);
+		recording.putInt(fail);
+		recording.putInt(zfail);
+		recording.putInt(zpass);
+	}
+
+	@Override
+	public void glTexImage2D (int target, int level, int internalformat, int width, int height, int border, int format, int type, Buffer pixels) {
+		final int bytes = remainingBytes(pixels);
+		recording.begin(TEX_IMAGE2D, 32 + 4 + bytes);
+		recording.putInt(target);
+		recording.putInt(level);
+		recording.putInt(internalformat);
+		recording.putInt(width);
+		recording.putInt(height);
+		recording.putInt(border);
+		recording.putInt(format);
+		recording.putInt(type);
+		recording.putBuffer(pixels, bytes);
+	}
+
+	@Override
+	public void glTexParameterf (int target, int pname, float param) {
+		recording.begin(TEX_PARAMETERF, 12);
+		recording.putInt(target);
+		recording.putInt(pname);
+		recording.putFloat(param);
+	}
+
+	@Override
+	public void glTexParameterfv (int target, int pname, FloatBuffer params) {
+		recording.begin(TEX_PARAMETERFV, 12 + params.remaining() * 4);
+		recording.putInt(target);
+		recording.putInt(pname);
+		recording.putInt(params.remaining());
+		recording.putFloats(params, params.remaining());
+	}
+
+	@Override
+	public void glTexParameteri (int target, int pname, int param) {
+		recording.begin(TEX_PARAMETERI, 12);
+		recording.putInt(target);
+		recording.putInt(pname);
+		recording.putInt(param);
+	}
+
+	@Override
+	public void glTexParameteriv (int target, int pname, IntBuffer params) {
+		recording.begin(TEX_PARAMETERIV, 12 + params.remaining() * 4);
+		recording.putInt(target);
+		recording.putInt(pname);
+		recording.putInt(params.remaining());
+		recording.putInts(params, params.remaining());
+	}
+
+	@Override
+	public void glTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format, int type, Buffer pixels) {
+		final int bytes = remainingBytes(pixels);
+		recording.begin(TEX_SUB_IMAGE2D, 32 + 4 + bytes);
+		recording.putInt(target);
+		recording.putInt(level);
+		recording.putInt(xoffset);
+		recording.putInt(yoffset);
+		recording.putInt(width);
+		recording.putInt(height);
+		recording.putInt(format);
+		recording.putInt(type);
+		recording.putBuffer(pixels, bytes);
+	}
+
+	@Override
+	public void glUniform1f (int location, float x) {
+		recording.begin(UNIFORM1F, 8);
+		recording.putInt(location);
+		recording.putFloat(x);
+	}
+
+	@Override
+	public void glUniform1fv (int location, int count, FloatBuffer v) {
+		recording.begin(UNIFORM1FV, 12 + count * 1 * 4);
+		recording.putInt(location);
+		recording.putInt(count);
+		recording.putFloats(v, count * 1);
+	}
+
+	@Override
+	public void glUniform1i (int location, int x) {
+		recording.begin(UNIFORM1I, 8);
+		recording.putInt(location);
+		recording.putInt(x);
+	}
+
+	@Override
+	public void glUniform1iv (int location, int count, IntBuffer v) {
+		recording.begin(UNIFORM1IV, 12 + count * 1 * 4);
+		recording.putInt(location);
+		recording.putInt(count);
+		recording.putInts(v, count * 1);
+	}
+
+	@Override
+	public void glUniform2f (int location, float x, float y) {
+		recording.begin(UNIFORM2F, 12);
+		recording.putInt(location);
+		recording.putFloat(x);
+		recording.putFloat(y);
+	}
+
+	@Override
+	public void glUniform2fv (int location, int count, FloatBuffer v) {
+		recording.begin(UNIFORM2FV, 12 + count * 2 * 4);
+		recording.putInt(location);
+		recording.putInt(count);
+		recording.putFloats(v, count * 2);
+	}
+
+	@Override
+	public void glUniform2i (int location, int x, int y) {
+		recording.begin(UNIFORM2I, 12);
+		recording.putInt(location);
+		recording.putInt(x);
+		recording.putInt(y);
+	}
+
+	@Override
+	public void glUniform2iv (int location, int count, IntBuffer v) {
+		recording.begin(UNIFORM2IV, 12 + count * 2 * 4);
+		recording.putInt(location);
+		recording.putInt(count);
+		recording.putInts(v, count * 2);
+	}
+
+	@Override
+	public void glUniform3f (int location, float x, float y, float z) {
+		recording.begin(UNIFORM3F, 16);
+		recording.putInt(location);
+		recording.putFloat(x);
+		recording.putFloat(y);
+		recording.putFloat(z);
+	}
+
+	@Override
+	public void glUniform3fv (int location, int count, FloatBuffer v) {
+		recording.begin(UNIFORM3FV, 12 + count * 3 * 4);
+		recording.putInt(location);
+		recording.putInt(count);
+		recording.putFloats(v, count * 3);
+	}
+
+	@Override
+	public void glUniform3i (int location, int x, int y, int z) {
+		recording.begin(UNIFORM3I, 16);
+		recording.putInt(location);
+		recording.putInt(x);
+		recording.putInt(y);
+		recording.putInt(z);
+	}
+
+	@Override
+	public void glUniform3iv (int location, int count, IntBuffer v) {
+		recording.begin(UNIFORM3IV, 12 + count * 3 * 4);
+		recording.putInt(location);
+		recording.putInt(count);
+		recording.putInts(v, count * 3);
+	}
+
+	@Override
+	public void glUniform4f (int location, float x, float y, float z, float w) {
+		recording.begin(UNIFORM4F, 20);
+		recording.putInt(location);
+		recording.putFloat(x);
+		recording.putFloat(y);
+		recording.putFloat(z);
+		recording.putFloat(w);
+	}
+
+	@Override
+	public void glUniform4fv (int location, int count, FloatBuffer v) {
+		recording.begin(UNIFORM4FV, 12 + count * 4 * 4);
+		recording.putInt(location);
+		recording.putInt(count);
+		recording.putFloats(v, count * 4);
+	}
+
+	@Override
+	public void glUniform4i (int location, int x, int y, int z, int w) {
+		recording.begin(UNIFORM4I, 20);
+		recording.putInt(location);
+		recording.putInt(x);
+		recording.putInt(y);
+		recording.putInt(z);
+		recording.putInt(w);
+	}
+
+	@Override
+	public void glUniform4iv (int location, int count, IntBuffer v) {
+		recording.begin(UNIFORM4IV, 12 + count * 4 * 4);
+		recording.putInt(location);
+		recording.putInt(count);
+		recording.putInts(v, count * 4);
+	}
+
+	@Override
+	public void glUniformMatrix2fv (int location, int count, boolean transpose, FloatBuffer value) {
+		recording.begin(UNIFORM_MATRIX2FV, 12 + count * 4 * 4);
+		recording.putInt(location);
+		recording.putInt(count);
+		recording.putBoolean(transpose);
+		recording.putFloats(value, count * 4);
+	}
+
+	@Override
+	public void glUniformMatrix3fv (int location, int count, boolean transpose, FloatBuffer value) {
+		recording.begin(UNIFORM_MATRIX3FV, 12 + count * 9 * 4);
+		recording.putInt(location);
+		recording.putInt(count);
+		recording.putBoolean(transpose);
+		recording.putFloats(value, count * 9);
+	}
+
+	@Override
+	public void glUniformMatrix4fv (int location, int count, boolean transpose, FloatBuffer value) {
+		recording.begin(UNIFORM_MATRIX4FV, 12 + count * 16 * 4);
+		recording.putInt(location);
+		recording.putInt(count);
+		recording.putBoolean(transpose);
+		recording.putFloats(value, count * 16);
+	}
+
+	@Override
+	public void glUseProgram (int program) {
+		recording.begin(USE_PROGRAM, 4);
+		recording.putInt(program);
+	}
+
+	@Override
+	public void glValidateProgram (int program) {
+		recording.begin(VALIDATE_PROGRAM, 4);
+		recording.putInt(program);
+	}
+
+	@Override
+	public void glVertexAttrib1f (int indx, float x) {
+		recording.begin(VERTEX_ATTRIB1F, 8);
+		recording.putInt(indx);
+		recording.putFloat(x);
+	}
+
+	@Override
+	public void glVertexAttrib1fv (int indx, FloatBuffer values) {
+		recording.begin(VERTEX_ATTRIB1FV, 4 + 1 * 4);
+		recording.putInt(indx);
+		recording.putFloats(values, 1);
+	}
+
+	@Override
+	public void glVertexAttrib2f (int indx, float x, float y) {
+		recording.begin(VERTEX_ATTRIB2F, 12);
+		recording.putInt(indx);
+		recording.putFloat(x);
+		recording.putFloat(y);
+	}
+
+	@Override
+	public void glVertexAttrib2fv (int indx, FloatBuffer values) {
+		recording.begin(VERTEX_ATTRIB2FV, 4 + 2 * 4);
+		recording.putInt(indx);
+		recording.putFloats(values, 2);
+	}
+
+	@Override
+	public void glVertexAttrib3f (int indx, float x, float y, float z) {
+		recording.begin(VERTEX_ATTRIB3F, 16);
+		recording.putInt(indx);
+		recording.putFloat(x);
+		recording.putFloat(y);
+		recording.putFloat(z);
+	}
+
+	@Override
+	public void glVertexAttrib3fv (int indx, FloatBuffer values) {
+		recording.begin(VERTEX_ATTRIB3FV, 4 + 3 * 4);
+		recording.putInt(indx);
+		recording.putFloats(values, 3);
+	}
+
+	@Override
+	public void glVertexAttrib4f (int indx, float x, float y, float z, float w) {
+		recording.begin(VERTEX_ATTRIB4F, 20);
+		recording.putInt(indx);
+		recording.putFloat(x);
+		recording.putFloat(y);
+		recording.putFloat(z);
+		recording.putFloat(w);
+	}
+
+	@Override
+	public void glVertexAttrib4fv (int indx, FloatBuffer values) {
+		recording.begin(VERTEX_ATTRIB4FV, 4 + 4 * 4);
+		recording.putInt(indx);
+		recording.putFloats(values, 4);
+	}
+
+	@Override
+	public void glVertexAttribPointer (int indx, int size, int type, boolean normalized, int stride, Buffer ptr) {
+		final int bytes = remainingBytes(ptr);
+		recording.begin(VERTEX_ATTRIB_POINTER_BUFFER, 20 + 4 + bytes);
+		recording.putInt(indx);
+		recording.putInt(size);
+		recording.putInt(type);
+		recording.putBoolean(normalized);
+		recording.putInt(stride);
+		recording.putBuffer(ptr, bytes);
+	}
+
+	@Override
+	public void glViewport (int x, int y, int width, int height) {
+		recording.begin(VIEWPORT, 16);
+		recording.putInt(x);
+		recording.putInt(y);
+		recording.putInt(width);
+		recording.putInt(height);
+	}
+
+	@Override
+	public void glDrawElements (int mode, int count, int type, int indices) {
+		recording.begin(DRAW_ELEMENTS, 16);
+		recording.putInt(mode);
+		recording.putInt(count);
+		recording.putInt(type);
+		recording.putInt(indices);
+	}
+
+	@Override
+	public void glVertexAttribPointer (int indx, int size, int type, boolean normalized, int stride, int ptr) {
+		recording.begin(VERTEX_ATTRIB_POINTER, 24);
+		recording.putInt(indx);
+		recording.putInt(size);
+		recording.putInt(type);
+		recording.putBoolean(normalized);
+		recording.putInt(stride);
+		recording.putInt(ptr);
+	}
+
+	@Override
+	public void glDeleteTexture (int texture) {
+		recording.begin(DELETE_TEXTURE, 4);
+		recording.putInt(texture);
+	}
+
+	@Override
+	public int glGenTexture () {
+		throw new GdxRuntimeException("glGenTexture returns a value and can't be recorded");
+	}
+
+	@Override
+	public void glDeleteBuffer (int buffer) {
+		recording.begin(DELETE_BUFFER, 4);
+		recording.putInt(buffer);
+	}
+
+	@Override
+	public void glDeleteFramebuffer (int framebuffer) {
+		recording.begin(DELETE_FRAMEBUFFER, 4);
+		recording.putInt(framebuffer);
+	}
+
+	@Override
+	public void glDeleteRenderbuffer (int renderbuffer) {
+		recording.begin(DELETE_RENDERBUFFER, 4);
+		recording.putInt(renderbuffer);
+	}
+
+	@Override
+	public int glGenBuffer () {
+		throw new GdxRuntimeException("glGenBuffer returns a value and can't be recorded");
+	}
+
+	@Override
+	public int glGenFramebuffer () {
+		throw new GdxRuntimeException("glGenFramebuffer returns a value and can't be recorded");
+	}
+
+	@Override
+	public int glGenRenderbuffer () {
+		throw new GdxRuntimeException("glGenRenderbuffer returns a value and can't be recorded");
+	}
+
+	@Override
+	public void glUniform1fv (int location, int count, float[] v, int offset) {
+		recording.begin(UNIFORM1FV, 12 + count * 1 * 4);
+		recording.putInt(location);
+		recording.putInt(count);
+		recording.putFloats(v, offset, count * 1);
+	}
+
+	@Override
+	public void glUniform1iv (int location, int count, int[] v, int offset) {
+		recording.begin(UNIFORM1IV, 12 + count * 1 * 4);
+		recording.putInt(location);
+		recording.putInt(count);
+		recording.putInts(v, offset, count * 1);
+	}
+
+	@Override
+	public void glUniform2fv (int location, int count, float[] v, int offset) {
+		recording.begin(UNIFORM2FV, 12 + count * 2 * 4);
+		recording.putInt(location);
+		recording.putInt(count);
+		recording.putFloats(v, offset, count * 2);
+	}
+
+	@Override
+	public void glUniform2iv (int location, int count, int[] v, int offset) {
+		recording.begin(UNIFORM2IV, 12 + count * 2 * 4);
+		recording.putInt(location);
+		recording.putInt(count);
+		recording.putInts(v, offset, count * 2);
+	}
+
+	@Override
+	public void glUniform3fv (int location, int count, float[] v, int offset) {
+		recording.begin(UNIFORM3FV, 12 + count * 3 * 4);
+		recording.putInt(location);
+		recording.putInt(count);
+		recording.putFloats(v, offset, count * 3);
+	}
+
+	@Override
+	public void glUniform3iv (int location, int count, int[] v, int offset) {
+		recording.begin(UNIFORM3IV, 12 + count * 3 * 4);
+		recording.putInt(location);
+		recording.putInt(count);
+		recording.putInts(v, offset, count * 3);
+	}
+
+	@Override
+	public void glUniform4fv (int location, int count, float[] v, int offset) {
+		recording.begin(UNIFORM4FV, 12 + count * 4 * 4);
+		recording.putInt(location);
+		recording.putInt(count);
+		recording.putFloats(v, offset, count * 4);
+	}
+
+	@Override
+	public void glUniform4iv (int location, int count, int[] v, int offset) {
+		recording.begin(UNIFORM4IV, 12 + count * 4 * 4);
+		recording.putInt(location);
+		recording.putInt(count);
+		recording.putInts(v, offset, count * 4);
+	}
+
+	@Override
+	public void glUniformMatrix2fv (int location, int count, boolean transpose, float[] value, int offset) {
+		recording.begin(UNIFORM_MATRIX2FV, 12 + count * 4 * 4);
+		recording.putInt(location);
+		recording.putInt(count);
+		recording.putBoolean(transpose);
+		recording.putFloats(value, offset, count * 4);
+	}
+
+	@Override
+	public void glUniformMatrix3fv (int location, int count, boolean transpose, float[] value, int offset) {
+		recording.begin(UNIFORM_MATRIX3FV, 12 + count * 9 * 4);
+		recording.putInt(location);
+		recording.putInt(count);
+		recording.putBoolean(transpose);
+		recording.putFloats(value, offset, count * 9);
+	}
+
+	@Override
+	public void glUniformMatrix4fv (int location, int count, boolean transpose, float[] value, int offset) {
+		recording.begin(UNIFORM_MATRIX4FV, 12 + count * 16 * 4);
+		recording.putInt(location);
+		recording.putInt(count);
+		recording.putBoolean(transpose);
+		recording.putFloats(value, offset, count * 16);
+	}
+}
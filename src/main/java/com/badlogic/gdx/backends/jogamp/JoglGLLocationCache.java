@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.IntSet;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/** A GL decorator remembering the uniform and attribute locations of each program so that repeated lookups don't go to the
+ * driver. The locations of the active uniforms and attributes are fetched by the first lookup after a program is linked, so
+ * that the link isn't waited for when the driver links in parallel, any other name is asked to the driver once and remembered,
+ * including the -1 of unknown names. The locations of a program are dropped when it is linked again or deleted.
+ * <p>
+ * Like the rest of the GL, it must only be used on the thread owning the context. */
+public class JoglGLLocationCache extends JoglGLDecorator {
+	static class ProgramLocations {
+		final ObjectIntMap<String> uniforms = new ObjectIntMap<String>();
+		final ObjectIntMap<String> attributes = new ObjectIntMap<String>();
+	}
+
+	private static final int NOT_CACHED = -2;
+
+	final IntMap<ProgramLocations> programs = new IntMap<ProgramLocations>();
+	/** the programs linked since their last lookup */
+	private final IntSet linked = new IntSet();
+	private final IntBuffer params = BufferUtils.newIntBuffer(1);
+	private final IntBuffer type = BufferUtils.newIntBuffer(1);
+
+	long hits, misses;
+
+	public JoglGLLocationCache (GL20 gl) {
+		super(gl);
+	}
+
+	/** @return the number of lookups answered without going to the driver */
+	public long getHits () {
+		return hits;
+	}
+
+	/** @return the number of lookups that went to the driver, not counting the ones fetching the locations of a linked program */
+	public long getMisses () {
+		return misses;
+	}
+
+	public void resetCounters () {
+		hits = 0;
+		misses = 0;
+	}
+
+	/** Forgets the locations of every program. */
+	public void invalidate () {
+		programs.clear();
+		linked.clear();
+	}
+
+	private ProgramLocations locations (int program) {
+		if (linked.remove(program)) fetchLocations(program);
+		ProgramLocations locations = programs.get(program);
+		if (locations == null) {
+			locations = new ProgramLocations();
+			programs.put(program, locations);
+		}
+		return locations;
+	}
+
+	private int getInt (int program, int pname) {
+		params.clear();
+		params.put(0, 0);
+		gl20.glGetProgramiv(program, pname, params);
+		return params.get(0);
+	}
+
+	private void fetchLocations (int program) {
+		if (getInt(program, GL20.GL_LINK_STATUS) == 0) return;
+		final ProgramLocations locations = new ProgramLocations();
+		programs.put(program, locations);
+
+		final int uniforms = getInt(program, GL20.GL_ACTIVE_UNIFORMS);
+		for (int i = 0; i < uniforms; i++) {
+			params.clear();
+			type.clear();
+			final String name = gl20.glGetActiveUniform(program, i, params, type);
+			final int location = gl20.glGetUniformLocation(program, name);
+			locations.uniforms.put(name, location);
+			// an array can also be looked up without its first index
+			if (name.endsWith("[0]")) locations.uniforms.put(name.substring(0, name.length() - 3), location);
+		}
+
+		final int attributes = getInt(program, GL20.GL_ACTIVE_ATTRIBUTES);
+		for (int i = 0; i < attributes; i++) {
+			params.clear();
+			type.clear();
+			final String name = gl20.glGetActiveAttrib(program, i, params, type);
+			locations.attributes.put(name, gl20.glGetAttribLocation(program, name));
+		}
+	}
+
+	@Override
+	public void glLinkProgram (int program) {
+		gl20.glLinkProgram(program);
+		programs.remove(program);
+		linked.add(program);
+	}
+
+	@Override
+	public void glDeleteProgram (int program) {
+		programs.remove(program);
+		linked.remove(program);
+		gl20.glDeleteProgram(program);
+	}
+
+	@Override
+	public int glGetUniformLocation (int program, String name) {
+		final ObjectIntMap<String> uniforms = locations(program).uniforms;
+		int location = uniforms.get(name, NOT_CACHED);
+		if (location != NOT_CACHED) {
+			hits++;
+			return location;
+		}
+		misses++;
+		location = gl20.glGetUniformLocation(program, name);
+		uniforms.put(name, location);
+		return location;
+	}
+
+	@Override
+	public int glGetAttribLocation (int program, String name) {
+		final ObjectIntMap<String> attributes = locations(program).attributes;
+		int location = attributes.get(name, NOT_CACHED);
+		if (location != NOT_CACHED) {
+			hits++;
+			return location;
+		}
+		misses++;
+		location = gl20.glGetAttribLocation(program, name);
+		attributes.put(name, location);
+		return location;
+	}
+}
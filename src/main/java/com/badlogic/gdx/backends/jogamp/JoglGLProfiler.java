@@ -0,0 +1,2349 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.nio.Buffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.math.WindowedMean;
+
+/** A GL decorator counting the calls made to each GL entry point and measuring the CPU time spent in them, along with the
+ * draw calls, vertices, texture bindings and shader switches of each frame. Frames are delimited by {@link #endFrame()},
+ * which the backend calls after each render; the statistics of the last frame and of a rolling window of frames can then be
+ * queried. Overloads of an entry point are counted together.
+ * <p>
+ * The time is measured with {@link System#nanoTime()} around each call, {@link #setTiming(boolean)} turns it off to only
+ * count calls. Like the rest of the GL, it must only be used on the thread owning the context. */
+public class JoglGLProfiler extends JoglGLDecorator {
+	static final int ACTIVE_TEXTURE = 0;
+	static final int ATTACH_SHADER = 1;
+	static final int BIND_ATTRIB_LOCATION = 2;
+	static final int BIND_BUFFER = 3;
+	static final int BIND_FRAMEBUFFER = 4;
+	static final int BIND_RENDERBUFFER = 5;
+	static final int BIND_TEXTURE = 6;
+	static final int BLEND_COLOR = 7;
+	static final int BLEND_EQUATION = 8;
+	static final int BLEND_EQUATION_SEPARATE = 9;
+	static final int BLEND_FUNC = 10;
+	static final int BLEND_FUNC_SEPARATE = 11;
+	static final int BUFFER_DATA = 12;
+	static final int BUFFER_SUB_DATA = 13;
+	static final int CHECK_FRAMEBUFFER_STATUS = 14;
+	static final int CLEAR = 15;
+	static final int CLEAR_COLOR = 16;
+	static final int CLEAR_DEPTHF = 17;
+	static final int CLEAR_STENCIL = 18;
+	static final int COLOR_MASK = 19;
+	static final int COMPILE_SHADER = 20;
+	static final int COMPRESSED_TEX_IMAGE2D = 21;
+	static final int COMPRESSED_TEX_SUB_IMAGE2D = 22;
+	static final int COPY_TEX_IMAGE2D = 23;
+	static final int COPY_TEX_SUB_IMAGE2D = 24;
+	static final int CREATE_PROGRAM = 25;
+	static final int CREATE_SHADER = 26;
+	static final int CULL_FACE = 27;
+	static final int DELETE_BUFFERS = 28;
+	static final int DELETE_FRAMEBUFFERS = 29;
+	static final int DELETE_PROGRAM = 30;
+	static final int DELETE_RENDERBUFFERS = 31;
+	static final int DELETE_SHADER = 32;
+	static final int DELETE_TEXTURES = 33;
+	static final int DEPTH_FUNC = 34;
+	static final int DEPTH_MASK = 35;
+	static final int DEPTH_RANGEF = 36;
+	static final int DETACH_SHADER = 37;
+	static final int DISABLE = 38;
+	static final int DISABLE_VERTEX_ATTRIB_ARRAY = 39;
+	static final int DRAW_ARRAYS = 40;
+	static final int DRAW_ELEMENTS = 41;
+	static final int ENABLE = 42;
+	static final int ENABLE_VERTEX_ATTRIB_ARRAY = 43;
+	static final int FINISH = 44;
+	static final int FLUSH = 45;
+	static final int FRAMEBUFFER_RENDERBUFFER = 46;
+	static final int FRAMEBUFFER_TEXTURE2D = 47;
+	static final int FRONT_FACE = 48;
+	static final int GEN_BUFFERS = 49;
+	static final int GEN_FRAMEBUFFERS = 50;
+	static final int GEN_RENDERBUFFERS = 51;
+	static final int GEN_TEXTURES = 52;
+	static final int GENERATE_MIPMAP = 53;
+	static final int GET_ACTIVE_ATTRIB = 54;
+	static final int GET_ACTIVE_UNIFORM = 55;
+	static final int GET_ATTACHED_SHADERS = 56;
+	static final int GET_ATTRIB_LOCATION = 57;
+	static final int GET_BOOLEANV = 58;
+	static final int GET_BUFFER_PARAMETERIV = 59;
+	static final int GET_ERROR = 60;
+	static final int GET_FLOATV = 61;
+	static final int GET_FRAMEBUFFER_ATTACHMENT_PARAMETERIV = 62;
+	static final int GET_INTEGERV = 63;
+	static final int GET_PROGRAM_INFO_LOG = 64;
+	static final int GET_PROGRAMIV = 65;
+	static final int GET_RENDERBUFFER_PARAMETERIV = 66;
+	static final int GET_SHADER_INFO_LOG = 67;
+	static final int GET_SHADER_PRECISION_FORMAT = 68;
+	static final int GET_SHADERIV = 69;
+	static final int GET_STRING = 70;
+	static final int GET_TEX_PARAMETERFV = 71;
+	static final int GET_TEX_PARAMETERIV = 72;
+	static final int GET_UNIFORM_LOCATION = 73;
+	static final int GET_UNIFORMFV = 74;
+	static final int GET_UNIFORMIV = 75;
+	static final int GET_VERTEX_ATTRIB_POINTERV = 76;
+	static final int GET_VERTEX_ATTRIBFV = 77;
+	static final int GET_VERTEX_ATTRIBIV = 78;
+	static final int HINT = 79;
+	static final int IS_BUFFER = 80;
+	static final int IS_ENABLED = 81;
+	static final int IS_FRAMEBUFFER = 82;
+	static final int IS_PROGRAM = 83;
+	static final int IS_RENDERBUFFER = 84;
+	static final int IS_SHADER = 85;
+	static final int IS_TEXTURE = 86;
+	static final int LINE_WIDTH = 87;
+	static final int LINK_PROGRAM = 88;
+	static final int PIXEL_STOREI = 89;
+	static final int POLYGON_OFFSET = 90;
+	static final int READ_PIXELS = 91;
+	static final int RELEASE_SHADER_COMPILER = 92;
+	static final int RENDERBUFFER_STORAGE = 93;
+	static final int SAMPLE_COVERAGE = 94;
+	static final int SCISSOR = 95;
+	static final int SHADER_BINARY = 96;
+	static final int SHADER_SOURCE = 97;
+	static final int STENCIL_FUNC = 98;
+	static final int STENCIL_FUNC_SEPARATE = 99;
+	static final int STENCIL_MASK = 100;
+	static final int STENCIL_MASK_SEPARATE = 101;
+	static final int STENCIL_OP = 102;
+	static final int STENCIL_OP_SEPARATE = 103;
+	static final int TEX_IMAGE2D = 104;
+	static final int TEX_PARAMETERF = 105;
+	static final int TEX_PARAMETERFV = 106;
+	static final int TEX_PARAMETERI = 107;
+	static final int TEX_PARAMETERIV = 108;
+	static final int TEX_SUB_IMAGE2D = 109;
+	static final int UNIFORM1F = 110;
+	static final int UNIFORM1FV = 111;
+	static final int UNIFORM1I = 112;
+	static final int UNIFORM1IV = 113;
+	static final int UNIFORM2F = 114;
+	static final int UNIFORM2FV = 115;
+	static final int UNIFORM2I = 116;
+	static final int UNIFORM2IV = 117;
+	static final int UNIFORM3F = 118;
+	static final int UNIFORM3FV = 119;
+	static final int UNIFORM3I = 120;
+	static final int UNIFORM3IV = 121;
+	static final int UNIFORM4F = 122;
+	static final int UNIFORM4FV = 123;
+	static final int UNIFORM4I = 124;
+	static final int UNIFORM4IV = 125;
+	static final int UNIFORM_MATRIX2FV = 126;
+	static final int UNIFORM_MATRIX3FV = 127;
+	static final int UNIFORM_MATRIX4FV = 128;
+	static final int USE_PROGRAM = 129;
+	static final int VALIDATE_PROGRAM = 130;
+	static final int VERTEX_ATTRIB1F = 131;
+	static final int VERTEX_ATTRIB1FV = 132;
+	static final int VERTEX_ATTRIB2F = 133;
+	static final int VERTEX_ATTRIB2FV = 134;
+	static final int VERTEX_ATTRIB3F = 135;
+	static final int VERTEX_ATTRIB3FV = 136;
+	static final int VERTEX_ATTRIB4F = 137;
+	static final int VERTEX_ATTRIB4FV = 138;
+	static final int VERTEX_ATTRIB_POINTER = 139;
+	static final int VIEWPORT = 140;
+	static final int DELETE_TEXTURE = 141;
+	static final int GEN_TEXTURE = 142;
+	static final int DELETE_BUFFER = 143;
+	static final int DELETE_FRAMEBUFFER = 144;
+	static final int DELETE_RENDERBUFFER = 145;
+	static final int GEN_BUFFER = 146;
+	static final int GEN_FRAMEBUFFER = 147;
+	static final int GEN_RENDERBUFFER = 148;
+	static final int READ_BUFFER = 149;
+	static final int DRAW_RANGE_ELEMENTS = 150;
+	static final int TEX_IMAGE3D = 151;
+	static final int TEX_SUB_IMAGE3D = 152;
+	static final int COPY_TEX_SUB_IMAGE3D = 153;
+	static final int GEN_QUERIES = 154;
+	static final int DELETE_QUERIES = 155;
+	static final int IS_QUERY = 156;
+	static final int BEGIN_QUERY = 157;
+	static final int END_QUERY = 158;
+	static final int GET_QUERYIV = 159;
+	static final int GET_QUERY_OBJECTUIV = 160;
+	static final int UNMAP_BUFFER = 161;
+	static final int GET_BUFFER_POINTERV = 162;
+	static final int DRAW_BUFFERS = 163;
+	static final int UNIFORM_MATRIX2X3FV = 164;
+	static final int UNIFORM_MATRIX3X2FV = 165;
+	static final int UNIFORM_MATRIX2X4FV = 166;
+	static final int UNIFORM_MATRIX4X2FV = 167;
+	static final int UNIFORM_MATRIX3X4FV = 168;
+	static final int UNIFORM_MATRIX4X3FV = 169;
+	static final int BLIT_FRAMEBUFFER = 170;
+	static final int RENDERBUFFER_STORAGE_MULTISAMPLE = 171;
+	static final int FRAMEBUFFER_TEXTURE_LAYER = 172;
+	static final int FLUSH_MAPPED_BUFFER_RANGE = 173;
+	static final int BIND_VERTEX_ARRAY = 174;
+	static final int DELETE_VERTEX_ARRAYS = 175;
+	static final int GEN_VERTEX_ARRAYS = 176;
+	static final int IS_VERTEX_ARRAY = 177;
+	static final int BEGIN_TRANSFORM_FEEDBACK = 178;
+	static final int END_TRANSFORM_FEEDBACK = 179;
+	static final int BIND_BUFFER_RANGE = 180;
+	static final int BIND_BUFFER_BASE = 181;
+	static final int TRANSFORM_FEEDBACK_VARYINGS = 182;
+	static final int VERTEX_ATTRIB_IPOINTER = 183;
+	static final int GET_VERTEX_ATTRIB_IIV = 184;
+	static final int GET_VERTEX_ATTRIB_IUIV = 185;
+	static final int VERTEX_ATTRIB_I4I = 186;
+	static final int VERTEX_ATTRIB_I4UI = 187;
+	static final int GET_UNIFORMUIV = 188;
+	static final int GET_FRAG_DATA_LOCATION = 189;
+	static final int UNIFORM1UIV = 190;
+	static final int UNIFORM3UIV = 191;
+	static final int UNIFORM4UIV = 192;
+	static final int CLEAR_BUFFERIV = 193;
+	static final int CLEAR_BUFFERUIV = 194;
+	static final int CLEAR_BUFFERFV = 195;
+	static final int CLEAR_BUFFERFI = 196;
+	static final int GET_STRINGI = 197;
+	static final int COPY_BUFFER_SUB_DATA = 198;
+	static final int GET_UNIFORM_INDICES = 199;
+	static final int GET_ACTIVE_UNIFORMSIV = 200;
+	static final int GET_UNIFORM_BLOCK_INDEX = 201;
+	static final int GET_ACTIVE_UNIFORM_BLOCKIV = 202;
+	static final int GET_ACTIVE_UNIFORM_BLOCK_NAME = 203;
+	static final int UNIFORM_BLOCK_BINDING = 204;
+	static final int DRAW_ARRAYS_INSTANCED = 205;
+	static final int DRAW_ELEMENTS_INSTANCED = 206;
+	static final int GET_INTEGER64V = 207;
+	static final int GET_BUFFER_PARAMETERI64V = 208;
+	static final int GEN_SAMPLERS = 209;
+	static final int DELETE_SAMPLERS = 210;
+	static final int IS_SAMPLER = 211;
+	static final int BIND_SAMPLER = 212;
+	static final int SAMPLER_PARAMETERI = 213;
+	static final int SAMPLER_PARAMETERIV = 214;
+	static final int SAMPLER_PARAMETERF = 215;
+	static final int SAMPLER_PARAMETERFV = 216;
+	static final int GET_SAMPLER_PARAMETERIV = 217;
+	static final int GET_SAMPLER_PARAMETERFV = 218;
+	static final int VERTEX_ATTRIB_DIVISOR = 219;
+	static final int BIND_TRANSFORM_FEEDBACK = 220;
+	static final int DELETE_TRANSFORM_FEEDBACKS = 221;
+	static final int GEN_TRANSFORM_FEEDBACKS = 222;
+	static final int IS_TRANSFORM_FEEDBACK = 223;
+	static final int PAUSE_TRANSFORM_FEEDBACK = 224;
+	static final int RESUME_TRANSFORM_FEEDBACK = 225;
+	static final int PROGRAM_PARAMETERI = 226;
+	static final int INVALIDATE_FRAMEBUFFER = 227;
+	static final int INVALIDATE_SUB_FRAMEBUFFER = 228;
+
+	static final String[] ENTRY_POINTS = {"glActiveTexture", "glAttachShader", "glBindAttribLocation", "glBindBuffer",
+		"glBindFramebuffer", "glBindRenderbuffer", "glBindTexture", "glBlendColor", "glBlendEquation", "glBlendEquationSeparate",
+		"glBlendFunc", "glBlendFuncSeparate", "glBufferData", "glBufferSubData", "glCheckFramebufferStatus", "glClear",
+		"glClearColor", "glClearDepthf", "glClearStencil", "glColorMask", "glCompileShader", "glCompressedTexImage2D",
+		"glCompressedTexSubImage2D", "glCopyTexImage2D", "glCopyTexSubImage2D", "glCreateProgram", "glCreateShader", "glCullFace",
+		"glDeleteBuffers", "glDeleteFramebuffers", "glDeleteProgram", "glDeleteRenderbuffers", "glDeleteShader",
+		"glDeleteTextures", "glDepthFunc", "glDepthMask", "glDepthRangef", "glDetachShader", "glDisable",
+		"glDisableVertexAttribArray", "glDrawArrays", "glDrawElements", "glEnable", "glEnableVertexAttribArray", "glFinish",
+		"glFlush", "glFramebufferRenderbuffer", "glFramebufferTexture2D", "glFrontFace", "glGenBuffers", "glGenFramebuffers",
+		"glGenRenderbuffers", "glGenTextures", "glGenerateMipmap", "glGetActiveAttrib", "glGetActiveUniform",
+		"glGetAttachedShaders", "glGetAttribLocation", "glGetBooleanv", "glGetBufferParameteriv", "glGetError", "glGetFloatv",
+		"glGetFramebufferAttachmentParameteriv", "glGetIntegerv", "glGetProgramInfoLog", "glGetProgramiv",
+		"glGetRenderbufferParameteriv", "glGetShaderInfoLog", "glGetShaderPrecisionFormat", "glGetShaderiv", "glGetString",
+		"glGetTexParameterfv", "glGetTexParameteriv", "glGetUniformLocation", "glGetUniformfv", "glGetUniformiv",
+		"glGetVertexAttribPointerv", "glGetVertexAttribfv", "glGetVertexAttribiv", "glHint", "glIsBuffer", "glIsEnabled",
+		"glIsFramebuffer", "glIsProgram", "glIsRenderbuffer", "glIsShader", "glIsTexture", "glLineWidth", "glLinkProgram",
+		"glPixelStorei", "glPolygonOffset", "glReadPixels", "glReleaseShaderCompiler", "glRenderbufferStorage",
+		"glSampleCoverage", "glScissor", "glShaderBinary", "glShaderSource", "glStencilFunc", "glStencilFuncSeparate",
+		"glStencilMask", "glStencilMaskSeparate", "glStencilOp", "glStencilOpSeparate", "glTexImage2D", "glTexParameterf",
+		"glTexParameterfv", "glTexParameteri", "glTexParameteriv", "glTexSubImage2D", "glUniform1f", "glUniform1fv",
+		"glUniform1i", "glUniform1iv", "glUniform2f", "glUniform2fv", "glUniform2i", "glUniform2iv", "glUniform3f",
+		"glUniform3fv", "glUniform3i", "glUniform3iv", "glUniform4f", "glUniform4fv", "glUniform4i", "glUniform4iv",
+		"glUniformMatrix2fv", "glUniformMatrix3fv", "glUniformMatrix4fv", "glUseProgram", "glValidateProgram", "glVertexAttrib1f",
+		"glVertexAttrib1fv", "glVertexAttrib2f", "glVertexAttrib2fv", "glVertexAttrib3f", "glVertexAttrib3fv", "glVertexAttrib4f",
+		"glVertexAttrib4fv", "glVertexAttribPointer", "glViewport", "glDeleteTexture", "glGenTexture", "glDeleteBuffer",
+		"glDeleteFramebuffer", "glDeleteRenderbuffer", "glGenBuffer", "glGenFramebuffer", "glGenRenderbuffer", "glReadBuffer",
+		"glDrawRangeElements", "glTexImage3D", "glTexSubImage3D", "glCopyTexSubImage3D", "glGenQueries", "glDeleteQueries",
+		"glIsQuery", "glBeginQuery", "glEndQuery", "glGetQueryiv", "glGetQueryObjectuiv", "glUnmapBuffer", "glGetBufferPointerv",
+		"glDrawBuffers", "glUniformMatrix2x3fv", "glUniformMatrix3x2fv", "glUniformMatrix2x4fv", "glUniformMatrix4x2fv",
+		"glUniformMatrix3x4fv", "glUniformMatrix4x3fv", "glBlitFramebuffer", "glRenderbufferStorageMultisample",
+		"glFramebufferTextureLayer", "glFlushMappedBufferRange", "glBindVertexArray", "glDeleteVertexArrays", "glGenVertexArrays",
+		"glIsVertexArray", "glBeginTransformFeedback", "glEndTransformFeedback", "glBindBufferRange", "glBindBufferBase",
+		"glTransformFeedbackVaryings", "glVertexAttribIPointer", "glGetVertexAttribIiv", "glGetVertexAttribIuiv",
+		"glVertexAttribI4i", "glVertexAttribI4ui", "glGetUniformuiv", "glGetFragDataLocation", "glUniform1uiv", "glUniform3uiv",
+		"glUniform4uiv", "glClearBufferiv", "glClearBufferuiv", "glClearBufferfv", "glClearBufferfi", "glGetStringi",
+		"glCopyBufferSubData", "glGetUniformIndices", "glGetActiveUniformsiv", "glGetUniformBlockIndex",
+		"glGetActiveUniformBlockiv", "glGetActiveUniformBlockName", "glUniformBlockBinding", "glDrawArraysInstanced",
+		"glDrawElementsInstanced", "glGetInteger64v", "glGetBufferParameteri64v", "glGenSamplers", "glDeleteSamplers",
+		"glIsSampler", "glBindSampler", "glSamplerParameteri", "glSamplerParameteriv", "glSamplerParameterf",
+		"glSamplerParameterfv", "glGetSamplerParameteriv", "glGetSamplerParameterfv", "glVertexAttribDivisor",
+		"glBindTransformFeedback", "glDeleteTransformFeedbacks", "glGenTransformFeedbacks", "glIsTransformFeedback",
+		"glPauseTransformFeedback", "glResumeTransformFeedback", "glProgramParameteri", "glInvalidateFramebuffer",
+		"glInvalidateSubFramebuffer"};
+
+	private boolean timing = true;
+
+	// the frame being recorded
+	private final long[] calls = new long[ENTRY_POINTS.length];
+	private final long[] nanos = new long[ENTRY_POINTS.length];
+	private int drawCalls, vertexCount, textureBindings, shaderSwitches;
+
+	// the last completed frame
+	private final long[] frameCalls = new long[ENTRY_POINTS.length];
+	private final long[] frameNanos = new long[ENTRY_POINTS.length];
+	private long frameTotalCalls, frameTotalNanos;
+	private int frameDrawCalls, frameVertexCount, frameTextureBindings, frameShaderSwitches;
+
+	// the per entry point statistics of the last frames of the window and their sums
+	private final long[][] windowCalls;
+	private final long[][] windowNanos;
+	private final long[] windowCallSums = new long[ENTRY_POINTS.length];
+	private final long[] windowNanoSums = new long[ENTRY_POINTS.length];
+	private int windowIndex, windowFrames;
+
+	private final WindowedMean callsMean, glTimeMean, drawCallsMean, vertexCountMean, textureBindingsMean,
+		shaderSwitchesMean;
+
+	/** @param window the number of frames of the rolling window */
+	public JoglGLProfiler (GL20 gl, int window) {
+		super(gl);
+		if (window < 1) throw new IllegalArgumentException("window must be at least 1: " + window);
+		windowCalls = new long[window][ENTRY_POINTS.length];
+		windowNanos = new long[window][ENTRY_POINTS.length];
+		callsMean = new WindowedMean(window);
+		glTimeMean = new WindowedMean(window);
+		drawCallsMean = new WindowedMean(window);
+		vertexCountMean = new WindowedMean(window);
+		textureBindingsMean = new WindowedMean(window);
+		shaderSwitchesMean = new WindowedMean(window);
+	}
+
+	/** Whether the time spent in each call is measured, the calls are counted either way. */
+	public void setTiming (boolean timing) {
+		this.timing = timing;
+	}
+
+	public boolean isTiming () {
+		return timing;
+	}
+
+	/** @return the number of entry points */
+	public static int getEntryPointCount () {
+		return ENTRY_POINTS.length;
+	}
+
+	/** @return the name of the given entry point, e.g. "glDrawElements" */
+	public static String getEntryPointName (int entryPoint) {
+		return ENTRY_POINTS[entryPoint];
+	}
+
+	/** @return the index of the entry point with the given name, -1 if there is none */
+	public static int getEntryPoint (String name) {
+		for (int i = 0; i < ENTRY_POINTS.length; i++)
+			if (ENTRY_POINTS[i].equals(name)) return i;
+		return -1;
+	}
+
+	/** Ends the current frame, making its statistics those of the last frame and adding them to the window. */
+	public void endFrame () {
+		final long[] oldestCalls = windowCalls[windowIndex];
+		final long[] oldestNanos = windowNanos[windowIndex];
+		long totalCalls = 0, totalNanos = 0;
+		for (int i = 0; i < ENTRY_POINTS.length; i++) {
+			final long entryCalls = calls[i], entryNanos = nanos[i];
+			frameCalls[i] = entryCalls;
+			frameNanos[i] = entryNanos;
+			windowCallSums[i] += entryCalls - oldestCalls[i];
+			windowNanoSums[i] += entryNanos - oldestNanos[i];
+			oldestCalls[i] = entryCalls;
+			oldestNanos[i] = entryNanos;
+			totalCalls += entryCalls;
+			totalNanos += entryNanos;
+			calls[i] = 0;
+			nanos[i] = 0;
+		}
+		windowIndex = (windowIndex + 1) % windowCalls.length;
+		if (windowFrames < windowCalls.length) windowFrames++;
+
+		frameTotalCalls = totalCalls;
+		frameTotalNanos = totalNanos;
+		frameDrawCalls = drawCalls;
+		frameVertexCount = vertexCount;
+		frameTextureBindings = textureBindings;
+		frameShaderSwitches = shaderSwitches;
+		callsMean.addValue(totalCalls);
+		glTimeMean.addValue(totalNanos);
+		drawCallsMean.addValue(drawCalls);
+		vertexCountMean.addValue(vertexCount);
+		textureBindingsMean.addValue(textureBindings);
+		shaderSwitchesMean.addValue(shaderSwitches);
+		drawCalls = 0;
+		vertexCount = 0;
+		textureBindings = 0;
+		shaderSwitches = 0;
+	}
+
+	/** Forgets the current frame, the last frame and the window. */
+	public void reset () {
+		for (int i = 0; i < ENTRY_POINTS.length; i++) {
+			calls[i] = 0;
+			nanos[i] = 0;
+			frameCalls[i] = 0;
+			frameNanos[i] = 0;
+			windowCallSums[i] = 0;
+			windowNanoSums[i] = 0;
+		}
+		for (int i = 0; i < windowCalls.length; i++) {
+			Arrays.fill(windowCalls[i], 0);
+			Arrays.fill(windowNanos[i], 0);
+		}
+		windowIndex = 0;
+		windowFrames = 0;
+		frameTotalCalls = frameTotalNanos = 0;
+		drawCalls = vertexCount = textureBindings = shaderSwitches = 0;
+		frameDrawCalls = frameVertexCount = frameTextureBindings = frameShaderSwitches = 0;
+		callsMean.clear();
+		glTimeMean.clear();
+		drawCallsMean.clear();
+		vertexCountMean.clear();
+		textureBindingsMean.clear();
+		shaderSwitchesMean.clear();
+	}
+
+	/** @return the calls made to the given entry point during the last frame */
+	public long getFrameCalls (int entryPoint) {
+		return frameCalls[entryPoint];
+	}
+
+	/** @return the nanoseconds spent in the given entry point during the last frame */
+	public long getFrameNanos (int entryPoint) {
+		return frameNanos[entryPoint];
+	}
+
+	/** @return the calls made to any entry point during the last frame */
+	public long getFrameCalls () {
+		return frameTotalCalls;
+	}
+
+	/** @return the nanoseconds spent in the GL during the last frame */
+	public long getFrameNanos () {
+		return frameTotalNanos;
+	}
+
+	public int getFrameDrawCalls () {
+		return frameDrawCalls;
+	}
+
+	/** @return the vertices drawn during the last frame, instanced draws count each instance */
+	public int getFrameVertexCount () {
+		return frameVertexCount;
+	}
+
+	public int getFrameTextureBindings () {
+		return frameTextureBindings;
+	}
+
+	/** @return the glUseProgram calls of the last frame */
+	public int getFrameShaderSwitches () {
+		return frameShaderSwitches;
+	}
+
+	/** @return the number of frames in the window, less than its size until enough frames were ended */
+	public int getWindowFrames () {
+		return windowFrames;
+	}
+
+	/** @return the calls made to the given entry point during the frames of the window */
+	public long getWindowCalls (int entryPoint) {
+		return windowCallSums[entryPoint];
+	}
+
+	/** @return the nanoseconds spent in the given entry point during the frames of the window */
+	public long getWindowNanos (int entryPoint) {
+		return windowNanoSums[entryPoint];
+	}
+
+	/** @return the calls per frame over the window */
+	public WindowedMean getCalls () {
+		return callsMean;
+	}
+
+	/** @return the nanoseconds spent in the GL per frame over the window */
+	public WindowedMean getGLTime () {
+		return glTimeMean;
+	}
+
+	public WindowedMean getDrawCalls () {
+		return drawCallsMean;
+	}
+
+	public WindowedMean getVertexCount () {
+		return vertexCountMean;
+	}
+
+	public WindowedMean getTextureBindings () {
+		return textureBindingsMean;
+	}
+
+	public WindowedMean getShaderSwitches () {
+		return shaderSwitchesMean;
+	}
+
+	private long enter () {
+		return timing ? System.nanoTime() : 0;
+	}
+
+	private void exit (int entryPoint, long entered) {
+		calls[entryPoint]++;
+		if (timing) nanos[entryPoint] += System.nanoTime() - entered;
+	}
+
+	private void drawCall (int vertices) {
+		drawCalls++;
+		vertexCount += vertices;
+	}
+
+	@Override
+	public void glActiveTexture (int texture) {
+		final long entered = enter();
+		gl20.glActiveTexture(texture);
+		exit(ACTIVE_TEXTURE, entered);
+	}
+
+	@Override
+	public void glAttachShader (int program, int shader) {
+		final long entered = enter();
+		gl20.glAttachShader(program, shader);
+		exit(ATTACH_SHADER, entered);
+	}
+
+	@Override
+	public void glBindAttribLocation (int program, int index, String name) {
+		final long entered = enter();
+		gl20.glBindAttribLocation(program, index, name);
+		exit(BIND_ATTRIB_LOCATION, entered);
+	}
+
+	@Override
+	public void glBindBuffer (int target, int buffer) {
+		final long entered = enter();
+		gl20.glBindBuffer(target, buffer);
+		exit(BIND_BUFFER, entered);
+	}
+
+	@Override
+	public void glBindFramebuffer (int target, int framebuffer) {
+		final long entered = enter();
+		gl20.glBindFramebuffer(target, framebuffer);
+		exit(BIND_FRAMEBUFFER, entered);
+	}
+
+	@Override
+	public void glBindRenderbuffer (int target, int renderbuffer) {
+		final long entered = enter();
+		gl20.glBindRenderbuffer(target, renderbuffer);
+		exit(BIND_RENDERBUFFER, entered);
+	}
+
+	@Override
+	public void glBindTexture (int target, int texture) {
+		final long entered = enter();
+		gl20.glBindTexture(target, texture);
+		exit(BIND_TEXTURE, entered);
+		textureBindings++;
+	}
+
+	@Override
+	public void glBlendColor (float red, float green, float blue, float alpha) {
+		final long entered = enter();
+		gl20.glBlendColor(red, green, blue, alpha);
+		exit(BLEND_COLOR, entered);
+	}
+
+	@Override
+	public void glBlendEquation (int mode) {
+		final long entered = enter();
+		gl20.glBlendEquation(mode);
+		exit(BLEND_EQUATION, entered);
+	}
+
+	@Override
+	public void glBlendEquationSeparate (int modeRGB, int modeAlpha) {
+		final long entered = enter();
+		gl20.glBlendEquationSeparate(modeRGB, modeAlpha);
+		exit(BLEND_EQUATION_SEPARATE, entered);
+	}
+
+	@Override
+	public void glBlendFunc (int sfactor, int dfactor) {
+		final long entered = enter();
+		gl20.glBlendFunc(sfactor, dfactor);
+		exit(BLEND_FUNC, entered);
+	}
+
+	@Override
+	public void glBlendFuncSeparate (int srcRGB, int dstRGB, int srcAlpha, int dstAlpha) {
+		final long entered = enter();
+		gl20.glBlendFuncSeparate(srcRGB, dstRGB, srcAlpha, dstAlpha);
+		exit(BLEND_FUNC_SEPARATE, entered);
+	}
+
+	@Override
+	public void glBufferData (int target, int size, Buffer data, int usage) {
+		final long entered = enter();
+		gl20.glBufferData(target, size, data, usage);
+		exit(BUFFER_DATA, entered);
+	}
+
+	@Override
+	public void glBufferSubData (int target, int offset, int size, Buffer data) {
+		final long entered = enter();
+		gl20.glBufferSubData(target, offset, size, data);
+		exit(BUFFER_SUB_DATA, entered);
+	}
+
+	@Override
+	public int glCheckFramebufferStatus (int target) {
+		final long entered = enter();
+		final int result = gl20.glCheckFramebufferStatus(target);
+		exit(CHECK_FRAMEBUFFER_STATUS, entered);
+		return result;
+	}
+
+	@Override
+	public void glClear (int mask) {
+		final long entered = enter();
+		gl20.glClear(mask);
+		exit(CLEAR, entered);
+	}
+
+	@Override
+	public void glClearColor (float red, float green, float blue, float alpha) {
+		final long entered = enter();
+		gl20.glClearColor(red, green, blue, alpha);
+		exit(CLEAR_COLOR, entered);
+	}
+
+	@Override
+	public void glClearDepthf (float depth) {
+		final long entered = enter();
+		gl20.glClearDepthf(depth);
+		exit(CLEAR_DEPTHF, entered);
+	}
+
+	@Override
+	public void glClearStencil (int s) {
+		final long entered = enter();
+		gl20.glClearStencil(s);
+		exit(CLEAR_STENCIL, entered);
+	}
+
+	@Override
+	public void glColorMask (boolean red, boolean green, boolean blue, boolean alpha) {
+		final long entered = enter();
+		gl20.glColorMask(red, green, blue, alpha);
+		exit(COLOR_MASK, entered);
+	}
+
+	@Override
+	public void glCompileShader (int shader) {
+		final long entered = enter();
+		gl20.glCompileShader(shader);
+		exit(COMPILE_SHADER, entered);
+	}
+
+	@Override
+	public void glCompressedTexImage2D (int target, int level, int internalformat, int width, int height, int border, int imageSize, Buffer data) {
+		final long entered = enter();
+		gl20.glCompressedTexImage2D(target, level, internalformat, width, height, border, imageSize, data);
+		exit(COMPRESSED_TEX_IMAGE2D, entered);
+	}
+
+	@Override
+	public void glCompressedTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format, int imageSize, Buffer data) {
+		final long entered = enter();
+		gl20.glCompressedTexSubImage2D(target, level, xoffset, yoffset, width, height, format, imageSize, data);
+		exit(COMPRESSED_TEX_SUB_IMAGE2D, entered);
+	}
+
+	@Override
+	public void glCopyTexImage2D (int target, int level, int internalformat, int x, int y, int width, int height, int border) {
+		final long entered = enter();
+		gl20.glCopyTexImage2D(target, level, internalformat, x, y, width, height, border);
+		exit(COPY_TEX_IMAGE2D, entered);
+	}
+
+	@Override
+	public void glCopyTexSubImage2D (int target, int level, int xoffset, int yoffset, int x, int y, int width, int height) {
+		final long entered = enter();
+		gl20.glCopyTexSubImage2D(target, level, xoffset, yoffset, x, y, width, height);
+		exit(COPY_TEX_SUB_IMAGE2D, entered);
+	}
+
+	@Override
+	public int glCreateProgram () {
+		final long entered = enter();
+		final int result = gl20.glCreateProgram();
+		exit(CREATE_PROGRAM, entered);
+		return result;
+	}
+
+	@Override
+	public int glCreateShader (int type) {
+		final long entered = enter();
+		final int result = gl20.glCreateShader(type);
+		exit(CREATE_SHADER, entered);
+		return result;
+	}
+
+	@Override
+	public void glCullFace (int mode) {
+		final long entered = enter();
+		gl20.glCullFace(mode);
+		exit(CULL_FACE, entered);
+	}
+
+	@Override
+	public void glDeleteBuffers (int n, IntBuffer buffers) {
+		final long entered = enter();
+		gl20.glDeleteBuffers(n, buffers);
+		exit(DELETE_BUFFERS, entered);
+	}
+
+	@Override
+	public void glDeleteFramebuffers (int n, IntBuffer framebuffers) {
+		final long entered = enter();
+		gl20.glDeleteFramebuffers(n, framebuffers);
+		exit(DELETE_FRAMEBUFFERS, entered);
+	}
+
+	@Override
+	public void glDeleteProgram (int program) {
+		final long entered = enter();
+		gl20.glDeleteProgram(program);
+		exit(DELETE_PROGRAM, entered);
+	}
+
+	@Override
+	public void glDeleteRenderbuffers (int n, IntBuffer renderbuffers) {
+		final long entered = enter();
+		gl20.glDeleteRenderbuffers(n, renderbuffers);
+		exit(DELETE_RENDERBUFFERS, entered);
+	}
+
+	@Override
+	public void glDeleteShader (int shader) {
+		final long entered = enter();
+		gl20.glDeleteShader(shader);
+		exit(DELETE_SHADER, entered);
+	}
+
+	@Override
+	public void glDeleteTextures (int n, IntBuffer textures) {
+		final long entered = enter();
+		gl20.glDeleteTextures(n, textures);
+		exit(DELETE_TEXTURES, entered);
+	}
+
+	@Override
+	public void glDepthFunc (int func) {
+		final long entered = enter();
+		gl20.glDepthFunc(func);
+		exit(DEPTH_FUNC, entered);
+	}
+
+	@Override
+	public void glDepthMask (boolean flag) {
+		final long entered = enter();
+		gl20.glDepthMask(flag);
+		exit(DEPTH_MASK, entered);
+	}
+
+	@Override
+	public void glDepthRangef (float zNear, float zFar) {
+		final long entered = enter();
+		gl20.glDepthRangef(zNear, zFar);
+		exit(DEPTH_RANGEF, entered);
+	}
+
+	@Override
+	public void glDetachShader (int program, int shader) {
+		final long entered = enter();
+		gl20.glDetachShader(program, shader);
+		exit(DETACH_SHADER, entered);
+	}
+
+	@Override
+	public void glDisable (int cap) {
+		final long entered = enter();
+		gl20.glDisable(cap);
+		exit(DISABLE, entered);
+	}
+
+	@Override
+	public void glDisableVertexAttribArray (int index) {
+		final long entered = enter();
+		gl20.glDisableVertexAttribArray(index);
+		exit(DISABLE_VERTEX_ATTRIB_ARRAY, entered);
+	}
+
+	@Override
+	public void glDrawArrays (int mode, int first, int count) {
+		final long entered = enter();
+		gl20.glDrawArrays(mode, first, count);
+		exit(DRAW_ARRAYS, entered);
+		drawCall(count);
+	}
+
+	@Override
+	public void glDrawElements (int mode, int count, int type, Buffer indices) {
+		final long entered = enter();
+		gl20.glDrawElements(mode, count, type, indices);
+		exit(DRAW_ELEMENTS, entered);
+		drawCall(count);
+	}
+
+	@Override
+	public void glEnable (int cap) {
+		final long entered = enter();
+		gl20.glEnable(cap);
+		exit(ENABLE, entered);
+	}
+
+	@Override
+	public void glEnableVertexAttribArray (int index) {
+		final long entered = enter();
+		gl20.glEnableVertexAttribArray(index);
+		exit(ENABLE_VERTEX_ATTRIB_ARRAY, entered);
+	}
+
+	@Override
+	public void glFinish () {
+		final long entered = enter();
+		gl20.glFinish();
+		exit(FINISH, entered);
+	}
+
+	@Override
+	public void glFlush () {
+		final long entered = enter();
+		gl20.glFlush();
+		exit(FLUSH, entered);
+	}
+
+	@Override
+	public void glFramebufferRenderbuffer (int target, int attachment, int renderbuffertarget, int renderbuffer) {
+		final long entered = enter();
+		gl20.glFramebufferRenderbuffer(target, attachment, renderbuffertarget, renderbuffer);
+		exit(FRAMEBUFFER_RENDERBUFFER, entered);
+	}
+
+	@Override
+	public void glFramebufferTexture2D (int target, int attachment, int textarget, int texture, int level) {
+		final long entered = enter();
+		gl20.glFramebufferTexture2D(target, attachment, textarget, texture, level);
+		exit(FRAMEBUFFER_TEXTURE2D, entered);
+	}
+
+	@Override
+	public void glFrontFace (int mode) {
+		final long entered = enter();
+		gl20.glFrontFace(mode);
+		exit(FRONT_FACE, entered);
+	}
+
+	@Override
+	public void glGenBuffers (int n, IntBuffer buffers) {
+		final long entered = enter();
+		gl20.glGenBuffers(n, buffers);
+		exit(GEN_BUFFERS, entered);
+	}
+
+	@Override
+	public void glGenFramebuffers (int n, IntBuffer framebuffers) {
+		final long entered = enter();
+		gl20.glGenFramebuffers(n, framebuffers);
+		exit(GEN_FRAMEBUFFERS, entered);
+	}
+
+	@Override
+	public void glGenRenderbuffers (int n, IntBuffer renderbuffers) {
+		final long entered = enter();
+		gl20.glGenRenderbuffers(n, renderbuffers);
+		exit(GEN_RENDERBUFFERS, entered);
+	}
+
+	@Override
+	public void glGenTextures (int n, IntBuffer textures) {
+		final long entered = enter();
+		gl20.glGenTextures(n, textures);
+		exit(GEN_TEXTURES, entered);
+	}
+
+	@Override
+	public void glGenerateMipmap (int target) {
+		final long entered = enter();
+		gl20.glGenerateMipmap(target);
+		exit(GENERATE_MIPMAP, entered);
+	}
+
+	@Override
+	public String glGetActiveAttrib (int program, int index, IntBuffer size, Buffer type) {
+		final long entered = enter();
+		final String result = gl20.glGetActiveAttrib(program, index, size, type);
+		exit(GET_ACTIVE_ATTRIB, entered);
+		return result;
+	}
+
+	@Override
+	public String glGetActiveUniform (int program, int index, IntBuffer size, Buffer type) {
+		final long entered = enter();
+		final String result = gl20.glGetActiveUniform(program, index, size, type);
+		exit(GET_ACTIVE_UNIFORM, entered);
+		return result;
+	}
+
+	@Override
+	public void glGetAttachedShaders (int program, int maxcount, Buffer count, IntBuffer shaders) {
+		final long entered = enter();
+		gl20.glGetAttachedShaders(program, maxcount, count, shaders);
+		exit(GET_ATTACHED_SHADERS, entered);
+	}
+
+	@Override
+	public int glGetAttribLocation (int program, String name) {
+		final long entered = enter();
+		final int result = gl20.glGetAttribLocation(program, name);
+		exit(GET_ATTRIB_LOCATION, entered);
+		return result;
+	}
+
+	@Override
+	public void glGetBooleanv (int pname, Buffer params) {
+		final long entered = enter();
+		gl20.glGetBooleanv(pname, params);
+		exit(GET_BOOLEANV, entered);
+	}
+
+	@Override
+	public void glGetBufferParameteriv (int target, int pname, IntBuffer params) {
+		final long entered = enter();
+		gl20.glGetBufferParameteriv(target, pname, params);
+		exit(GET_BUFFER_PARAMETERIV, entered);
+	}
+
+	@Override
+	public int glGetError () {
+		final long entered = enter();
+		final int result = gl20.glGetError();
+		exit(GET_ERROR, entered);
+		return result;
+	}
+
+	@Override
+	public void glGetFloatv (int pname, FloatBuffer params) {
+		final long entered = enter();
+		gl20.glGetFloatv(pname, params);
+		exit(GET_FLOATV, entered);
+	}
+
+	@Override
+	public void glGetFramebufferAttachmentParameteriv (int target, int attachment, int pname, IntBuffer params) {
+		final long entered = enter();
+		gl20.glGetFramebufferAttachmentParameteriv(target, attachment, pname, params);
+		exit(GET_FRAMEBUFFER_ATTACHMENT_PARAMETERIV, entered);
+	}
+
+	@Override
+	public void glGetIntegerv (int pname, IntBuffer params) {
+		final long entered = enter();
+		gl20.glGetIntegerv(pname, params);
+		exit(GET_INTEGERV, entered);
+	}
+
+	@Override
+	public String glGetProgramInfoLog (int program) {
+		final long entered = enter();
+		final String result = gl20.glGetProgramInfoLog(program);
+		exit(GET_PROGRAM_INFO_LOG, entered);
+		return result;
+	}
+
+	@Override
+	public void glGetProgramiv (int program, int pname, IntBuffer params) {
+		final long entered = enter();
+		gl20.glGetProgramiv(program, pname, params);
+		exit(GET_PROGRAMIV, entered);
+	}
+
+	@Override
+	public void glGetRenderbufferParameteriv (int target, int pname, IntBuffer params) {
+		final long entered = enter();
+		gl20.glGetRenderbufferParameteriv(target, pname, params);
+		exit(GET_RENDERBUFFER_PARAMETERIV, entered);
+	}
+
+	@Override
+	public String glGetShaderInfoLog (int shader) {
+		final long entered = enter();
+		final String result = gl20.glGetShaderInfoLog(shader);
+		exit(GET_SHADER_INFO_LOG, entered);
+		return result;
+	}
+
+	@Override
+	public void glGetShaderPrecisionFormat (int shadertype, int precisiontype, IntBuffer range, IntBuffer precision) {
+		final long entered = enter();
+		gl20.glGetShaderPrecisionFormat(shadertype, precisiontype, range, precision);
+		exit(GET_SHADER_PRECISION_FORMAT, entered);
+	}
+
+	@Override
+	public void glGetShaderiv (int shader, int pname, IntBuffer params) {
+		final long entered = enter();
+		gl20.glGetShaderiv(shader, pname, params);
+		exit(GET_SHADERIV, entered);
+	}
+
+	@Override
+	public String glGetString (int name) {
+		final long entered = enter();
+		final String result = gl20.glGetString(name);
+		exit(GET_STRING, entered);
+		return result;
+	}
+
+	@Override
+	public void glGetTexParameterfv (int target, int pname, FloatBuffer params) {
+		final long entered = enter();
+		gl20.glGetTexParameterfv(target, pname, params);
+		exit(GET_TEX_PARAMETERFV, entered);
+	}
+
+	@Override
+	public void glGetTexParameteriv (int target, int pname, IntBuffer params) {
+		final long entered = enter();
+		gl20.glGetTexParameteriv(target, pname, params);
+		exit(GET_TEX_PARAMETERIV, entered);
+	}
+
+	@Override
+	public int glGetUniformLocation (int program, String name) {
+		final long entered = enter();
+		final int result = gl20.glGetUniformLocation(program, name);
+		exit(GET_UNIFORM_LOCATION, entered);
+		return result;
+	}
+
+	@Override
+	public void glGetUniformfv (int program, int location, FloatBuffer params) {
+		final long entered = enter();
+		gl20.glGetUniformfv(program, location, params);
+		exit(GET_UNIFORMFV, entered);
+	}
+
+	@Override
+	public void glGetUniformiv (int program, int location, IntBuffer params) {
+		final long entered = enter();
+		gl20.glGetUniformiv(program, location, params);
+		exit(GET_UNIFORMIV, entered);
+	}
+
+	@Override
+	public void glGetVertexAttribPointerv (int index, int pname, Buffer pointer) {
+		final long entered = enter();
+		gl20.glGetVertexAttribPointerv(index, pname, pointer);
+		exit(GET_VERTEX_ATTRIB_POINTERV, entered);
+	}
+
+	@Override
+	public void glGetVertexAttribfv (int index, int pname, FloatBuffer params) {
+		final long entered = enter();
+		gl20.glGetVertexAttribfv(index, pname, params);
+		exit(GET_VERTEX_ATTRIBFV, entered);
+	}
+
+	@Override
+	public void glGetVertexAttribiv (int index, int pname, IntBuffer params) {
+		final long entered = enter();
+		gl20.glGetVertexAttribiv(index, pname, params);
+		exit(GET_VERTEX_ATTRIBIV, entered);
+	}
+
+	@Override
+	public void glHint (int target, int mode) {
+		final long entered = enter();
+		gl20.glHint(target, mode);
+		exit(HINT, entered);
+	}
+
+	@Override
+	public boolean glIsBuffer (int buffer) {
+		final long entered = enter();
+		final boolean result = gl20.glIsBuffer(buffer);
+		exit(IS_BUFFER, entered);
+		return result;
+	}
+
+	@Override
+	public boolean glIsEnabled (int cap) {
+		final long entered = enter();
+		final boolean result = gl20.glIsEnabled(cap);
+		exit(IS_ENABLED, entered);
+		return result;
+	}
+
+	@Override
+	public boolean glIsFramebuffer (int framebuffer) {
+		final long entered = enter();
+		final boolean result = gl20.glIsFramebuffer(framebuffer);
+		exit(IS_FRAMEBUFFER, entered);
+		return result;
+	}
+
+	@Override
+	public boolean glIsProgram (int program) {
+		final long entered = enter();
+		final boolean result = gl20.glIsProgram(program);
+		exit(IS_PROGRAM, entered);
+		return result;
+	}
+
+	@Override
+	public boolean glIsRenderbuffer (int renderbuffer) {
+		final long entered = enter();
+		final boolean result = gl20.glIsRenderbuffer(renderbuffer);
+		exit(IS_RENDERBUFFER, entered);
+		return result;
+	}
+
+	@Override
+	public boolean glIsShader (int shader) {
+		final long entered = enter();
+		final boolean result = gl20.glIsShader(shader);
+		exit(IS_SHADER, entered);
+		return result;
+	}
+
+	@Override
+	public boolean glIsTexture (int texture) {
+		final long entered = enter();
+		final boolean result = gl20.glIsTexture(texture);
+		exit(IS_TEXTURE, entered);
+		return result;
+	}
+
+	@Override
+	public void glLineWidth (float width) {
+		final long entered = enter();
+		gl20.glLineWidth(width);
+		exit(LINE_WIDTH, entered);
+	}
+
+	@Override
+	public void glLinkProgram (int program) {
+		final long entered = enter();
+		gl20.glLinkProgram(program);
+		exit(LINK_PROGRAM, entered);
+	}
+
+	@Override
+	public void glPixelStorei (int pname, int param) {
+		final long entered = enter();
+		gl20.glPixelStorei(pname, param);
+		exit(PIXEL_STOREI, entered);
+	}
+
+	@Override
+	public void glPolygonOffset (float factor, float units) {
+		final long entered = enter();
+		gl20.glPolygonOffset(factor, units);
+		exit(POLYGON_OFFSET, entered);
+	}
+
+	@Override
+	public void glReadPixels (int x, int y, int width, int height, int format, int type, Buffer pixels) {
+		final long entered = enter();
+		gl20.glReadPixels(x, y, width, height, format, type, pixels);
+		exit(READ_PIXELS, entered);
+	}
+
+	@Override
+	public void glReleaseShaderCompiler () {
+		final long entered = enter();
+		gl20.glReleaseShaderCompiler();
+		exit(RELEASE_SHADER_COMPILER, entered);
+	}
+
+	@Override
+	public void glRenderbufferStorage (int target, int internalformat, int width, int height) {
+		final long entered = enter();
+		gl20.glRenderbufferStorage(target, internalformat, width, height);
+		exit(RENDERBUFFER_STORAGE, entered);
+	}
+
+	@Override
+	public void glSampleCoverage (float value, boolean invert) {
+		final long entered = enter();
+		gl20.glSampleCoverage(value, invert);
+		exit(SAMPLE_COVERAGE, entered);
+	}
+
+	@Override
+	public void glScissor (int x, int y, int width, int height) {
+		final long entered = enter();
+		gl20.glScissor(x, y, width, height);
+		exit(SCISSOR, entered);
+	}
+
+	@Override
+	public void glShaderBinary (int n, IntBuffer shaders, int binaryformat, Buffer binary, int length) {
+		final long entered = enter();
+		gl20.glShaderBinary(n, shaders, binaryformat, binary, length);
+		exit(SHADER_BINARY, entered);
+	}
+
+	@Override
+	public void glShaderSource (int shader, String string) {
+		final long entered = enter();
+		gl20.glShaderSource(shader, string);
+		exit(SHADER_SOURCE, entered);
+	}
+
+	@Override
+	public void glStencilFunc (int func, int ref, int mask) {
+		final long entered = enter();
+		gl20.glStencilFunc(func, ref, mask);
+		exit(STENCIL_FUNC, entered);
+	}
+
+	@Override
+	public void glStencilFuncSeparate (int face, int func, int ref, int mask) {
+		final long entered = enter();
+		gl20.glStencilFuncSeparate(face, func, ref, mask);
+		exit(STENCIL_FUNC_SEPARATE, entered);
+	}
+
+	@Override
+	public void glStencilMask (int mask) {
+		final long entered = enter();
+		gl20.glStencilMask(mask);
+		exit(STENCIL_MASK, entered);
+	}
+
+	@Override
+	public void glStencilMaskSeparate (int face, int mask) {
+		final long entered = enter();
+		gl20.glStencilMaskSeparate(face, mask);
+		exit(STENCIL_MASK_SEPARATE, entered);
+	}
+
+	@Override
+	public void glStencilOp (int fail, int zfail, int zpass) {
+		final long entered = enter();
+		gl20.glStencilOp(fail, zfail, zpass);
+		exit(STENCIL_OP, entered);
+	}
+
+	@Override
+	public void glStencilOpSeparate (int face, int fail, int zfail, int zpass) {
+		final long entered = enter();
+		gl20.glStencilOpSeparate(face, fail, zfail, zpass);
+		exit(STENCIL_OP_SEPARATE, entered);
+	}
+
+	@Override
+	public void glTexImage2D (int target, int level, int internalformat, int width, int height, int border, int format, int type, Buffer pixels) {
+		final long entered = enter();
+		gl20.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+		exit(TEX_IMAGE2D, entered);
+	}
+
+	@Override
+	public void glTexParameterf (int target, int pname, float param) {
+		final long entered = enter();
+		gl20.glTexParameterf(target, pname, param);
+		exit(TEX_PARAMETERF, entered);
+	}
+
+	@Override
+	public void glTexParameterfv (int target, int pname, FloatBuffer params) {
+		final long entered = enter();
+		gl20.glTexParameterfv(target, pname, params);
+		exit(TEX_PARAMETERFV, entered);
+	}
+
+	@Override
+	public void glTexParameteri (int target, int pname, int param) {
+		final long entered = enter();
+		gl20.glTexParameteri(target, pname, param);
+		exit(TEX_PARAMETERI, entered);
+	}
+
+	@Override
+	public void glTexParameteriv (int target, int pname, IntBuffer params) {
+		final long entered = enter();
+		gl20.glTexParameteriv(target, pname, params);
+		exit(TEX_PARAMETERIV, entered);
+	}
+
+	@Override
+	public void glTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format, int type, Buffer pixels) {
+		final long entered = enter();
+		gl20.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+		exit(TEX_SUB_IMAGE2D, entered);
+	}
+
+	@Override
+	public void glUniform1f (int location, float x) {
+		final long entered = enter();
+		gl20.glUniform1f(location, x);
+		exit(UNIFORM1F, entered);
+	}
+
+	@Override
+	public void glUniform1fv (int location, int count, FloatBuffer v) {
+		final long entered = enter();
+		gl20.glUniform1fv(location, count, v);
+		exit(UNIFORM1FV, entered);
+	}
+
+	@Override
+	public void glUniform1i (int location, int x) {
+		final long entered = enter();
+		gl20.glUniform1i(location, x);
+		exit(UNIFORM1I, entered);
+	}
+
+	@Override
+	public void glUniform1iv (int location, int count, IntBuffer v) {
+		final long entered = enter();
+		gl20.glUniform1iv(location, count, v);
+		exit(UNIFORM1IV, entered);
+	}
+
+	@Override
+	public void glUniform2f (int location, float x, float y) {
+		final long entered = enter();
+		gl20.glUniform2f(location, x, y);
+		exit(UNIFORM2F, entered);
+	}
+
+	@Override
+	public void glUniform2fv (int location, int count, FloatBuffer v) {
+		final long entered = enter();
+		gl20.glUniform2fv(location, count, v);
+		exit(UNIFORM2FV, entered);
+	}
+
+	@Override
+	public void glUniform2i (int location, int x, int y) {
+		final long entered = enter();
+		gl20.glUniform2i(location, x, y);
+		exit(UNIFORM2I, entered);
+	}
+
+	@Override
+	public void glUniform2iv (int location, int count, IntBuffer v) {
+		final long entered = enter();
+		gl20.glUniform2iv(location, count, v);
+		exit(UNIFORM2IV, entered);
+	}
+
+	@Override
+	public void glUniform3f (int location, float x, float y, float z) {
+		final long entered = enter();
+		gl20.glUniform3f(location, x, y, z);
+		exit(UNIFORM3F, entered);
+	}
+
+	@Override
+	public void glUniform3fv (int location, int count, FloatBuffer v) {
+		final long entered = enter();
+		gl20.glUniform3fv(location, count, v);
+		exit(UNIFORM3FV, entered);
+	}
+
+	@Override
+	public void glUniform3i (int location, int x, int y, int z) {
+		final long entered = enter();
+		gl20.glUniform3i(location, x, y, z);
+		exit(UNIFORM3I, entered);
+	}
+
+	@Override
+	public void glUniform3iv (int location, int count, IntBuffer v) {
+		final long entered = enter();
+		gl20.glUniform3iv(location, count, v);
+		exit(UNIFORM3IV, entered);
+	}
+
+	@Override
+	public void glUniform4f (int location, float x, float y, float z, float w) {
+		final long entered = enter();
+		gl20.glUniform4f(location, x, y, z, w);
+		exit(UNIFORM4F, entered);
+	}
+
+	@Override
+	public void glUniform4fv (int location, int count, FloatBuffer v) {
+		final long entered = enter();
+		gl20.glUniform4fv(location, count, v);
+		exit(UNIFORM4FV, entered);
+	}
+
+	@Override
+	public void glUniform4i (int location, int x, int y, int z, int w) {
+		final long entered = enter();
+		gl20.glUniform4i(location, x, y, z, w);
+		exit(UNIFORM4I, entered);
+	}
+
+	@Override
+	public void glUniform4iv (int location, int count, IntBuffer v) {
+		final long entered = enter();
+		gl20.glUniform4iv(location, count, v);
+		exit(UNIFORM4IV, entered);
+	}
+
+	@Override
+	public void glUniformMatrix2fv (int location, int count, boolean transpose, FloatBuffer value) {
+		final long entered = enter();
+		gl20.glUniformMatrix2fv(location, count, transpose, value);
+		exit(UNIFORM_MATRIX2FV, entered);
+	}
+
+	@Override
+	public void glUniformMatrix3fv (int location, int count, boolean transpose, FloatBuffer value) {
+		final long entered = enter();
+		gl20.glUniformMatrix3fv(location, count, transpose, value);
+		exit(UNIFORM_MATRIX3FV, entered);
+	}
+
+	@Override
+	public void glUniformMatrix4fv (int location, int count, boolean transpose, FloatBuffer value) {
+		final long entered = enter();
+		gl20.glUniformMatrix4fv(location, count, transpose, value);
+		exit(UNIFORM_MATRIX4FV, entered);
+	}
+
+	@Override
+	public void glUseProgram (int program) {
+		final long entered = enter();
+		gl20.glUseProgram(program);
+		exit(USE_PROGRAM, entered);
+		shaderSwitches++;
+	}
+
+	@Override
+	public void glValidateProgram (int program) {
+		final long entered = enter();
+		gl20.glValidateProgram(program);
+		exit(VALIDATE_PROGRAM, entered);
+	}
+
+	@Override
+	public void glVertexAttrib1f (int indx, float x) {
+		final long entered = enter();
+		gl20.glVertexAttrib1f(indx, x);
+		exit(VERTEX_ATTRIB1F, entered);
+	}
+
+	@Override
+	public void glVertexAttrib1fv (int indx, FloatBuffer values) {
+		final long entered = enter();
+		gl20.glVertexAttrib1fv(indx, values);
+		exit(VERTEX_ATTRIB1FV, entered);
+	}
+
+	@Override
+	public void glVertexAttrib2f (int indx, float x, float y) {
+		final long entered = enter();
+		gl20.glVertexAttrib2f(indx, x, y);
+		exit(VERTEX_ATTRIB2F, entered);
+	}
+
+	@Override
+	public void glVertexAttrib2fv (int indx, FloatBuffer values) {
+		final long entered = enter();
+		gl20.glVertexAttrib2fv(indx, values);
+		exit(VERTEX_ATTRIB2FV, entered);
+	}
+
+	@Override
+	public void glVertexAttrib3f (int indx, float x, float y, float z) {
+		final long entered = enter();
+		gl20.glVertexAttrib3f(indx, x, y, z);
+		exit(VERTEX_ATTRIB3F, entered);
+	}
+
+	@Override
+	public void glVertexAttrib3fv (int indx, FloatBuffer values) {
+		final long entered = enter();
+		gl20.glVertexAttrib3fv(indx, values);
+		exit(VERTEX_ATTRIB3FV, entered);
+	}
+
+	@Override
+	public void glVertexAttrib4f (int indx, float x, float y, float z, float w) {
+		final long entered = enter();
+		gl20.glVertexAttrib4f(indx, x, y, z, w);
+		exit(VERTEX_ATTRIB4F, entered);
+	}
+
+	@Override
+	public void glVertexAttrib4fv (int indx, FloatBuffer values) {
+		final long entered = enter();
+		gl20.glVertexAttrib4fv(indx, values);
+		exit(VERTEX_ATTRIB4FV, entered);
+	}
+
+	@Override
+	public void glVertexAttribPointer (int indx, int size, int type, boolean normalized, int stride, Buffer ptr) {
+		final long entered = enter();
+		gl20.glVertexAttribPointer(indx, size, type, normalized, stride, ptr);
+		exit(VERTEX_ATTRIB_POINTER, entered);
+	}
+
+	@Override
+	public void glViewport (int x, int y, int width, int height) {
+		final long entered = enter();
+		gl20.glViewport(x, y, width, height);
+		exit(VIEWPORT, entered);
+	}
+
+	@Override
+	public void glDrawElements (int mode, int count, int type, int indices) {
+		final long entered = enter();
+		gl20.glDrawElements(mode, count, type, indices);
+		exit(DRAW_ELEMENTS, entered);
+		drawCall(count);
+	}
+
+	@Override
+	public void glVertexAttribPointer (int indx, int size, int type, boolean normalized, int stride, int ptr) {
+		final long entered = enter();
+		gl20.glVertexAttribPointer(indx, size, type, normalized, stride, ptr);
+		exit(VERTEX_ATTRIB_POINTER, entered);
+	}
+
+	@Override
+	public void glDeleteTexture (int texture) {
+		final long entered = enter();
+		gl20.glDeleteTexture(texture);
+		exit(DELETE_TEXTURE, entered);
+	}
+
+	@Override
+	public int glGenTexture () {
+		final long entered = enter();
+		final int result = gl20.glGenTexture();
+		exit(GEN_TEXTURE, entered);
+		return result;
+	}
+
+	@Override
+	public void glDeleteBuffer (int buffer) {
+		final long entered = enter();
+		gl20.glDeleteBuffer(buffer);
+		exit(DELETE_BUFFER, entered);
+	}
+
+	@Override
+	public void glDeleteFramebuffer (int framebuffer) {
+		final long entered = enter();
+		gl20.glDeleteFramebuffer(framebuffer);
+		exit(DELETE_FRAMEBUFFER, entered);
+	}
+
+	@Override
+	public void glDeleteRenderbuffer (int renderbuffer) {
+		final long entered = enter();
+		gl20.glDeleteRenderbuffer(renderbuffer);
+		exit(DELETE_RENDERBUFFER, entered);
+	}
+
+	@Override
+	public int glGenBuffer () {
+		final long entered = enter();
+		final int result = gl20.glGenBuffer();
+		exit(GEN_BUFFER, entered);
+		return result;
+	}
+
+	@Override
+	public int glGenFramebuffer () {
+		final long entered = enter();
+		final int result = gl20.glGenFramebuffer();
+		exit(GEN_FRAMEBUFFER, entered);
+		return result;
+	}
+
+	@Override
+	public int glGenRenderbuffer () {
+		final long entered = enter();
+		final int result = gl20.glGenRenderbuffer();
+		exit(GEN_RENDERBUFFER, entered);
+		return result;
+	}
+
+	@Override
+	public void glUniform1fv (int location, int count, float[] v, int offset) {
+		final long entered = enter();
+		gl20.glUniform1fv(location, count, v, offset);
+		exit(UNIFORM1FV, entered);
+	}
+
+	@Override
+	public void glUniform1iv (int location, int count, int[] v, int offset) {
+		final long entered = enter();
+		gl20.glUniform1iv(location, count, v, offset);
+		exit(UNIFORM1IV, entered);
+	}
+
+	@Override
+	public void glUniform2fv (int location, int count, float[] v, int offset) {
+		final long entered = enter();
+		gl20.glUniform2fv(location, count, v, offset);
+		exit(UNIFORM2FV, entered);
+	}
+
+	@Override
+	public void glUniform2iv (int location, int count, int[] v, int offset) {
+		final long entered = enter();
+		gl20.glUniform2iv(location, count, v, offset);
+		exit(UNIFORM2IV, entered);
+	}
+
+	@Override
+	public void glUniform3fv (int location, int count, float[] v, int offset) {
+		final long entered = enter();
+		gl20.glUniform3fv(location, count, v, offset);
+		exit(UNIFORM3FV, entered);
+	}
+
+	@Override
+	public void glUniform3iv (int location, int count, int[] v, int offset) {
+		final long entered = enter();
+		gl20.glUniform3iv(location, count, v, offset);
+		exit(UNIFORM3IV, entered);
+	}
+
+	@Override
+	public void glUniform4fv (int location, int count, float[] v, int offset) {
+		final long entered = enter();
+		gl20.glUniform4fv(location, count, v, offset);
+		exit(UNIFORM4FV, entered);
+	}
+
+	@Override
+	public void glUniform4iv (int location, int count, int[] v, int offset) {
+		final long entered = enter();
+		gl20.glUniform4iv(location, count, v, offset);
+		exit(UNIFORM4IV, entered);
+	}
+
+	@Override
+	public void glUniformMatrix2fv (int location, int count, boolean transpose, float[] value, int offset) {
+		final long entered = enter();
+		gl20.glUniformMatrix2fv(location, count, transpose, value, offset);
+		exit(UNIFORM_MATRIX2FV, entered);
+	}
+
+	@Override
+	public void glUniformMatrix3fv (int location, int count, boolean transpose, float[] value, int offset) {
+		final long entered = enter();
+		gl20.glUniformMatrix3fv(location, count, transpose, value, offset);
+		exit(UNIFORM_MATRIX3FV, entered);
+	}
+
+	@Override
+	public void glUniformMatrix4fv (int location, int count, boolean transpose, float[] value, int offset) {
+		final long entered = enter();
+		gl20.glUniformMatrix4fv(location, count, transpose, value, offset);
+		exit(UNIFORM_MATRIX4FV, entered);
+	}
+
+	@Override
+	public void glReadBuffer (int mode) {
+		final long entered = enter();
+		gl30.glReadBuffer(mode);
+		exit(READ_BUFFER, entered);
+	}
+
+	@Override
+	public void glDrawRangeElements (int mode, int start, int end, int count, int type, Buffer indices) {
+		final long entered = enter();
+		gl30.glDrawRangeElements(mode, start, end, count, type, indices);
+		exit(DRAW_RANGE_ELEMENTS, entered);
+		drawCall(count);
+	}
+
+	@Override
+	public void glDrawRangeElements (int mode, int start, int end, int count, int type, int offset) {
+		final long entered = enter();
+		gl30.glDrawRangeElements(mode, start, end, count, type, offset);
+		exit(DRAW_RANGE_ELEMENTS, entered);
+		drawCall(count);
+	}
+
+	@Override
+	public void glTexImage3D (int target, int level, int internalformat, int width, int height, int depth, int border, int format, int type, Buffer pixels) {
+		final long entered = enter();
+		gl30.glTexImage3D(target, level, internalformat, width, height, depth, border, format, type, pixels);
+		exit(TEX_IMAGE3D, entered);
+	}
+
+	@Override
+	public void glTexImage3D (int target, int level, int internalformat, int width, int height, int depth, int border, int format, int type, int offset) {
+		final long entered = enter();
+		gl30.glTexImage3D(target, level, internalformat, width, height, depth, border, format, type, offset);
+		exit(TEX_IMAGE3D, entered);
+	}
+
+	@Override
+	public void glTexSubImage3D (int target, int level, int xoffset, int yoffset, int zoffset, int width, int height, int depth, int format, int type, Buffer pixels) {
+		final long entered = enter();
+		gl30.glTexSubImage3D(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels);
+		exit(TEX_SUB_IMAGE3D, entered);
+	}
+
+	@Override
+	public void glTexSubImage3D (int target, int level, int xoffset, int yoffset, int zoffset, int width, int height, int depth, int format, int type, int offset) {
+		final long entered = enter();
+		gl30.glTexSubImage3D(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, offset);
+		exit(TEX_SUB_IMAGE3D, entered);
+	}
+
+	@Override
+	public void glCopyTexSubImage3D (int target, int level, int xoffset, int yoffset, int zoffset, int x, int y, int width, int height) {
+		final long entered = enter();
+		gl30.glCopyTexSubImage3D(target, level, xoffset, yoffset, zoffset, x, y, width, height);
+		exit(COPY_TEX_SUB_IMAGE3D, entered);
+	}
+
+	@Override
+	public void glGenQueries (int n, int[] ids, int offset) {
+		final long entered = enter();
+		gl30.glGenQueries(n, ids, offset);
+		exit(GEN_QUERIES, entered);
+	}
+
+	@Override
+	public void glGenQueries (int n, IntBuffer ids) {
+		final long entered = enter();
+		gl30.glGenQueries(n, ids);
+		exit(GEN_QUERIES, entered);
+	}
+
+	@Override
+	public void glDeleteQueries (int n, int[] ids, int offset) {
+		final long entered = enter();
+		gl30.glDeleteQueries(n, ids, offset);
+		exit(DELETE_QUERIES, entered);
+	}
+
+	@Override
+	public void glDeleteQueries (int n, IntBuffer ids) {
+		final long entered = enter();
+		gl30.glDeleteQueries(n, ids);
+		exit(DELETE_QUERIES, entered);
+	}
+
+	@Override
+	public boolean glIsQuery (int id) {
+		final long entered = enter();
+		final boolean result = gl30.glIsQuery(id);
+		exit(IS_QUERY, entered);
+		return result;
+	}
+
+	@Override
+	public void glBeginQuery (int target, int id) {
+		final long entered = enter();
+		gl30.glBeginQuery(target, id);
+		exit(BEGIN_QUERY, entered);
+	}
+
+	@Override
+	public void glEndQuery (int target) {
+		final long entered = enter();
+		gl30.glEndQuery(target);
+		exit(END_QUERY, entered);
+	}
+
+	@Override
+	public void glGetQueryiv (int target, int pname, IntBuffer params) {
+		final long entered = enter();
+		gl30.glGetQueryiv(target, pname, params);
+		exit(GET_QUERYIV, entered);
+	}
+
+	@Override
+	public void glGetQueryObjectuiv (int id, int pname, IntBuffer params) {
+		final long entered = enter();
+		gl30.glGetQueryObjectuiv(id, pname, params);
+		exit(GET_QUERY_OBJECTUIV, entered);
+	}
+
+	@Override
+	public boolean glUnmapBuffer (int target) {
+		final long entered = enter();
+		final boolean result = gl30.glUnmapBuffer(target);
+		exit(UNMAP_BUFFER, entered);
+		return result;
+	}
+
+	@Override
+	public Buffer glGetBufferPointerv (int target, int pname) {
+		final long entered = enter();
+		final Buffer result = gl30.glGetBufferPointerv(target, pname);
+		exit(GET_BUFFER_POINTERV, entered);
+		return result;
+	}
+
+	@Override
+	public void glDrawBuffers (int n, IntBuffer bufs) {
+		final long entered = enter();
+		gl30.glDrawBuffers(n, bufs);
+		exit(DRAW_BUFFERS, entered);
+	}
+
+	@Override
+	public void glUniformMatrix2x3fv (int location, int count, boolean transpose, FloatBuffer value) {
+		final long entered = enter();
+		gl30.glUniformMatrix2x3fv(location, count, transpose, value);
+		exit(UNIFORM_MATRIX2X3FV, entered);
+	}
+
+	@Override
+	public void glUniformMatrix3x2fv (int location, int count, boolean transpose, FloatBuffer value) {
+		final long entered = enter();
+		gl30.glUniformMatrix3x2fv(location, count, transpose, value);
+		exit(UNIFORM_MATRIX3X2FV, entered);
+	}
+
+	@Override
+	public void glUniformMatrix2x4fv (int location, int count, boolean transpose, FloatBuffer value) {
+		final long entered = enter();
+		gl30.glUniformMatrix2x4fv(location, count, transpose, value);
+		exit(UNIFORM_MATRIX2X4FV, entered);
+	}
+
+	@Override
+	public void glUniformMatrix4x2fv (int location, int count, boolean transpose, FloatBuffer value) {
+		final long entered = enter();
+		gl30.glUniformMatrix4x2fv(location, count, transpose, value);
+		exit(UNIFORM_MATRIX4X2FV, entered);
+	}
+
+	@Override
+	public void glUniformMatrix3x4fv (int location, int count, boolean transpose, FloatBuffer value) {
+		final long entered = enter();
+		gl30.glUniformMatrix3x4fv(location, count, transpose, value);
+		exit(UNIFORM_MATRIX3X4FV, entered);
+	}
+
+	@Override
+	public void glUniformMatrix4x3fv (int location, int count, boolean transpose, FloatBuffer value) {
+		final long entered = enter();
+		gl30.glUniformMatrix4x3fv(location, count, transpose, value);
+		exit(UNIFORM_MATRIX4X3FV, entered);
+	}
+
+	@Override
+	public void glBlitFramebuffer (int srcX0, int srcY0, int srcX1, int srcY1, int dstX0, int dstY0, int dstX1, int dstY1, int mask, int filter) {
+		final long entered = enter();
+		gl30.glBlitFramebuffer(srcX0, srcY0, srcX1, srcY1, dstX0, dstY0, dstX1, dstY1, mask, filter);
+		exit(BLIT_FRAMEBUFFER, entered);
+	}
+
+	@Override
+	public void glRenderbufferStorageMultisample (int target, int samples, int internalformat, int width, int height) {
+		final long entered = enter();
+		gl30.glRenderbufferStorageMultisample(target, samples, internalformat, width, height);
+		exit(RENDERBUFFER_STORAGE_MULTISAMPLE, entered);
+	}
+
+	@Override
+	public void glFramebufferTextureLayer (int target, int attachment, int texture, int level, int layer) {
+		final long entered = enter();
+		gl30.glFramebufferTextureLayer(target, attachment, texture, level, layer);
+		exit(FRAMEBUFFER_TEXTURE_LAYER, entered);
+	}
+
+	@Override
+	public void glFlushMappedBufferRange (int target, int offset, int length) {
+		final long entered = enter();
+		gl30.glFlushMappedBufferRange(target, offset, length);
+		exit(FLUSH_MAPPED_BUFFER_RANGE, entered);
+	}
+
+	@Override
+	public void glBindVertexArray (int array) {
+		final long entered = enter();
+		gl30.glBindVertexArray(array);
+		exit(BIND_VERTEX_ARRAY, entered);
+	}
+
+	@Override
+	public void glDeleteVertexArrays (int n, int[] arrays, int offset) {
+		final long entered = enter();
+		gl30.glDeleteVertexArrays(n, arrays, offset);
+		exit(DELETE_VERTEX_ARRAYS, entered);
+	}
+
+	@Override
+	public void glDeleteVertexArrays (int n, IntBuffer arrays) {
+		final long entered = enter();
+		gl30.glDeleteVertexArrays(n, arrays);
+		exit(DELETE_VERTEX_ARRAYS, entered);
+	}
+
+	@Override
+	public void glGenVertexArrays (int n, int[] arrays, int offset) {
+		final long entered = enter();
+		gl30.glGenVertexArrays(n, arrays, offset);
+		exit(GEN_VERTEX_ARRAYS, entered);
+	}
+
+	@Override
+	public void glGenVertexArrays (int n, IntBuffer arrays) {
+		final long entered = enter();
+		gl30.glGenVertexArrays(n, arrays);
+		exit(GEN_VERTEX_ARRAYS, entered);
+	}
+
+	@Override
+	public boolean glIsVertexArray (int array) {
+		final long entered = enter();
+		final boolean result = gl30.glIsVertexArray(array);
+		exit(IS_VERTEX_ARRAY, entered);
+		return result;
+	}
+
+	@Override
+	public void glBeginTransformFeedback (int primitiveMode) {
+		final long entered = enter();
+		gl30.glBeginTransformFeedback(primitiveMode);
+		exit(BEGIN_TRANSFORM_FEEDBACK, entered);
+	}
+
+	@Override
+	public void glEndTransformFeedback () {
+		final long entered = enter();
+		gl30.glEndTransformFeedback();
+		exit(END_TRANSFORM_FEEDBACK, entered);
+	}
+
+	@Override
+	public void glBindBufferRange (int target, int index, int buffer, int offset, int size) {
+		final long entered = enter();
+		gl30.glBindBufferRange(target, index, buffer, offset, size);
+		exit(BIND_BUFFER_RANGE, entered);
+	}
+
+	@Override
+	public void glBindBufferBase (int target, int index, int buffer) {
+		final long entered = enter();
+		gl30.glBindBufferBase(target, index, buffer);
+		exit(BIND_BUFFER_BASE, entered);
+	}
+
+	@Override
+	public void glTransformFeedbackVaryings (int program, String[] varyings, int bufferMode) {
+		final long entered = enter();
+		gl30.glTransformFeedbackVaryings(program, varyings, bufferMode);
+		exit(TRANSFORM_FEEDBACK_VARYINGS, entered);
+	}
+
+	@Override
+	public void glVertexAttribIPointer (int index, int size, int type, int stride, int offset) {
+		final long entered = enter();
+		gl30.glVertexAttribIPointer(index, size, type, stride, offset);
+		exit(VERTEX_ATTRIB_IPOINTER, entered);
+	}
+
+	@Override
+	public void glGetVertexAttribIiv (int index, int pname, IntBuffer params) {
+		final long entered = enter();
+		gl30.glGetVertexAttribIiv(index, pname, params);
+		exit(GET_VERTEX_ATTRIB_IIV, entered);
+	}
+
+	@Override
+	public void glGetVertexAttribIuiv (int index, int pname, IntBuffer params) {
+		final long entered = enter();
+		gl30.glGetVertexAttribIuiv(index, pname, params);
+		exit(GET_VERTEX_ATTRIB_IUIV, entered);
+	}
+
+	@Override
+	public void glVertexAttribI4i (int index, int x, int y, int z, int w) {
+		final long entered = enter();
+		gl30.glVertexAttribI4i(index, x, y, z, w);
+		exit(VERTEX_ATTRIB_I4I, entered);
+	}
+
+	@Override
+	public void glVertexAttribI4ui (int index, int x, int y, int z, int w) {
+		final long entered = enter();
+		gl30.glVertexAttribI4ui(index, x, y, z, w);
+		exit(VERTEX_ATTRIB_I4UI, entered);
+	}
+
+	@Override
+	public void glGetUniformuiv (int program, int location, IntBuffer params) {
+		final long entered = enter();
+		gl30.glGetUniformuiv(program, location, params);
+		exit(GET_UNIFORMUIV, entered);
+	}
+
+	@Override
+	public int glGetFragDataLocation (int program, String name) {
+		final long entered = enter();
+		final int result = gl30.glGetFragDataLocation(program, name);
+		exit(GET_FRAG_DATA_LOCATION, entered);
+		return result;
+	}
+
+	@Override
+	public void glUniform1uiv (int location, int count, IntBuffer value) {
+		final long entered = enter();
+		gl30.glUniform1uiv(location, count, value);
+		exit(UNIFORM1UIV, entered);
+	}
+
+	@Override
+	public void glUniform3uiv (int location, int count, IntBuffer value) {
+		final long entered = enter();
+		gl30.glUniform3uiv(location, count, value);
+		exit(UNIFORM3UIV, entered);
+	}
+
+	@Override
+	public void glUniform4uiv (int location, int count, IntBuffer value) {
+		final long entered = enter();
+		gl30.glUniform4uiv(location, count, value);
+		exit(UNIFORM4UIV, entered);
+	}
+
+	@Override
+	public void glClearBufferiv (int buffer, int drawbuffer, IntBuffer value) {
+		final long entered = enter();
+		gl30.glClearBufferiv(buffer, drawbuffer, value);
+		exit(CLEAR_BUFFERIV, entered);
+	}
+
+	@Override
+	public void glClearBufferuiv (int buffer, int drawbuffer, IntBuffer value) {
+		final long entered = enter();
+		gl30.glClearBufferuiv(buffer, drawbuffer, value);
+		exit(CLEAR_BUFFERUIV, entered);
+	}
+
+	@Override
+	public void glClearBufferfv (int buffer, int drawbuffer, FloatBuffer value) {
+		final long entered = enter();
+		gl30.glClearBufferfv(buffer, drawbuffer, value);
+		exit(CLEAR_BUFFERFV, entered);
+	}
+
+	@Override
+	public void glClearBufferfi (int buffer, int drawbuffer, float depth, int stencil) {
+		final long entered = enter();
+		gl30.glClearBufferfi(buffer, drawbuffer, depth, stencil);
+		exit(CLEAR_BUFFERFI, entered);
+	}
+
+	@Override
+	public String glGetStringi (int name, int index) {
+		final long entered = enter();
+		final String result = gl30.glGetStringi(name, index);
+		exit(GET_STRINGI, entered);
+		return result;
+	}
+
+	@Override
+	public void glCopyBufferSubData (int readTarget, int writeTarget, int readOffset, int writeOffset, int size) {
+		final long entered = enter();
+		gl30.glCopyBufferSubData(readTarget, writeTarget, readOffset, writeOffset, size);
+		exit(COPY_BUFFER_SUB_DATA, entered);
+	}
+
+	@Override
+	public void glGetUniformIndices (int program, String[] uniformNames, IntBuffer uniformIndices) {
+		final long entered = enter();
+		gl30.glGetUniformIndices(program, uniformNames, uniformIndices);
+		exit(GET_UNIFORM_INDICES, entered);
+	}
+
+	@Override
+	public void glGetActiveUniformsiv (int program, int uniformCount, IntBuffer uniformIndices, int pname, IntBuffer params) {
+		final long entered = enter();
+		gl30.glGetActiveUniformsiv(program, uniformCount, uniformIndices, pname, params);
+		exit(GET_ACTIVE_UNIFORMSIV, entered);
+	}
+
+	@Override
+	public int glGetUniformBlockIndex (int program, String uniformBlockName) {
+		final long entered = enter();
+		final int result = gl30.glGetUniformBlockIndex(program, uniformBlockName);
+		exit(GET_UNIFORM_BLOCK_INDEX, entered);
+		return result;
+	}
+
+	@Override
+	public void glGetActiveUniformBlockiv (int program, int uniformBlockIndex, int pname, IntBuffer params) {
+		final long entered = enter();
+		gl30.glGetActiveUniformBlockiv(program, uniformBlockIndex, pname, params);
+		exit(GET_ACTIVE_UNIFORM_BLOCKIV, entered);
+	}
+
+	@Override
+	public void glGetActiveUniformBlockName (int program, int uniformBlockIndex, Buffer length, Buffer uniformBlockName) {
+		final long entered = enter();
+		gl30.glGetActiveUniformBlockName(program, uniformBlockIndex, length, uniformBlockName);
+		exit(GET_ACTIVE_UNIFORM_BLOCK_NAME, entered);
+	}
+
+	@Override
+	public String glGetActiveUniformBlockName (int program, int uniformBlockIndex) {
+		final long entered = enter();
+		final String result = gl30.glGetActiveUniformBlockName(program, uniformBlockIndex);
+		exit(GET_ACTIVE_UNIFORM_BLOCK_NAME, entered);
+		return result;
+	}
+
+	@Override
+	public void glUniformBlockBinding (int program, int uniformBlockIndex, int uniformBlockBinding) {
+		final long entered = enter();
+		gl30.glUniformBlockBinding(program, uniformBlockIndex, uniformBlockBinding);
+		exit(UNIFORM_BLOCK_BINDING, entered);
+	}
+
+	@Override
+	public void glDrawArraysInstanced (int mode, int first, int count, int instanceCount) {
+		final long entered = enter();
+		gl30.glDrawArraysInstanced(mode, first, count, instanceCount);
+		exit(DRAW_ARRAYS_INSTANCED, entered);
+		drawCall(count * instanceCount);
+	}
+
+	@Override
+	public void glDrawElementsInstanced (int mode, int count, int type, int indicesOffset, int instanceCount) {
+		final long entered = enter();
+		gl30.glDrawElementsInstanced(mode, count, type, indicesOffset, instanceCount);
+		exit(DRAW_ELEMENTS_INSTANCED, entered);
+		drawCall(count * instanceCount);
+	}
+
+	@Override
+	public void glGetInteger64v (int pname, LongBuffer params) {
+		final long entered = enter();
+		gl30.glGetInteger64v(pname, params);
+		exit(GET_INTEGER64V, entered);
+	}
+
+	@Override
+	public void glGetBufferParameteri64v (int target, int pname, LongBuffer params) {
+		final long entered = enter();
+		gl30.glGetBufferParameteri64v(target, pname, params);
+		exit(GET_BUFFER_PARAMETERI64V, entered);
+	}
+
+	@Override
+	public void glGenSamplers (int count, int[] samplers, int offset) {
+		final long entered = enter();
+		gl30.glGenSamplers(count, samplers, offset);
+		exit(GEN_SAMPLERS, entered);
+	}
+
+	@Override
+	public void glGenSamplers (int count, IntBuffer samplers) {
+		final long entered = enter();
+		gl30.glGenSamplers(count, samplers);
+		exit(GEN_SAMPLERS, entered);
+	}
+
+	@Override
+	public void glDeleteSamplers (int count, int[] samplers, int offset) {
+		final long entered = enter();
+		gl30.glDeleteSamplers(count, samplers, offset);
+		exit(DELETE_SAMPLERS, entered);
+	}
+
+	@Override
+	public void glDeleteSamplers (int count, IntBuffer samplers) {
+		final long entered = enter();
+		gl30.glDeleteSamplers(count, samplers);
+		exit(DELETE_SAMPLERS, entered);
+	}
+
+	@Override
+	public boolean glIsSampler (int sampler) {
+		final long entered = enter();
+		final boolean result = gl30.glIsSampler(sampler);
+		exit(IS_SAMPLER, entered);
+		return result;
+	}
+
+	@Override
+	public void glBindSampler (int unit, int sampler) {
+		final long entered = enter();
+		gl30.glBindSampler(unit, sampler);
+		exit(BIND_SAMPLER, entered);
+	}
+
+	@Override
+	public void glSamplerParameteri (int sampler, int pname, int param) {
+		final long entered = enter();
+		gl30.glSamplerParameteri(sampler, pname, param);
+		exit(SAMPLER_PARAMETERI, entered);
+	}
+
+	@Override
+	public void glSamplerParameteriv (int sampler, int pname, IntBuffer param) {
+		final long entered = enter();
+		gl30.glSamplerParameteriv(sampler, pname, param);
+		exit(SAMPLER_PARAMETERIV, entered);
+	}
+
+	@Override
+	public void glSamplerParameterf (int sampler, int pname, float param) {
+		final long entered = enter();
+		gl30.glSamplerParameterf(sampler, pname, param);
+		exit(SAMPLER_PARAMETERF, entered);
+	}
+
+	@Override
+	public void glSamplerParameterfv (int sampler, int pname, FloatBuffer param) {
+		final long entered = enter();
+		gl30.glSamplerParameterfv(sampler, pname, param);
+		exit(SAMPLER_PARAMETERFV, entered);
+	}
+
+	@Override
+	public void glGetSamplerParameteriv (int sampler, int pname, IntBuffer params) {
+		final long entered = enter();
+		gl30.glGetSamplerParameteriv(sampler, pname, params);
+		exit(GET_SAMPLER_PARAMETERIV, entered);
+	}
+
+	@Override
+	public void glGetSamplerParameterfv (int sampler, int pname, FloatBuffer params) {
+		final long entered = enter();
+		gl30.glGetSamplerParameterfv(sampler, pname, params);
+		exit(GET_SAMPLER_PARAMETERFV, entered);
+	}
+
+	@Override
+	public void glVertexAttribDivisor (int index, int divisor) {
+		final long entered = enter();
+		gl30.glVertexAttribDivisor(index, divisor);
+		exit(VERTEX_ATTRIB_DIVISOR, entered);
+	}
+
+	@Override
+	public void glBindTransformFeedback (int target, int id) {
+		final long entered = enter();
+		gl30.glBindTransformFeedback(target, id);
+		exit(BIND_TRANSFORM_FEEDBACK, entered);
+	}
+
+	@Override
+	public void glDeleteTransformFeedbacks (int n, int[] ids, int offset) {
+		final long entered = enter();
+		gl30.glDeleteTransformFeedbacks(n, ids, offset);
+		exit(DELETE_TRANSFORM_FEEDBACKS, entered);
+	}
+
+	@Override
+	public void glDeleteTransformFeedbacks (int n, IntBuffer ids) {
+		final long entered = enter();
+		gl30.glDeleteTransformFeedbacks(n, ids);
+		exit(DELETE_TRANSFORM_FEEDBACKS, entered);
+	}
+
+	@Override
+	public void glGenTransformFeedbacks (int n, int[] ids, int offset) {
+		final long entered = enter();
+		gl30.glGenTransformFeedbacks(n, ids, offset);
+		exit(GEN_TRANSFORM_FEEDBACKS, entered);
+	}
+
+	@Override
+	public void glGenTransformFeedbacks (int n, IntBuffer ids) {
+		final long entered = enter();
+		gl30.glGenTransformFeedbacks(n, ids);
+		exit(GEN_TRANSFORM_FEEDBACKS, entered);
+	}
+
+	@Override
+	public boolean glIsTransformFeedback (int id) {
+		final long entered = enter();
+		final boolean result = gl30.glIsTransformFeedback(id);
+		exit(IS_TRANSFORM_FEEDBACK, entered);
+		return result;
+	}
+
+	@Override
+	public void glPauseTransformFeedback () {
+		final long entered = enter();
+		gl30.glPauseTransformFeedback();
+		exit(PAUSE_TRANSFORM_FEEDBACK, entered);
+	}
+
+	@Override
+	public void glResumeTransformFeedback () {
+		final long entered = enter();
+		gl30.glResumeTransformFeedback();
+		exit(RESUME_TRANSFORM_FEEDBACK, entered);
+	}
+
+	@Override
+	public void glProgramParameteri (int program, int pname, int value) {
+		final long entered = enter();
+		gl30.glProgramParameteri(program, pname, value);
+		exit(PROGRAM_PARAMETERI, entered);
+	}
+
+	@Override
+	public void glInvalidateFramebuffer (int target, int numAttachments, IntBuffer attachments) {
+		final long entered = enter();
+		gl30.glInvalidateFramebuffer(target, numAttachments, attachments);
+		exit(INVALIDATE_FRAMEBUFFER, entered);
+	}
+
+	@Override
+	public void glInvalidateSubFramebuffer (int target, int numAttachments, IntBuffer attachments, int x, int y, int width, int height) {
+		final long entered = enter();
+		gl30.glInvalidateSubFramebuffer(target, numAttachments, attachments, x, y, width, height);
+		exit(INVALIDATE_SUB_FRAMEBUFFER, entered);
+	}
+}
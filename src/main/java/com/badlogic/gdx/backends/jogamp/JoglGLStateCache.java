@@ -0,0 +1,453 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+
+/** A GL decorator shadowing the binding and fixed function state of the context so that the calls which wouldn't change
+ * anything are not forwarded to the driver. It tracks the program, the texture bound to each target of each unit, the buffer
+ * bindings, the framebuffer and renderbuffer bindings, the blend, depth and cull state and the enabled capabilities.
+ * <p>
+ * The cache only knows about the calls made through it, {@link #invalidate()} must be called whenever the state may have
+ * been changed behind its back, for instance by JOGL or by another library using the context directly. Unknown state is
+ * always forwarded.
+ * <p>
+ * The counters are reset by {@link #endFrame()}, which the graphics calls after each rendered frame. */
+public class JoglGLStateCache extends JoglGLDecorator {
+	static final int UNKNOWN = -1;
+	static final int MAX_TEXTURE_UNITS = 32;
+
+	/** the texture targets in the order of {@link #boundTextures} */
+	static final int[] TEXTURE_TARGETS = {GL20.GL_TEXTURE_2D, GL20.GL_TEXTURE_CUBE_MAP, GL30.GL_TEXTURE_3D,
+		GL30.GL_TEXTURE_2D_ARRAY};
+	/** the buffer targets in the order of {@link #boundBuffers} */
+	static final int[] BUFFER_TARGETS = {GL20.GL_ARRAY_BUFFER, GL20.GL_ELEMENT_ARRAY_BUFFER, GL30.GL_PIXEL_PACK_BUFFER,
+		GL30.GL_PIXEL_UNPACK_BUFFER, GL30.GL_COPY_READ_BUFFER, GL30.GL_COPY_WRITE_BUFFER, GL30.GL_UNIFORM_BUFFER,
+		GL30.GL_TRANSFORM_FEEDBACK_BUFFER};
+	/** the capabilities in the order of {@link #capabilities} */
+	static final int[] CAPABILITIES = {GL20.GL_BLEND, GL20.GL_DEPTH_TEST, GL20.GL_CULL_FACE, GL20.GL_SCISSOR_TEST,
+		GL20.GL_STENCIL_TEST, GL20.GL_POLYGON_OFFSET_FILL, GL20.GL_DITHER, GL20.GL_SAMPLE_ALPHA_TO_COVERAGE,
+		GL20.GL_SAMPLE_COVERAGE};
+
+	private static final int ELEMENT_ARRAY_BUFFER_INDEX = 1;
+
+	int program;
+	int activeTexture;
+	final int[] boundTextures = new int[MAX_TEXTURE_UNITS * TEXTURE_TARGETS.length];
+	final int[] boundBuffers = new int[BUFFER_TARGETS.length];
+	int drawFramebuffer, readFramebuffer;
+	int renderbuffer;
+	int vertexArray;
+	/** {@link #UNKNOWN}, 0 for disabled or 1 for enabled */
+	final int[] capabilities = new int[CAPABILITIES.length];
+	int blendSrcRGB, blendDstRGB, blendSrcAlpha, blendDstAlpha;
+	int blendModeRGB, blendModeAlpha;
+	int depthFunc;
+	int depthMask;
+	int cullFace;
+	int frontFace;
+
+	int elidedCalls, forwardedCalls;
+	int lastFrameElidedCalls, lastFrameForwardedCalls;
+	long totalElidedCalls;
+
+	public JoglGLStateCache (GL20 gl) {
+		super(gl);
+		invalidate();
+	}
+
+	/** Forgets the whole shadowed state so that the next call of each kind is forwarded. Call it after the context was made
+	 * current again or when its state was changed without going through this cache. */
+	public void invalidate () {
+		program = UNKNOWN;
+		activeTexture = UNKNOWN;
+		fill(boundTextures);
+		fill(boundBuffers);
+		drawFramebuffer = UNKNOWN;
+		readFramebuffer = UNKNOWN;
+		renderbuffer = UNKNOWN;
+		vertexArray = UNKNOWN;
+		fill(capabilities);
+		blendSrcRGB = blendDstRGB = blendSrcAlpha = blendDstAlpha = UNKNOWN;
+		blendModeRGB = blendModeAlpha = UNKNOWN;
+		depthFunc = UNKNOWN;
+		depthMask = UNKNOWN;
+		cullFace = UNKNOWN;
+		frontFace = UNKNOWN;
+	}
+
+	/** Publishes the counters of the frame that just ended and resets them. */
+	public void endFrame () {
+		lastFrameElidedCalls = elidedCalls;
+		lastFrameForwardedCalls = forwardedCalls;
+		totalElidedCalls += elidedCalls;
+		elidedCalls = 0;
+		forwardedCalls = 0;
+	}
+
+	/** @return the number of redundant calls dropped during the last frame */
+	public int getElidedCalls () {
+		return lastFrameElidedCalls;
+	}
+
+	/** @return the number of state calls forwarded to the driver during the last frame */
+	public int getForwardedCalls () {
+		return lastFrameForwardedCalls;
+	}
+
+	/** @return the number of redundant calls dropped since the cache was created */
+	public long getTotalElidedCalls () {
+		return totalElidedCalls + elidedCalls;
+	}
+
+	private static void fill (int[] state) {
+		for (int i = 0; i < state.length; i++)
+			state[i] = UNKNOWN;
+	}
+
+	private static int indexOf (int[] values, int value) {
+		for (int i = 0; i < values.length; i++)
+			if (values[i] == value) return i;
+		return -1;
+	}
+
+	/** Counts the call and tells whether it has to be forwarded. */
+	private boolean changes (int current, int value) {
+		if (current == value) {
+			elidedCalls++;
+			return false;
+		}
+		forwardedCalls++;
+		return true;
+	}
+
+	private int textureSlot (int target) {
+		if (activeTexture == UNKNOWN) return -1;
+		final int unit = activeTexture - GL20.GL_TEXTURE0;
+		if (unit < 0 || unit >= MAX_TEXTURE_UNITS) return -1;
+		final int targetIndex = indexOf(TEXTURE_TARGETS, target);
+		if (targetIndex < 0) return -1;
+		return unit * TEXTURE_TARGETS.length + targetIndex;
+	}
+
+	private void setCapability (int cap, boolean enabled) {
+		final int index = indexOf(CAPABILITIES, cap);
+		final int value = enabled ? 1 : 0;
+		if (index < 0) {
+			forwardedCalls++;
+		} else if (changes(capabilities[index], value)) {
+			capabilities[index] = value;
+		} else {
+			return;
+		}
+		if (enabled)
+			gl20.glEnable(cap);
+		else
+			gl20.glDisable(cap);
+	}
+
+	private boolean blendFuncChanges (int srcRGB, int dstRGB, int srcAlpha, int dstAlpha) {
+		if (blendSrcRGB == srcRGB && blendDstRGB == dstRGB && blendSrcAlpha == srcAlpha && blendDstAlpha == dstAlpha) {
+			elidedCalls++;
+			return false;
+		}
+		forwardedCalls++;
+		blendSrcRGB = srcRGB;
+		blendDstRGB = dstRGB;
+		blendSrcAlpha = srcAlpha;
+		blendDstAlpha = dstAlpha;
+		return true;
+	}
+
+	private void textureDeleted (int texture) {
+		for (int i = 0; i < boundTextures.length; i++)
+			if (boundTextures[i] == texture) boundTextures[i] = UNKNOWN;
+	}
+
+	private void bufferDeleted (int buffer) {
+		for (int i = 0; i < boundBuffers.length; i++)
+			if (boundBuffers[i] == buffer) boundBuffers[i] = UNKNOWN;
+	}
+
+	private void framebufferDeleted (int framebuffer) {
+		if (drawFramebuffer == framebuffer) drawFramebuffer = UNKNOWN;
+		if (readFramebuffer == framebuffer) readFramebuffer = UNKNOWN;
+	}
+
+	private void renderbufferDeleted (int renderbuffer) {
+		if (this.renderbuffer == renderbuffer) this.renderbuffer = UNKNOWN;
+	}
+
+	private void vertexArrayDeleted (int array) {
+		if (vertexArray == array) {
+			vertexArray = UNKNOWN;
+			boundBuffers[ELEMENT_ARRAY_BUFFER_INDEX] = UNKNOWN;
+		}
+	}
+
+	@Override
+	public void glUseProgram (int program) {
+		if (changes(this.program, program)) {
+			this.program = program;
+			gl20.glUseProgram(program);
+		}
+	}
+
+	@Override
+	public void glActiveTexture (int texture) {
+		if (changes(activeTexture, texture)) {
+			activeTexture = texture;
+			gl20.glActiveTexture(texture);
+		}
+	}
+
+	@Override
+	public void glBindTexture (int target, int texture) {
+		final int slot = textureSlot(target);
+		if (slot < 0) {
+			forwardedCalls++;
+		} else if (changes(boundTextures[slot], texture)) {
+			boundTextures[slot] = texture;
+		} else {
+			return;
+		}
+		gl20.glBindTexture(target, texture);
+	}
+
+	@Override
+	public void glBindBuffer (int target, int buffer) {
+		final int index = indexOf(BUFFER_TARGETS, target);
+		if (index < 0) {
+			forwardedCalls++;
+		} else if (changes(boundBuffers[index], buffer)) {
+			boundBuffers[index] = buffer;
+		} else {
+			return;
+		}
+		gl20.glBindBuffer(target, buffer);
+	}
+
+	@Override
+	public void glBindFramebuffer (int target, int framebuffer) {
+		if (target == GL20.GL_FRAMEBUFFER) {
+			if (drawFramebuffer == framebuffer && readFramebuffer == framebuffer) {
+				elidedCalls++;
+				return;
+			}
+			forwardedCalls++;
+			drawFramebuffer = framebuffer;
+			readFramebuffer = framebuffer;
+		} else if (target == GL30.GL_DRAW_FRAMEBUFFER) {
+			if (!changes(drawFramebuffer, framebuffer)) return;
+			drawFramebuffer = framebuffer;
+		} else if (target == GL30.GL_READ_FRAMEBUFFER) {
+			if (!changes(readFramebuffer, framebuffer)) return;
+			readFramebuffer = framebuffer;
+		} else {
+			forwardedCalls++;
+		}
+		gl20.glBindFramebuffer(target, framebuffer);
+	}
+
+	@Override
+	public void glBindRenderbuffer (int target, int renderbuffer) {
+		if (target == GL20.GL_RENDERBUFFER) {
+			if (!changes(this.renderbuffer, renderbuffer)) return;
+			this.renderbuffer = renderbuffer;
+		} else {
+			forwardedCalls++;
+		}
+		gl20.glBindRenderbuffer(target, renderbuffer);
+	}
+
+	@Override
+	public void glEnable (int cap) {
+		setCapability(cap, true);
+	}
+
+	@Override
+	public void glDisable (int cap) {
+		setCapability(cap, false);
+	}
+
+	@Override
+	public void glBlendFunc (int sfactor, int dfactor) {
+		if (blendFuncChanges(sfactor, dfactor, sfactor, dfactor)) gl20.glBlendFunc(sfactor, dfactor);
+	}
+
+	@Override
+	public void glBlendFuncSeparate (int srcRGB, int dstRGB, int srcAlpha, int dstAlpha) {
+		if (blendFuncChanges(srcRGB, dstRGB, srcAlpha, dstAlpha)) gl20.glBlendFuncSeparate(srcRGB, dstRGB, srcAlpha, dstAlpha);
+	}
+
+	@Override
+	public void glBlendEquation (int mode) {
+		if (blendModeRGB == mode && blendModeAlpha == mode) {
+			elidedCalls++;
+			return;
+		}
+		forwardedCalls++;
+		blendModeRGB = mode;
+		blendModeAlpha = mode;
+		gl20.glBlendEquation(mode);
+	}
+
+	@Override
+	public void glBlendEquationSeparate (int modeRGB, int modeAlpha) {
+		if (blendModeRGB == modeRGB && blendModeAlpha == modeAlpha) {
+			elidedCalls++;
+			return;
+		}
+		forwardedCalls++;
+		blendModeRGB = modeRGB;
+		blendModeAlpha = modeAlpha;
+		gl20.glBlendEquationSeparate(modeRGB, modeAlpha);
+	}
+
+	@Override
+	public void glDepthFunc (int func) {
+		if (changes(depthFunc, func)) {
+			depthFunc = func;
+			gl20.glDepthFunc(func);
+		}
+	}
+
+	@Override
+	public void glDepthMask (boolean flag) {
+		final int value = flag ? 1 : 0;
+		if (changes(depthMask, value)) {
+			depthMask = value;
+			gl20.glDepthMask(flag);
+		}
+	}
+
+	@Override
+	public void glCullFace (int mode) {
+		if (changes(cullFace, mode)) {
+			cullFace = mode;
+			gl20.glCullFace(mode);
+		}
+	}
+
+	@Override
+	public void glFrontFace (int mode) {
+		if (changes(frontFace, mode)) {
+			frontFace = mode;
+			gl20.glFrontFace(mode);
+		}
+	}
+
+	@Override
+	public void glDeleteProgram (int program) {
+		// the name may be reused by the next program
+		if (this.program == program) this.program = UNKNOWN;
+		gl20.glDeleteProgram(program);
+	}
+
+	@Override
+	public void glDeleteTexture (int texture) {
+		textureDeleted(texture);
+		gl20.glDeleteTexture(texture);
+	}
+
+	@Override
+	public void glDeleteTextures (int n, IntBuffer textures) {
+		for (int i = 0; i < n; i++)
+			textureDeleted(textures.get(textures.position() + i));
+		gl20.glDeleteTextures(n, textures);
+	}
+
+	@Override
+	public void glDeleteBuffer (int buffer) {
+		bufferDeleted(buffer);
+		gl20.glDeleteBuffer(buffer);
+	}
+
+	@Override
+	public void glDeleteBuffers (int n, IntBuffer buffers) {
+		for (int i = 0; i < n; i++)
+			bufferDeleted(buffers.get(buffers.position() + i));
+		gl20.glDeleteBuffers(n, buffers);
+	}
+
+	@Override
+	public void glDeleteFramebuffer (int framebuffer) {
+		framebufferDeleted(framebuffer);
+		gl20.glDeleteFramebuffer(framebuffer);
+	}
+
+	@Override
+	public void glDeleteFramebuffers (int n, IntBuffer framebuffers) {
+		for (int i = 0; i < n; i++)
+			framebufferDeleted(framebuffers.get(framebuffers.position() + i));
+		gl20.glDeleteFramebuffers(n, framebuffers);
+	}
+
+	@Override
+	public void glDeleteRenderbuffer (int renderbuffer) {
+		renderbufferDeleted(renderbuffer);
+		gl20.glDeleteRenderbuffer(renderbuffer);
+	}
+
+	@Override
+	public void glDeleteRenderbuffers (int n, IntBuffer renderbuffers) {
+		for (int i = 0; i < n; i++)
+			renderbufferDeleted(renderbuffers.get(renderbuffers.position() + i));
+		gl20.glDeleteRenderbuffers(n, renderbuffers);
+	}
+
+	@Override
+	public void glBindVertexArray (int array) {
+		if (changes(vertexArray, array)) {
+			vertexArray = array;
+			// the element array buffer binding is part of the vertex array state
+			boundBuffers[ELEMENT_ARRAY_BUFFER_INDEX] = UNKNOWN;
+			gl30.glBindVertexArray(array);
+		}
+	}
+
+	@Override
+	public void glDeleteVertexArrays (int n, int[] arrays, int offset) {
+		for (int i = 0; i < n; i++)
+			vertexArrayDeleted(arrays[offset + i]);
+		gl30.glDeleteVertexArrays(n, arrays, offset);
+	}
+
+	@Override
+	public void glDeleteVertexArrays (int n, IntBuffer arrays) {
+		for (int i = 0; i < n; i++)
+			vertexArrayDeleted(arrays.get(arrays.position() + i));
+		gl30.glDeleteVertexArrays(n, arrays);
+	}
+
+	@Override
+	public void glBindBufferRange (int target, int index, int buffer, int offset, int size) {
+		// also binds the buffer to the generic binding point of the target
+		final int targetIndex = indexOf(BUFFER_TARGETS, target);
+		if (targetIndex >= 0) boundBuffers[targetIndex] = buffer;
+		gl30.glBindBufferRange(target, index, buffer, offset, size);
+	}
+
+	@Override
+	public void glBindBufferBase (int target, int index, int buffer) {
+		final int targetIndex = indexOf(BUFFER_TARGETS, target);
+		if (targetIndex >= 0) boundBuffers[targetIndex] = buffer;
+		gl30.glBindBufferBase(target, index, buffer);
+	}
+}
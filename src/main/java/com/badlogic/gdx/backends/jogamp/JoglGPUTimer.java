@@ -0,0 +1,236 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.LongArray;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/** Measures the GPU time of whole frames and of named scopes with GL_TIME_ELAPSED queries. The results are read back
+ * without ever waiting for the GPU: a frame is only resolved once all its queries are available, usually a few frames after it
+ * was rendered, and {@link #getResultFrameId()} tells which frame the results belong to.
+ * <p>
+ * As time elapsed queries can't be nested, each frame is split into segments delimited by the scope boundaries, the time of
+ * a scope is the sum of the segments during which it was open and the frame time is the sum of all segments. Scopes can be
+ * nested, up to 64 distinct names are supported.
+ * <p>
+ * Requires OpenGL 3.3, GL_ARB_timer_query or GL_EXT_timer_query. Like the rest of the GL, it must only be used on the thread
+ * owning the context. */
+public class JoglGPUTimer {
+	/** GL_TIME_ELAPSED, missing from {@link GL30} */
+	public static final int GL_TIME_ELAPSED = 0x88BF;
+	static final int MAX_SCOPES = 64;
+
+	static class Frame {
+		long id;
+		final IntArray queries = new IntArray();
+		/** the scopes open during each segment */
+		final LongArray scopes = new LongArray();
+	}
+
+	private final GL30 gl;
+	private final int maxPendingFrames;
+	private final IntBuffer result = BufferUtils.newIntBuffer(1);
+	private final IntArray freeQueries = new IntArray();
+	private final Array<Frame> freeFrames = new Array<Frame>();
+	/** the ended frames whose results aren't available yet, the oldest first */
+	private final Array<Frame> pendingFrames = new Array<Frame>();
+
+	private final ObjectIntMap<String> scopeIndices = new ObjectIntMap<String>();
+	private final Array<String> scopeNames = new Array<String>();
+	private final IntArray scopeStack = new IntArray();
+	private long openScopes;
+	private Frame frame;
+
+	private long resultFrameId = -1;
+	private long frameNanos = -1;
+	private final long[] scopeNanos = new long[MAX_SCOPES];
+	private long droppedFrames;
+
+	/** @param maxPendingFrames the number of ended frames that can wait for their results, the oldest one is dropped when a
+	 *           new frame ends while that many are waiting */
+	public JoglGPUTimer (GL30 gl, int maxPendingFrames) {
+		if (maxPendingFrames < 1) throw new IllegalArgumentException("maxPendingFrames must be at least 1: " + maxPendingFrames);
+		this.gl = gl;
+		this.maxPendingFrames = maxPendingFrames;
+	}
+
+	/** Starts measuring a frame, after resolving the pending frames whose results became available. */
+	public void beginFrame (long frameId) {
+		if (frame != null) throw new GdxRuntimeException("The previous frame wasn't ended");
+		resolve();
+		frame = freeFrames.size > 0 ? freeFrames.pop() : new Frame();
+		frame.id = frameId;
+		openScopes = 0;
+		scopeStack.clear();
+		beginSegment();
+	}
+
+	/** Ends the frame, its results become available a few frames later. */
+	public void endFrame () {
+		if (frame == null) throw new GdxRuntimeException("No frame was begun");
+		if (scopeStack.size > 0) throw new GdxRuntimeException("Scope wasn't ended: " + scopeNames.get(scopeStack.peek()));
+		gl.glEndQuery(GL_TIME_ELAPSED);
+		if (pendingFrames.size == maxPendingFrames) {
+			release(pendingFrames.removeIndex(0));
+			droppedFrames++;
+		}
+		pendingFrames.add(frame);
+		frame = null;
+	}
+
+	/** Drops the frame being measured along with its open scopes, e.g. when its rendering failed. Does nothing when no frame
+	 * was begun. */
+	public void cancelFrame () {
+		if (frame == null) return;
+		gl.glEndQuery(GL_TIME_ELAPSED);
+		openScopes = 0;
+		scopeStack.clear();
+		release(frame);
+		frame = null;
+	}
+
+	/** @return whether a frame is being measured */
+	public boolean isFrameBegun () {
+		return frame != null;
+	}
+
+	/** Opens a named scope, scopes must be ended in the reverse order they were begun. */
+	public void begin (String scope) {
+		if (frame == null) throw new GdxRuntimeException("No frame was begun");
+		int index = scopeIndices.get(scope, -1);
+		if (index == -1) {
+			if (scopeNames.size == MAX_SCOPES) throw new GdxRuntimeException("Too many scopes, max is " + MAX_SCOPES);
+			index = scopeNames.size;
+			scopeNames.add(scope);
+			scopeIndices.put(scope, index);
+		}
+		if ((openScopes & (1L << index)) != 0) throw new GdxRuntimeException("Scope is already open: " + scope);
+		gl.glEndQuery(GL_TIME_ELAPSED);
+		scopeStack.add(index);
+		openScopes |= 1L << index;
+		beginSegment();
+	}
+
+	/** Closes the scope opened last. */
+	public void end () {
+		if (scopeStack.size == 0) throw new GdxRuntimeException("No scope is open");
+		gl.glEndQuery(GL_TIME_ELAPSED);
+		openScopes &= ~(1L << scopeStack.pop());
+		beginSegment();
+	}
+
+	private void beginSegment () {
+		final int query = freeQueries.size > 0 ? freeQueries.pop() : newQuery();
+		frame.queries.add(query);
+		frame.scopes.add(openScopes);
+		gl.glBeginQuery(GL_TIME_ELAPSED, query);
+	}
+
+	private int newQuery () {
+		result.clear();
+		gl.glGenQueries(1, result);
+		return result.get(0);
+	}
+
+	private int getQueryObject (int query, int pname) {
+		result.clear();
+		result.put(0, 0);
+		gl.glGetQueryObjectuiv(query, pname, result);
+		return result.get(0);
+	}
+
+	/** Reads the results of the oldest pending frames whose queries are all available. */
+	private void resolve () {
+		while (pendingFrames.size > 0) {
+			final Frame oldest = pendingFrames.first();
+			// the queries of a frame complete in order, the last one being available means they all are
+			if (getQueryObject(oldest.queries.peek(), GL30.GL_QUERY_RESULT_AVAILABLE) == 0) return;
+			pendingFrames.removeIndex(0);
+
+			long total = 0;
+			for (int i = 0; i < MAX_SCOPES; i++)
+				scopeNanos[i] = 0;
+			for (int i = 0; i < oldest.queries.size; i++) {
+				final long nanos = getQueryObject(oldest.queries.get(i), GL30.GL_QUERY_RESULT) & 0xffffffffL;
+				total += nanos;
+				final long scopes = oldest.scopes.get(i);
+				for (int scope = 0; scope < scopeNames.size; scope++)
+					if ((scopes & (1L << scope)) != 0) scopeNanos[scope] += nanos;
+			}
+			frameNanos = total;
+			resultFrameId = oldest.id;
+			release(oldest);
+		}
+	}
+
+	private void release (Frame frame) {
+		freeQueries.addAll(frame.queries);
+		frame.queries.clear();
+		frame.scopes.clear();
+		freeFrames.add(frame);
+	}
+
+	/** @return the id of the frame the results belong to, -1 until a frame was resolved */
+	public long getResultFrameId () {
+		return resultFrameId;
+	}
+
+	/** @return the GPU time of the frame in nanoseconds, -1 until a frame was resolved */
+	public long getFrameNanos () {
+		return frameNanos;
+	}
+
+	/** @return the GPU time spent in the given scope during the frame in nanoseconds, 0 if the scope wasn't used */
+	public long getScopeNanos (String scope) {
+		final int index = scopeIndices.get(scope, -1);
+		return index == -1 || resultFrameId == -1 ? 0 : scopeNanos[index];
+	}
+
+	/** @return the names of the scopes used so far */
+	public Array<String> getScopes () {
+		return scopeNames;
+	}
+
+	/** @return the number of frames dropped because their results took too long */
+	public long getDroppedFrames () {
+		return droppedFrames;
+	}
+
+	/** @return the number of ended frames waiting for their results */
+	public int getPendingFrames () {
+		return pendingFrames.size;
+	}
+
+	/** Deletes the queries, must be called while the context is current. */
+	public void dispose () {
+		if (frame != null) {
+			gl.glEndQuery(GL_TIME_ELAPSED);
+			release(frame);
+			frame = null;
+		}
+		while (pendingFrames.size > 0)
+			release(pendingFrames.pop());
+		if (freeQueries.size > 0) gl.glDeleteQueries(freeQueries.size, freeQueries.items, 0);
+		freeQueries.clear();
+	}
+}
@@ -16,10 +16,15 @@
 
 package com.badlogic.gdx.backends.jogamp;
 
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import com.badlogic.gdx.Application;
 import com.badlogic.gdx.ApplicationListener;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Files.FileType;
 import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.backends.jogamp.JoglRenderLoop.Phase;
 import com.badlogic.gdx.backends.jogamp.audio.OpenALAudio;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.GL30;
@@ -30,12 +35,16 @@ import com.jogamp.opengl.GLAutoDrawable;
 import com.jogamp.opengl.GLCapabilities;
 import com.jogamp.opengl.GLCapabilitiesImmutable;
 import com.jogamp.opengl.GLContext;
+import com.jogamp.opengl.GLDrawable;
+import com.jogamp.opengl.GLDrawableFactory;
 import com.jogamp.opengl.GLEventListener;
 import com.jogamp.opengl.GLException;
 import com.jogamp.opengl.GLProfile;
-import com.jogamp.opengl.util.Animator;
 
 public abstract class JoglGraphicsBase implements Graphics, GLEventListener {
+	/** the rate the runnables are run at while the rendering is disabled in the background */
+	static final int IDLE_FPS = 10;
+
 	static GLVersion glVersion;
 	static int major, minor;
 
@@ -43,27 +52,52 @@ public abstract class JoglGraphicsBase implements Graphics, GLEventListener {
 	boolean created = false;
 	String extensions;
 	volatile boolean isContinuous = true;
-	volatile boolean requestRendering = false;
 	volatile boolean cancelRendering = false;
 	GLAutoDrawable canvas;
-	Animator animator;
+	JoglRenderLoop renderLoop;
 	long frameStart = System.nanoTime();
 	long lastFrameTime = System.nanoTime();
 	float deltaTime = 0;
+	long deltaNanos = 0;
 	int fps;
 	int frames;
-	boolean paused = true, disposed = false;
+	boolean disposed = false;
+	final JoglFrameState frameState = new JoglFrameState();
+	/** set when {@link #pause()} couldn't wait for the frame in progress, which then completes the pause */
+	private final AtomicBoolean pausePending = new AtomicBoolean();
 	JoglApplicationConfiguration config;
 
 	long frameId = -1;
 	GL20 gl20;
 	GL30 gl30;
+	JoglGLLocationCache glLocationCache;
+	JoglGLStateCache glStateCache;
+	JoglGLProfiler glProfiler;
+	JoglClientArrays clientArrays;
+	JoglProgramBinaryCache programBinaryCache;
+	JoglGPUTimer gpuTimer;
+	JoglResourceLoader resourceLoader;
+	JoglFixedTimestep fixedTimestep;
+	JoglFrameStats frameStats;
+	/** the GL wrapper, before any decorator */
+	JoglGL20 glWrapper;
+	final JoglAsyncReadback readback = new JoglAsyncReadback(3);
+	final JoglFramePacer framePacer = new JoglFramePacer(60);
+	volatile boolean focused = true, iconified = false;
+	long renderNanos = -1;
+	/** copied on write, so that the rendering thread never locks it */
+	volatile JoglGLCommandBuffer[] commandBuffers = new JoglGLCommandBuffer[0];
+	private final Object commandBuffersLock = new Object();
 
 
 	void initialize (ApplicationListener listener, JoglApplicationConfiguration config) {
 		if (listener == null) throw new GdxRuntimeException("RenderListener must not be null");
 		this.listener = listener;
 		this.config = config;
+		fixedTimestep = config.fixedTimestepListener != null
+			? new JoglFixedTimestep(config.fixedTimestepListener, config.fixedTimestepRate, config.fixedTimestepMaxSteps) : null;
+		frameStats = new JoglFrameStats(config.frameStatsWindow);
+		frameStats.setHitchListener(config.hitchListener, (long)(config.hitchThreshold * 1000000));
 
 		GLCapabilities caps;
 		if(config.useGL30){
@@ -110,38 +144,56 @@ public abstract class JoglGraphicsBase implements Graphics, GLEventListener {
 		frameStart = System.nanoTime();
 		lastFrameTime = frameStart;
 		deltaTime = 0;
-		animator = new Animator(canvas);
-		animator.start();
+		renderLoop = new JoglRenderLoop(this, config.renderLoopScheduler, config.renderThreadPriority,
+			config.renderThreadInitializer, 60);
+		renderLoop.start();
 	}
 
 	void pause () {
 		cancelRendering = true;
-		synchronized (this) {
-			paused = true;
+		if (!frameState.pause()) {
+			// called from the frame in progress, or it didn't end in time: the pause is completed by display() once it ends
+			if (Gdx.app != null && !frameState.isRenderingThread())
+				Gdx.app.log("JoglGraphics", "The frame in progress didn't end within " + JoglFrameState.PAUSE_TIMEOUT + " ms, pausing once it ends");
+			pausePending.set(true);
+			// the frame may have ended before the pause was marked pending
+			if (frameState.getState() == JoglFrameState.PAUSED) completePendingPause();
+			return;
 		}
+		completePause();
+	}
+
+	private void completePendingPause () {
+		if (pausePending.compareAndSet(true, false)) completePause();
+	}
+
+	private void completePause () {
 		// stop here if not yet fully initialized
-		if (!created) return;
-		animator.stop();
+		if (!created || disposed) return;
+		renderLoop.stop();
 		if (!canvas.getContext().isCurrent()) {
 		    canvas.getContext().makeCurrent();
 		}
+		if (glStateCache != null) glStateCache.invalidate();
 		listener.pause();
 	}
 
 	void resume () {
-		paused = false;
+		frameState.resume();
 		cancelRendering = false;
+		// a pause still waiting for its frame to end is cancelled, the listener was never paused
+		if (pausePending.getAndSet(false)) return;
 		if (!created) return;
 		if (!canvas.getContext().isCurrent()) {
 	    canvas.getContext().makeCurrent();
 	  }
+		if (glStateCache != null) glStateCache.invalidate();
 		listener.resume();
 		frameStart = System.nanoTime();
 		lastFrameTime = frameStart;
 		deltaTime = 0;
-		animator.resume();
-		animator.setRunAsFastAsPossible(true);
-		animator.start();
+		if (fixedTimestep != null) fixedTimestep.reset();
+		renderLoop.start();
 	}
 
 	@Override
@@ -152,9 +204,7 @@ public abstract class JoglGraphicsBase implements Graphics, GLEventListener {
 
 		if (!created) {
 			listener.create();
-			synchronized (this) {
-				paused = false;
-			}
+			frameState.resume();
 			created = true;
 		}
 	}
@@ -166,32 +216,76 @@ public abstract class JoglGraphicsBase implements Graphics, GLEventListener {
 
 	@Override
 	public void display (GLAutoDrawable arg0) {
-		synchronized (this) {
-			if (!paused) {
-				final boolean shouldRender = ((JoglApplicationBase)Gdx.app).executeRunnables() | shouldRender();
-				if (shouldRender && !cancelRendering) {
-					updateTime();
-					((JoglInput) (Gdx.input)).processEvents();
-					frameId++;
+		final int fps = getTargetFPS();
+		// a pause waits for the frame to end, while requesting rendering never does
+		if (!frameState.beginFrame()) return;
+		final Object frameEvent = JoglFlightRecorder.begin(JoglFlightRecorder.FRAME);
+		boolean rendered = false;
+		try {
+			long phase = System.nanoTime();
+			final boolean shouldRender = ((JoglApplicationBase)Gdx.app).executeRunnables() | shouldRender();
+			phase = mark(Phase.Runnables, phase);
+			if (shouldRender && !cancelRendering && fps != -1) {
+				updateTime();
+				final Object inputEvent = JoglFlightRecorder.begin(JoglFlightRecorder.INPUT);
+				((JoglInput) (Gdx.input)).processEvents();
+				// the input is processed for the frame about to be rendered
+				JoglFlightRecorder.commit(inputEvent, frameId + 1);
+				phase = mark(Phase.Input, phase);
+				if (fixedTimestep != null) {
+					fixedTimestep.advance(deltaNanos);
+					phase = mark(Phase.Update, phase);
+				}
+				frameId++;
+				final long renderStart = System.nanoTime();
+				if (gpuTimer != null) gpuTimer.beginFrame(frameId);
+				try {
+					if (resourceLoader != null) resourceLoader.update(gl30 != null ? (JoglGL30)glWrapper : null);
+					final JoglGLCommandBuffer[] commandBuffers = this.commandBuffers;
+					for (int i = 0; i < commandBuffers.length; i++)
+						commandBuffers[i].replay(gl20);
 					listener.render();
-					if (Gdx.audio != null) {
-					    ((OpenALAudio) Gdx.audio).update();
-					}
+					if (gpuTimer != null) gpuTimer.endFrame();
+				} finally {
+					// a failed frame mustn't keep the next ones from being measured
+					if (gpuTimer != null) gpuTimer.cancelFrame();
+				}
+				renderNanos = System.nanoTime() - renderStart;
+				readback.update(frameId);
+				// keep rendering until the reads in flight are delivered
+				if (readback.getInFlight() > 0) frameState.requestRendering();
+				if (resourceLoader != null && resourceLoader.getPending() > 0) frameState.requestRendering();
+				if (glStateCache != null) glStateCache.endFrame();
+				if (glProfiler != null) glProfiler.endFrame();
+				phase = mark(Phase.Render, phase);
+				if (Gdx.audio != null) {
+					final Object audioEvent = JoglFlightRecorder.begin(JoglFlightRecorder.AUDIO);
+					((OpenALAudio) Gdx.audio).update();
+					JoglFlightRecorder.commit(audioEvent, frameId);
 				}
+				mark(Phase.Audio, phase);
+				rendered = true;
 			}
+		} finally {
+			JoglFlightRecorder.commit(frameEvent, frameId, rendered ? 1 : 0, 0);
+			frameState.endFrame();
+			if (pausePending.get() && frameState.getState() == JoglFrameState.PAUSED) completePendingPause();
 		}
 	}
 
 	void destroy () {
+		// the render loop must not wait for the context while it is made current here
+		if (renderLoop != null) renderLoop.stop();
 		if (!canvas.getContext().isCurrent()) {
 		    canvas.getContext().makeCurrent();
 		}
 
 		pause();
-		// prevent animator from touching the dying drawable context
-		animator.remove(canvas);
 		disposed = true;
 		listener.dispose();
+		if (gpuTimer != null) gpuTimer.dispose();
+		readback.dispose();
+		if (resourceLoader != null) resourceLoader.dispose();
 		canvas.destroy();
 	}
 
@@ -218,6 +312,7 @@ public abstract class JoglGraphicsBase implements Graphics, GLEventListener {
 	@Override
 	public void setContinuousRendering (boolean isContinuous) {
 		this.isContinuous = isContinuous;
+		if (renderLoop != null) renderLoop.wakeUp();
 	}
 
 	@Override
@@ -227,17 +322,12 @@ public abstract class JoglGraphicsBase implements Graphics, GLEventListener {
 
 	@Override
 	public void requestRendering () {
-		synchronized (this) {
-			requestRendering = true;
-		}
+		frameState.requestRendering();
+		if (renderLoop != null) renderLoop.wakeUp();
 	}
 
 	public boolean shouldRender () {
-		synchronized (this) {
-			boolean rq = requestRendering;
-			requestRendering = false;
-			return rq || isContinuous /*|| isDirty()*/;
-		}
+		return frameState.consumeRenderRequest() || isContinuous /*|| isDirty()*/;
 	}
 
 	@Override
@@ -251,17 +341,58 @@ public abstract class JoglGraphicsBase implements Graphics, GLEventListener {
 		major = drawable.getGL().getContext().getGLVersionNumber().getMajor();
 		minor = drawable.getGL().getContext().getGLVersionNumber().getMinor();
 
+		// a bound wrapper is recreated here every time the drawable gets a new context
+		final GL gl = config.bindGLContext ? drawable.getGL() : null;
 		if (config.useGL30 && major >= 3) {
-			gl30 = new JoglGL30();
+			gl30 = gl != null ? new JoglGL30(gl, config.checkGLContextThread) : new JoglGL30();
 			gl20 = gl30;
 		} else {
-			gl20 = new JoglGL20();
+			gl20 = gl != null ? new JoglGL20(gl, config.checkGLContextThread) : new JoglGL20();
+		}
+		glWrapper = (JoglGL20)gl20;
+		// core profiles removed the client arrays libgdx vertex arrays rely on
+		clientArrays = null;
+		if (config.emulateClientArrays && gl30 != null && drawable.getGL().getContext().isGLCoreProfile()) {
+			clientArrays = new JoglClientArrays(gl30);
+			decorate(clientArrays);
+		}
+		programBinaryCache = null;
+		if (config.programBinaryCache != null && JoglProgramBinaryCache.isSupported(gl20)) {
+			final GL driver = drawable.getGL();
+			programBinaryCache = new JoglProgramBinaryCache(gl20, glWrapper,
+				new JoglFileHandle(config.programBinaryCache, FileType.External), config.programBinaryCacheSize,
+				driver.glGetString(GL.GL_VENDOR), driver.glGetString(GL.GL_RENDERER), driver.glGetString(GL.GL_VERSION));
+			decorate(programBinaryCache);
+		}
+		// the profiler sees the calls reaching the driver, after the caches dropped theirs
+		if (config.profileGL) {
+			glProfiler = new JoglGLProfiler(gl20, config.glProfilerWindow);
+			decorate(glProfiler);
+		}
+		// a new context starts with empty caches
+		if (config.cacheGLLocations) {
+			glLocationCache = new JoglGLLocationCache(gl20);
+			decorate(glLocationCache);
+		}
+		if (config.cacheGLState) {
+			glStateCache = new JoglGLStateCache(gl20);
+			decorate(glStateCache);
 		}
 
 		Gdx.gl = gl20;
 		Gdx.gl20 = gl20;
 		Gdx.gl30 = gl30;
 
+		// the queries of the previous context died with it
+		gpuTimer = null;
+		if (config.timeGPU && gl30 != null && supportsTimerQueries(drawable.getGL())) gpuTimer = new JoglGPUTimer(gl30, 4);
+		readback.setGL(gl20, glWrapper, supportsPixelBuffers(drawable.getGL()));
+		if (config.resourceLoader) {
+			// the objects shared with the previous context died with it
+			if (resourceLoader != null) resourceLoader.dispose();
+			resourceLoader = new JoglResourceLoader(newSharedContext(), gl30 != null);
+		}
+
 		if (major <= 1)
 			throw new GdxRuntimeException("OpenGL 2.0 or higher with the FBO extension is required. OpenGL version: " + major + "." + minor);
 		if (major == 2 && !drawable.getGL().isGLES2Compatible()) {
@@ -276,6 +407,21 @@ public abstract class JoglGraphicsBase implements Graphics, GLEventListener {
 		}
 	}
 
+	static boolean supportsPixelBuffers (GL gl) {
+		return major > 2 || (major == 2 && minor >= 1) || gl.isExtensionAvailable("GL_ARB_pixel_buffer_object");
+	}
+
+	static boolean supportsTimerQueries (GL gl) {
+		return major > 3 || (major == 3 && minor >= 3) || gl.isExtensionAvailable("GL_ARB_timer_query")
+			|| gl.isExtensionAvailable("GL_EXT_timer_query");
+	}
+
+	/** Makes the given decorator of the current GL the GL used by the application. */
+	void decorate (JoglGLDecorator decorator) {
+		if (gl30 != null) gl30 = decorator;
+		gl20 = decorator;
+	}
+
 	@Override
 	public float getPpiX () {
 		return config.getScreenResolution();
@@ -307,13 +453,15 @@ public abstract class JoglGraphicsBase implements Graphics, GLEventListener {
 	}
 
 	void updateTime () {
-		deltaTime = (System.nanoTime() - lastFrameTime) / 1000000000.0f;
-		lastFrameTime = System.nanoTime();
+		final long time = System.nanoTime();
+		deltaNanos = time - lastFrameTime;
+		deltaTime = deltaNanos / 1000000000.0f;
+		lastFrameTime = time;
 
-		if (System.nanoTime() - frameStart > 1000000000) {
+		if (time - frameStart > 1000000000) {
 			fps = frames;
 			frames = 0;
-			frameStart = System.nanoTime();
+			frameStart = time;
 		}
 		frames++;
 	}
@@ -347,6 +495,168 @@ public abstract class JoglGraphicsBase implements Graphics, GLEventListener {
 		}
 	}
 
+	/** @return the GL state cache, null unless {@link JoglApplicationConfiguration#cacheGLState} is set */
+	public JoglGLStateCache getGLStateCache () {
+		return glStateCache;
+	}
+
+	/** @return the location cache, null unless {@link JoglApplicationConfiguration#cacheGLLocations} is set */
+	public JoglGLLocationCache getGLLocationCache () {
+		return glLocationCache;
+	}
+
+	/** Reads the RGBA pixels of a region of the framebuffer at the end of the next frame without stalling the rendering, the
+	 * callback is called on the rendering thread a few frames later. Can be called from any thread.
+	 * @see JoglAsyncReadback */
+	public void readPixelsAsync (int x, int y, int width, int height, JoglAsyncReadback.Callback callback) {
+		readback.request(x, y, width, height, callback);
+		requestRendering();
+	}
+
+	/** Creates a texture streamer for the current context, must be called on the rendering thread. It must be recreated when
+	 * the context is.
+	 * @param buffers the number of pixel unpack buffers in the ring, 3 is usually enough to never stall */
+	public JoglTextureStreamer newTextureStreamer (int buffers) {
+		return new JoglTextureStreamer(gl20, glWrapper, buffers);
+	}
+
+	/** Creates a dynamic vertex buffer for the current context, must be called on the rendering thread.
+	 * @see JoglDynamicVertexBuffer#JoglDynamicVertexBuffer(GL20, JoglGL30, int, int, int) */
+	public JoglDynamicVertexBuffer newDynamicVertexBuffer (int target, int capacity, int alignment) {
+		if (!(glWrapper instanceof JoglGL30)) throw new GdxRuntimeException("Dynamic vertex buffers require GL30");
+		return new JoglDynamicVertexBuffer(gl20, (JoglGL30)glWrapper, target, capacity, alignment);
+	}
+
+	/** Creates a program builder for the current context, must be called on the rendering thread. Without
+	 * GL_KHR_parallel_shader_compile, the programs are built on a worker thread with an offscreen context sharing the objects of
+	 * the current one. It must be disposed before the context is destroyed.
+	 * @see JoglProgramBuilder */
+	public JoglProgramBuilder newProgramBuilder () {
+		if (JoglProgramBuilder.supportsParallelCompile(canvas.getGL())) return new JoglProgramBuilder(gl20, null);
+		return new JoglProgramBuilder(gl20, newSharedContext());
+	}
+
+	/** @return a context on an offscreen drawable, sharing its objects with the one of the canvas, to be made current on
+	 *         another thread */
+	GLContext newSharedContext () {
+		final GLDrawableFactory factory = GLDrawableFactory.getFactory(canvas.getGLProfile());
+		final GLDrawable drawable = factory.createOffscreenDrawable(null, canvas.getChosenGLCapabilities(), null, 1, 1);
+		drawable.setRealized(true);
+		return drawable.createContext(canvas.getContext());
+	}
+
+	/** @return the frame time percentiles and the hitches, recorded by the render loop */
+	public JoglFrameStats getFrameStats () {
+		return frameStats;
+	}
+
+	/** @return the fixed timestep, null unless {@link JoglApplicationConfiguration#fixedTimestepListener} is set. Its
+	 *         {@link JoglFixedTimestep#getAlpha()} interpolates the rendered state between the ticks. */
+	public JoglFixedTimestep getFixedTimestep () {
+		return fixedTimestep;
+	}
+
+	/** @return the resource loader, null unless {@link JoglApplicationConfiguration#resourceLoader} is set. It is recreated
+	 *         along with the context. */
+	public JoglResourceLoader getResourceLoader () {
+		return resourceLoader;
+	}
+
+	/** Called by the frontends when the window gains or loses the focus. */
+	void setFocused (boolean focused) {
+		this.focused = focused;
+	}
+
+	/** Called by the frontends when the window is iconified or restored. */
+	void setIconified (boolean iconified) {
+		this.iconified = iconified;
+	}
+
+	/** @return {@link JoglApplicationConfiguration#foregroundFPS} or {@link JoglApplicationConfiguration#backgroundFPS}
+	 *         depending on {@link #isForeground()} */
+	public int getTargetFPS () {
+		return isForeground() ? config.foregroundFPS : config.backgroundFPS;
+	}
+
+	/** @return whether the window has the focus and isn't iconified, picking {@link JoglApplicationConfiguration#foregroundFPS}
+	 *         over {@link JoglApplicationConfiguration#backgroundFPS} */
+	public boolean isForeground () {
+		return focused && !iconified;
+	}
+
+	/** @return the render loop, which measures the phases of the frames, null before the application is created */
+	public JoglRenderLoop getRenderLoop () {
+		return renderLoop;
+	}
+
+	private long mark (Phase phase, long since) {
+		return renderLoop != null ? renderLoop.mark(phase, since) : since;
+	}
+
+	/** @return the frame pacer, whose pacing error tells how close to their deadline the frames start */
+	public JoglFramePacer getFramePacer () {
+		return framePacer;
+	}
+
+	/** @return the GPU timer, null unless {@link JoglApplicationConfiguration#timeGPU} is set and the context supports timer
+	 *         queries */
+	public JoglGPUTimer getGPUTimer () {
+		return gpuTimer;
+	}
+
+	/** @return the CPU time of the last render in nanoseconds, including the replay of the command buffers, -1 before the
+	 *         first frame */
+	public long getCPUFrameNanos () {
+		return renderNanos;
+	}
+
+	/** @return the GPU time of the last frame whose timer queries are available in nanoseconds, -1 when it isn't known, see
+	 *         {@link #getGPUTimer()} */
+	public long getGPUFrameNanos () {
+		return gpuTimer != null ? gpuTimer.getFrameNanos() : -1;
+	}
+
+	/** @return the client array emulation, null unless the context is a core profile and
+	 *         {@link JoglApplicationConfiguration#emulateClientArrays} is set */
+	public JoglClientArrays getClientArrays () {
+		return clientArrays;
+	}
+
+	/** @return the program binary cache, null unless {@link JoglApplicationConfiguration#programBinaryCache} is set and the
+	 *         driver can retrieve program binaries */
+	public JoglProgramBinaryCache getProgramBinaryCache () {
+		return programBinaryCache;
+	}
+
+	/** @return the GL profiler, null unless {@link JoglApplicationConfiguration#profileGL} is set */
+	public JoglGLProfiler getGLProfiler () {
+		return glProfiler;
+	}
+
+	/** Registers a command buffer whose submitted frames are replayed right before {@link ApplicationListener#render()}, in
+	 * the order the command buffers were added. */
+	public void addCommandBuffer (JoglGLCommandBuffer commandBuffer) {
+		synchronized (commandBuffersLock) {
+			final JoglGLCommandBuffer[] buffers = Arrays.copyOf(commandBuffers, commandBuffers.length + 1);
+			buffers[buffers.length - 1] = commandBuffer;
+			commandBuffers = buffers;
+		}
+	}
+
+	public void removeCommandBuffer (JoglGLCommandBuffer commandBuffer) {
+		synchronized (commandBuffersLock) {
+			final JoglGLCommandBuffer[] buffers = commandBuffers;
+			for (int i = 0; i < buffers.length; i++) {
+				if (buffers[i] != commandBuffer) continue;
+				final JoglGLCommandBuffer[] removed = new JoglGLCommandBuffer[buffers.length - 1];
+				System.arraycopy(buffers, 0, removed, 0, i);
+				System.arraycopy(buffers, i + 1, removed, i, removed.length - i);
+				commandBuffers = removed;
+				return;
+			}
+		}
+	}
+
 	@Override
 	public GL30 getGL30 () {
 		return gl30;
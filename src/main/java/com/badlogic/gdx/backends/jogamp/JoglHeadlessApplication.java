@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.ApplicationListener;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.LifecycleListener;
+import com.badlogic.gdx.utils.Clipboard;
+import com.jogamp.opengl.GLOffscreenAutoDrawable;
+
+/** An implementation of the {@link Application} interface rendering to an offscreen drawable, e.g. to render thumbnails on a
+ * server or to run benchmarks in continuous integration. The frames are rendered as fast as possible on the render loop thread.
+ * <p>
+ * It needs no window, but JOGL still needs a native display or device to create the context: an X server such as Xvfb on Linux,
+ * with Mesa llvmpipe when there is no GPU, or an EGL driver. */
+public class JoglHeadlessApplication extends JoglApplicationBase {
+	private String clipboard = "";
+
+	/** Creates a new {@link JoglHeadlessApplication} with the given surface size.
+	 *
+	 * @param listener the ApplicationListener implementing the program logic
+	 * @param width the width of the surface in pixels
+	 * @param height the height of the surface in pixels */
+	public JoglHeadlessApplication (final ApplicationListener listener, final int width, final int height) {
+		this(listener, new JoglHeadlessApplicationConfiguration(width, height));
+	}
+
+	public JoglHeadlessApplication (final ApplicationListener listener, final JoglHeadlessApplicationConfiguration config) {
+		super(listener, config);
+	}
+
+	@Override
+	protected JoglHeadlessGraphics createGraphics (ApplicationListener listener, JoglApplicationConfiguration config) {
+		return new JoglHeadlessGraphics(listener, (JoglHeadlessApplicationConfiguration)config);
+	}
+
+	@Override
+	protected Input createInput (JoglGraphicsBase graphics) {
+		return new JoglHeadlessInput();
+	}
+
+	/** @return the drawable of the application. */
+	@Override
+	public GLOffscreenAutoDrawable getGLCanvas () {
+		return ((JoglHeadlessGraphics)graphics).getCanvas();
+	}
+
+	@Override
+	public Clipboard getClipboard () {
+		return new Clipboard() {
+			@Override
+			public String getContents () {
+				return clipboard;
+			}
+
+			@Override
+			public void setContents (String content) {
+				clipboard = content;
+			}
+		};
+	}
+
+	/** Stops rendering and disposes the application. As there is no window whose closing would stop the render loop, this is
+	 * done on a thread of its own so that the loop can be waited for even when called from a frame. */
+	@Override
+	public void exit () {
+		final Thread shutdown = new Thread("JoglHeadlessApplication shutdown") {
+			@Override
+			public void run () {
+				synchronized (lifecycleListeners) {
+					for (LifecycleListener listener : lifecycleListeners) {
+						listener.pause();
+						listener.dispose();
+					}
+				}
+				graphics.setContinuousRendering(true);
+				graphics.pause();
+				graphics.destroy();
+				if (audio != null) audio.dispose();
+			}
+		};
+		shutdown.start();
+	}
+}
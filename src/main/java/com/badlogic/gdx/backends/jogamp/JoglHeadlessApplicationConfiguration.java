@@ -0,0 +1,53 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import com.badlogic.gdx.Graphics.DisplayMode;
+import com.badlogic.gdx.backends.jogamp.JoglHeadlessGraphics.JoglHeadlessDisplayMode;
+
+/** The configuration of a {@link JoglHeadlessApplication}, whose only display mode is its offscreen surface. Vsync and the
+ * frame pacing are disabled by default so that the frames are rendered as fast as possible. */
+public class JoglHeadlessApplicationConfiguration extends JoglApplicationConfiguration {
+	/** the resolution reported for the offscreen surface, in pixels per inch **/
+	public float screenResolution = 96;
+
+	public JoglHeadlessApplicationConfiguration () {
+		super();
+		vSyncEnabled = false;
+		foregroundFPS = 0;
+	}
+
+	public JoglHeadlessApplicationConfiguration (final int width, final int height) {
+		super("Jogl Headless Application", width, height);
+		vSyncEnabled = false;
+		foregroundFPS = 0;
+	}
+
+	@Override
+	public DisplayMode[] getDisplayModes () {
+		return new DisplayMode[] {getDesktopDisplayMode()};
+	}
+
+	@Override
+	public JoglHeadlessDisplayMode getDesktopDisplayMode () {
+		return new JoglHeadlessDisplayMode(width, height, 0, r + g + b + a);
+	}
+
+	@Override
+	public float getScreenResolution () {
+		return screenResolution;
+	}
+}
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import com.badlogic.gdx.ApplicationListener;
+import com.badlogic.gdx.graphics.Cursor;
+import com.badlogic.gdx.graphics.Cursor.SystemCursor;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLOffscreenAutoDrawable;
+
+/** Implements the {@link com.badlogic.gdx.Graphics} interface on an offscreen drawable, backed by a framebuffer object or a
+ * pbuffer, so that no window is needed. There is no display mode change and no cursor. */
+public class JoglHeadlessGraphics extends JoglGraphicsBase {
+
+	public JoglHeadlessGraphics (ApplicationListener listener, JoglHeadlessApplicationConfiguration config) {
+		initialize(listener, config);
+	}
+
+	@Override
+	protected GLOffscreenAutoDrawable createCanvas (final GLCapabilities caps) {
+		final GLDrawableFactory factory = GLDrawableFactory.getFactory(caps.getGLProfile());
+		return factory.createOffscreenAutoDrawable(null, caps, null, config.width, config.height);
+	}
+
+	GLOffscreenAutoDrawable getCanvas () {
+		return (GLOffscreenAutoDrawable)super.getCanvas();
+	}
+
+	@Override
+	public int getWidth () {
+		return getCanvas().getSurfaceWidth();
+	}
+
+	@Override
+	public int getHeight () {
+		return getCanvas().getSurfaceHeight();
+	}
+
+	@Override
+	public boolean supportsDisplayModeChange () {
+		return false;
+	}
+
+	@Override
+	public Monitor getPrimaryMonitor () {
+		return new JoglHeadlessMonitor();
+	}
+
+	@Override
+	public Monitor getMonitor () {
+		return getPrimaryMonitor();
+	}
+
+	@Override
+	public Monitor[] getMonitors () {
+		return new Monitor[] {getPrimaryMonitor()};
+	}
+
+	@Override
+	public DisplayMode[] getDisplayModes (Monitor monitor) {
+		return config.getDisplayModes();
+	}
+
+	@Override
+	public DisplayMode getDisplayMode (Monitor monitor) {
+		return config.getDesktopDisplayMode();
+	}
+
+	@Override
+	public boolean setFullscreenMode (DisplayMode displayMode) {
+		return false;
+	}
+
+	/** Resizes the offscreen surface. */
+	@Override
+	public boolean setWindowedMode (int width, int height) {
+		getCanvas().setSurfaceSize(width, height);
+		config.width = width;
+		config.height = height;
+		return true;
+	}
+
+	@Override
+	public void setTitle (String title) {
+	}
+
+	@Override
+	public void setUndecorated (boolean undecorated) {
+	}
+
+	@Override
+	public void setResizable (boolean resizable) {
+	}
+
+	@Override
+	public boolean isFullscreen () {
+		return false;
+	}
+
+	@Override
+	public Cursor newCursor (Pixmap pixmap, int xHotspot, int yHotspot) {
+		return new Cursor() {
+			@Override
+			public void dispose () {
+			}
+		};
+	}
+
+	@Override
+	public void setCursor (Cursor cursor) {
+	}
+
+	@Override
+	public void setSystemCursor (SystemCursor systemCursor) {
+	}
+
+	protected static class JoglHeadlessDisplayMode extends DisplayMode {
+		protected JoglHeadlessDisplayMode (int width, int height, int refreshRate, int bitsPerPixel) {
+			super(width, height, refreshRate, bitsPerPixel);
+		}
+	}
+
+	protected static class JoglHeadlessMonitor extends Monitor {
+		protected JoglHeadlessMonitor () {
+			super(0, 0, "offscreen");
+		}
+	}
+}
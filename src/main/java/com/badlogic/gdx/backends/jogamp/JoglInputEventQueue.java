@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/** The input events passed from the toolkit thread to the rendering thread without any lock: a bounded ring of preallocated
+ * events, filled by a single producer and emptied by a single consumer, so that queuing an event allocates nothing.
+ * <p>
+ * When the ring is full, e.g. while the rendering is paused, the new events are dropped and counted. The moves, the drags and
+ * the entries, which are dropped first, only use three quarters of it, so that the presses and the releases still fit. */
+public class JoglInputEventQueue {
+	public static final int KEY_DOWN = 0;
+	public static final int KEY_UP = 1;
+	public static final int KEY_TYPED = 2;
+	public static final int TOUCH_DOWN = 3;
+	public static final int TOUCH_UP = 4;
+	public static final int TOUCH_DRAGGED = 5;
+	public static final int TOUCH_MOVED = 6;
+	public static final int TOUCH_SCROLLED = 7;
+	/** the pointer entered the window, its position is set without a delta nor a callback */
+	public static final int TOUCH_ENTERED = 8;
+
+	/** the capacity of the queues of the inputs */
+	public static final int DEFAULT_CAPACITY = 1024;
+
+	/** An input event, reused once it is removed from the queue. */
+	public static final class Event {
+		public int type;
+		public long timeStamp;
+		public int keyCode;
+		public char keyChar;
+		public int x;
+		public int y;
+		public int pointer;
+		public int button;
+		public float scrollAmount;
+	}
+
+	private final Event[] events;
+	private final int mask;
+	private final int movesCapacity;
+	/** the count of events removed, written by the consumer */
+	private final AtomicLong head = new AtomicLong();
+	/** the count of events published, written by the producer */
+	private final AtomicLong tail = new AtomicLong();
+	/** the head last read by the producer */
+	private long cachedHead;
+	private volatile long overflows;
+
+	/** @param capacity the maximum number of events waiting to be processed, a power of two */
+	public JoglInputEventQueue (int capacity) {
+		if (capacity < 4 || (capacity & capacity - 1) != 0)
+			throw new IllegalArgumentException("capacity must be a power of two >= 4: " + capacity);
+		events = new Event[capacity];
+		for (int i = 0; i < capacity; i++)
+			events[i] = new Event();
+		mask = capacity - 1;
+		movesCapacity = capacity - capacity / 4;
+	}
+
+	/** Returns the event to fill and {@link #publish()}, must only be called by the producer thread.
+	 * @param move whether the event is a move or a drag, dropped first
+	 * @return null when the queue is full, the event being dropped */
+	public Event next (boolean move) {
+		final long tail = this.tail.get();
+		final int capacity = move ? movesCapacity : events.length;
+		if (tail - cachedHead >= capacity) {
+			cachedHead = head.get();
+			if (tail - cachedHead >= capacity) {
+				overflows++;
+				return null;
+			}
+		}
+		return events[(int)tail & mask];
+	}
+
+	/** Makes the event returned by {@link #next(boolean)} visible to the consumer. */
+	public void publish () {
+		tail.lazySet(tail.get() + 1);
+	}
+
+	/** @return the number of events the consumer can remove */
+	public int size () {
+		return (int)(tail.get() - head.get());
+	}
+
+	/** @return the oldest event, valid until it is removed, must only be called by the consumer thread when the queue isn't
+	 *         empty */
+	public Event peek () {
+		return events[(int)head.get() & mask];
+	}
+
+	/** Removes the oldest event, handing it back to the producer. */
+	public void remove () {
+		head.lazySet(head.get() + 1);
+	}
+
+	public int getCapacity () {
+		return events.length;
+	}
+
+	/** @return the number of events dropped because the queue was full */
+	public long getOverflows () {
+		return overflows;
+	}
+}
@@ -68,6 +68,15 @@ public class JoglNewtApplication extends JoglApplicationBase {
 		public void windowDestroyNotify(WindowEvent e) {
 			end();
 		}
+
+		// NEWT has no iconify event, an iconified window loses the focus
+		public void windowGainedFocus(WindowEvent e) {
+			graphics.setFocused(true);
+		}
+
+		public void windowLostFocus(WindowEvent e) {
+			graphics.setFocused(false);
+		}
 	};
 
 	/** @return the drawable of the application. */
@@ -0,0 +1,471 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntIntMap;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.IntSet;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/** A GL decorator caching the binaries of the linked programs on disk so that later launches load them with glProgramBinary
+ * instead of compiling and linking the shaders again. A binary is keyed by a hash of the shader sources, the attribute
+ * bindings and the driver vendor, renderer and version, so a driver update invalidates it. When the driver rejects a binary
+ * anyway, it is deleted and the program is compiled and linked as usual.
+ * <p>
+ * The compilation of a shader whose source belongs to a cached program is deferred until the link needs it: on a cache hit
+ * it is never compiled. As this source already compiled with this driver, its compile status is reported as successful
+ * meanwhile, while querying anything else, e.g. its info log, compiles it. On a miss, the binary is saved by the first query
+ * of the program once it is linked, so that the link isn't waited for when the driver links in parallel. The least recently
+ * used binaries are deleted when the cache exceeds its size.
+ * <p>
+ * Requires OpenGL 4.1 or GL_ARB_get_program_binary. Like the rest of the GL, it must only be used on the thread owning the
+ * context. */
+public class JoglProgramBinaryCache extends JoglGLDecorator {
+	static final String EXTENSION = ".bin";
+	/** the cached programs, a line per binary with its name and the hashes of its shader sources */
+	static final String INDEX = "sources.idx";
+
+	private final JoglGL20 jogl;
+	private final FileHandle directory;
+	private final long maxSize;
+	private final String driver;
+
+	/** the hashes of the shader sources of each cached binary, by name */
+	private final ObjectMap<String, String[]> binaries = new ObjectMap<String, String[]>();
+	/** the number of cached binaries each shader source hash is found in */
+	private final ObjectIntMap<String> knownSources = new ObjectIntMap<String>();
+	private final IntMap<String> sources = new IntMap<String>();
+	/** the hashes of the shader sources, along with their type and the driver */
+	private final IntMap<String> sourceHashes = new IntMap<String>();
+	private final IntIntMap types = new IntIntMap();
+	private final IntSet deferred = new IntSet();
+	private final IntMap<IntArray> attached = new IntMap<IntArray>();
+	private final IntMap<String> attributeBindings = new IntMap<String>();
+	/** the binaries of the programs linked on a miss, saved once the link completes */
+	private final IntMap<Unsaved> unsaved = new IntMap<Unsaved>();
+	private final IntBuffer params = BufferUtils.newIntBuffer(1);
+	private final IntBuffer format = BufferUtils.newIntBuffer(1);
+
+	long hits, misses, rejected;
+
+	static final class Unsaved {
+		final String name;
+		final FileHandle file;
+		/** the hashes of the shader sources, which may be detached before the binary is saved */
+		final String[] sources;
+
+		Unsaved (String name, FileHandle file, String[] sources) {
+			this.name = name;
+			this.file = file;
+			this.sources = sources;
+		}
+	}
+
+	/** @param gl the GL to decorate
+	 * @param jogl the wrapper it ends with, for the program binary calls missing from {@link GL20}
+	 * @param directory the directory the binaries are stored in, created when needed
+	 * @param maxSize the size in bytes above which the least recently used binaries are deleted
+	 * @param vendor the GL_VENDOR string, which along with the renderer and version identifies the driver
+	 * @param renderer the GL_RENDERER string
+	 * @param version the GL_VERSION string */
+	public JoglProgramBinaryCache (GL20 gl, JoglGL20 jogl, FileHandle directory, long maxSize, String vendor, String renderer,
+		String version) {
+		super(gl);
+		this.jogl = jogl;
+		this.directory = directory;
+		this.maxSize = maxSize;
+		this.driver = vendor + "\n" + renderer + "\n" + version;
+		final FileHandle index = directory.child(INDEX);
+		if (index.exists()) {
+			try {
+				boolean pruned = false;
+				for (String line : index.readString("UTF-8").split("\n")) {
+					if (line.length() == 0) continue;
+					final String[] hashes = line.split(" ");
+					// the binaries deleted since are dropped
+					if (directory.child(hashes[0] + EXTENSION).exists())
+						remember(hashes[0], Arrays.copyOfRange(hashes, 1, hashes.length));
+					else
+						pruned = true;
+				}
+				if (pruned) writeIndex();
+			} catch (GdxRuntimeException e) {
+				error("Couldn't read the program binary cache index", e);
+			}
+		}
+	}
+
+	/** @return whether the driver of the current context can retrieve program binaries: it has OpenGL 4.1, OpenGL ES 3.0 or
+	 *         GL_ARB_get_program_binary, and at least a binary format */
+	public static boolean isSupported (GL20 gl) {
+		final String version = gl.glGetString(GL20.GL_VERSION);
+		if (version == null) return false;
+		final boolean es = version.startsWith("OpenGL ES ");
+		if (!(es ? isVersionAtLeast(version.substring(10), 3, 0) : isVersionAtLeast(version, 4, 1))
+			&& !hasExtension(gl, "GL_ARB_get_program_binary")) return false;
+		final IntBuffer formats = BufferUtils.newIntBuffer(1);
+		gl.glGetIntegerv(GL30.GL_NUM_PROGRAM_BINARY_FORMATS, formats);
+		return formats.get(0) > 0;
+	}
+
+	/** @param version a GL_VERSION string, starting with major.minor */
+	static boolean isVersionAtLeast (String version, int major, int minor) {
+		int end = 0;
+		while (end < version.length() && (Character.isDigit(version.charAt(end)) || version.charAt(end) == '.'))
+			end++;
+		final String[] numbers = version.substring(0, end).split("\\.");
+		try {
+			final int versionMajor = Integer.parseInt(numbers[0]);
+			final int versionMinor = numbers.length > 1 ? Integer.parseInt(numbers[1]) : 0;
+			return versionMajor > major || versionMajor == major && versionMinor >= minor;
+		} catch (NumberFormatException e) {
+			return false;
+		}
+	}
+
+	private static boolean hasExtension (GL20 gl, String extension) {
+		// core profiles only list the extensions one by one
+		if (gl instanceof GL30) {
+			final IntBuffer count = BufferUtils.newIntBuffer(1);
+			gl.glGetIntegerv(GL30.GL_NUM_EXTENSIONS, count);
+			for (int i = 0; i < count.get(0); i++)
+				if (extension.equals(((GL30)gl).glGetStringi(GL20.GL_EXTENSIONS, i))) return true;
+			return false;
+		}
+		final String extensions = gl.glGetString(GL20.GL_EXTENSIONS);
+		return extensions != null && (" " + extensions + " ").contains(" " + extension + " ");
+	}
+
+	/** @return the number of programs loaded from the cache */
+	public long getHits () {
+		return hits;
+	}
+
+	/** @return the number of programs compiled and linked because they weren't cached */
+	public long getMisses () {
+		return misses;
+	}
+
+	/** @return the number of cached binaries the driver rejected */
+	public long getRejected () {
+		return rejected;
+	}
+
+	/** Deletes every cached binary. */
+	public void invalidate () {
+		for (FileHandle file : directory.list(EXTENSION))
+			file.delete();
+		directory.child(INDEX).delete();
+		binaries.clear();
+		knownSources.clear();
+	}
+
+	/** Adds a cached binary to the index. */
+	private void remember (String name, String[] hashes) {
+		forget(name);
+		binaries.put(name, hashes);
+		for (String hash : hashes)
+			knownSources.getAndIncrement(hash, 0, 1);
+	}
+
+	/** Removes a deleted binary from the index. */
+	private void forget (String name) {
+		final String[] hashes = binaries.remove(name);
+		if (hashes == null) return;
+		for (String hash : hashes)
+			if (knownSources.getAndIncrement(hash, 0, -1) == 1) knownSources.remove(hash, 0);
+	}
+
+	private static void error (String message, Exception e) {
+		if (Gdx.app != null) Gdx.app.error("JoglProgramBinaryCache", message, e);
+	}
+
+	static String hash (String text) {
+		try {
+			final byte[] digest = MessageDigest.getInstance("SHA-1").digest(text.getBytes("UTF-8"));
+			final StringBuilder hex = new StringBuilder(digest.length * 2);
+			for (byte b : digest)
+				hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+			return hex.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new GdxRuntimeException(e);
+		} catch (UnsupportedEncodingException e) {
+			throw new GdxRuntimeException(e);
+		}
+	}
+
+	private String key (int program) {
+		final StringBuilder key = new StringBuilder(driver);
+		final IntArray shaders = attached.get(program);
+		if (shaders != null) {
+			for (int i = 0; i < shaders.size; i++) {
+				final int shader = shaders.get(i);
+				key.append('\n').append(types.get(shader, 0)).append('\n').append(sources.get(shader));
+			}
+		}
+		final String bindings = attributeBindings.get(program);
+		if (bindings != null) key.append('\n').append(bindings);
+		return hash(key.toString());
+	}
+
+	private int getProgramInt (int program, int pname) {
+		params.clear();
+		params.put(0, 0);
+		gl20.glGetProgramiv(program, pname, params);
+		return params.get(0);
+	}
+
+	private boolean isKnown (int shader) {
+		final String hash = sourceHashes.get(shader);
+		return hash != null && knownSources.containsKey(hash);
+	}
+
+	private void compile (int shader) {
+		deferred.remove(shader);
+		gl20.glCompileShader(shader);
+	}
+
+	@Override
+	public int glCreateShader (int type) {
+		final int shader = gl20.glCreateShader(type);
+		types.put(shader, type);
+		return shader;
+	}
+
+	@Override
+	public void glShaderSource (int shader, String string) {
+		// a deferred compilation must see the previous source
+		if (deferred.contains(shader)) compile(shader);
+		sources.put(shader, string);
+		// a driver update may change the compilation, e.g. its warnings
+		sourceHashes.put(shader, hash(driver + "\n" + types.get(shader, 0) + "\n" + string));
+		gl20.glShaderSource(shader, string);
+	}
+
+	@Override
+	public void glCompileShader (int shader) {
+		if (isKnown(shader))
+			deferred.add(shader);
+		else
+			gl20.glCompileShader(shader);
+	}
+
+	@Override
+	public void glGetShaderiv (int shader, int pname, IntBuffer params) {
+		if (deferred.contains(shader)) {
+			// the binaries having this source may have been deleted since it was deferred
+			if (pname == GL20.GL_COMPILE_STATUS && isKnown(shader)) {
+				params.put(params.position(), GL20.GL_TRUE);
+				return;
+			}
+			compile(shader);
+		}
+		gl20.glGetShaderiv(shader, pname, params);
+	}
+
+	@Override
+	public String glGetShaderInfoLog (int shader) {
+		if (deferred.contains(shader)) compile(shader);
+		return gl20.glGetShaderInfoLog(shader);
+	}
+
+	@Override
+	public void glDeleteShader (int shader) {
+		deferred.remove(shader);
+		sources.remove(shader);
+		sourceHashes.remove(shader);
+		types.remove(shader, 0);
+		gl20.glDeleteShader(shader);
+	}
+
+	@Override
+	public void glAttachShader (int program, int shader) {
+		IntArray shaders = attached.get(program);
+		if (shaders == null) attached.put(program, shaders = new IntArray());
+		shaders.add(shader);
+		gl20.glAttachShader(program, shader);
+	}
+
+	@Override
+	public void glDetachShader (int program, int shader) {
+		final IntArray shaders = attached.get(program);
+		if (shaders != null) shaders.removeValue(shader);
+		gl20.glDetachShader(program, shader);
+	}
+
+	@Override
+	public void glBindAttribLocation (int program, int index, String name) {
+		final String bindings = attributeBindings.get(program);
+		attributeBindings.put(program, (bindings != null ? bindings : "") + name + "=" + index + ";");
+		gl20.glBindAttribLocation(program, index, name);
+	}
+
+	@Override
+	public void glDeleteProgram (int program) {
+		attached.remove(program);
+		attributeBindings.remove(program);
+		unsaved.remove(program);
+		gl20.glDeleteProgram(program);
+	}
+
+	@Override
+	public void glLinkProgram (int program) {
+		final String key = key(program);
+		final FileHandle file = directory.child(key + EXTENSION);
+		unsaved.remove(program);
+		if (file.exists() && load(program, key, file)) {
+			hits++;
+			return;
+		}
+		misses++;
+		final IntArray shaders = attached.get(program);
+		final String[] hashes = new String[shaders != null ? shaders.size : 0];
+		for (int i = 0; i < hashes.length; i++) {
+			final int shader = shaders.get(i);
+			if (deferred.contains(shader)) compile(shader);
+			hashes[i] = sourceHashes.get(shader);
+		}
+		if (gl30 != null) gl30.glProgramParameteri(program, GL30.GL_PROGRAM_BINARY_RETRIEVABLE_HINT, GL20.GL_TRUE);
+		gl20.glLinkProgram(program);
+		unsaved.put(program, new Unsaved(key, file, hashes));
+	}
+
+	@Override
+	public void glGetProgramiv (int program, int pname, IntBuffer params) {
+		gl20.glGetProgramiv(program, pname, params);
+		// any other query waits for the link anyway
+		if (unsaved.size > 0
+			&& (pname != JoglProgramBuilder.GL_COMPLETION_STATUS_KHR || params.get(params.position()) != 0)) {
+			final Unsaved linked = unsaved.remove(program);
+			if (linked != null && getProgramInt(program, GL20.GL_LINK_STATUS) != 0) save(program, linked);
+		}
+	}
+
+	private boolean load (int program, String name, FileHandle file) {
+		final byte[] bytes;
+		try {
+			bytes = file.readBytes();
+		} catch (GdxRuntimeException e) {
+			error("Couldn't read the program binary " + file, e);
+			return false;
+		}
+		if (bytes.length > 4) {
+			final ByteBuffer binary = BufferUtils.newByteBuffer(bytes.length);
+			binary.put(bytes).flip();
+			final int binaryFormat = binary.order(ByteOrder.BIG_ENDIAN).getInt();
+			jogl.glProgramBinary(program, binaryFormat, binary, binary.remaining());
+			if (getProgramInt(program, GL20.GL_LINK_STATUS) != 0) {
+				// the modification time orders the binaries for the size cap
+				file.file().setLastModified(System.currentTimeMillis());
+				return true;
+			}
+		}
+		rejected++;
+		file.delete();
+		forget(name);
+		try {
+			writeIndex();
+		} catch (GdxRuntimeException e) {
+			error("Couldn't write the program binary cache index", e);
+		}
+		return false;
+	}
+
+	private void save (int program, Unsaved linked) {
+		final FileHandle file = linked.file;
+		final int length = getProgramInt(program, GL30.GL_PROGRAM_BINARY_LENGTH);
+		if (length <= 0) return;
+		final ByteBuffer binary = BufferUtils.newByteBuffer(length);
+		params.clear();
+		format.clear();
+		jogl.glGetProgramBinary(program, length, params, format, binary);
+		final int written = params.get(0);
+		if (written <= 0) return;
+
+		final byte[] bytes = new byte[4 + written];
+		final int binaryFormat = format.get(0);
+		bytes[0] = (byte)(binaryFormat >>> 24);
+		bytes[1] = (byte)(binaryFormat >>> 16);
+		bytes[2] = (byte)(binaryFormat >>> 8);
+		bytes[3] = (byte)binaryFormat;
+		binary.position(0);
+		binary.get(bytes, 4, written);
+		try {
+			file.writeBytes(bytes, false);
+			int count = 0;
+			for (String source : linked.sources)
+				if (source != null) count++;
+			final String[] hashes = new String[count];
+			count = 0;
+			for (String source : linked.sources)
+				if (source != null) hashes[count++] = source;
+			remember(linked.name, hashes);
+			enforceSize();
+			writeIndex();
+		} catch (GdxRuntimeException e) {
+			error("Couldn't write the program binary " + file, e);
+		}
+	}
+
+	private void writeIndex () {
+		final StringBuilder index = new StringBuilder();
+		for (ObjectMap.Entry<String, String[]> binary : binaries) {
+			index.append(binary.key);
+			for (String hash : binary.value)
+				index.append(' ').append(hash);
+			index.append('\n');
+		}
+		directory.child(INDEX).writeString(index.toString(), false, "UTF-8");
+	}
+
+	/** Deletes the least recently used binaries until the cache fits its size. */
+	private void enforceSize () {
+		final FileHandle[] files = directory.list(EXTENSION);
+		long size = 0;
+		for (FileHandle file : files)
+			size += file.length();
+		if (size <= maxSize) return;
+		Arrays.sort(files, new Comparator<FileHandle>() {
+			@Override
+			public int compare (FileHandle a, FileHandle b) {
+				final long ta = a.lastModified(), tb = b.lastModified();
+				return ta < tb ? -1 : ta > tb ? 1 : 0;
+			}
+		});
+		for (int i = 0; i < files.length && size > maxSize; i++) {
+			size -= files[i].length();
+			files[i].delete();
+			forget(files[i].nameWithoutExtension());
+		}
+	}
+}
@@ -0,0 +1,218 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.nio.IntBuffer;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GLContext;
+import com.jogamp.opengl.GLDrawable;
+
+/** Builds shader programs without blocking the rendering thread: {@link #build(String, String)} returns at once and the
+ * returned {@link Build} is polled until it is done, e.g. while the assets of a level are loading.
+ * <p>
+ * When the driver supports GL_KHR_parallel_shader_compile, the shaders are compiled and linked on the calling thread, the
+ * driver doing the work on its own threads, and the builds are polled with GL_COMPLETION_STATUS_KHR. Otherwise they are
+ * compiled and linked on a worker thread owning a context that shares its objects with the one of the application. When that
+ * context can't be made current, the builds are made by {@link Build#isDone()} instead, blocking the calling thread.
+ * <p>
+ * {@link #build(String, String)} and {@link Build#isDone()} must be called on the thread owning the context. */
+public class JoglProgramBuilder {
+	/** GL_COMPLETION_STATUS_KHR, from GL_KHR_parallel_shader_compile */
+	static final int GL_COMPLETION_STATUS_KHR = 0x91B1;
+
+	/** A program being built. */
+	public class Build {
+		final String vertexShader, fragmentShader;
+		int vertex, fragment;
+		volatile boolean done;
+		int program;
+		boolean linked;
+		String log = "";
+
+		Build (String vertexShader, String fragmentShader) {
+			this.vertexShader = vertexShader;
+			this.fragmentShader = fragmentShader;
+		}
+
+		/** @return whether the program is built, successfully or not */
+		public boolean isDone () {
+			if (!done) {
+				if (workerContext == null) {
+					if (getProgramInt(gl, program, GL_COMPLETION_STATUS_KHR) != 0) finish(gl, this);
+				} else if (workerFailed && queue.remove(this)) {
+					submit(gl, this);
+					finish(gl, this);
+				}
+			}
+			return done;
+		}
+
+		/** @return the program handle, 0 until the build is done */
+		public int getProgram () {
+			return done ? program : 0;
+		}
+
+		/** @return whether the program linked, false until the build is done */
+		public boolean isLinked () {
+			return done && linked;
+		}
+
+		/** @return the compile and link errors, empty until the build is done */
+		public String getLog () {
+			return done ? log : "";
+		}
+	}
+
+	private final GL20 gl;
+	private final GLContext workerContext;
+	private final LinkedBlockingQueue<Build> queue = new LinkedBlockingQueue<Build>();
+	private final IntBuffer params = BufferUtils.newIntBuffer(1);
+	private Thread worker;
+	private volatile boolean disposed;
+	/** set when the worker context couldn't be made current, the worker never takes a build then */
+	private volatile boolean workerFailed;
+
+	/** @param gl the GL of the application, used to build the programs when workerContext is null
+	 * @param workerContext a context sharing its objects with the one of the application, made current on the worker thread
+	 *           and destroyed along with its drawable by {@link #dispose()}, or null to build on the calling thread with
+	 *           GL_KHR_parallel_shader_compile */
+	public JoglProgramBuilder (GL20 gl, GLContext workerContext) {
+		this.gl = gl;
+		this.workerContext = workerContext;
+	}
+
+	/** @return whether the driver compiles and links shaders in parallel on its own threads */
+	public static boolean supportsParallelCompile (GL gl) {
+		return gl.isExtensionAvailable("GL_KHR_parallel_shader_compile") || gl.isExtensionAvailable("GL_ARB_parallel_shader_compile");
+	}
+
+	/** @return whether the programs are built on a worker thread rather than by the driver */
+	public boolean usesWorkerThread () {
+		return workerContext != null;
+	}
+
+	/** Starts building a program from the given shader sources.
+	 * @return the build to poll with {@link Build#isDone()} */
+	public Build build (String vertexShader, String fragmentShader) {
+		if (disposed) throw new GdxRuntimeException("The program builder is disposed");
+		final Build build = new Build(vertexShader, fragmentShader);
+		if (workerContext == null) {
+			submit(gl, build);
+		} else {
+			if (worker == null) startWorker();
+			queue.add(build);
+		}
+		return build;
+	}
+
+	/** Creates the shaders and the program and submits their compilation and link. */
+	static void submit (GL20 gl, Build build) {
+		build.vertex = compile(gl, GL20.GL_VERTEX_SHADER, build.vertexShader);
+		build.fragment = compile(gl, GL20.GL_FRAGMENT_SHADER, build.fragmentShader);
+		build.program = gl.glCreateProgram();
+		gl.glAttachShader(build.program, build.vertex);
+		gl.glAttachShader(build.program, build.fragment);
+		gl.glLinkProgram(build.program);
+	}
+
+	private static int compile (GL20 gl, int type, String source) {
+		final int shader = gl.glCreateShader(type);
+		gl.glShaderSource(shader, source);
+		gl.glCompileShader(shader);
+		return shader;
+	}
+
+	/** Reads the link status and the errors of a linked program and deletes its shaders. */
+	void finish (GL20 gl, Build build) {
+		build.linked = getProgramInt(gl, build.program, GL20.GL_LINK_STATUS) != 0;
+		if (!build.linked) {
+			build.log = gl.glGetShaderInfoLog(build.vertex) + gl.glGetShaderInfoLog(build.fragment)
+				+ gl.glGetProgramInfoLog(build.program);
+		}
+		gl.glDetachShader(build.program, build.vertex);
+		gl.glDetachShader(build.program, build.fragment);
+		gl.glDeleteShader(build.vertex);
+		gl.glDeleteShader(build.fragment);
+		build.done = true;
+	}
+
+	private int getProgramInt (GL20 gl, int program, int pname) {
+		// only used by the thread owning gl, the worker has its own buffer
+		final IntBuffer params = gl == this.gl ? this.params : BufferUtils.newIntBuffer(1);
+		params.put(0, 0);
+		gl.glGetProgramiv(program, pname, params);
+		return params.get(0);
+	}
+
+	private void startWorker () {
+		worker = new Thread("JoglProgramBuilder") {
+			@Override
+			public void run () {
+				if (workerContext.makeCurrent() == GLContext.CONTEXT_NOT_CURRENT) {
+					workerFailed = true;
+					destroyWorkerContext();
+					return;
+				}
+				final GL20 gl = new JoglGL20(workerContext.getGL(), false);
+				try {
+					while (!disposed) {
+						final Build build = queue.take();
+						submit(gl, build);
+						// the program must be complete before another context uses it
+						gl.glFinish();
+						finish(gl, build);
+					}
+				} catch (InterruptedException e) {
+					// disposed
+				} finally {
+					workerContext.release();
+					destroyWorkerContext();
+				}
+			}
+		};
+		worker.setDaemon(true);
+		worker.start();
+	}
+
+	/** Stops the worker thread, destroying its context. The programs already built are left alone, the pending builds are never
+	 * done. */
+	public void dispose () {
+		disposed = true;
+		if (worker != null) {
+			worker.interrupt();
+			try {
+				worker.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			worker = null;
+		} else if (workerContext != null) {
+			destroyWorkerContext();
+		}
+		queue.clear();
+	}
+
+	private void destroyWorkerContext () {
+		final GLDrawable drawable = workerContext.getGLDrawable();
+		workerContext.destroy();
+		if (drawable != null) drawable.setRealized(false);
+	}
+}
@@ -0,0 +1,230 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.awt.EventQueue;
+
+import com.badlogic.gdx.math.WindowedMean;
+import com.jogamp.opengl.Threading;
+
+/** The thread displaying the canvas of a {@link JoglGraphicsBase} frame after frame, in place of a JOGL animator. A
+ * {@link Scheduler} decides when each frame starts, and the time spent in each {@link Phase} of the frames is measured.
+ * <p>
+ * It can be stopped and started again, e.g. on pause and resume, each start running a new thread. An exception thrown by a frame
+ * stops the loop and is left to the uncaught exception handler of the thread. */
+public class JoglRenderLoop {
+	/** the time {@link #stop()} waits for the thread to end in milliseconds */
+	static final long STOP_TIMEOUT = 1000;
+
+	/** The phases of a frame. */
+	public enum Phase {
+		/** the posted runnables */
+		Runnables,
+		/** the processing of the input events */
+		Input,
+		/** the ticks of the {@link JoglFixedTimestep} */
+		Update,
+		/** the rendering, including the command buffers and the GPU timer */
+		Render,
+		/** the update of the audio */
+		Audio,
+		/** the buffer swap, including the context switch around the frame */
+		Swap
+	}
+
+	/** Decides when the frames start. */
+	public interface Scheduler {
+		/** Called on the render loop thread before each frame, waits until it is due. It must return within a frame period
+		 * when {@link JoglRenderLoop#wakeUp()} is called, so that the loop can stop. */
+		void awaitFrame (JoglGraphicsBase graphics) throws InterruptedException;
+	}
+
+	/** Starts the frames as soon as possible, the swap blocking on the vertical retrace when vsync is enabled. */
+	public static class VsyncScheduler implements Scheduler {
+		@Override
+		public void awaitFrame (JoglGraphicsBase graphics) {
+		}
+	}
+
+	/** Paces the frames to {@link JoglApplicationConfiguration#foregroundFPS} or
+	 * {@link JoglApplicationConfiguration#backgroundFPS} with the frame pacer of the graphics, the default. */
+	public static class FixedRateScheduler implements Scheduler {
+		@Override
+		public void awaitFrame (JoglGraphicsBase graphics) throws InterruptedException {
+			final int fps = graphics.getTargetFPS();
+			graphics.framePacer.sync(fps == -1 ? JoglGraphicsBase.IDLE_FPS : fps);
+		}
+	}
+
+	/** Only starts a frame when rendering is continuous or was requested, e.g. by a runnable or an input event, at most at the
+	 * fixed rate. */
+	public static class OnDemandScheduler extends FixedRateScheduler {
+		@Override
+		public void awaitFrame (JoglGraphicsBase graphics) throws InterruptedException {
+			final JoglRenderLoop loop = graphics.renderLoop;
+			synchronized (loop) {
+				loop.waiting = true;
+				try {
+					while (loop.running && !graphics.isContinuousRendering() && !graphics.frameState.isRenderRequested())
+						loop.wait(1000 / JoglGraphicsBase.IDLE_FPS);
+				} finally {
+					loop.waiting = false;
+				}
+			}
+			super.awaitFrame(graphics);
+		}
+	}
+
+	private final JoglGraphicsBase graphics;
+	private final Scheduler scheduler;
+	private final int priority;
+	private final Runnable initializer;
+	/** the current thread, a thread left running by a {@link #stop()} that didn't wait ends once it is replaced */
+	private volatile Thread thread;
+	volatile boolean running;
+	/** set while a scheduler waits on the loop, so that waking it up doesn't take its monitor otherwise */
+	volatile boolean waiting;
+
+	private final long[] phaseNanos = new long[Phase.values().length];
+	private final WindowedMean[] phaseMeans = new WindowedMean[phaseNanos.length];
+	private long displayNanos;
+	private long lastFrameEnd;
+
+	/** @param scheduler the scheduler of the frames, null for a {@link FixedRateScheduler}
+	 * @param priority the priority of the thread
+	 * @param initializer run on the thread before the first frame, e.g. to pin it to a core with a native library, can be null
+	 * @param window the number of frames the phase timings are averaged over */
+	public JoglRenderLoop (JoglGraphicsBase graphics, Scheduler scheduler, int priority, Runnable initializer, int window) {
+		this.graphics = graphics;
+		this.scheduler = scheduler != null ? scheduler : new FixedRateScheduler();
+		this.priority = priority;
+		this.initializer = initializer;
+		for (int i = 0; i < phaseMeans.length; i++)
+			phaseMeans[i] = new WindowedMean(window);
+	}
+
+	/** Starts a new render loop thread, does nothing when it is running. */
+	public synchronized void start () {
+		if (running) return;
+		running = true;
+		thread = new Thread("JoglRenderLoop") {
+			@Override
+			public void run () {
+				loop();
+			}
+		};
+		thread.setPriority(priority);
+		thread.start();
+	}
+
+	void loop () {
+		if (initializer != null) initializer.run();
+		// the frame time doesn't include a pause
+		lastFrameEnd = 0;
+		final Thread self = Thread.currentThread();
+		try {
+			while (running && thread == self) {
+				scheduler.awaitFrame(graphics);
+				if (!running || thread != self) break;
+				final long start = System.nanoTime();
+				final long frameId = graphics.frameId;
+				displayNanos = 0;
+				graphics.getCanvas().display();
+				final long end = System.nanoTime();
+				// what display() didn't measure happened around it
+				phaseNanos[Phase.Swap.ordinal()] = Math.max(0, end - start - displayNanos);
+				if (graphics.frameId != frameId) {
+					graphics.frameStats.record(lastFrameEnd != 0 ? end - lastFrameEnd : end - start, phaseNanos);
+					lastFrameEnd = end;
+				} else {
+					lastFrameEnd = 0;
+				}
+				for (int i = 0; i < phaseNanos.length; i++) {
+					phaseMeans[i].addValue(phaseNanos[i]);
+					phaseNanos[i] = 0;
+				}
+			}
+		} catch (InterruptedException e) {
+			// stopped
+		} finally {
+			// after an exception, so that the loop can be started again
+			synchronized (this) {
+				if (thread == Thread.currentThread()) {
+					running = false;
+					thread = null;
+				}
+			}
+		}
+	}
+
+	/** Records the time spent in a phase of the frame being displayed, called by the graphics.
+	 * @param since the start of the phase, as returned by the previous call
+	 * @return the current time, the start of the next phase */
+	long mark (Phase phase, long since) {
+		final long now = System.nanoTime();
+		phaseNanos[phase.ordinal()] += now - since;
+		displayNanos += now - since;
+		return now;
+	}
+
+	/** Wakes a scheduler waiting for a frame, e.g. when rendering is requested. */
+	public void wakeUp () {
+		// the request is published before waiting is read, so either the scheduler sees it or it is notified
+		if (!waiting) return;
+		synchronized (this) {
+			notifyAll();
+		}
+	}
+
+	/** Stops the loop after the current frame and waits for the thread to end, at most {@link #STOP_TIMEOUT}. It doesn't wait
+	 * when called from the loop, the AWT event dispatch thread or the OpenGL thread, which the frame may be waiting for. */
+	public void stop () {
+		final Thread thread;
+		synchronized (this) {
+			running = false;
+			notifyAll();
+			thread = this.thread;
+			this.thread = null;
+		}
+		if (thread == null || thread == Thread.currentThread()) return;
+		if (EventQueue.isDispatchThread() || Threading.isSingleThreaded() && Threading.isOpenGLThread()) return;
+		try {
+			thread.join(STOP_TIMEOUT);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	public boolean isRunning () {
+		return running;
+	}
+
+	/** @return the thread running the loop, null when stopped */
+	public Thread getThread () {
+		return thread;
+	}
+
+	/** @return the mean time spent in the given phase per frame in nanoseconds, 0 until the window is filled */
+	public float getPhaseNanos (Phase phase) {
+		final WindowedMean mean = phaseMeans[phase.ordinal()];
+		return mean.hasEnoughData() ? mean.getMean() : 0;
+	}
+
+	public void resetStats () {
+		for (int i = 0; i < phaseMeans.length; i++)
+			phaseMeans[i].clear();
+	}
+}
@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.jogamp.opengl.GLContext;
+import com.jogamp.opengl.GLDrawable;
+
+/** Runs GL uploads, e.g. of textures and meshes, on a loader thread owning a context that shares its objects with the one of
+ * the application, so that they don't compete with the rendering. Once an upload is complete on the GPU, its
+ * {@link Upload#done()} is called on the rendering thread, from where the uploaded objects can be used.
+ * <p>
+ * On GL 3 the loader thread inserts a fence sync after each upload and the rendering thread polls it without blocking. Without
+ * fences, the loader thread waits for each upload to complete with glFinish.
+ * <p>
+ * When the loader context can't be made current, every upload fails: {@link #update(JoglGL30)} rethrows the error instead of
+ * calling its {@link Upload#done()}. */
+public class JoglResourceLoader {
+	/** An upload run on the loader thread. */
+	public interface Upload {
+		/** Called on the loader thread with its context current. The objects it creates must only be used by the rendering
+		 * thread once {@link #done()} is called.
+		 * @param gl the GL of the loader context, a {@link GL30} when the application uses GL 3 */
+		void upload (GL20 gl);
+
+		/** Called on the rendering thread once the upload is complete on the GPU. */
+		void done ();
+	}
+
+	static final class Completion {
+		final Upload upload;
+		final long fence;
+		final RuntimeException error;
+
+		Completion (Upload upload, long fence, RuntimeException error) {
+			this.upload = upload;
+			this.fence = fence;
+			this.error = error;
+		}
+	}
+
+	private final GLContext loaderContext;
+	private final boolean useGL30;
+	private final LinkedBlockingQueue<Upload> uploads = new LinkedBlockingQueue<Upload>();
+	private final ConcurrentLinkedQueue<Completion> completions = new ConcurrentLinkedQueue<Completion>();
+	private final AtomicInteger pending = new AtomicInteger();
+	private final Thread loader;
+	private volatile boolean disposed;
+	/** set when the loader context couldn't be made current */
+	private volatile RuntimeException failure;
+	private long completed;
+
+	/** Starts the loader thread.
+	 * @param loaderContext a context sharing its objects with the one of the application, made current on the loader thread
+	 *           and destroyed along with its drawable by {@link #dispose()}
+	 * @param useGL30 whether to give the uploads a {@link GL30} and to signal their completion with fences */
+	public JoglResourceLoader (GLContext loaderContext, boolean useGL30) {
+		this.loaderContext = loaderContext;
+		this.useGL30 = useGL30;
+		loader = new Thread("JoglResourceLoader") {
+			@Override
+			public void run () {
+				load();
+			}
+		};
+		loader.setDaemon(true);
+		loader.start();
+	}
+
+	void load () {
+		if (loaderContext.makeCurrent() == GLContext.CONTEXT_NOT_CURRENT) {
+			failure = new GdxRuntimeException("Couldn't make the resource loader context current");
+			failUploads();
+			final GLDrawable drawable = loaderContext.getGLDrawable();
+			loaderContext.destroy();
+			if (drawable != null) drawable.setRealized(false);
+			return;
+		}
+		final GL20 gl = useGL30 ? new JoglGL30(loaderContext.getGL(), false) : new JoglGL20(loaderContext.getGL(), false);
+		final JoglGL30 gl30 = useGL30 ? (JoglGL30)gl : null;
+		try {
+			while (!disposed) {
+				final Upload upload = uploads.take();
+				RuntimeException error = null;
+				long fence = 0;
+				try {
+					upload.upload(gl);
+				} catch (RuntimeException e) {
+					error = e;
+				}
+				if (gl30 != null) {
+					fence = gl30.glFenceSync(GL30.GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+					// the fence is only signaled once it reaches the GPU
+					gl.glFlush();
+				} else {
+					gl.glFinish();
+				}
+				completions.add(new Completion(upload, fence, error));
+			}
+		} catch (InterruptedException e) {
+			// disposed
+		} finally {
+			final GLDrawable drawable = loaderContext.getGLDrawable();
+			loaderContext.release();
+			loaderContext.destroy();
+			if (drawable != null) drawable.setRealized(false);
+		}
+	}
+
+	/** Queues an upload, can be called from any thread. */
+	public void submit (Upload upload) {
+		if (disposed) throw new GdxRuntimeException("The resource loader is disposed");
+		pending.incrementAndGet();
+		uploads.add(upload);
+		// the loader thread may have failed before the upload was queued
+		if (failure != null) failUploads();
+	}
+
+	/** Completes the queued uploads with the failure, without running them. */
+	private void failUploads () {
+		Upload upload;
+		while ((upload = uploads.poll()) != null)
+			completions.add(new Completion(upload, 0, failure));
+	}
+
+	/** Calls {@link Upload#done()} for the uploads completed on the GPU, in the order they were submitted, must be called on the
+	 * rendering thread before the frame is rendered.
+	 * @param gl the GL of the rendering thread, used to poll the fences, null without them */
+	public void update (JoglGL30 gl) {
+		Completion completion;
+		while ((completion = completions.peek()) != null) {
+			if (completion.fence != 0) {
+				final int status = gl.glClientWaitSync(completion.fence, 0, 0);
+				if (status == GL30.GL_TIMEOUT_EXPIRED) break;
+				gl.glDeleteSync(completion.fence);
+				if (status == GL30.GL_WAIT_FAILED) throw new GdxRuntimeException("glClientWaitSync failed");
+			}
+			completions.poll();
+			pending.decrementAndGet();
+			completed++;
+			if (completion.error != null) throw new GdxRuntimeException("Upload failed", completion.error);
+			completion.upload.done();
+		}
+	}
+
+	/** @return the number of uploads submitted but not done yet */
+	public int getPending () {
+		return pending.get();
+	}
+
+	/** @return the number of uploads done */
+	public long getCompleted () {
+		return completed;
+	}
+
+	/** Stops the loader thread and destroys its context, the pending uploads are dropped. */
+	public void dispose () {
+		disposed = true;
+		loader.interrupt();
+		try {
+			loader.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		uploads.clear();
+		completions.clear();
+	}
+}
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.badlogic.gdx.math.WindowedMean;
+
+/** The runnables posted to the rendering thread, queued without any lock by any number of threads and run by the rendering
+ * thread, which never waits for a posting thread: a post swaps the tail of a linked list and the rendering thread follows the
+ * links from the head.
+ * <p>
+ * Each call to {@link #run()} only runs the runnables posted before it started, and stops once they took longer than the
+ * budget, the remaining ones being run by the next call. The depth of the queue and the time the runnables wait before they run
+ * are measured. */
+public class JoglRunnableQueue {
+	static final class Node {
+		Runnable runnable;
+		long posted;
+		volatile Node next;
+	}
+
+	/** the last node run, only used by the rendering thread */
+	private Node head = new Node();
+	private final AtomicReference<Node> tail = new AtomicReference<Node>(head);
+	private final AtomicInteger depth = new AtomicInteger();
+	private long budget;
+
+	private final WindowedMean latency;
+	private long maxLatency;
+	private int maxDepth;
+	private long deferred;
+
+	/** @param window the number of runnables the latency is averaged over */
+	public JoglRunnableQueue (int window) {
+		latency = new WindowedMean(window);
+	}
+
+	/** @param budget the time in nanoseconds the runnables may take per call to {@link #run()}, 0 for no limit. At least one
+	 *           runnable is run per call. */
+	public void setBudget (long budget) {
+		if (budget < 0) throw new IllegalArgumentException("budget must be >= 0: " + budget);
+		this.budget = budget;
+	}
+
+	public long getBudget () {
+		return budget;
+	}
+
+	/** Queues a runnable, can be called from any thread. */
+	public void post (Runnable runnable) {
+		final Node node = new Node();
+		node.runnable = runnable;
+		node.posted = System.nanoTime();
+		depth.incrementAndGet();
+		// the rendering thread stops at the previous node until it is linked
+		tail.getAndSet(node).next = node;
+	}
+
+	/** Runs the runnables posted so far within the budget, must be called on the rendering thread.
+	 * @return the number of runnables run */
+	public int run () {
+		final int depth = this.depth.get();
+		if (depth == 0) return 0;
+		if (depth > maxDepth) maxDepth = depth;
+		final Node last = tail.get();
+		final long start = System.nanoTime();
+		// the clock is only read again to enforce the budget
+		long now = start;
+		int count = 0;
+		try {
+			while (head != last) {
+				final Node next = head.next;
+				if (next == null) break;
+				head = next;
+				final Runnable runnable = next.runnable;
+				next.runnable = null;
+				final long waited = now - next.posted;
+				latency.addValue(waited);
+				if (waited > maxLatency) maxLatency = waited;
+				count++;
+				runnable.run();
+				if (budget > 0) {
+					now = System.nanoTime();
+					if (head != last && now - start >= budget) {
+						deferred++;
+						break;
+					}
+				}
+			}
+		} finally {
+			this.depth.addAndGet(-count);
+		}
+		return count;
+	}
+
+	/** @return whether runnables are waiting to be run */
+	public boolean isEmpty () {
+		return depth.get() == 0;
+	}
+
+	/** @return the number of runnables waiting to be run */
+	public int getDepth () {
+		return depth.get();
+	}
+
+	/** @return the highest number of runnables waiting when {@link #run()} was called, since the last {@link #resetStats()} */
+	public int getMaxDepth () {
+		return maxDepth;
+	}
+
+	/** @return the mean time in nanoseconds the recent runnables waited before they were run, or rather before {@link #run()}
+	 *         was called when there is no budget */
+	public float getLatency () {
+		return latency.hasEnoughData() ? latency.getMean() : 0;
+	}
+
+	/** @return the longest time in nanoseconds a runnable waited before it was run, since the last {@link #resetStats()} */
+	public long getMaxLatency () {
+		return maxLatency;
+	}
+
+	/** @return the number of times the budget was exceeded and runnables were deferred to the next call, since the last
+	 *         {@link #resetStats()} */
+	public long getDeferred () {
+		return deferred;
+	}
+
+	public void resetStats () {
+		latency.clear();
+		maxLatency = 0;
+		maxDepth = 0;
+		deferred = 0;
+	}
+}
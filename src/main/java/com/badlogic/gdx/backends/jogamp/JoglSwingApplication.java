@@ -116,10 +116,22 @@ public class JoglSwingApplication extends JoglApplicationBase {
 
 		@Override
 		public void windowIconified (WindowEvent arg0) {
+			graphics.setIconified(true);
 		}
 
 		@Override
 		public void windowDeiconified (WindowEvent arg0) {
+			graphics.setIconified(false);
+		}
+
+		@Override
+		public void windowActivated (WindowEvent arg0) {
+			graphics.setFocused(true);
+		}
+
+		@Override
+		public void windowDeactivated (WindowEvent arg0) {
+			graphics.setFocused(false);
 		}
 
 		@Override
@@ -224,7 +224,7 @@ public class JoglSwingGraphics extends JoglGraphicsBase {
 			return false;
 
 		// create new canvas, sharing the rendering context with the old canvas
-		// and pause the animator
+		// and pause the render loop
 		super.pause();
 		GLJPanel newCanvas = new GLJPanel(canvas.getChosenGLCapabilities(),
 				null/* , device */);
@@ -279,7 +279,7 @@ public class JoglSwingGraphics extends JoglGraphicsBase {
 				return false;
 
 			// create new canvas, sharing the rendering context with the old canvas
-			// and pause the animator
+			// and pause the render loop
 			super.pause();
 			GLJPanel newCanvas = new GLJPanel(canvas.getChosenGLCapabilities(),
 					null/* , device */);
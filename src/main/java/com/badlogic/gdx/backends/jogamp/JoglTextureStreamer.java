@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.nio.ByteBuffer;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** Streams texture uploads through a ring of GL_PIXEL_UNPACK_BUFFER objects: the pixels are copied into a mapped buffer and
+ * the texture is updated from it, so that the transfer to the GPU happens asynchronously instead of blocking the rendering
+ * thread while the driver copies client memory.
+ * <p>
+ * On GL 3 a fence sync is inserted after each upload and a buffer is only reused once its fence is signaled, waiting for it
+ * counts as a stall. Without fences, the buffer store is orphaned before each upload so that the driver can hand out fresh
+ * memory instead of waiting.
+ * <p>
+ * Like the rest of the GL, it must only be used on the thread owning the context. */
+public class JoglTextureStreamer {
+	/** GL_WRITE_ONLY, missing from {@link GL30} */
+	static final int GL_WRITE_ONLY = 0x88B9;
+	/** how long to wait for a buffer still in flight before giving up, in nanoseconds */
+	static final long STALL_TIMEOUT = 1000000000L;
+
+	private final GL20 gl;
+	private final JoglGL20 jogl;
+	private final JoglGL30 jogl30;
+	private final int[] buffers;
+	private final int[] capacities;
+	private final long[] fences;
+	private int next;
+
+	private long uploads, uploadedBytes, uploadNanos;
+	private long stalls, stallNanos;
+
+	/** @param gl the GL used by the application, which may be decorated
+	 * @param jogl the wrapper it ends with, for the calls missing from {@link GL20}; fences are used when it is a {@link JoglGL30}
+	 * @param buffers the number of pixel unpack buffers in the ring */
+	public JoglTextureStreamer (GL20 gl, JoglGL20 jogl, int buffers) {
+		if (buffers < 1) throw new IllegalArgumentException("buffers must be at least 1: " + buffers);
+		this.gl = gl;
+		this.jogl = jogl;
+		this.jogl30 = jogl instanceof JoglGL30 ? (JoglGL30)jogl : null;
+		this.buffers = new int[buffers];
+		this.capacities = new int[buffers];
+		this.fences = new long[buffers];
+		for (int i = 0; i < buffers; i++)
+			this.buffers[i] = gl.glGenBuffer();
+	}
+
+	/** Updates a region of the texture bound to the target with the remaining bytes of the given pixels, like
+	 * {@link GL20#glTexSubImage2D(int, int, int, int, int, int, int, int, java.nio.Buffer)}. The pixels can be reused as soon as
+	 * this returns. */
+	public void upload (int target, int level, int xoffset, int yoffset, int width, int height, int format, int type,
+		ByteBuffer pixels) {
+		final long start = System.nanoTime();
+		final int index = next;
+		next = (next + 1) % buffers.length;
+		final int bytes = pixels.remaining();
+
+		if (fences[index] != 0) waitFor(index);
+		gl.glBindBuffer(GL30.GL_PIXEL_UNPACK_BUFFER, buffers[index]);
+		// without fences, orphaning lets the driver allocate new storage rather than wait for the previous upload
+		if (capacities[index] < bytes || jogl30 == null) {
+			capacities[index] = Math.max(capacities[index], bytes);
+			gl.glBufferData(GL30.GL_PIXEL_UNPACK_BUFFER, capacities[index], null, GL30.GL_STREAM_DRAW);
+		}
+		final ByteBuffer mapped = jogl.glMapBuffer(GL30.GL_PIXEL_UNPACK_BUFFER, GL_WRITE_ONLY);
+		if (mapped == null) {
+			gl.glBindBuffer(GL30.GL_PIXEL_UNPACK_BUFFER, 0);
+			throw new GdxRuntimeException("Couldn't map the pixel unpack buffer");
+		}
+		final int position = pixels.position();
+		mapped.clear();
+		mapped.put(pixels);
+		pixels.position(position);
+		jogl.glUnmapBuffer(GL30.GL_PIXEL_UNPACK_BUFFER);
+		jogl.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, 0L);
+		gl.glBindBuffer(GL30.GL_PIXEL_UNPACK_BUFFER, 0);
+		if (jogl30 != null) fences[index] = jogl30.glFenceSync(GL30.GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+
+		uploads++;
+		uploadedBytes += bytes;
+		uploadNanos += System.nanoTime() - start;
+	}
+
+	private void waitFor (int index) {
+		final long fence = fences[index];
+		fences[index] = 0;
+		int status = jogl30.glClientWaitSync(fence, 0, 0);
+		if (status == GL30.GL_TIMEOUT_EXPIRED) {
+			final long start = System.nanoTime();
+			status = jogl30.glClientWaitSync(fence, GL30.GL_SYNC_FLUSH_COMMANDS_BIT, STALL_TIMEOUT);
+			stalls++;
+			stallNanos += System.nanoTime() - start;
+		}
+		jogl30.glDeleteSync(fence);
+		if (status == GL30.GL_WAIT_FAILED) throw new GdxRuntimeException("glClientWaitSync failed");
+	}
+
+	/** @return the number of uploads */
+	public long getUploads () {
+		return uploads;
+	}
+
+	/** @return the number of bytes uploaded */
+	public long getUploadedBytes () {
+		return uploadedBytes;
+	}
+
+	/** @return the bytes uploaded per second spent in {@link #upload}, in megabytes, 0 before the first upload */
+	public float getThroughput () {
+		return uploadNanos == 0 ? 0 : uploadedBytes / (1024f * 1024f) / (uploadNanos / 1000000000f);
+	}
+
+	/** @return the number of uploads that had to wait for the GPU to release a buffer */
+	public long getStalls () {
+		return stalls;
+	}
+
+	/** @return the nanoseconds spent waiting for the GPU to release a buffer */
+	public long getStallNanos () {
+		return stallNanos;
+	}
+
+	public void resetStats () {
+		uploads = 0;
+		uploadedBytes = 0;
+		uploadNanos = 0;
+		stalls = 0;
+		stallNanos = 0;
+	}
+
+	/** Deletes the buffers and the fences, must be called while the context is current. */
+	public void dispose () {
+		for (int i = 0; i < buffers.length; i++) {
+			if (fences[i] != 0) jogl30.glDeleteSync(fences[i]);
+			fences[i] = 0;
+			gl.glDeleteBuffer(buffers[i]);
+		}
+	}
+}
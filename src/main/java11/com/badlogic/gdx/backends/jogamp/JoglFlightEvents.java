@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** The JDK Flight Recorder events of the backend. Only built on Java 11 and later, by the java11 profile, and only loaded by
+ * {@link JoglFlightRecorder} by reflection, so the backend still builds and runs on Java 7 and 8. */
+final class JoglFlightEvents implements JoglFlightRecorder.Events {
+	@Category({"libGDX", "JOGL backend"})
+	@StackTrace(false)
+	public abstract static class BackendEvent extends Event {
+		@Label("Frame ID") long frameId;
+
+		void set (long a, long b) {
+		}
+	}
+
+	@Name("com.badlogic.gdx.backends.jogamp.Frame")
+	@Label("Frame")
+	public static class FrameEvent extends BackendEvent {
+		@Label("Rendered") boolean rendered;
+
+		@Override
+		void set (long a, long b) {
+			rendered = a != 0;
+		}
+	}
+
+	@Name("com.badlogic.gdx.backends.jogamp.Runnables")
+	@Label("Runnables")
+	public static class RunnablesEvent extends BackendEvent {
+		@Label("Run") int run;
+		@Label("Deferred") int deferred;
+
+		@Override
+		void set (long a, long b) {
+			run = (int)a;
+			deferred = (int)b;
+		}
+	}
+
+	@Name("com.badlogic.gdx.backends.jogamp.Input")
+	@Label("Input Events")
+	public static class InputEvent extends BackendEvent {
+	}
+
+	@Name("com.badlogic.gdx.backends.jogamp.Audio")
+	@Label("Audio Update")
+	public static class AudioEvent extends BackendEvent {
+	}
+
+	@Name("com.badlogic.gdx.backends.jogamp.ShaderCompile")
+	@Label("Shader Compile")
+	public static class ShaderCompileEvent extends BackendEvent {
+		@Label("Shader") int shader;
+
+		@Override
+		void set (long a, long b) {
+			shader = (int)a;
+		}
+	}
+
+	@Name("com.badlogic.gdx.backends.jogamp.ProgramLink")
+	@Label("Program Link")
+	public static class ProgramLinkEvent extends BackendEvent {
+		@Label("Program") int program;
+
+		@Override
+		void set (long a, long b) {
+			program = (int)a;
+		}
+	}
+
+	@Name("com.badlogic.gdx.backends.jogamp.TextureUpload")
+	@Label("Texture Upload")
+	public static class TextureUploadEvent extends BackendEvent {
+		@Label("Width") int width;
+		@Label("Height") int height;
+
+		@Override
+		void set (long a, long b) {
+			width = (int)a;
+			height = (int)b;
+		}
+	}
+
+	/** indexed by the event types of {@link JoglFlightRecorder} */
+	private static final EventType[] types = {EventType.getEventType(FrameEvent.class),
+		EventType.getEventType(RunnablesEvent.class), EventType.getEventType(InputEvent.class),
+		EventType.getEventType(AudioEvent.class), EventType.getEventType(ShaderCompileEvent.class),
+		EventType.getEventType(ProgramLinkEvent.class), EventType.getEventType(TextureUploadEvent.class)};
+
+	JoglFlightEvents () {
+	}
+
+	@Override
+	public Object begin (int type) {
+		// only true while a recording enables the type
+		if (!types[type].isEnabled()) return null;
+		final BackendEvent event;
+		switch (type) {
+		case JoglFlightRecorder.FRAME:
+			event = new FrameEvent();
+			break;
+		case JoglFlightRecorder.RUNNABLES:
+			event = new RunnablesEvent();
+			break;
+		case JoglFlightRecorder.INPUT:
+			event = new InputEvent();
+			break;
+		case JoglFlightRecorder.AUDIO:
+			event = new AudioEvent();
+			break;
+		case JoglFlightRecorder.SHADER_COMPILE:
+			event = new ShaderCompileEvent();
+			break;
+		case JoglFlightRecorder.PROGRAM_LINK:
+			event = new ProgramLinkEvent();
+			break;
+		default:
+			event = new TextureUploadEvent();
+		}
+		event.begin();
+		return event;
+	}
+
+	@Override
+	public void commit (Object event, long frameId, long a, long b) {
+		final BackendEvent backendEvent = (BackendEvent)event;
+		backendEvent.frameId = frameId;
+		backendEvent.set(a, b);
+		backendEvent.commit();
+	}
+}
@@ -2,6 +2,8 @@ package com.badlogic.gdx.backends.jogl;
 
 import com.badlogic.gdx.backends.jogamp.JoglApplicationConfiguration;
 import com.badlogic.gdx.backends.jogamp.JoglAwtApplicationConfiguration;
+import com.badlogic.gdx.backends.jogamp.JoglHeadlessApplicationConfiguration;
+import com.badlogic.gdx.Graphics.DisplayMode;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -13,4 +15,15 @@ public class JoglApplicationConfigurationTest {
         Assert.assertNotNull(configuration);
     }
 
+    @Test
+    public void testHeadlessDisplayModeIsTheSurface() {
+        JoglHeadlessApplicationConfiguration configuration = new JoglHeadlessApplicationConfiguration(1280, 720);
+        Assert.assertFalse(configuration.vSyncEnabled);
+        DisplayMode mode = configuration.getDesktopDisplayMode();
+        Assert.assertEquals(1280, mode.width);
+        Assert.assertEquals(720, mode.height);
+        Assert.assertEquals(32, mode.bitsPerPixel);
+        Assert.assertEquals(1, configuration.getDisplayModes().length);
+    }
+
 }
@@ -0,0 +1,135 @@
+package com.badlogic.gdx.backends.jogl;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.badlogic.gdx.backends.jogamp.JoglAsyncReadback;
+import com.badlogic.gdx.backends.jogamp.JoglGL20;
+import com.badlogic.gdx.backends.jogamp.JoglGL30;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.utils.BufferUtils;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JoglAsyncReadbackTest {
+
+    private StubGL stub;
+    private JoglAsyncReadback readback;
+    private final List<String> delivered = new ArrayList<String>();
+    private final JoglAsyncReadback.Callback callback = new JoglAsyncReadback.Callback() {
+        @Override
+        public void pixels(ByteBuffer pixels, int width, int height) {
+            delivered.add(width + "x" + height + ":" + pixels.remaining() + ":" + pixels.get(0));
+        }
+    };
+    private int nextName = 1;
+    private int syncStatus = GL30.GL_TIMEOUT_EXPIRED;
+
+    @Before
+    public void setUp() {
+        stub = new StubGL();
+        stub.answers.put("glGenBuffers", new StubGL.Answer() {
+            @Override
+            public Object answer(Object[] args) {
+                ((int[]) args[1])[(Integer) args[2]] = nextName++;
+                return null;
+            }
+        });
+        stub.answers.put("glMapBuffer", new StubGL.Answer() {
+            @Override
+            public Object answer(Object[] args) {
+                final ByteBuffer mapped = BufferUtils.newByteBuffer(64);
+                mapped.put(0, (byte) 7);
+                mapped.position(10);
+                return mapped;
+            }
+        });
+        stub.answers.put("glFenceSync", new StubGL.Answer() {
+            @Override
+            public Object answer(Object[] args) {
+                return 42L;
+            }
+        });
+        stub.answers.put("glClientWaitSync", new StubGL.Answer() {
+            @Override
+            public Object answer(Object[] args) {
+                return syncStatus;
+            }
+        });
+        readback = new JoglAsyncReadback(2);
+    }
+
+    @Test
+    public void testFencedReadIsDeliveredOnceSignaled() {
+        final JoglGL30 gl = new JoglGL30(stub.gl, false);
+        readback.setGL(gl, gl, true);
+        readback.request(0, 0, 2, 3, callback);
+        readback.update(0);
+        Assert.assertEquals(1, readback.getInFlight());
+        Assert.assertEquals(1, stub.count("glReadPixels"));
+        Assert.assertEquals(1, stub.count("glFenceSync"));
+
+        readback.update(1);
+        Assert.assertTrue(delivered.isEmpty());
+
+        syncStatus = GL30.GL_ALREADY_SIGNALED;
+        readback.update(2);
+        Assert.assertEquals(1, delivered.size());
+        Assert.assertEquals("2x3:24:7", delivered.get(0));
+        Assert.assertEquals(1, stub.count("glUnmapBuffer"));
+        Assert.assertEquals(1, stub.count("glDeleteSync"));
+        Assert.assertEquals(0, readback.getInFlight());
+    }
+
+    @Test
+    public void testBuffersAreReused() {
+        final JoglGL30 gl = new JoglGL30(stub.gl, false);
+        readback.setGL(gl, gl, true);
+        syncStatus = GL30.GL_CONDITION_SATISFIED;
+        for (int frame = 0; frame < 4; frame++) {
+            readback.request(0, 0, 1, 1, callback);
+            readback.update(frame);
+        }
+        Assert.assertEquals(3, delivered.size());
+        Assert.assertEquals(1, stub.count("glGenBuffers"));
+        Assert.assertEquals(1, stub.count("glBufferData"));
+    }
+
+    @Test
+    public void testReadsInFlightAreLimited() {
+        final JoglGL30 gl = new JoglGL30(stub.gl, false);
+        readback.setGL(gl, gl, true);
+        for (int i = 0; i < 3; i++) {
+            readback.request(0, 0, 1, 1, callback);
+        }
+        readback.update(0);
+        Assert.assertEquals(2, readback.getInFlight());
+        Assert.assertEquals(2, stub.count("glReadPixels"));
+    }
+
+    @Test
+    public void testWithoutFencesReadIsDeliveredAfterAsManyFramesAsBuffers() {
+        final JoglGL20 gl = new JoglGL20(stub.gl, false);
+        readback.setGL(gl, gl, true);
+        readback.request(0, 0, 1, 1, callback);
+        readback.update(0);
+        readback.update(1);
+        Assert.assertTrue(delivered.isEmpty());
+        readback.update(2);
+        Assert.assertEquals(1, delivered.size());
+        Assert.assertEquals(0, stub.count("glFenceSync"));
+    }
+
+    @Test
+    public void testFallsBackToSynchronousRead() {
+        final JoglGL30 gl = new JoglGL30(stub.gl, false);
+        readback.setGL(gl, gl, false);
+        readback.request(0, 0, 4, 4, callback);
+        readback.update(0);
+        Assert.assertEquals(1, delivered.size());
+        Assert.assertEquals("4x4:64:0", delivered.get(0));
+        Assert.assertEquals(0, stub.count("glBindBuffer"));
+    }
+}
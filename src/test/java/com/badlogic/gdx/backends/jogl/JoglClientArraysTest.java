@@ -0,0 +1,164 @@
+package com.badlogic.gdx.backends.jogl;
+
+import java.nio.Buffer;
+import java.nio.FloatBuffer;
+import java.nio.ShortBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.badlogic.gdx.backends.jogamp.JoglClientArrays;
+import com.badlogic.gdx.backends.jogamp.JoglGL30;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.utils.BufferUtils;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JoglClientArraysTest {
+
+    private StubGL stub;
+    private JoglClientArrays gl;
+    private final List<String> calls = new ArrayList<String>();
+    private int nextName = 1;
+
+    private StubGL.Answer record(final String name) {
+        return new StubGL.Answer() {
+            @Override
+            public Object answer(Object[] args) {
+                final StringBuilder call = new StringBuilder(name).append('(');
+                for (int i = 0; i < args.length; i++) {
+                    if (i > 0) call.append(", ");
+                    call.append(args[i] instanceof Buffer ? "buffer@" + ((Buffer) args[i]).position() : args[i]);
+                }
+                calls.add(call.append(')').toString());
+                return null;
+            }
+        };
+    }
+
+    @Before
+    public void setUp() {
+        stub = new StubGL();
+        final StubGL.Answer gen = new StubGL.Answer() {
+            @Override
+            public Object answer(Object[] args) {
+                ((int[]) args[1])[(Integer) args[2]] = nextName++;
+                return null;
+            }
+        };
+        stub.answers.put("glGenBuffers", gen);
+        stub.answers.put("glGenVertexArrays", gen);
+        for (String name : new String[]{"glBindBuffer", "glBufferSubData", "glVertexAttribPointer", "glDrawElements",
+                "glDrawArrays", "glBindVertexArray"}) {
+            stub.answers.put(name, record(name));
+        }
+        gl = new JoglClientArrays(new JoglGL30(stub.gl, false));
+        calls.clear();
+    }
+
+    @Test
+    public void testDefaultVertexArrayIsBound() {
+        Assert.assertEquals(1, stub.count("glBindVertexArray"));
+        gl.glBindVertexArray(7);
+        gl.glBindVertexArray(0);
+        // buffers 1 and 2 are the streaming buffers, 3 the default vertex array
+        Assert.assertEquals(Arrays.asList("glBindVertexArray(7)", "glBindVertexArray(3)"), calls);
+    }
+
+    @Test
+    public void testInterleavedClientArraysAreUploadedOnce() {
+        final FloatBuffer vertices = BufferUtils.newFloatBuffer(12);
+        gl.glEnableVertexAttribArray(0);
+        gl.glEnableVertexAttribArray(1);
+        vertices.position(0);
+        gl.glVertexAttribPointer(0, 2, GL20.GL_FLOAT, false, 16, vertices);
+        vertices.position(2);
+        gl.glVertexAttribPointer(1, 2, GL20.GL_FLOAT, false, 16, vertices);
+        vertices.position(5);
+        gl.glDrawArrays(GL20.GL_TRIANGLES, 0, 3);
+
+        Assert.assertEquals(Arrays.asList(
+                "glBindBuffer(34962, 1)",
+                "glBufferSubData(34962, 0, 48, buffer@0)",
+                "glVertexAttribPointer(0, 2, 5126, false, 16, 0)",
+                "glVertexAttribPointer(1, 2, 5126, false, 16, 8)",
+                "glBindBuffer(34962, 0)",
+                "glDrawArrays(4, 0, 3)"), calls);
+        Assert.assertEquals(5, vertices.position());
+        Assert.assertEquals(1, gl.getOrphans());
+    }
+
+    @Test
+    public void testOnlyTheDrawnVerticesAreUploaded() {
+        final FloatBuffer vertices = BufferUtils.newFloatBuffer(400);
+        gl.glEnableVertexAttribArray(0);
+        gl.glVertexAttribPointer(0, 2, GL20.GL_FLOAT, false, 8, vertices);
+        gl.glDrawArrays(GL20.GL_TRIANGLES, 100, 3);
+        gl.glDrawArrays(GL20.GL_TRIANGLES, 100, 3);
+
+        // the skipped bytes are left before the vertices, so that the offset of the attribute isn't negative
+        Assert.assertEquals(Arrays.asList(
+                "glBindBuffer(34962, 1)",
+                "glBufferSubData(34962, 800, 24, buffer@200)",
+                "glVertexAttribPointer(0, 2, 5126, false, 8, 0)",
+                "glBindBuffer(34962, 0)",
+                "glDrawArrays(4, 100, 3)",
+                "glBindBuffer(34962, 1)",
+                "glBufferSubData(34962, 832, 24, buffer@200)",
+                "glVertexAttribPointer(0, 2, 5126, false, 8, 32)",
+                "glBindBuffer(34962, 0)",
+                "glDrawArrays(4, 100, 3)"), calls);
+        Assert.assertEquals(0, vertices.position());
+        Assert.assertEquals(48, gl.getUploadedBytes());
+    }
+
+    @Test
+    public void testVerticesOfTheClientIndicesAreUploaded() {
+        final FloatBuffer vertices = BufferUtils.newFloatBuffer(100);
+        final ShortBuffer indices = BufferUtils.newShortBuffer(3);
+        indices.put(new short[]{12, 10, 11}).flip();
+        gl.glEnableVertexAttribArray(0);
+        gl.glVertexAttribPointer(0, 2, GL20.GL_FLOAT, false, 0, vertices);
+        gl.glDrawElements(GL20.GL_TRIANGLES, 3, GL20.GL_UNSIGNED_SHORT, indices);
+
+        Assert.assertEquals(Arrays.asList(
+                "glBindBuffer(34962, 1)",
+                "glBufferSubData(34962, 80, 24, buffer@20)",
+                "glVertexAttribPointer(0, 2, 5126, false, 0, 0)",
+                "glBindBuffer(34962, 0)",
+                "glBindBuffer(34963, 2)",
+                "glBufferSubData(34963, 0, 6, buffer@0)",
+                "glDrawElements(4, 3, 5123, 0)",
+                "glBindBuffer(34963, 0)"), calls);
+    }
+
+    @Test
+    public void testClientIndicesAreStreamed() {
+        gl.glBindBuffer(GL20.GL_ELEMENT_ARRAY_BUFFER, 9);
+        calls.clear();
+        final ShortBuffer indices = BufferUtils.newShortBuffer(6);
+        gl.glDrawElements(GL20.GL_TRIANGLES, 6, GL20.GL_UNSIGNED_SHORT, indices);
+        gl.glDrawElements(GL20.GL_TRIANGLES, 6, GL20.GL_UNSIGNED_SHORT, indices);
+        Assert.assertEquals(Arrays.asList(
+                "glBindBuffer(34963, 2)",
+                "glBufferSubData(34963, 0, 12, buffer@0)",
+                "glDrawElements(4, 6, 5123, 0)",
+                "glBindBuffer(34963, 9)",
+                "glBindBuffer(34963, 2)",
+                "glBufferSubData(34963, 16, 12, buffer@0)",
+                "glDrawElements(4, 6, 5123, 16)",
+                "glBindBuffer(34963, 9)"), calls);
+    }
+
+    @Test
+    public void testBufferPointersDisableTheClientArray() {
+        final FloatBuffer vertices = BufferUtils.newFloatBuffer(4);
+        gl.glEnableVertexAttribArray(0);
+        gl.glVertexAttribPointer(0, 2, GL20.GL_FLOAT, false, 8, vertices);
+        gl.glVertexAttribPointer(0, 2, GL20.GL_FLOAT, false, 8, 0);
+        calls.clear();
+        gl.glDrawArrays(GL20.GL_TRIANGLES, 0, 3);
+        Assert.assertEquals(Arrays.asList("glDrawArrays(4, 0, 3)"), calls);
+    }
+}
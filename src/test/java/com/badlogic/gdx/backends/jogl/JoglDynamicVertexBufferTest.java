@@ -0,0 +1,86 @@
+package com.badlogic.gdx.backends.jogl;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.badlogic.gdx.backends.jogamp.JoglDynamicVertexBuffer;
+import com.badlogic.gdx.backends.jogamp.JoglGL30;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JoglDynamicVertexBufferTest {
+
+    private StubGL stub;
+    private JoglGL30 gl;
+    private final List<long[]> mappedRanges = new ArrayList<long[]>();
+    private ByteBuffer mapped;
+
+    @Before
+    public void setUp() {
+        stub = new StubGL();
+        stub.answers.put("glMapBufferRange", new StubGL.Answer() {
+            @Override
+            public Object answer(Object[] args) {
+                mappedRanges.add(new long[]{(Long) args[1], (Long) args[2], (Integer) args[3]});
+                mapped = BufferUtils.newByteBuffer(((Long) args[2]).intValue());
+                return mapped;
+            }
+        });
+        stub.answers.put("glUnmapBuffer", new StubGL.Answer() {
+            @Override
+            public Object answer(Object[] args) {
+                return true;
+            }
+        });
+        gl = new JoglGL30(stub.gl, false);
+    }
+
+    @Test
+    public void testRangesAreAppendedUnsynchronized() {
+        final JoglDynamicVertexBuffer buffer = new JoglDynamicVertexBuffer(gl, gl, GL20.GL_ARRAY_BUFFER, 100, 12);
+        Assert.assertEquals(0, buffer.append(new float[]{1, 2, 3, 4, 5, 6}, 0, 6));
+        Assert.assertEquals(1f, mapped.getFloat(0), 0);
+        // the second range starts on the next vertex boundary
+        Assert.assertEquals(24, buffer.append(new float[]{1, 2, 3}, 0, 3));
+        Assert.assertEquals(2, mappedRanges.size());
+        Assert.assertEquals(24, mappedRanges.get(1)[0]);
+        Assert.assertTrue((mappedRanges.get(1)[2] & GL30.GL_MAP_UNSYNCHRONIZED_BIT) != 0);
+        Assert.assertEquals(0, buffer.getOrphans());
+        Assert.assertEquals(36, buffer.getAppendedBytes());
+    }
+
+    @Test
+    public void testStoreIsOrphanedWhenFull() {
+        final JoglDynamicVertexBuffer buffer = new JoglDynamicVertexBuffer(gl, gl, GL20.GL_ARRAY_BUFFER, 100, 4);
+        buffer.map(60);
+        buffer.unmap();
+        buffer.map(60);
+        Assert.assertEquals(0, buffer.unmap());
+        Assert.assertEquals(1, buffer.getOrphans());
+        // creation plus the orphaning
+        Assert.assertEquals(2, stub.count("glBufferData"));
+    }
+
+    @Test(expected = GdxRuntimeException.class)
+    public void testMappingTwiceIsRejected() {
+        final JoglDynamicVertexBuffer buffer = new JoglDynamicVertexBuffer(gl, gl, GL20.GL_ARRAY_BUFFER, 100, 4);
+        buffer.map(4);
+        buffer.map(4);
+    }
+
+    @Test
+    public void testBufferPointerOfUnboundTargetIsNull() {
+        Assert.assertNull(gl.glGetBufferPointerv(GL20.GL_ARRAY_BUFFER, GL30.GL_BUFFER_MAP_POINTER));
+    }
+
+    @Test(expected = GdxRuntimeException.class)
+    public void testBufferPointerOnlySupportsMapPointer() {
+        gl.glGetBufferPointerv(GL20.GL_ARRAY_BUFFER, GL30.GL_BUFFER_MAP_LENGTH);
+    }
+}
@@ -0,0 +1,60 @@
+package com.badlogic.gdx.backends.jogl;
+
+import com.badlogic.gdx.backends.jogamp.JoglFixedTimestep;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class JoglFixedTimestepTest {
+
+    private static final long TICK = 1000000000L / 50;
+
+    private int updates;
+
+    private final JoglFixedTimestep.Listener listener = new JoglFixedTimestep.Listener() {
+        @Override
+        public void fixedUpdate(float step) {
+            Assert.assertEquals(0.02f, step, 0.0001f);
+            updates++;
+        }
+    };
+
+    @Test
+    public void testTicksAtTheFixedRate() {
+        final JoglFixedTimestep timestep = new JoglFixedTimestep(listener, 50, 5);
+        // a 144 Hz display runs a tick every third frame or so
+        for (int i = 0; i < 144; i++) {
+            timestep.advance(1000000000L / 144);
+        }
+        // a second minus the rounding of the frame duration
+        Assert.assertEquals(49, updates);
+        Assert.assertEquals(49, timestep.getTicks());
+    }
+
+    @Test
+    public void testAlphaInterpolatesBetweenTicks() {
+        final JoglFixedTimestep timestep = new JoglFixedTimestep(listener, 50, 5);
+        Assert.assertEquals(0, timestep.advance(TICK / 4));
+        Assert.assertEquals(0.25f, timestep.getAlpha(), 0.001f);
+        Assert.assertEquals(1, timestep.advance(TICK));
+        Assert.assertEquals(0.25f, timestep.getAlpha(), 0.001f);
+        timestep.reset();
+        Assert.assertEquals(0, timestep.getAlpha(), 0);
+    }
+
+    @Test
+    public void testCatchUpIsCapped() {
+        final JoglFixedTimestep timestep = new JoglFixedTimestep(listener, 50, 5);
+        // a one second stall
+        Assert.assertEquals(5, timestep.advance(50 * TICK + TICK / 2));
+        Assert.assertEquals(45, timestep.getDropped());
+        Assert.assertEquals(0.5f, timestep.getAlpha(), 0.001f);
+        // the next frame is back to normal
+        Assert.assertEquals(1, timestep.advance(TICK));
+        Assert.assertEquals(6, updates);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidRate() {
+        new JoglFixedTimestep(listener, 0, 5);
+    }
+}
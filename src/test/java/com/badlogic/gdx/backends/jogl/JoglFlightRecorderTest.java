@@ -0,0 +1,15 @@
+package com.badlogic.gdx.backends.jogl;
+
+import com.badlogic.gdx.backends.jogamp.JoglFlightRecorder;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class JoglFlightRecorderTest {
+
+    @Test
+    public void testNothingIsCreatedWithoutRecording() {
+        Assert.assertNull(JoglFlightRecorder.begin(JoglFlightRecorder.FRAME));
+        // a null event is ignored
+        JoglFlightRecorder.commit(null, 0);
+    }
+}
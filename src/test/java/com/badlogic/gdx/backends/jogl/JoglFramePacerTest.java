@@ -0,0 +1,49 @@
+package com.badlogic.gdx.backends.jogl;
+
+import com.badlogic.gdx.backends.jogamp.JoglFramePacer;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class JoglFramePacerTest {
+
+    @Test
+    public void testFramesArePaced() {
+        final JoglFramePacer pacer = new JoglFramePacer(10);
+        final long start = System.nanoTime();
+        // the first frame starts right away
+        for (int i = 0; i <= 40; i++) {
+            pacer.sync(200);
+        }
+        final long elapsed = System.nanoTime() - start;
+        Assert.assertTrue("took " + elapsed, elapsed >= 200000000L);
+        Assert.assertTrue("took " + elapsed, elapsed < 400000000L);
+        // generous, the spin phase keeps it well under a millisecond on an idle machine
+        Assert.assertTrue("error " + pacer.getPacingError(), pacer.getPacingError() < 5000000f);
+    }
+
+    @Test
+    public void testZeroDoesNotWait() {
+        final JoglFramePacer pacer = new JoglFramePacer(10);
+        final long start = System.nanoTime();
+        for (int i = 0; i < 1000; i++) {
+            pacer.sync(0);
+        }
+        Assert.assertTrue(System.nanoTime() - start < 100000000L);
+        Assert.assertEquals(0, pacer.getMaxPacingError());
+    }
+
+    @Test
+    public void testStallIsNotCaughtUp() throws InterruptedException {
+        final JoglFramePacer pacer = new JoglFramePacer(10);
+        pacer.sync(100);
+        pacer.sync(100);
+        // miss several frames
+        Thread.sleep(100);
+        pacer.sync(100);
+        Assert.assertTrue(pacer.getMaxPacingError() >= 50000000L);
+        final long start = System.nanoTime();
+        pacer.sync(100);
+        // the next frame is a full period later rather than immediately
+        Assert.assertTrue(System.nanoTime() - start >= 9000000L);
+    }
+}
@@ -0,0 +1,109 @@
+package com.badlogic.gdx.backends.jogl;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import com.badlogic.gdx.backends.jogamp.JoglFrameState;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class JoglFrameStateTest {
+
+    @Test
+    public void testNoFrameWhilePaused() {
+        final JoglFrameState state = new JoglFrameState();
+        Assert.assertTrue(state.isPaused());
+        Assert.assertFalse(state.beginFrame());
+        state.resume();
+        Assert.assertTrue(state.beginFrame());
+        Assert.assertEquals(JoglFrameState.RENDERING, state.getState());
+        state.endFrame();
+        Assert.assertEquals(JoglFrameState.RUNNING, state.getState());
+        state.pause();
+        Assert.assertEquals(JoglFrameState.PAUSED, state.getState());
+        Assert.assertFalse(state.beginFrame());
+    }
+
+    @Test
+    public void testRenderRequestIsConsumedOnce() {
+        final JoglFrameState state = new JoglFrameState();
+        Assert.assertFalse(state.consumeRenderRequest());
+        state.requestRendering();
+        state.requestRendering();
+        Assert.assertTrue(state.isRenderRequested());
+        Assert.assertTrue(state.consumeRenderRequest());
+        Assert.assertFalse(state.consumeRenderRequest());
+    }
+
+    @Test
+    public void testPauseFromTheFrameEndsIt() {
+        final JoglFrameState state = new JoglFrameState();
+        state.resume();
+        Assert.assertTrue(state.beginFrame());
+        Assert.assertTrue(state.isRenderingThread());
+        // e.g. the application exits from render(), this must not deadlock
+        Assert.assertFalse(state.pause());
+        Assert.assertEquals(JoglFrameState.PAUSING, state.getState());
+        Assert.assertTrue(state.isPaused());
+        state.endFrame();
+        Assert.assertEquals(JoglFrameState.PAUSED, state.getState());
+        Assert.assertFalse(state.isRenderingThread());
+    }
+
+    @Test
+    public void testResumeCancelsAPendingPause() {
+        final JoglFrameState state = new JoglFrameState();
+        state.resume();
+        state.beginFrame();
+        state.pause();
+        state.resume();
+        state.endFrame();
+        Assert.assertEquals(JoglFrameState.RUNNING, state.getState());
+    }
+
+    @Test
+    public void testPauseWaitsForTheFrame() throws InterruptedException {
+        final JoglFrameState state = new JoglFrameState();
+        state.resume();
+        Assert.assertTrue(state.beginFrame());
+        final CountDownLatch paused = new CountDownLatch(1);
+        final Thread pauser = new Thread() {
+            @Override
+            public void run() {
+                if (state.pause()) paused.countDown();
+            }
+        };
+        pauser.start();
+        Assert.assertFalse(paused.await(50, TimeUnit.MILLISECONDS));
+        // requesting rendering never waits for the frame
+        state.requestRendering();
+        Assert.assertTrue(state.isRenderRequested());
+        state.endFrame();
+        Assert.assertTrue(paused.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(JoglFrameState.PAUSED, state.getState());
+        pauser.join();
+    }
+
+    @Test
+    public void testPauseGivesUpOnAStuckFrame() throws InterruptedException {
+        final JoglFrameState state = new JoglFrameState();
+        state.resume();
+        final Thread rendering = new Thread() {
+            @Override
+            public void run() {
+                // the frame never ends
+                state.beginFrame();
+            }
+        };
+        rendering.start();
+        rendering.join();
+        Assert.assertEquals(JoglFrameState.RENDERING, state.getState());
+        final long start = System.nanoTime();
+        Assert.assertFalse(state.pause());
+        Assert.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(JoglFrameState.PAUSE_TIMEOUT));
+        // the application is still paused once the frame ends
+        Assert.assertEquals(JoglFrameState.PAUSING, state.getState());
+        state.endFrame();
+        Assert.assertEquals(JoglFrameState.PAUSED, state.getState());
+    }
+}
@@ -0,0 +1,68 @@
+package com.badlogic.gdx.backends.jogl;
+
+import com.badlogic.gdx.backends.jogamp.JoglFrameStats;
+import com.badlogic.gdx.backends.jogamp.JoglRenderLoop.Phase;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class JoglFrameStatsTest {
+
+    private static final long MS = 1000000;
+
+    private final long[] phases = new long[Phase.values().length];
+
+    @Test
+    public void testPercentiles() {
+        final JoglFrameStats stats = new JoglFrameStats(100);
+        Assert.assertEquals(0, stats.getPercentile(50));
+        for (int i = 1; i <= 100; i++) {
+            phases[Phase.Render.ordinal()] = i * MS / 10;
+            stats.record(i * MS, phases);
+        }
+        Assert.assertEquals(100, stats.getCount());
+        // within the 3% resolution of the histogram
+        Assert.assertEquals(50 * MS, stats.getPercentile(50), 50 * MS * 0.04);
+        Assert.assertEquals(95 * MS, stats.getPercentile(95), 95 * MS * 0.04);
+        Assert.assertEquals(99 * MS, stats.getPercentile(99), 99 * MS * 0.04);
+        Assert.assertEquals(100 * MS, stats.getPercentile(100));
+        Assert.assertEquals(100 * MS, stats.getMax());
+        Assert.assertEquals(10 * MS, stats.getMax(Phase.Render));
+        Assert.assertEquals(5 * MS, stats.getPercentile(Phase.Render, 50), 5 * MS * 0.04);
+        Assert.assertEquals(0, stats.getPercentile(Phase.Audio, 99));
+    }
+
+    @Test
+    public void testOldFramesLeaveTheWindow() {
+        final JoglFrameStats stats = new JoglFrameStats(10);
+        stats.record(500 * MS, phases);
+        for (int i = 0; i < 10; i++) {
+            stats.record(16 * MS, phases);
+        }
+        Assert.assertEquals(10, stats.getCount());
+        Assert.assertEquals(16 * MS, stats.getMax());
+        Assert.assertEquals(16 * MS, stats.getPercentile(99));
+    }
+
+    @Test
+    public void testHitchListener() {
+        final JoglFrameStats stats = new JoglFrameStats(10);
+        final long[] hitch = new long[2];
+        stats.setHitchListener(new JoglFrameStats.HitchListener() {
+            @Override
+            public void hitch(long frameNanos, long[] phaseNanos) {
+                hitch[0] = frameNanos;
+                hitch[1] = phaseNanos[Phase.Render.ordinal()];
+            }
+        }, 50 * MS);
+        stats.record(16 * MS, phases);
+        Assert.assertEquals(0, stats.getHitches());
+        phases[Phase.Render.ordinal()] = 70 * MS;
+        stats.record(80 * MS, phases);
+        Assert.assertEquals(1, stats.getHitches());
+        Assert.assertEquals(80 * MS, hitch[0]);
+        Assert.assertEquals(70 * MS, hitch[1]);
+        stats.reset();
+        Assert.assertEquals(0, stats.getCount());
+        Assert.assertEquals(0, stats.getMax());
+    }
+}
@@ -0,0 +1,157 @@
+package com.badlogic.gdx.backends.jogl;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import com.badlogic.gdx.backends.jogamp.JoglGL20;
+import com.badlogic.gdx.graphics.GL20;
+import com.jogamp.opengl.GL2ES2;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Checks that the object name helpers and the info logs of {@link JoglGL20} don't allocate once warmed up. The stub GL
+ * allocates the arguments of each call, so the wrapper is compared with the same GL calls made directly.
+ */
+public class JoglGL20AllocationTest {
+
+    private static final int CALLS = 10000;
+
+    private StubGL stub;
+    private JoglGL20 gl;
+    private com.sun.management.ThreadMXBean threads;
+
+    @Before
+    public void setUp() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        threads = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        stub = new StubGL();
+        stub.countCalls = false;
+        gl = new JoglGL20(stub.gl, false);
+    }
+
+    @Test
+    public void testObjectNameHelpersDoNotAllocate() {
+        final int[] names = new int[1];
+        Runnable wrapper = new Runnable() {
+            @Override
+            public void run() {
+                gl.glDeleteTexture(gl.glGenTexture());
+                gl.glDeleteBuffer(gl.glGenBuffer());
+                gl.glDeleteFramebuffer(gl.glGenFramebuffer());
+                gl.glDeleteRenderbuffer(gl.glGenRenderbuffer());
+            }
+        };
+        Runnable direct = new Runnable() {
+            @Override
+            public void run() {
+                stub.gl.glGenTextures(1, names, 0);
+                stub.gl.glDeleteTextures(1, names, 0);
+                stub.gl.glGenBuffers(1, names, 0);
+                stub.gl.glDeleteBuffers(1, names, 0);
+                stub.gl.glGenFramebuffers(1, names, 0);
+                stub.gl.glDeleteFramebuffers(1, names, 0);
+                stub.gl.glGenRenderbuffers(1, names, 0);
+                stub.gl.glDeleteRenderbuffers(1, names, 0);
+            }
+        };
+        assertNoAllocation(wrapper, direct);
+    }
+
+    @Test
+    public void testInfoLogsDoNotAllocate() {
+        final byte[] message = "0:1(2): error: syntax error".getBytes();
+        final StubGL.Answer logLength = new StubGL.Answer() {
+            @Override
+            public Object answer(Object[] args) {
+                ((int[]) args[2])[(Integer) args[3]] = message.length;
+                return null;
+            }
+        };
+        final StubGL.Answer infoLog = new StubGL.Answer() {
+            @Override
+            public Object answer(Object[] args) {
+                final int length = Math.min(message.length, (Integer) args[1]);
+                ((int[]) args[2])[(Integer) args[3]] = length;
+                System.arraycopy(message, 0, (byte[]) args[4], (Integer) args[5], length);
+                return null;
+            }
+        };
+        // the answers are only called for the void methods while counting, the same calls being counted in both paths
+        stub.countCalls = true;
+        stub.answers.put("glGetShaderiv", logLength);
+        stub.answers.put("glGetProgramiv", logLength);
+        stub.answers.put("glGetShaderInfoLog", infoLog);
+        stub.answers.put("glGetProgramInfoLog", infoLog);
+        Assert.assertEquals(new String(message), gl.glGetShaderInfoLog(1));
+        Assert.assertEquals(new String(message), gl.glGetProgramInfoLog(2));
+
+        final int[] length = new int[1];
+        final byte[] log = new byte[message.length];
+        final GL2ES2 gl2es2 = stub.gl.getGL2ES2();
+        Runnable wrapper = new Runnable() {
+            @Override
+            public void run() {
+                gl.glGetShaderInfoLog(1);
+                gl.glGetProgramInfoLog(2);
+            }
+        };
+        // the returned strings are allocated either way
+        Runnable direct = new Runnable() {
+            @Override
+            public void run() {
+                gl2es2.glGetShaderiv(1, GL20.GL_INFO_LOG_LENGTH, length, 0);
+                gl2es2.glGetShaderInfoLog(1, length[0], length, 0, log, 0);
+                new String(log, 0, length[0]);
+                gl2es2.glGetProgramiv(2, GL20.GL_INFO_LOG_LENGTH, length, 0);
+                gl2es2.glGetProgramInfoLog(2, length[0], length, 0, log, 0);
+                new String(log, 0, length[0]);
+            }
+        };
+        BufferPoolMXBean directPool = directBufferPool();
+        long directBuffers = directPool == null ? 0 : directPool.getCount();
+        assertNoAllocation(wrapper, direct);
+        if (directPool != null) {
+            // the direct buffers of the other tests may be collected meanwhile
+            Assert.assertTrue("direct buffers allocated", directPool.getCount() <= directBuffers);
+        }
+    }
+
+    private void assertNoAllocation(Runnable wrapper, Runnable direct) {
+        // warm up both paths so that they are compiled the same way
+        allocated(wrapper);
+        allocated(direct);
+        allocated(wrapper);
+        allocated(direct);
+
+        long wrapperBytes = allocated(wrapper);
+        long directBytes = allocated(direct);
+        Assert.assertTrue("the wrapper allocated " + (wrapperBytes - directBytes) + " bytes in " + CALLS + " calls",
+                wrapperBytes - directBytes < CALLS);
+    }
+
+    private long allocated(Runnable runnable) {
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < CALLS; i++) {
+            runnable.run();
+        }
+        return threads.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    private static BufferPoolMXBean directBufferPool() {
+        for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            if (pool.getName().equals("direct")) {
+                return pool;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,63 @@
+package com.badlogic.gdx.backends.jogl;
+
+import com.badlogic.gdx.backends.jogamp.JoglGL20;
+import com.badlogic.gdx.backends.jogamp.JoglGL30;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JoglGL20Test {
+
+    private StubGL stub;
+    private StubGLContext context;
+
+    @Before
+    public void setUp() {
+        stub = new StubGL();
+        context = new StubGLContext(stub);
+    }
+
+    @After
+    public void tearDown() {
+        context.release();
+    }
+
+    @Test
+    public void testPerCallLookupUsesCurrentContext() {
+        context.makeCurrent();
+        JoglGL20 gl = new JoglGL20();
+        Assert.assertFalse(gl.isBound());
+        gl.glUseProgram(1);
+        gl.glBindTexture(0, 2);
+        Assert.assertEquals(1, stub.count("glUseProgram"));
+        Assert.assertEquals(1, stub.count("glBindTexture"));
+    }
+
+    @Test
+    public void testBoundWrapperDoesNotNeedCurrentContext() {
+        JoglGL30 gl = new JoglGL30(stub.gl, false);
+        Assert.assertTrue(gl.isBound());
+        gl.glUseProgram(1);
+        gl.glBindVertexArray(2);
+        gl.glBindSampler(0, 3);
+        Assert.assertEquals(1, stub.count("glUseProgram"));
+        Assert.assertEquals(1, stub.count("glBindVertexArray"));
+        Assert.assertEquals(1, stub.count("glBindSampler"));
+    }
+
+    @Test(expected = GdxRuntimeException.class)
+    public void testCheckThreadRejectsCallsWithoutCurrentContext() {
+        JoglGL20 gl = new JoglGL20(stub.gl, true);
+        gl.glUseProgram(1);
+    }
+
+    @Test
+    public void testCheckThreadAcceptsCallsWithCurrentContext() {
+        context.makeCurrent();
+        JoglGL20 gl = new JoglGL20(stub.gl, true);
+        gl.glUseProgram(1);
+        Assert.assertEquals(1, stub.count("glUseProgram"));
+    }
+}
@@ -0,0 +1,211 @@
+package com.badlogic.gdx.backends.jogl;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.badlogic.gdx.backends.jogamp.JoglGLCommandBuffer;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JoglGLCommandBufferTest {
+
+    /** Remembers the replayed calls, the content of the buffers and arrays is copied at the time of the call. */
+    private static class RecordingGL implements InvocationHandler {
+        final List<String> calls = new ArrayList<String>();
+        final GL20 gl = (GL20) Proxy.newProxyInstance(RecordingGL.class.getClassLoader(), new Class<?>[]{GL20.class}, this);
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            final StringBuilder call = new StringBuilder(method.getName()).append('(');
+            for (int i = 0; args != null && i < args.length; i++) {
+                if (i > 0) call.append(", ");
+                call.append(toString(args[i]));
+            }
+            calls.add(call.append(')').toString());
+            return null;
+        }
+
+        private static String toString(Object arg) {
+            if (arg instanceof float[]) return Arrays.toString((float[]) arg);
+            if (arg instanceof int[]) return Arrays.toString((int[]) arg);
+            if (arg instanceof ByteBuffer) {
+                final ByteBuffer buffer = (ByteBuffer) arg;
+                final byte[] bytes = new byte[buffer.remaining()];
+                buffer.duplicate().get(bytes);
+                return Arrays.toString(bytes);
+            }
+            if (arg instanceof FloatBuffer) {
+                final FloatBuffer buffer = (FloatBuffer) arg;
+                final float[] floats = new float[buffer.remaining()];
+                buffer.duplicate().get(floats);
+                return Arrays.toString(floats);
+            }
+            return String.valueOf(arg);
+        }
+    }
+
+    private JoglGLCommandBuffer commands;
+    private RecordingGL gl;
+
+    @Before
+    public void setUp() {
+        commands = new JoglGLCommandBuffer(64);
+        gl = new RecordingGL();
+    }
+
+    @Test
+    public void testCallsAreReplayedInOrder() {
+        commands.glClearColor(0.5f, 0, 0, 1);
+        commands.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        commands.glUseProgram(3);
+        commands.glDepthMask(false);
+        commands.glDrawElements(GL20.GL_TRIANGLES, 6, GL20.GL_UNSIGNED_SHORT, 12);
+        Assert.assertEquals(5, commands.getRecordedCommands());
+        Assert.assertFalse(commands.replay(gl.gl));
+
+        commands.submit();
+        Assert.assertEquals(0, commands.getRecordedCommands());
+        Assert.assertTrue(commands.hasPending());
+        Assert.assertTrue(commands.replay(gl.gl));
+        Assert.assertFalse(commands.hasPending());
+        Assert.assertEquals(Arrays.asList(
+                "glClearColor(0.5, 0.0, 0.0, 1.0)",
+                "glClear(16384)",
+                "glUseProgram(3)",
+                "glDepthMask(false)",
+                "glDrawElements(4, 6, 5123, 12)"), gl.calls);
+    }
+
+    @Test
+    public void testArgumentsAreCopied() {
+        final float[] matrix = new float[16];
+        matrix[0] = 1;
+        final FloatBuffer color = BufferUtils.newFloatBuffer(4);
+        color.put(new float[]{1, 2, 3, 4}).flip();
+        final ByteBuffer pixels = BufferUtils.newByteBuffer(6);
+        pixels.put(new byte[]{9, 1, 2, 3, 4, 9});
+        pixels.position(1).limit(5);
+
+        commands.glUniformMatrix4fv(1, 1, false, matrix, 0);
+        commands.glUniform4fv(2, 1, color);
+        commands.glTexSubImage2D(GL20.GL_TEXTURE_2D, 0, 0, 0, 1, 1, GL20.GL_RGBA, GL20.GL_UNSIGNED_BYTE, pixels);
+        commands.glBufferData(GL20.GL_ARRAY_BUFFER, 16, null, GL20.GL_STATIC_DRAW);
+        matrix[0] = 5;
+        color.put(0, 5);
+        pixels.put(1, (byte) 5);
+        Assert.assertEquals(1, pixels.position());
+        Assert.assertEquals(5, pixels.limit());
+        Assert.assertEquals(0, color.position());
+
+        commands.submit();
+        commands.replay(gl.gl);
+        Assert.assertEquals("glUniformMatrix4fv(1, 1, false, [1.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0], 0)", gl.calls.get(0));
+        // the replay reuses a scratch array, only the first count * 4 values matter
+        Assert.assertTrue(gl.calls.get(1), gl.calls.get(1).startsWith("glUniform4fv(2, 1, [1.0, 2.0, 3.0, 4.0"));
+        Assert.assertEquals("glTexSubImage2D(3553, 0, 0, 0, 1, 1, 6408, 5121, [1, 2, 3, 4])", gl.calls.get(2));
+        Assert.assertEquals("glBufferData(34962, 16, null, 35044)", gl.calls.get(3));
+    }
+
+    @Test
+    public void testTypedBuffersAreReplayedAsNativeOrderBytes() {
+        final FloatBuffer vertices = BufferUtils.newFloatBuffer(2);
+        vertices.put(new float[]{1, 2}).flip();
+        commands.glBufferSubData(GL20.GL_ARRAY_BUFFER, 0, 8, vertices);
+        commands.submit();
+
+        final List<Buffer> replayed = new ArrayList<Buffer>();
+        final GL20 capture = (GL20) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{GL20.class},
+                new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        final ByteBuffer buffer = ((ByteBuffer) args[3]).slice().order(ByteOrder.nativeOrder());
+                        replayed.add(buffer);
+                        Assert.assertEquals(8, buffer.remaining());
+                        Assert.assertEquals(1f, buffer.getFloat(0), 0);
+                        Assert.assertEquals(2f, buffer.getFloat(4), 0);
+                        return null;
+                    }
+                });
+        commands.replay(capture);
+        Assert.assertEquals(1, replayed.size());
+    }
+
+    @Test
+    public void testReplayedBuffersAreNotShared() {
+        final FloatBuffer vertices = BufferUtils.newFloatBuffer(4);
+        vertices.put(new float[]{1, 2, 3, 4}).flip();
+        commands.glVertexAttribPointer(0, 2, GL20.GL_FLOAT, false, 8, vertices);
+        commands.glBufferSubData(GL20.GL_ARRAY_BUFFER, 0, 4, BufferUtils.newByteBuffer(4));
+        commands.submit();
+
+        final List<Buffer> replayed = new ArrayList<Buffer>();
+        final GL20 capture = (GL20) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{GL20.class},
+                new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        replayed.add((Buffer) args[method.getName().equals("glVertexAttribPointer") ? 5 : 3]);
+                        return null;
+                    }
+                });
+        commands.replay(capture);
+        Assert.assertEquals(2, replayed.size());
+        Assert.assertNotSame(replayed.get(0), replayed.get(1));
+        // a client array kept by the callee still covers its own vertices once the next command is replayed
+        final ByteBuffer pointer = (ByteBuffer) replayed.get(0);
+        Assert.assertEquals(0, pointer.position());
+        Assert.assertEquals(16, pointer.limit());
+        Assert.assertEquals(4f, pointer.order(ByteOrder.nativeOrder()).getFloat(12), 0);
+    }
+
+    @Test
+    public void testStringsAreRecorded() {
+        commands.glShaderSource(1, "void main() {}");
+        commands.glBindAttribLocation(2, 0, "a_position");
+        commands.submit();
+        commands.replay(gl.gl);
+        Assert.assertEquals(Arrays.asList("glShaderSource(1, void main() {})", "glBindAttribLocation(2, 0, a_position)"),
+                gl.calls);
+    }
+
+    @Test
+    public void testStreamGrows() {
+        for (int i = 0; i < 1000; i++) {
+            commands.glUniform4f(i, i, i, i, i);
+        }
+        final ByteBuffer big = BufferUtils.newByteBuffer(1000);
+        commands.glBufferData(GL20.GL_ARRAY_BUFFER, 1000, big, GL20.GL_STATIC_DRAW);
+        Assert.assertEquals(1001, commands.getRecordedCommands());
+        commands.submit();
+        commands.replay(gl.gl);
+        Assert.assertEquals(1001, gl.calls.size());
+        Assert.assertEquals("glUniform4f(999, 999.0, 999.0, 999.0, 999.0)", gl.calls.get(999));
+    }
+
+    @Test
+    public void testStreamsAreReused() {
+        for (int frame = 0; frame < 4; frame++) {
+            commands.glUseProgram(frame);
+            commands.submit();
+            commands.replay(gl.gl);
+        }
+        Assert.assertEquals(Arrays.asList("glUseProgram(0)", "glUseProgram(1)", "glUseProgram(2)", "glUseProgram(3)"),
+                gl.calls);
+    }
+
+    @Test(expected = GdxRuntimeException.class)
+    public void testCallsReturningValuesCantBeRecorded() {
+        commands.glGenTexture();
+    }
+}
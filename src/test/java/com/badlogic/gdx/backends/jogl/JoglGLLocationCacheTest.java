@@ -0,0 +1,108 @@
+package com.badlogic.gdx.backends.jogl;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import com.badlogic.gdx.backends.jogamp.JoglGL20;
+import com.badlogic.gdx.backends.jogamp.JoglGLLocationCache;
+import com.badlogic.gdx.graphics.GL20;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JoglGLLocationCacheTest {
+
+    private static final List<String> UNIFORMS = Arrays.asList("u_projTrans", "u_lights[0]");
+    private static final List<String> ATTRIBUTES = Arrays.asList("a_position");
+
+    private StubGL stub;
+    private JoglGLLocationCache cache;
+
+    @Before
+    public void setUp() {
+        stub = new StubGL();
+        stub.answers.put("glGetProgramiv", new StubGL.Answer() {
+            @Override
+            public Object answer(Object[] args) {
+                IntBuffer params = (IntBuffer) args[2];
+                int pname = (Integer) args[1];
+                if (pname == GL20.GL_LINK_STATUS) params.put(params.position(), 1);
+                if (pname == GL20.GL_ACTIVE_UNIFORMS) params.put(params.position(), UNIFORMS.size());
+                if (pname == GL20.GL_ACTIVE_ATTRIBUTES) params.put(params.position(), ATTRIBUTES.size());
+                return null;
+            }
+        });
+        stub.answers.put("glGetActiveUniform", new ActiveVariable(UNIFORMS));
+        stub.answers.put("glGetActiveAttrib", new ActiveVariable(ATTRIBUTES));
+        StubGL.Answer location = new StubGL.Answer() {
+            @Override
+            public Object answer(Object[] args) {
+                String name = (String) args[1];
+                int index = UNIFORMS.indexOf(name);
+                return index >= 0 ? index : ATTRIBUTES.indexOf(name);
+            }
+        };
+        stub.answers.put("glGetUniformLocation", location);
+        stub.answers.put("glGetAttribLocation", location);
+        cache = new JoglGLLocationCache(new JoglGL20(stub.gl, false));
+    }
+
+    @Test
+    public void testLocationsAreFetchedOnceLinked() {
+        cache.glLinkProgram(1);
+        // the link isn't waited for until the locations are needed
+        Assert.assertEquals(0, stub.count("glGetProgramiv"));
+
+        Assert.assertEquals(0, cache.glGetUniformLocation(1, "u_projTrans"));
+        int driverLookups = stub.count("glGetUniformLocation");
+        Assert.assertEquals(UNIFORMS.size(), driverLookups);
+        Assert.assertEquals(1, cache.glGetUniformLocation(1, "u_lights"));
+        Assert.assertEquals(1, cache.glGetUniformLocation(1, "u_lights[0]"));
+        Assert.assertEquals(0, cache.glGetAttribLocation(1, "a_position"));
+        Assert.assertEquals(driverLookups, stub.count("glGetUniformLocation"));
+        Assert.assertEquals(4, cache.getHits());
+        Assert.assertEquals(0, cache.getMisses());
+    }
+
+    @Test
+    public void testUnknownNamesAreAskedOnce() {
+        cache.glLinkProgram(1);
+        Assert.assertEquals(-1, cache.glGetUniformLocation(1, "u_missing"));
+        Assert.assertEquals(-1, cache.glGetUniformLocation(1, "u_missing"));
+        Assert.assertEquals(1, cache.getMisses());
+        Assert.assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    public void testRelinkAndDeleteDropTheLocations() {
+        cache.glGetUniformLocation(2, "u_projTrans");
+        cache.glDeleteProgram(2);
+        cache.glGetUniformLocation(2, "u_projTrans");
+        Assert.assertEquals(2, cache.getMisses());
+
+        cache.glLinkProgram(2);
+        cache.glGetUniformLocation(2, "u_projTrans");
+        Assert.assertEquals(2, cache.getMisses());
+        int driverLookups = stub.count("glGetUniformLocation");
+        cache.glGetUniformLocation(2, "u_projTrans");
+        Assert.assertEquals(driverLookups, stub.count("glGetUniformLocation"));
+    }
+
+    /** Answers glGetActiveUniform and glGetActiveAttrib with the given names. */
+    private static class ActiveVariable implements StubGL.Answer {
+        private final List<String> names;
+
+        ActiveVariable(List<String> names) {
+            this.names = names;
+        }
+
+        @Override
+        public Object answer(Object[] args) {
+            byte[] name = names.get((Integer) args[1]).getBytes();
+            ((int[]) args[3])[(Integer) args[4]] = name.length;
+            System.arraycopy(name, 0, (byte[]) args[9], (Integer) args[10], name.length);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.badlogic.gdx.backends.jogl;
+
+import com.badlogic.gdx.backends.jogamp.JoglGL30;
+import com.badlogic.gdx.backends.jogamp.JoglGLProfiler;
+import com.badlogic.gdx.graphics.GL20;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JoglGLProfilerTest {
+
+    private StubGL stub;
+    private JoglGLProfiler profiler;
+
+    @Before
+    public void setUp() {
+        stub = new StubGL();
+        profiler = new JoglGLProfiler(new JoglGL30(stub.gl, false), 2);
+    }
+
+    private void frame(int draws) {
+        profiler.glUseProgram(1);
+        for (int i = 0; i < draws; i++) {
+            profiler.glBindTexture(GL20.GL_TEXTURE_2D, i);
+            profiler.glDrawElements(GL20.GL_TRIANGLES, 6, GL20.GL_UNSIGNED_SHORT, 0);
+        }
+        profiler.endFrame();
+    }
+
+    @Test
+    public void testCallsAreForwardedAndCounted() {
+        frame(3);
+        Assert.assertEquals(3, stub.count("glDrawElements"));
+        final int drawElements = JoglGLProfiler.getEntryPoint("glDrawElements");
+        Assert.assertEquals("glDrawElements", JoglGLProfiler.getEntryPointName(drawElements));
+        Assert.assertEquals(3, profiler.getFrameCalls(drawElements));
+        Assert.assertEquals(1, profiler.getFrameCalls(JoglGLProfiler.getEntryPoint("glUseProgram")));
+        Assert.assertEquals(7, profiler.getFrameCalls());
+        Assert.assertEquals(3, profiler.getFrameDrawCalls());
+        Assert.assertEquals(18, profiler.getFrameVertexCount());
+        Assert.assertEquals(3, profiler.getFrameTextureBindings());
+        Assert.assertEquals(1, profiler.getFrameShaderSwitches());
+        Assert.assertTrue(profiler.getFrameNanos() >= profiler.getFrameNanos(drawElements));
+    }
+
+    @Test
+    public void testInstancedDrawsCountEachInstance() {
+        profiler.glDrawArraysInstanced(GL20.GL_TRIANGLES, 0, 3, 10);
+        profiler.endFrame();
+        Assert.assertEquals(1, profiler.getFrameDrawCalls());
+        Assert.assertEquals(30, profiler.getFrameVertexCount());
+    }
+
+    @Test
+    public void testWindowDropsOldestFrame() {
+        final int drawElements = JoglGLProfiler.getEntryPoint("glDrawElements");
+        frame(1);
+        Assert.assertEquals(1, profiler.getWindowFrames());
+        frame(2);
+        Assert.assertEquals(3, profiler.getWindowCalls(drawElements));
+        frame(4);
+        Assert.assertEquals(2, profiler.getWindowFrames());
+        Assert.assertEquals(6, profiler.getWindowCalls(drawElements));
+        Assert.assertEquals(3f, profiler.getDrawCalls().getMean(), 0);
+        Assert.assertEquals(4f, profiler.getDrawCalls().getHighest(), 0);
+    }
+
+    @Test
+    public void testTimingCanBeTurnedOff() {
+        profiler.setTiming(false);
+        frame(2);
+        Assert.assertEquals(0, profiler.getFrameNanos());
+        Assert.assertEquals(5, profiler.getFrameCalls());
+    }
+
+    @Test
+    public void testReset() {
+        frame(2);
+        profiler.reset();
+        Assert.assertEquals(0, profiler.getFrameCalls());
+        Assert.assertEquals(0, profiler.getWindowFrames());
+        Assert.assertEquals(0, profiler.getWindowCalls(JoglGLProfiler.getEntryPoint("glDrawElements")));
+        Assert.assertFalse(profiler.getDrawCalls().hasEnoughData());
+    }
+}
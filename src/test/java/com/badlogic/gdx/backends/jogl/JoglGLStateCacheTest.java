@@ -0,0 +1,115 @@
+package com.badlogic.gdx.backends.jogl;
+
+import com.badlogic.gdx.backends.jogamp.JoglGL30;
+import com.badlogic.gdx.backends.jogamp.JoglGLStateCache;
+import com.badlogic.gdx.graphics.GL20;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JoglGLStateCacheTest {
+
+    private StubGL stub;
+    private JoglGLStateCache cache;
+
+    @Before
+    public void setUp() {
+        stub = new StubGL();
+        cache = new JoglGLStateCache(new JoglGL30(stub.gl, false));
+    }
+
+    @Test
+    public void testRedundantCallsAreElided() {
+        cache.glUseProgram(3);
+        cache.glUseProgram(3);
+        cache.glEnable(GL20.GL_BLEND);
+        cache.glEnable(GL20.GL_BLEND);
+        cache.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        cache.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        cache.glDepthMask(false);
+        cache.glDepthMask(false);
+        Assert.assertEquals(1, stub.count("glUseProgram"));
+        Assert.assertEquals(1, stub.count("glEnable"));
+        Assert.assertEquals(1, stub.count("glBlendFunc"));
+        Assert.assertEquals(1, stub.count("glDepthMask"));
+
+        cache.endFrame();
+        Assert.assertEquals(4, cache.getElidedCalls());
+        Assert.assertEquals(4, cache.getForwardedCalls());
+    }
+
+    @Test
+    public void testTexturesAreTrackedPerUnit() {
+        cache.glActiveTexture(GL20.GL_TEXTURE0);
+        cache.glBindTexture(GL20.GL_TEXTURE_2D, 5);
+        cache.glActiveTexture(GL20.GL_TEXTURE1);
+        cache.glBindTexture(GL20.GL_TEXTURE_2D, 5);
+        cache.glActiveTexture(GL20.GL_TEXTURE0);
+        cache.glBindTexture(GL20.GL_TEXTURE_2D, 5);
+        Assert.assertEquals(3, stub.count("glActiveTexture"));
+        Assert.assertEquals(2, stub.count("glBindTexture"));
+    }
+
+    @Test
+    public void testTextureBindIsForwardedWhenTheUnitIsUnknown() {
+        cache.glBindTexture(GL20.GL_TEXTURE_2D, 5);
+        cache.glBindTexture(GL20.GL_TEXTURE_2D, 5);
+        Assert.assertEquals(2, stub.count("glBindTexture"));
+    }
+
+    @Test
+    public void testDeletedObjectsAreForgotten() {
+        cache.glActiveTexture(GL20.GL_TEXTURE0);
+        cache.glBindTexture(GL20.GL_TEXTURE_2D, 5);
+        cache.glBindBuffer(GL20.GL_ARRAY_BUFFER, 7);
+        cache.glDeleteTexture(5);
+        cache.glDeleteBuffer(7);
+        cache.glBindTexture(GL20.GL_TEXTURE_2D, 5);
+        cache.glBindBuffer(GL20.GL_ARRAY_BUFFER, 7);
+        Assert.assertEquals(2, stub.count("glBindTexture"));
+        Assert.assertEquals(2, stub.count("glBindBuffer"));
+    }
+
+    @Test
+    public void testDeletedProgramIsForgotten() {
+        cache.glUseProgram(3);
+        cache.glDeleteProgram(3);
+        // the driver may hand the name out again
+        cache.glUseProgram(3);
+        Assert.assertEquals(2, stub.count("glUseProgram"));
+        cache.glDeleteProgram(4);
+        cache.glUseProgram(3);
+        Assert.assertEquals(2, stub.count("glUseProgram"));
+    }
+
+    @Test
+    public void testDeletedFramebufferIsForgotten() {
+        cache.glBindFramebuffer(GL20.GL_FRAMEBUFFER, 1);
+        cache.glBindRenderbuffer(GL20.GL_RENDERBUFFER, 2);
+        cache.glDeleteFramebuffer(1);
+        cache.glDeleteRenderbuffer(2);
+        cache.glBindFramebuffer(GL20.GL_FRAMEBUFFER, 1);
+        cache.glBindRenderbuffer(GL20.GL_RENDERBUFFER, 2);
+        Assert.assertEquals(2, stub.count("glBindFramebuffer"));
+        Assert.assertEquals(2, stub.count("glBindRenderbuffer"));
+    }
+
+    @Test
+    public void testVertexArrayBindForgetsElementArrayBuffer() {
+        cache.glBindBuffer(GL20.GL_ELEMENT_ARRAY_BUFFER, 2);
+        cache.glBindVertexArray(1);
+        cache.glBindBuffer(GL20.GL_ELEMENT_ARRAY_BUFFER, 2);
+        Assert.assertEquals(2, stub.count("glBindBuffer"));
+    }
+
+    @Test
+    public void testInvalidateForwardsNextCalls() {
+        cache.glUseProgram(3);
+        cache.glBindFramebuffer(GL20.GL_FRAMEBUFFER, 1);
+        cache.invalidate();
+        cache.glUseProgram(3);
+        cache.glBindFramebuffer(GL20.GL_FRAMEBUFFER, 1);
+        Assert.assertEquals(2, stub.count("glUseProgram"));
+        Assert.assertEquals(2, stub.count("glBindFramebuffer"));
+    }
+}
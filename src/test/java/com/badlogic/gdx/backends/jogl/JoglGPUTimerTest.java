@@ -0,0 +1,148 @@
+package com.badlogic.gdx.backends.jogl;
+
+import java.nio.IntBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.badlogic.gdx.backends.jogamp.JoglGL30;
+import com.badlogic.gdx.backends.jogamp.JoglGPUTimer;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JoglGPUTimerTest {
+
+    private StubGL stub;
+    private JoglGPUTimer timer;
+    private int nextQuery = 1;
+    private boolean available;
+    /** the elapsed time reported by each query, its id times 100 by default */
+    private final Map<Integer, Integer> elapsed = new HashMap<Integer, Integer>();
+
+    @Before
+    public void setUp() {
+        stub = new StubGL();
+        stub.answers.put("glGenQueries", new StubGL.Answer() {
+            @Override
+            public Object answer(Object[] args) {
+                final IntBuffer ids = (IntBuffer) args[1];
+                for (int i = 0; i < (Integer) args[0]; i++) {
+                    ids.put(ids.position() + i, nextQuery++);
+                }
+                return null;
+            }
+        });
+        stub.answers.put("glGetQueryObjectuiv", new StubGL.Answer() {
+            @Override
+            public Object answer(Object[] args) {
+                final int query = (Integer) args[0];
+                final IntBuffer params = (IntBuffer) args[2];
+                if ((Integer) args[1] == GL30.GL_QUERY_RESULT_AVAILABLE) {
+                    params.put(0, available ? 1 : 0);
+                } else {
+                    final Integer nanos = elapsed.get(query);
+                    params.put(0, nanos != null ? nanos : query * 100);
+                }
+                return null;
+            }
+        });
+        timer = new JoglGPUTimer(new JoglGL30(stub.gl, false), 2);
+    }
+
+    @Test
+    public void testResultsAreReadWithoutStalling() {
+        timer.beginFrame(0);
+        timer.endFrame();
+        timer.beginFrame(1);
+        timer.endFrame();
+        Assert.assertEquals(-1, timer.getFrameNanos());
+        Assert.assertEquals(2, timer.getPendingFrames());
+
+        available = true;
+        timer.beginFrame(2);
+        Assert.assertEquals(1, timer.getResultFrameId());
+        Assert.assertEquals(200, timer.getFrameNanos());
+        timer.endFrame();
+        // the queries of the resolved frames are reused
+        Assert.assertEquals(3, stub.count("glBeginQuery"));
+        Assert.assertEquals(2, stub.count("glGenQueries"));
+    }
+
+    @Test
+    public void testScopesSplitTheFrame() {
+        timer.beginFrame(0); // query 1
+        timer.begin("world"); // query 2
+        timer.begin("shadows"); // query 3
+        timer.end(); // query 4
+        timer.end(); // query 5
+        timer.begin("ui"); // query 6
+        timer.end(); // query 7
+        timer.endFrame();
+        Assert.assertEquals(7, stub.count("glBeginQuery"));
+        Assert.assertEquals(7, stub.count("glEndQuery"));
+
+        available = true;
+        timer.beginFrame(1);
+        Assert.assertEquals(0, timer.getResultFrameId());
+        Assert.assertEquals((1 + 2 + 3 + 4 + 5 + 6 + 7) * 100, timer.getFrameNanos());
+        Assert.assertEquals((2 + 3 + 4) * 100, timer.getScopeNanos("world"));
+        Assert.assertEquals(300, timer.getScopeNanos("shadows"));
+        Assert.assertEquals(600, timer.getScopeNanos("ui"));
+        Assert.assertEquals(0, timer.getScopeNanos("unknown"));
+        Assert.assertEquals(3, timer.getScopes().size);
+    }
+
+    @Test
+    public void testOldestFrameIsDroppedWhenResultsLag() {
+        for (int i = 0; i < 3; i++) {
+            timer.beginFrame(i);
+            timer.endFrame();
+        }
+        Assert.assertEquals(1, timer.getDroppedFrames());
+        Assert.assertEquals(2, timer.getPendingFrames());
+        available = true;
+        timer.beginFrame(3);
+        Assert.assertEquals(2, timer.getResultFrameId());
+    }
+
+    @Test(expected = GdxRuntimeException.class)
+    public void testUnbalancedScopesAreRejected() {
+        timer.beginFrame(0);
+        timer.begin("world");
+        timer.endFrame();
+    }
+
+    @Test
+    public void testCanceledFrameIsDropped() {
+        timer.beginFrame(0);
+        timer.begin("world");
+        try {
+            timer.endFrame();
+            Assert.fail();
+        } catch (GdxRuntimeException e) {
+            // the scope is still open
+        }
+        timer.cancelFrame();
+        Assert.assertFalse(timer.isFrameBegun());
+        timer.cancelFrame();
+        // the queries of the canceled frame are reused
+        timer.beginFrame(1);
+        timer.endFrame();
+        available = true;
+        timer.beginFrame(2);
+        Assert.assertEquals(1, timer.getResultFrameId());
+        Assert.assertEquals(2, stub.count("glGenQueries"));
+        Assert.assertEquals(stub.count("glBeginQuery") - 1, stub.count("glEndQuery"));
+    }
+
+    @Test
+    public void testDisposeDeletesQueries() {
+        timer.beginFrame(0);
+        timer.endFrame();
+        timer.dispose();
+        Assert.assertEquals(1, stub.count("glDeleteQueries"));
+        Assert.assertEquals(1, stub.count("glGenQueries"));
+    }
+}
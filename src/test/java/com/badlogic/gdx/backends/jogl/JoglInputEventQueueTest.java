@@ -0,0 +1,92 @@
+package com.badlogic.gdx.backends.jogl;
+
+import com.badlogic.gdx.backends.jogamp.JoglInputEventQueue;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class JoglInputEventQueueTest {
+
+    private static boolean queue(JoglInputEventQueue queue, int type, int x) {
+        final boolean move = type == JoglInputEventQueue.TOUCH_MOVED;
+        final JoglInputEventQueue.Event event = queue.next(move);
+        if (event == null) {
+            return false;
+        }
+        event.type = type;
+        event.x = x;
+        queue.publish();
+        return true;
+    }
+
+    @Test
+    public void testEventsAreRemovedInOrderAndReused() {
+        final JoglInputEventQueue queue = new JoglInputEventQueue(4);
+        for (int round = 0; round < 3; round++) {
+            Assert.assertTrue(queue(queue, JoglInputEventQueue.TOUCH_DOWN, round));
+            Assert.assertTrue(queue(queue, JoglInputEventQueue.TOUCH_UP, round + 1));
+            Assert.assertEquals(2, queue.size());
+            Assert.assertEquals(JoglInputEventQueue.TOUCH_DOWN, queue.peek().type);
+            Assert.assertEquals(round, queue.peek().x);
+            queue.remove();
+            Assert.assertEquals(JoglInputEventQueue.TOUCH_UP, queue.peek().type);
+            Assert.assertEquals(round + 1, queue.peek().x);
+            queue.remove();
+            Assert.assertEquals(0, queue.size());
+        }
+        Assert.assertEquals(0, queue.getOverflows());
+    }
+
+    @Test
+    public void testFullQueueDropsMovesFirst() {
+        final JoglInputEventQueue queue = new JoglInputEventQueue(8);
+        int moves = 0;
+        while (queue(queue, JoglInputEventQueue.TOUCH_MOVED, 0)) {
+            moves++;
+        }
+        Assert.assertEquals(6, moves);
+        Assert.assertEquals(1, queue.getOverflows());
+
+        // the presses and the releases still fit
+        Assert.assertTrue(queue(queue, JoglInputEventQueue.KEY_DOWN, 0));
+        Assert.assertTrue(queue(queue, JoglInputEventQueue.KEY_UP, 0));
+        Assert.assertFalse(queue(queue, JoglInputEventQueue.KEY_DOWN, 0));
+        Assert.assertEquals(2, queue.getOverflows());
+        Assert.assertEquals(8, queue.size());
+
+        queue.remove();
+        Assert.assertTrue(queue(queue, JoglInputEventQueue.KEY_DOWN, 0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCapacityMustBeAPowerOfTwo() {
+        new JoglInputEventQueue(100);
+    }
+
+    @Test
+    public void testConcurrentProducer() throws InterruptedException {
+        final JoglInputEventQueue queue = new JoglInputEventQueue(16);
+        final int count = 100000;
+        final Thread producer = new Thread() {
+            @Override
+            public void run() {
+                for (int i = 0; i < count; i++) {
+                    while (!queue(queue, JoglInputEventQueue.TOUCH_DOWN, i)) {
+                        Thread.yield();
+                    }
+                }
+            }
+        };
+        producer.start();
+        int expected = 0;
+        final long deadline = System.currentTimeMillis() + 10000;
+        while (expected < count && System.currentTimeMillis() < deadline) {
+            for (int i = queue.size(); i > 0; i--) {
+                Assert.assertEquals(expected++, queue.peek().x);
+                queue.remove();
+            }
+            Thread.yield();
+        }
+        producer.join();
+        Assert.assertEquals(count, expected);
+    }
+}
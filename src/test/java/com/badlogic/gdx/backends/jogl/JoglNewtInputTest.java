@@ -0,0 +1,123 @@
+package com.badlogic.gdx.backends.jogl;
+
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.InputAdapter;
+import com.badlogic.gdx.backends.jogamp.JoglNewtInput;
+import com.badlogic.gdx.utils.IntArray;
+import com.jogamp.newt.event.KeyEvent;
+import com.jogamp.newt.event.MouseEvent;
+import com.jogamp.newt.opengl.GLWindow;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JoglNewtInputTest {
+
+    private final Object source = new Object();
+    private final IntArray keyDowns = new IntArray();
+    private JoglNewtInput input;
+
+    @Before
+    public void setUp() {
+        input = new JoglNewtInput(null) {
+            @Override
+            public void setListeners(GLWindow canvas) {
+                // the events are queued by the test
+            }
+        };
+        input.setInputProcessor(new InputAdapter() {
+            @Override
+            public boolean keyDown(int keycode) {
+                keyDowns.add(keycode);
+                return true;
+            }
+        });
+    }
+
+    private KeyEvent key(short type, short keyCode, char keyChar, boolean autoRepeat) {
+        final int modifiers = autoRepeat ? com.jogamp.newt.event.InputEvent.AUTOREPEAT_MASK : 0;
+        return KeyEvent.create(type, source, 0, modifiers, keyCode, keyCode, keyChar);
+    }
+
+    private MouseEvent mouse(short type, int x, int y, short button) {
+        return new MouseEvent(type, source, 0, 0, x, y, (short) 0, button, new float[3], 1);
+    }
+
+    @Test
+    public void testKeysAreTranslatedAndTracked() {
+        input.keyPressed(key(KeyEvent.EVENT_KEY_PRESSED, KeyEvent.VK_A, 'a', false));
+        input.keyPressed(key(KeyEvent.EVENT_KEY_PRESSED, KeyEvent.VK_NUMPAD5, '5', false));
+        // the state only changes when the events are processed
+        Assert.assertFalse(input.isKeyPressed(Input.Keys.A));
+        input.processEvents();
+        Assert.assertEquals(new IntArray(new int[] {Input.Keys.A, Input.Keys.DPAD_CENTER}), keyDowns);
+        Assert.assertTrue(input.isKeyPressed(Input.Keys.A));
+        Assert.assertTrue(input.isKeyPressed(Input.Keys.ANY_KEY));
+        Assert.assertTrue(input.isKeyJustPressed(Input.Keys.A));
+        Assert.assertTrue(input.isKeyJustPressed(Input.Keys.ANY_KEY));
+        Assert.assertFalse(input.isKeyPressed(Input.Keys.B));
+        Assert.assertFalse(input.isKeyPressed(1000));
+
+        // the edges only last a frame, the auto repeat isn't a new press
+        input.keyReleased(key(KeyEvent.EVENT_KEY_RELEASED, KeyEvent.VK_A, 'a', true));
+        input.keyPressed(key(KeyEvent.EVENT_KEY_PRESSED, KeyEvent.VK_A, 'a', true));
+        input.processEvents();
+        Assert.assertTrue(input.isKeyPressed(Input.Keys.A));
+        Assert.assertFalse(input.isKeyJustPressed(Input.Keys.A));
+        Assert.assertFalse(input.isKeyJustPressed(Input.Keys.ANY_KEY));
+
+        input.keyReleased(key(KeyEvent.EVENT_KEY_RELEASED, KeyEvent.VK_A, 'a', false));
+        input.keyReleased(key(KeyEvent.EVENT_KEY_RELEASED, KeyEvent.VK_NUMPAD5, '5', false));
+        input.processEvents();
+        Assert.assertFalse(input.isKeyPressed(Input.Keys.ANY_KEY));
+        Assert.assertTrue(input.isKeyJustReleased(Input.Keys.A));
+        Assert.assertTrue(input.isKeyJustReleased(Input.Keys.ANY_KEY));
+        input.processEvents();
+        Assert.assertFalse(input.isKeyJustReleased(Input.Keys.A));
+    }
+
+    @Test
+    public void testButtonsAreTracked() {
+        input.mousePressed(mouse(MouseEvent.EVENT_MOUSE_PRESSED, 10, 20, MouseEvent.BUTTON1));
+        input.mousePressed(mouse(MouseEvent.EVENT_MOUSE_PRESSED, 12, 20, MouseEvent.BUTTON3));
+        input.processEvents();
+        Assert.assertTrue(input.justTouched());
+        Assert.assertTrue(input.isButtonPressed(Input.Buttons.LEFT));
+        Assert.assertTrue(input.isButtonPressed(Input.Buttons.RIGHT));
+        Assert.assertFalse(input.isButtonPressed(Input.Buttons.MIDDLE));
+        Assert.assertEquals(12, input.getX());
+        Assert.assertEquals(2, input.getDeltaX());
+
+        input.mouseReleased(mouse(MouseEvent.EVENT_MOUSE_RELEASED, 12, 20, MouseEvent.BUTTON1));
+        input.processEvents();
+        Assert.assertFalse(input.justTouched());
+        Assert.assertTrue(input.isTouched());
+        input.mouseReleased(mouse(MouseEvent.EVENT_MOUSE_RELEASED, 12, 20, MouseEvent.BUTTON3));
+        input.processEvents();
+        Assert.assertFalse(input.isTouched());
+        Assert.assertFalse(input.isButtonPressed(Input.Buttons.RIGHT));
+        input.processEvents();
+        Assert.assertEquals(0, input.getDeltaX());
+    }
+
+    @Test
+    public void testEnteringSetsThePositionWithoutDelta() {
+        input.mouseMoved(mouse(MouseEvent.EVENT_MOUSE_MOVED, 10, 20, (short) 0));
+        input.processEvents();
+        input.mouseEntered(mouse(MouseEvent.EVENT_MOUSE_ENTERED, 50, 60, (short) 0));
+        // the position only changes when the events are processed
+        Assert.assertEquals(10, input.getX());
+        input.processEvents();
+        Assert.assertEquals(50, input.getX());
+        Assert.assertEquals(60, input.getY());
+        Assert.assertEquals(0, input.getDeltaX());
+
+        // the moves queued behind the entry are relative to it
+        input.mouseEntered(mouse(MouseEvent.EVENT_MOUSE_ENTERED, 100, 60, (short) 0));
+        input.mouseMoved(mouse(MouseEvent.EVENT_MOUSE_MOVED, 104, 61, (short) 0));
+        input.processEvents();
+        Assert.assertEquals(104, input.getX());
+        Assert.assertEquals(4, input.getDeltaX());
+        Assert.assertEquals(1, input.getDeltaY());
+    }
+}
@@ -0,0 +1,282 @@
+package com.badlogic.gdx.backends.jogl;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.backends.jogamp.JoglGL30;
+import com.badlogic.gdx.backends.jogamp.JoglProgramBinaryCache;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.utils.BufferUtils;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class JoglProgramBinaryCacheTest {
+
+    private static final String VERTEX = "attribute vec4 a_position; void main() { gl_Position = a_position; }";
+    private static final String FRAGMENT = "void main() { gl_FragColor = vec4(1.0); }";
+    private static final int FORMAT = 0x1234;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private StubGL stub;
+    private JoglGL30 jogl;
+    private FileHandle directory;
+    private int linkStatus;
+    private int loadedFormat;
+    private int loadedLength;
+    private int nextName = 1;
+
+    @Before
+    public void setUp() {
+        stub = new StubGL();
+        jogl = new JoglGL30(stub.gl, false);
+        directory = new FileHandle(folder.getRoot()).child("programs");
+        linkStatus = GL20.GL_TRUE;
+        final StubGL.Answer create = new StubGL.Answer() {
+            @Override
+            public Object answer(Object[] args) {
+                return nextName++;
+            }
+        };
+        stub.answers.put("glCreateShader", create);
+        stub.answers.put("glCreateProgram", create);
+        stub.answers.put("glGetProgramiv", new StubGL.Answer() {
+            @Override
+            public Object answer(Object[] args) {
+                final IntBuffer params = (IntBuffer) args[2];
+                final int pname = (Integer) args[1];
+                params.put(params.position(), pname == GL20.GL_LINK_STATUS ? linkStatus
+                        : pname == GL30.GL_PROGRAM_BINARY_LENGTH ? 3 : 0);
+                return null;
+            }
+        });
+        stub.answers.put("glGetShaderiv", new StubGL.Answer() {
+            @Override
+            public Object answer(Object[] args) {
+                final int value = (Integer) args[1] == GL20.GL_COMPILE_STATUS ? GL20.GL_TRUE : 0;
+                if (args[2] instanceof int[]) {
+                    ((int[]) args[2])[(Integer) args[3]] = value;
+                } else {
+                    final IntBuffer params = (IntBuffer) args[2];
+                    params.put(params.position(), value);
+                }
+                return null;
+            }
+        });
+        stub.answers.put("glGetProgramBinary", new StubGL.Answer() {
+            @Override
+            public Object answer(Object[] args) {
+                ((IntBuffer) args[2]).put(0, 3);
+                ((IntBuffer) args[3]).put(0, FORMAT);
+                final ByteBuffer binary = (ByteBuffer) args[4];
+                binary.put(0, (byte) 1).put(1, (byte) 2).put(2, (byte) 3);
+                return null;
+            }
+        });
+        stub.answers.put("glProgramBinary", new StubGL.Answer() {
+            @Override
+            public Object answer(Object[] args) {
+                loadedFormat = (Integer) args[1];
+                loadedLength = (Integer) args[3];
+                return null;
+            }
+        });
+        stub.answers.put("glGetIntegerv", new StubGL.Answer() {
+            @Override
+            public Object answer(Object[] args) {
+                final IntBuffer params = (IntBuffer) args[1];
+                params.put(params.position(), 1);
+                return null;
+            }
+        });
+    }
+
+    private JoglProgramBinaryCache newCache(String version, long maxSize) {
+        return new JoglProgramBinaryCache(jogl, jogl, directory, maxSize, "Vendor", "Renderer", version);
+    }
+
+    private void buildProgram(GL20 gl, String vertex, String fragment) {
+        final int vertexShader = gl.glCreateShader(GL20.GL_VERTEX_SHADER);
+        gl.glShaderSource(vertexShader, vertex);
+        gl.glCompileShader(vertexShader);
+        final int fragmentShader = gl.glCreateShader(GL20.GL_FRAGMENT_SHADER);
+        gl.glShaderSource(fragmentShader, fragment);
+        gl.glCompileShader(fragmentShader);
+        final IntBuffer status = BufferUtils.newIntBuffer(1);
+        gl.glGetShaderiv(vertexShader, GL20.GL_COMPILE_STATUS, status);
+        Assert.assertEquals(GL20.GL_TRUE, status.get(0));
+        final int program = gl.glCreateProgram();
+        gl.glAttachShader(program, vertexShader);
+        gl.glAttachShader(program, fragmentShader);
+        gl.glBindAttribLocation(program, 0, "a_position");
+        gl.glLinkProgram(program);
+        // the binary is saved once the link status is known
+        gl.glGetProgramiv(program, GL20.GL_LINK_STATUS, status);
+    }
+
+    @Test
+    public void testLinkIsNotWaitedFor() {
+        final JoglProgramBinaryCache cache = newCache("1.0", 1024);
+        final int program = cache.glCreateProgram();
+        cache.glLinkProgram(program);
+        Assert.assertEquals(0, stub.count("glGetProgramiv"));
+        Assert.assertEquals(0, directory.list(".bin").length);
+
+        final IntBuffer status = BufferUtils.newIntBuffer(1);
+        cache.glGetProgramiv(program, GL20.GL_LINK_STATUS, status);
+        Assert.assertEquals(1, directory.list(".bin").length);
+    }
+
+    private void answerVersion(final String version) {
+        stub.answers.put("glGetString", new StubGL.Answer() {
+            @Override
+            public Object answer(Object[] args) {
+                return version;
+            }
+        });
+    }
+
+    @Test
+    public void testSupported() {
+        answerVersion("4.6.0 Stub");
+        Assert.assertTrue(JoglProgramBinaryCache.isSupported(jogl));
+        stub.answers.remove("glGetIntegerv");
+        Assert.assertFalse(JoglProgramBinaryCache.isSupported(jogl));
+    }
+
+    @Test
+    public void testSupportedByExtension() {
+        answerVersion("3.3.0 Stub");
+        Assert.assertFalse(JoglProgramBinaryCache.isSupported(jogl));
+        stub.answers.put("glGetStringi", new StubGL.Answer() {
+            @Override
+            public Object answer(Object[] args) {
+                return "GL_ARB_get_program_binary";
+            }
+        });
+        Assert.assertTrue(JoglProgramBinaryCache.isSupported(jogl));
+        answerVersion("OpenGL ES 3.0 Stub");
+        stub.answers.remove("glGetStringi");
+        Assert.assertTrue(JoglProgramBinaryCache.isSupported(jogl));
+    }
+
+    @Test
+    public void testInfoLogCompilesTheDeferredShader() {
+        buildProgram(newCache("1.0", 1024), VERTEX, FRAGMENT);
+        final JoglProgramBinaryCache cache = newCache("1.0", 1024);
+        final int shader = cache.glCreateShader(GL20.GL_VERTEX_SHADER);
+        cache.glShaderSource(shader, VERTEX);
+        cache.glCompileShader(shader);
+        Assert.assertEquals(2, stub.count("glCompileShader"));
+        cache.glGetShaderInfoLog(shader);
+        Assert.assertEquals(3, stub.count("glCompileShader"));
+    }
+
+    @Test
+    public void testDeletedBinariesAreForgotten() {
+        buildProgram(newCache("1.0", 1024), VERTEX, FRAGMENT);
+        buildProgram(newCache("1.0", 1024), VERTEX, FRAGMENT + " ");
+        for (FileHandle file : directory.list(".bin")) {
+            file.delete();
+        }
+        final JoglProgramBinaryCache cache = newCache("1.0", 1024);
+        Assert.assertEquals("", directory.child("sources.idx").readString());
+        // the shaders aren't deferred anymore, their status is the driver's
+        final int queries = stub.count("glGetShaderiv");
+        buildProgram(cache, VERTEX, FRAGMENT);
+        Assert.assertEquals(6, stub.count("glCompileShader"));
+        Assert.assertEquals(queries + 1, stub.count("glGetShaderiv"));
+        Assert.assertEquals(1, directory.child("sources.idx").readString().split("\n").length);
+    }
+
+    @Test
+    public void testSecondLaunchLoadsTheBinary() {
+        final JoglProgramBinaryCache first = newCache("1.0", 1024);
+        buildProgram(first, VERTEX, FRAGMENT);
+        Assert.assertEquals(0, first.getHits());
+        Assert.assertEquals(1, first.getMisses());
+        Assert.assertEquals(2, stub.count("glCompileShader"));
+        Assert.assertEquals(1, stub.count("glLinkProgram"));
+        Assert.assertEquals(1, stub.count("glGetProgramBinary"));
+
+        // the shaders of a known program are never compiled
+        final JoglProgramBinaryCache second = newCache("1.0", 1024);
+        buildProgram(second, VERTEX, FRAGMENT);
+        Assert.assertEquals(1, second.getHits());
+        Assert.assertEquals(0, second.getMisses());
+        Assert.assertEquals(2, stub.count("glCompileShader"));
+        Assert.assertEquals(1, stub.count("glLinkProgram"));
+        Assert.assertEquals(FORMAT, loadedFormat);
+        Assert.assertEquals(3, loadedLength);
+    }
+
+    @Test
+    public void testDriverUpdateInvalidatesTheBinary() {
+        buildProgram(newCache("1.0", 1024), VERTEX, FRAGMENT);
+        final JoglProgramBinaryCache updated = newCache("1.1", 1024);
+        buildProgram(updated, VERTEX, FRAGMENT);
+        Assert.assertEquals(0, updated.getHits());
+        Assert.assertEquals(1, updated.getMisses());
+        // the sources aren't known for this driver, so they are compiled at once
+        Assert.assertEquals(4, stub.count("glCompileShader"));
+        Assert.assertEquals(2, stub.count("glGetShaderiv"));
+        Assert.assertEquals(2, stub.count("glLinkProgram"));
+        Assert.assertEquals(0, stub.count("glProgramBinary"));
+    }
+
+    @Test
+    public void testRejectedBinaryIsRebuilt() {
+        buildProgram(newCache("1.0", 1024), VERTEX, FRAGMENT);
+        final JoglProgramBinaryCache cache = newCache("1.0", 1024);
+        stub.answers.put("glProgramBinary", new StubGL.Answer() {
+            @Override
+            public Object answer(Object[] args) {
+                linkStatus = GL20.GL_FALSE;
+                return null;
+            }
+        });
+        stub.answers.put("glLinkProgram", new StubGL.Answer() {
+            @Override
+            public Object answer(Object[] args) {
+                linkStatus = GL20.GL_TRUE;
+                return null;
+            }
+        });
+        buildProgram(cache, VERTEX, FRAGMENT);
+        Assert.assertEquals(1, cache.getRejected());
+        Assert.assertEquals(1, cache.getMisses());
+        Assert.assertEquals(4, stub.count("glCompileShader"));
+        Assert.assertEquals(2, stub.count("glLinkProgram"));
+        // the rebuilt program replaced the rejected binary
+        Assert.assertEquals(2, stub.count("glGetProgramBinary"));
+        Assert.assertEquals(1, directory.list(".bin").length);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedBinariesAreDeleted() {
+        // each binary takes 7 bytes, the format and 3 bytes
+        final JoglProgramBinaryCache cache = newCache("1.0", 14);
+        buildProgram(cache, VERTEX, FRAGMENT);
+        buildProgram(cache, VERTEX, FRAGMENT + " ");
+        Assert.assertEquals(2, directory.list(".bin").length);
+        buildProgram(cache, VERTEX, FRAGMENT + "  ");
+        Assert.assertEquals(2, directory.list(".bin").length);
+    }
+
+    @Test
+    public void testInvalidate() {
+        final JoglProgramBinaryCache cache = newCache("1.0", 1024);
+        buildProgram(cache, VERTEX, FRAGMENT);
+        cache.invalidate();
+        Assert.assertEquals(0, directory.list(".bin").length);
+        buildProgram(cache, VERTEX, FRAGMENT);
+        Assert.assertEquals(2, cache.getMisses());
+        Assert.assertEquals(4, stub.count("glCompileShader"));
+    }
+}
@@ -0,0 +1,166 @@
+package com.badlogic.gdx.backends.jogl;
+
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.backends.jogamp.JoglGL20;
+import com.badlogic.gdx.backends.jogamp.JoglGL30;
+import com.badlogic.gdx.backends.jogamp.JoglGLLocationCache;
+import com.badlogic.gdx.backends.jogamp.JoglProgramBinaryCache;
+import com.badlogic.gdx.backends.jogamp.JoglProgramBuilder;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL20;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class JoglProgramBuilderTest {
+
+    private static final int GL_COMPLETION_STATUS_KHR = 0x91B1;
+    private static final String LOG = "link error";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private StubGL stub;
+    private volatile boolean complete;
+    private volatile boolean waitedForLink;
+    private volatile int linkStatus = GL20.GL_TRUE;
+    private int nextName = 1;
+
+    @Before
+    public void setUp() {
+        stub = new StubGL();
+        final StubGL.Answer create = new StubGL.Answer() {
+            @Override
+            public Object answer(Object[] args) {
+                return nextName++;
+            }
+        };
+        stub.answers.put("glCreateShader", create);
+        stub.answers.put("glCreateProgram", create);
+        stub.answers.put("glGetProgramiv", new StubGL.Answer() {
+            @Override
+            public Object answer(Object[] args) {
+                final int pname = (Integer) args[1];
+                if (args[2] instanceof int[]) {
+                    // the info log length
+                    ((int[]) args[2])[(Integer) args[3]] = LOG.length();
+                    return null;
+                }
+                final IntBuffer params = (IntBuffer) args[2];
+                if (pname == GL_COMPLETION_STATUS_KHR) {
+                    params.put(params.position(), complete ? GL20.GL_TRUE : GL20.GL_FALSE);
+                } else if (pname == GL20.GL_LINK_STATUS) {
+                    // the driver would block until the link completes
+                    if (!complete) waitedForLink = true;
+                    params.put(params.position(), linkStatus);
+                }
+                return null;
+            }
+        });
+        stub.answers.put("glGetProgramInfoLog", new StubGL.Answer() {
+            @Override
+            public Object answer(Object[] args) {
+                ((int[]) args[2])[(Integer) args[3]] = LOG.length();
+                System.arraycopy(LOG.getBytes(), 0, (byte[]) args[4], (Integer) args[5], LOG.length());
+                return null;
+            }
+        });
+    }
+
+    @Test
+    public void testParallelCompileIsPolled() {
+        final JoglProgramBuilder builder = new JoglProgramBuilder(new JoglGL20(stub.gl, false), null);
+        Assert.assertFalse(builder.usesWorkerThread());
+        final JoglProgramBuilder.Build build = builder.build("vertex", "fragment");
+        Assert.assertEquals(2, stub.count("glCompileShader"));
+        Assert.assertEquals(1, stub.count("glLinkProgram"));
+
+        // the driver is still working, the link status would block
+        Assert.assertFalse(build.isDone());
+        Assert.assertEquals(0, build.getProgram());
+        complete = true;
+        Assert.assertTrue(build.isDone());
+        Assert.assertTrue(build.isLinked());
+        Assert.assertEquals(3, build.getProgram());
+        Assert.assertEquals("", build.getLog());
+        Assert.assertEquals(2, stub.count("glDeleteShader"));
+    }
+
+    @Test
+    public void testParallelCompileWithCaches() {
+        final JoglGL30 jogl = new JoglGL30(stub.gl, false);
+        final GL20 gl = new JoglGLLocationCache(new JoglProgramBinaryCache(jogl, jogl,
+                new FileHandle(folder.getRoot()), 1024, "Vendor", "Renderer", "1.0"));
+        final JoglProgramBuilder builder = new JoglProgramBuilder(gl, null);
+        final JoglProgramBuilder.Build build = builder.build("vertex", "fragment");
+        Assert.assertFalse(build.isDone());
+        Assert.assertFalse(waitedForLink);
+        complete = true;
+        Assert.assertTrue(build.isDone());
+        Assert.assertTrue(build.isLinked());
+        Assert.assertFalse(waitedForLink);
+    }
+
+    @Test
+    public void testParallelCompileFailure() {
+        final JoglProgramBuilder builder = new JoglProgramBuilder(new JoglGL20(stub.gl, false), null);
+        final JoglProgramBuilder.Build build = builder.build("vertex", "fragment");
+        complete = true;
+        linkStatus = GL20.GL_FALSE;
+        Assert.assertTrue(build.isDone());
+        Assert.assertFalse(build.isLinked());
+        Assert.assertTrue(build.getLog().contains(LOG));
+    }
+
+    @Test
+    public void testWorkerThreadBuilds() throws InterruptedException {
+        final StubGL workerStub = new StubGL();
+        workerStub.answers.putAll(stub.answers);
+        final StubGLContext workerContext = new StubGLContext(workerStub);
+        final JoglProgramBuilder builder = new JoglProgramBuilder(new JoglGL20(stub.gl, false), workerContext);
+        Assert.assertTrue(builder.usesWorkerThread());
+
+        final JoglProgramBuilder.Build first = builder.build("vertex", "fragment");
+        final JoglProgramBuilder.Build second = builder.build("vertex", "fragment");
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (!(first.isDone() && second.isDone()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        Assert.assertTrue(first.isDone() && second.isDone());
+        Assert.assertTrue(first.isLinked());
+        Assert.assertNotEquals(first.getProgram(), second.getProgram());
+        builder.dispose();
+
+        // nothing was built on the rendering thread
+        Assert.assertEquals(0, stub.count("glCompileShader"));
+        Assert.assertEquals(4, workerStub.count("glCompileShader"));
+        Assert.assertEquals(2, workerStub.count("glFinish"));
+    }
+
+    @Test
+    public void testRenderingThreadBuildsWhenTheWorkerFails() throws InterruptedException {
+        final StubGL workerStub = new StubGL();
+        final JoglProgramBuilder builder = new JoglProgramBuilder(new JoglGL20(stub.gl, false), new StubGLContext(workerStub) {
+            @Override
+            public int makeCurrent() {
+                return CONTEXT_NOT_CURRENT;
+            }
+        });
+        complete = true;
+        final JoglProgramBuilder.Build build = builder.build("vertex", "fragment");
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (!build.isDone() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        Assert.assertTrue(build.isDone());
+        Assert.assertTrue(build.isLinked());
+        // later builds are made on the rendering thread too
+        Assert.assertTrue(builder.build("vertex", "fragment").isDone());
+        builder.dispose();
+        Assert.assertEquals(4, stub.count("glCompileShader"));
+        Assert.assertEquals(0, workerStub.count("glCompileShader"));
+    }
+}
@@ -0,0 +1,188 @@
+package com.badlogic.gdx.backends.jogl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import com.badlogic.gdx.backends.jogamp.JoglGL30;
+import com.badlogic.gdx.backends.jogamp.JoglResourceLoader;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JoglResourceLoaderTest {
+
+    private StubGL renderStub;
+    private StubGL loaderStub;
+    private JoglGL30 renderGL;
+    private JoglResourceLoader loader;
+    private volatile int status = GL30.GL_TIMEOUT_EXPIRED;
+    private final List<String> done = new ArrayList<String>();
+
+    private class NamedUpload implements JoglResourceLoader.Upload {
+        final String name;
+        volatile Thread thread;
+
+        NamedUpload(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void upload(GL20 gl) {
+            thread = Thread.currentThread();
+            Assert.assertTrue(gl instanceof GL30);
+        }
+
+        @Override
+        public void done() {
+            done.add(name);
+        }
+    }
+
+    @Before
+    public void setUp() {
+        renderStub = new StubGL();
+        loaderStub = new StubGL();
+        renderGL = new JoglGL30(renderStub.gl, false);
+        loaderStub.answers.put("glFenceSync", new StubGL.Answer() {
+            @Override
+            public Object answer(Object[] args) {
+                return 42L;
+            }
+        });
+        renderStub.answers.put("glClientWaitSync", new StubGL.Answer() {
+            @Override
+            public Object answer(Object[] args) {
+                return status;
+            }
+        });
+        loader = new JoglResourceLoader(new StubGLContext(loaderStub), true);
+    }
+
+    @After
+    public void tearDown() {
+        loader.dispose();
+    }
+
+    private void awaitFences(int count) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (loaderStub.count("glFlush") < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        Assert.assertEquals(count, loaderStub.count("glFlush"));
+    }
+
+    @Test
+    public void testUploadsAreDoneOnceTheirFenceIsSignaled() throws InterruptedException {
+        final NamedUpload first = new NamedUpload("first");
+        loader.submit(first);
+        loader.submit(new NamedUpload("second"));
+        Assert.assertEquals(2, loader.getPending());
+        awaitFences(2);
+        Assert.assertNotSame(Thread.currentThread(), first.thread);
+
+        // the GPU is still working
+        loader.update(renderGL);
+        Assert.assertTrue(done.isEmpty());
+        Assert.assertEquals(0, renderStub.count("glDeleteSync"));
+
+        status = GL30.GL_ALREADY_SIGNALED;
+        loader.update(renderGL);
+        Assert.assertEquals(Arrays.asList("first", "second"), done);
+        Assert.assertEquals(2, renderStub.count("glDeleteSync"));
+        Assert.assertEquals(0, loader.getPending());
+        Assert.assertEquals(2, loader.getCompleted());
+    }
+
+    @Test
+    public void testUploadErrorIsRethrownOnTheRenderingThread() throws InterruptedException {
+        loader.submit(new NamedUpload("failing") {
+            @Override
+            public void upload(GL20 gl) {
+                throw new IllegalStateException("out of memory");
+            }
+        });
+        awaitFences(1);
+        status = GL30.GL_CONDITION_SATISFIED;
+        try {
+            loader.update(renderGL);
+            Assert.fail();
+        } catch (GdxRuntimeException e) {
+            Assert.assertEquals("out of memory", e.getCause().getMessage());
+        }
+        Assert.assertTrue(done.isEmpty());
+        Assert.assertEquals(1, renderStub.count("glDeleteSync"));
+    }
+
+    @Test
+    public void testUploadsFailWhenTheContextCantBeMadeCurrent() throws InterruptedException {
+        loader.dispose();
+        final CountDownLatch submitted = new CountDownLatch(1);
+        loader = new JoglResourceLoader(new StubGLContext(loaderStub) {
+            @Override
+            public int makeCurrent() {
+                try {
+                    submitted.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return CONTEXT_NOT_CURRENT;
+            }
+        }, true);
+        loader.submit(new NamedUpload("before"));
+        submitted.countDown();
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (loader.getPending() > 0 && System.currentTimeMillis() < deadline) {
+            try {
+                loader.update(renderGL);
+                Thread.sleep(1);
+            } catch (GdxRuntimeException e) {
+                Assert.assertEquals("Couldn't make the resource loader context current", e.getCause().getMessage());
+            }
+        }
+        Assert.assertEquals(0, loader.getPending());
+
+        // the uploads submitted afterwards fail too
+        loader.submit(new NamedUpload("after"));
+        try {
+            loader.update(renderGL);
+            Assert.fail();
+        } catch (GdxRuntimeException e) {
+            Assert.assertEquals("Couldn't make the resource loader context current", e.getCause().getMessage());
+        }
+        Assert.assertEquals(0, loader.getPending());
+        Assert.assertTrue(done.isEmpty());
+        Assert.assertEquals(0, loaderStub.count("glFlush"));
+    }
+
+    @Test
+    public void testWithoutFencesTheLoaderFinishes() throws InterruptedException {
+        loader.dispose();
+        loaderStub.calls.clear();
+        loader = new JoglResourceLoader(new StubGLContext(loaderStub), false);
+        loader.submit(new JoglResourceLoader.Upload() {
+            @Override
+            public void upload(GL20 gl) {
+                Assert.assertFalse(gl instanceof GL30);
+            }
+
+            @Override
+            public void done() {
+                done.add("upload");
+            }
+        });
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (done.isEmpty() && System.currentTimeMillis() < deadline) {
+            loader.update(null);
+            Thread.sleep(1);
+        }
+        Assert.assertEquals(Arrays.asList("upload"), done);
+        Assert.assertEquals(1, loaderStub.count("glFinish"));
+        Assert.assertEquals(0, loaderStub.count("glFenceSync"));
+    }
+}
@@ -0,0 +1,114 @@
+package com.badlogic.gdx.backends.jogl;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.badlogic.gdx.backends.jogamp.JoglRunnableQueue;
+import com.badlogic.gdx.utils.IntArray;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class JoglRunnableQueueTest {
+
+    @Test
+    public void testRunsInPostOrder() {
+        final JoglRunnableQueue queue = new JoglRunnableQueue(1);
+        final IntArray order = new IntArray();
+        for (int i = 0; i < 3; i++) {
+            final int index = i;
+            queue.post(new Runnable() {
+                @Override
+                public void run() {
+                    order.add(index);
+                }
+            });
+        }
+        Assert.assertEquals(3, queue.getDepth());
+        Assert.assertEquals(3, queue.run());
+        Assert.assertEquals(new IntArray(new int[] {0, 1, 2}), order);
+        Assert.assertTrue(queue.isEmpty());
+        Assert.assertEquals(3, queue.getMaxDepth());
+        Assert.assertEquals(0, queue.run());
+    }
+
+    @Test
+    public void testRunnablesPostedWhileRunningWaitForTheNextCall() {
+        final JoglRunnableQueue queue = new JoglRunnableQueue(1);
+        final AtomicInteger runs = new AtomicInteger();
+        queue.post(new Runnable() {
+            @Override
+            public void run() {
+                if (runs.incrementAndGet() < 10) queue.post(this);
+            }
+        });
+        Assert.assertEquals(1, queue.run());
+        Assert.assertFalse(queue.isEmpty());
+        Assert.assertEquals(1, queue.run());
+        Assert.assertEquals(2, runs.get());
+    }
+
+    @Test
+    public void testBudgetDefersTheRemainingRunnables() {
+        final JoglRunnableQueue queue = new JoglRunnableQueue(1);
+        queue.setBudget(1000000);
+        for (int i = 0; i < 3; i++) {
+            queue.post(new Runnable() {
+                @Override
+                public void run() {
+                    final long start = System.nanoTime();
+                    while (System.nanoTime() - start < 2000000) {
+                        Thread.yield();
+                    }
+                }
+            });
+        }
+        Assert.assertEquals(1, queue.run());
+        Assert.assertEquals(2, queue.getDepth());
+        Assert.assertEquals(1, queue.getDeferred());
+        Assert.assertEquals(1, queue.run());
+        Assert.assertEquals(1, queue.run());
+        // the last one didn't defer anything
+        Assert.assertEquals(2, queue.getDeferred());
+        Assert.assertTrue(queue.getMaxLatency() >= 4000000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeBudget() {
+        new JoglRunnableQueue(1).setBudget(-1);
+    }
+
+    @Test
+    public void testConcurrentProducers() throws InterruptedException {
+        final JoglRunnableQueue queue = new JoglRunnableQueue(1);
+        final AtomicInteger runs = new AtomicInteger();
+        final Runnable runnable = new Runnable() {
+            @Override
+            public void run() {
+                runs.incrementAndGet();
+            }
+        };
+        final Thread[] producers = new Thread[4];
+        for (int i = 0; i < producers.length; i++) {
+            producers[i] = new Thread() {
+                @Override
+                public void run() {
+                    for (int j = 0; j < 10000; j++) {
+                        queue.post(runnable);
+                    }
+                }
+            };
+            producers[i].start();
+        }
+        int run = 0;
+        boolean alive = true;
+        while (alive || !queue.isEmpty()) {
+            alive = false;
+            for (Thread producer : producers) {
+                alive |= producer.isAlive();
+            }
+            run += queue.run();
+        }
+        Assert.assertEquals(40000, run);
+        Assert.assertEquals(40000, runs.get());
+        Assert.assertEquals(0, queue.getDepth());
+    }
+}
@@ -0,0 +1,102 @@
+package com.badlogic.gdx.backends.jogl;
+
+import java.nio.ByteBuffer;
+
+import com.badlogic.gdx.backends.jogamp.JoglGL20;
+import com.badlogic.gdx.backends.jogamp.JoglGL30;
+import com.badlogic.gdx.backends.jogamp.JoglTextureStreamer;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.utils.BufferUtils;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JoglTextureStreamerTest {
+
+    private StubGL stub;
+    private ByteBuffer mapped;
+    private ByteBuffer pixels;
+    private int syncStatus = GL30.GL_ALREADY_SIGNALED;
+
+    @Before
+    public void setUp() {
+        stub = new StubGL();
+        stub.answers.put("glMapBuffer", new StubGL.Answer() {
+            @Override
+            public Object answer(Object[] args) {
+                mapped = BufferUtils.newByteBuffer(64);
+                return mapped;
+            }
+        });
+        stub.answers.put("glFenceSync", new StubGL.Answer() {
+            @Override
+            public Object answer(Object[] args) {
+                return 42L;
+            }
+        });
+        stub.answers.put("glClientWaitSync", new StubGL.Answer() {
+            @Override
+            public Object answer(Object[] args) {
+                final int status = syncStatus;
+                syncStatus = GL30.GL_CONDITION_SATISFIED;
+                return status;
+            }
+        });
+        pixels = BufferUtils.newByteBuffer(16);
+        pixels.put(0, (byte) 3);
+    }
+
+    private void upload(JoglTextureStreamer streamer) {
+        streamer.upload(GL20.GL_TEXTURE_2D, 0, 0, 0, 2, 2, GL20.GL_RGBA, GL20.GL_UNSIGNED_BYTE, pixels);
+    }
+
+    @Test
+    public void testPixelsAreCopiedIntoTheMappedBuffer() {
+        final JoglGL30 gl = new JoglGL30(stub.gl, false);
+        final JoglTextureStreamer streamer = new JoglTextureStreamer(gl, gl, 2);
+        upload(streamer);
+        Assert.assertEquals(3, mapped.get(0));
+        Assert.assertEquals(16, mapped.position());
+        Assert.assertEquals(0, pixels.position());
+        Assert.assertEquals(1, stub.count("glTexSubImage2D"));
+        Assert.assertEquals(1, stub.count("glUnmapBuffer"));
+        Assert.assertEquals(1, streamer.getUploads());
+        Assert.assertEquals(16, streamer.getUploadedBytes());
+        Assert.assertTrue(streamer.getThroughput() > 0);
+    }
+
+    @Test
+    public void testBuffersAreOnlyReusedOnceTheirFenceIsSignaled() {
+        final JoglGL30 gl = new JoglGL30(stub.gl, false);
+        final JoglTextureStreamer streamer = new JoglTextureStreamer(gl, gl, 2);
+        upload(streamer);
+        upload(streamer);
+        Assert.assertEquals(0, stub.count("glClientWaitSync"));
+        // the third upload reuses the first buffer, already released
+        upload(streamer);
+        Assert.assertEquals(1, stub.count("glClientWaitSync"));
+        Assert.assertEquals(0, streamer.getStalls());
+        // the fourth one has to wait for the second buffer
+        syncStatus = GL30.GL_TIMEOUT_EXPIRED;
+        upload(streamer);
+        Assert.assertEquals(3, stub.count("glClientWaitSync"));
+        Assert.assertEquals(1, streamer.getStalls());
+        Assert.assertEquals(2, stub.count("glBufferData"));
+        Assert.assertEquals(2, stub.count("glDeleteSync"));
+
+        streamer.dispose();
+        Assert.assertEquals(4, stub.count("glDeleteSync"));
+    }
+
+    @Test
+    public void testBuffersAreOrphanedWithoutFences() {
+        final JoglGL20 gl = new JoglGL20(stub.gl, false);
+        final JoglTextureStreamer streamer = new JoglTextureStreamer(gl, gl, 2);
+        for (int i = 0; i < 3; i++) {
+            upload(streamer);
+        }
+        Assert.assertEquals(3, stub.count("glBufferData"));
+        Assert.assertEquals(0, stub.count("glFenceSync"));
+    }
+}
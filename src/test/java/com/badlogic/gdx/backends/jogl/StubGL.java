@@ -0,0 +1,81 @@
+package com.badlogic.gdx.backends.jogl;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL4ES3;
+import com.jogamp.opengl.GLContext;
+import com.jogamp.opengl.GLException;
+
+/**
+ * A GL that does nothing but count its calls, so the GL wrappers can be tested and benchmarked without a GPU. It implements
+ * GL4ES3 like a core profile context would, there is no GL2.
+ */
+public class StubGL implements InvocationHandler {
+
+    /** Computes the result of a call and fills its output arguments. */
+    public interface Answer {
+        Object answer(Object[] args);
+    }
+
+    public final GL gl;
+    public final Map<String, Integer> calls = new HashMap<String, Integer>();
+    public final Map<String, Answer> answers = new HashMap<String, Answer>();
+    public boolean countCalls = true;
+    public GLContext context;
+
+    public StubGL() {
+        gl = (GL) Proxy.newProxyInstance(StubGL.class.getClassLoader(), new Class<?>[]{GL4ES3.class}, this);
+    }
+
+    public int count(String method) {
+        Integer count = calls.get(method);
+        return count == null ? 0 : count;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        final Class<?> type = method.getReturnType();
+        if (type == void.class && !countCalls) {
+            return null;
+        }
+        final String name = method.getName();
+        if (name.startsWith("getGL") && method.getParameterTypes().length == 0 && GL.class.isAssignableFrom(method.getReturnType())) {
+            if (method.getReturnType().isInstance(proxy)) return proxy;
+            throw new GLException("Not a " + method.getReturnType().getSimpleName() + " implementation");
+        }
+        if (name.equals("getContext")) {
+            return context;
+        }
+        if (name.startsWith("isGL") && method.getParameterTypes().length == 0) {
+            try {
+                return Class.forName("com.jogamp.opengl." + name.substring(2)).isInstance(proxy);
+            } catch (ClassNotFoundException e) {
+                return false;
+            }
+        }
+        if (countCalls) {
+            calls.put(name, count(name) + 1);
+        }
+        final Answer answer = answers.get(name);
+        if (answer != null) {
+            return answer.answer(args);
+        }
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        if (type == float.class) return 0f;
+        if (type == double.class) return 0d;
+        if (type == short.class) return (short) 0;
+        if (type == byte.class) return (byte) 0;
+        if (type == char.class) return (char) 0;
+        if (name.equals("toString")) return "StubGL";
+        if (name.equals("hashCode")) return System.identityHashCode(proxy);
+        if (name.equals("equals")) return proxy == args[0];
+        return null;
+    }
+}
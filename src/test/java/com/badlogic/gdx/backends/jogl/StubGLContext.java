@@ -0,0 +1,201 @@
+package com.badlogic.gdx.backends.jogl;
+
+import java.nio.IntBuffer;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GLContext;
+import com.jogamp.opengl.GLDebugListener;
+import com.jogamp.opengl.GLDrawable;
+
+/**
+ * A context that can be made current without any native resource, so that GLContext.getCurrentGL() returns a
+ * {@link StubGL} on the calling thread.
+ */
+public class StubGLContext extends GLContext {
+
+    private GL gl;
+
+    public StubGLContext(StubGL stub) {
+        this.gl = stub.gl;
+        stub.context = this;
+    }
+
+    @Override
+    public int makeCurrent() {
+        setCurrent(this);
+        return CONTEXT_CURRENT;
+    }
+
+    @Override
+    public void release() {
+        setCurrent(null);
+    }
+
+    @Override
+    public GL getGL() {
+        return gl;
+    }
+
+    @Override
+    public GL getRootGL() {
+        return gl;
+    }
+
+    @Override
+    public GL setGL(GL gl) {
+        final GL old = this.gl;
+        this.gl = gl;
+        return old;
+    }
+
+    @Override
+    public GLDrawable setGLDrawable(GLDrawable readWrite, boolean setWriteOnly) {
+        return null;
+    }
+
+    @Override
+    public GLDrawable getGLDrawable() {
+        return null;
+    }
+
+    @Override
+    public boolean isGLReadDrawableAvailable() {
+        return false;
+    }
+
+    @Override
+    public GLDrawable setGLReadDrawable(GLDrawable read) {
+        return null;
+    }
+
+    @Override
+    public GLDrawable getGLReadDrawable() {
+        return null;
+    }
+
+    @Override
+    public void copy(GLContext source, int mask) {
+    }
+
+    @Override
+    public void destroy() {
+        release();
+    }
+
+    @Override
+    public boolean isFunctionAvailable(String glFunctionName) {
+        return true;
+    }
+
+    @Override
+    public boolean isExtensionAvailable(String glExtensionName) {
+        return true;
+    }
+
+    @Override
+    public int getPlatformExtensionCount() {
+        return 0;
+    }
+
+    @Override
+    public String getPlatformExtensionsString() {
+        return "";
+    }
+
+    @Override
+    public int getGLExtensionCount() {
+        return 0;
+    }
+
+    @Override
+    public String getGLExtensionsString() {
+        return "";
+    }
+
+    @Override
+    public int getContextCreationFlags() {
+        return 0;
+    }
+
+    @Override
+    public void setContextCreationFlags(int flags) {
+    }
+
+    @Override
+    public int getDefaultVAO() {
+        return 0;
+    }
+
+    @Override
+    public int getBoundFramebuffer(int target) {
+        return 0;
+    }
+
+    @Override
+    public int getDefaultDrawFramebuffer() {
+        return 0;
+    }
+
+    @Override
+    public int getDefaultReadFramebuffer() {
+        return 0;
+    }
+
+    @Override
+    public int getDefaultReadBuffer() {
+        return 0;
+    }
+
+    @Override
+    public int getDefaultPixelDataType() {
+        return 0;
+    }
+
+    @Override
+    public int getDefaultPixelDataFormat() {
+        return 0;
+    }
+
+    @Override
+    public String getGLDebugMessageExtension() {
+        return null;
+    }
+
+    @Override
+    public boolean isGLDebugSynchronous() {
+        return false;
+    }
+
+    @Override
+    public void setGLDebugSynchronous(boolean synchronous) {
+    }
+
+    @Override
+    public boolean isGLDebugMessageEnabled() {
+        return false;
+    }
+
+    @Override
+    public void enableGLDebugMessage(boolean enable) {
+    }
+
+    @Override
+    public void addGLDebugListener(GLDebugListener listener) {
+    }
+
+    @Override
+    public void removeGLDebugListener(GLDebugListener listener) {
+    }
+
+    @Override
+    public void glDebugMessageControl(int source, int type, int severity, int count, IntBuffer ids, boolean enabled) {
+    }
+
+    @Override
+    public void glDebugMessageControl(int source, int type, int severity, int count, int[] ids, int idsOffset, boolean enabled) {
+    }
+
+    @Override
+    public void glDebugMessageInsert(int source, int type, int id, int severity, String buf) {
+    }
+}
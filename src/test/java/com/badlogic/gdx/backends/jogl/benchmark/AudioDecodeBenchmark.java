@@ -0,0 +1,104 @@
+package com.badlogic.gdx.backends.jogl.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.backends.jogamp.audio.OggInputStream;
+import com.badlogic.gdx.backends.jogamp.audio.Wav;
+import com.badlogic.gdx.files.FileHandle;
+import javazoom.jl.decoder.Bitstream;
+import javazoom.jl.decoder.BitstreamException;
+import javazoom.jl.decoder.DecoderException;
+import javazoom.jl.decoder.Header;
+import javazoom.jl.decoder.MP3Decoder;
+import javazoom.jl.decoder.OutputBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Decodes two seconds of 22 kHz mono audio with the decoders the Ogg, Mp3 and Wav music stream from, without an audio device:
+ * the music classes themselves need an {@link com.badlogic.gdx.backends.jogamp.audio.OpenALAudio}, which opens the device as
+ * soon as it is loaded. The score is the time to decode the whole file.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AudioDecodeBenchmark {
+
+    private final FileHandle ogg = new Resource("benchmark/decode.ogg");
+    private final FileHandle mp3 = new Resource("benchmark/decode.mp3");
+    private final FileHandle wav = new Resource("benchmark/decode.wav");
+    // the size of the buffers the music streams
+    private final byte[] buffer = new byte[4096 * 10];
+
+    static class Resource extends FileHandle {
+        Resource(String path) {
+            super(path, FileType.Classpath);
+        }
+    }
+
+    @Benchmark
+    public int ogg() {
+        final OggInputStream input = new OggInputStream(ogg.read());
+        int total = 0;
+        int length;
+        while ((length = input.read(buffer)) > 0) {
+            total += length;
+        }
+        input.close();
+        return total;
+    }
+
+    @Benchmark
+    public int mp3() throws BitstreamException, DecoderException {
+        // as Mp3.Music reads
+        final Bitstream bitstream = new Bitstream(mp3.read());
+        final MP3Decoder decoder = new MP3Decoder();
+        OutputBuffer outputBuffer = null;
+        int total = 0;
+        Header header;
+        while ((header = bitstream.readFrame()) != null) {
+            if (outputBuffer == null) {
+                outputBuffer = new OutputBuffer(header.mode() == Header.SINGLE_CHANNEL ? 1 : 2, false);
+                decoder.setOutputBuffer(outputBuffer);
+            }
+            decoder.decodeFrame(header, bitstream);
+            bitstream.closeFrame();
+            final int length = outputBuffer.reset();
+            System.arraycopy(outputBuffer.getBuffer(), 0, buffer, 0, length);
+            total += length;
+        }
+        bitstream.close();
+        return total;
+    }
+
+    @Benchmark
+    public int wav() throws IOException {
+        final Wav.WavInputStream input = new Wav.WavInputStream(wav);
+        int total = 0;
+        int length;
+        while ((length = input.read(buffer)) > 0) {
+            total += length;
+        }
+        input.close();
+        return total;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(AudioDecodeBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,77 @@
+package com.badlogic.gdx.backends.jogl.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import com.badlogic.gdx.backends.jogamp.JoglGL20;
+import com.badlogic.gdx.backends.jogamp.JoglGLCommandBuffer;
+import com.badlogic.gdx.backends.jogl.StubGL;
+import com.badlogic.gdx.graphics.GL20;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares issuing a frame of sprite batch like calls directly on a bound {@link JoglGL20} with recording them into a
+ * {@link JoglGLCommandBuffer} and replaying them. The difference is the cost the rendering thread saves, respectively the
+ * cost a recording thread adds, when the commands are prepared off the GL thread.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandBufferBenchmark {
+
+    @Param({"100", "1000"})
+    public int batches;
+
+    private JoglGL20 gl;
+    private JoglGLCommandBuffer commands;
+    private final float[] projection = new float[16];
+
+    @Setup
+    public void setUp() {
+        StubGL stub = new StubGL();
+        stub.countCalls = false;
+        gl = new JoglGL20(stub.gl, false);
+        commands = new JoglGLCommandBuffer();
+    }
+
+    @Benchmark
+    public void direct() {
+        frame(gl);
+    }
+
+    @Benchmark
+    public void recordAndReplay() {
+        frame(commands);
+        commands.submit();
+        commands.replay(gl);
+    }
+
+    private void frame(GL20 gl) {
+        gl.glUseProgram(1);
+        gl.glUniformMatrix4fv(0, 1, false, projection, 0);
+        for (int i = 0; i < batches; i++) {
+            gl.glBindTexture(GL20.GL_TEXTURE_2D, i);
+            gl.glUniform1i(1, 0);
+            gl.glDrawElements(GL20.GL_TRIANGLES, 6, GL20.GL_UNSIGNED_SHORT, 0);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CommandBufferBenchmark.class.getSimpleName()).build()).run();
+    }
+}
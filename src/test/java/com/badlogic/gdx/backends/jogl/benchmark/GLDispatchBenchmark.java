@@ -0,0 +1,83 @@
+package com.badlogic.gdx.backends.jogl.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import com.badlogic.gdx.backends.jogamp.JoglGL20;
+import com.badlogic.gdx.backends.jogl.StubGL;
+import com.badlogic.gdx.backends.jogl.StubGLContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the per call GLContext.getCurrentGL() lookup of {@link JoglGL20} with a wrapper bound to its context. Both
+ * dispatch to a {@link StubGL} made current on the benchmark thread, so only the wrapper overhead differs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GLDispatchBenchmark {
+
+    private StubGLContext context;
+    private JoglGL20 perCall;
+    private JoglGL20 bound;
+    private JoglGL20 boundChecked;
+    private int texture;
+
+    @Setup
+    public void setUp() {
+        StubGL stub = new StubGL();
+        stub.countCalls = false;
+        context = new StubGLContext(stub);
+        // the context has to be current on the benchmark thread for the per call lookup
+        context.makeCurrent();
+        perCall = new JoglGL20();
+        bound = new JoglGL20(stub.gl, false);
+        boundChecked = new JoglGL20(stub.gl, true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.release();
+    }
+
+    @Benchmark
+    public void perCallLookup() {
+        frame(perCall);
+    }
+
+    @Benchmark
+    public void boundContext() {
+        frame(bound);
+    }
+
+    @Benchmark
+    public void boundContextWithThreadCheck() {
+        frame(boundChecked);
+    }
+
+    /** The calls a sprite batch flush makes: a GL call, a GL2ES2 call and the draw. */
+    private void frame(JoglGL20 gl) {
+        gl.glBindTexture(0x0DE1, ++texture);
+        gl.glUniform1i(0, 0);
+        gl.glDrawElements(0x0004, 6, 0x1403, 0);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(GLDispatchBenchmark.class.getSimpleName()).build()).run();
+    }
+}
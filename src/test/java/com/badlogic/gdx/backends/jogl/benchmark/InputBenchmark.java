@@ -0,0 +1,169 @@
+package com.badlogic.gdx.backends.jogl.benchmark;
+
+import java.awt.Canvas;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.InputAdapter;
+import com.badlogic.gdx.backends.jogamp.JoglAwtInput;
+import com.badlogic.gdx.backends.jogamp.JoglNewtInput;
+import com.jogamp.newt.event.KeyEvent;
+import com.jogamp.newt.event.MouseEvent;
+import com.jogamp.newt.opengl.GLWindow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Queues the input events of a busy frame, a key stroke and a burst of mouse moves, and processes them, with the NEWT and the
+ * AWT input. The {@code frame} methods do both on one thread, the groups queue the events on the toolkit thread while the
+ * rendering thread processes them, as in the backend. No window is shown: the NEWT input isn't attached to a window and the
+ * AWT canvas is never displayed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class InputBenchmark {
+
+    private static final int MOVES = 16;
+
+    static {
+        // the AWT input requests rendering on each event
+        Gdx.graphics = (Graphics) Proxy.newProxyInstance(Graphics.class.getClassLoader(), new Class[] {Graphics.class},
+                new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        return null;
+                    }
+                });
+    }
+
+    @State(Scope.Thread)
+    public static class Newt {
+        JoglNewtInput input;
+        MouseEvent move;
+        KeyEvent press, release;
+
+        @Setup
+        public void setUp() {
+            input = new JoglNewtInput(null) {
+                @Override
+                public void setListeners(GLWindow canvas) {
+                    // the events are queued by the benchmark
+                }
+            };
+            input.setInputProcessor(new InputAdapter());
+            final Object source = new Object();
+            move = new MouseEvent(MouseEvent.EVENT_MOUSE_MOVED, source, 0, 0, 10, 20, (short) 0, (short) 0,
+                    new float[3], 1);
+            press = KeyEvent.create(KeyEvent.EVENT_KEY_PRESSED, source, 0, 0, KeyEvent.VK_A, KeyEvent.VK_A, 'a');
+            release = KeyEvent.create(KeyEvent.EVENT_KEY_RELEASED, source, 0, 0, KeyEvent.VK_A, KeyEvent.VK_A, 'a');
+        }
+
+        void queue() {
+            input.keyPressed(press);
+            for (int i = 0; i < MOVES; i++) {
+                input.mouseMoved(move);
+            }
+            input.keyReleased(release);
+        }
+    }
+
+    /** shared by the threads of a group */
+    @State(Scope.Group)
+    public static class SharedNewt extends Newt {
+    }
+
+    @State(Scope.Thread)
+    public static class Awt {
+        JoglAwtInput input;
+        java.awt.event.MouseEvent move;
+        java.awt.event.KeyEvent press, release;
+
+        @Setup
+        public void setUp() {
+            final Canvas canvas = new Canvas();
+            input = new JoglAwtInput(canvas);
+            input.setInputProcessor(new InputAdapter());
+            move = new java.awt.event.MouseEvent(canvas, java.awt.event.MouseEvent.MOUSE_MOVED, 0, 0, 10, 20, 0, false);
+            press = new java.awt.event.KeyEvent(canvas, java.awt.event.KeyEvent.KEY_PRESSED, 0, 0,
+                    java.awt.event.KeyEvent.VK_A, 'a');
+            release = new java.awt.event.KeyEvent(canvas, java.awt.event.KeyEvent.KEY_RELEASED, 0, 0,
+                    java.awt.event.KeyEvent.VK_A, 'a');
+        }
+
+        void queue() {
+            input.keyPressed(press);
+            for (int i = 0; i < MOVES; i++) {
+                input.mouseMoved(move);
+            }
+            input.keyReleased(release);
+        }
+    }
+
+    @State(Scope.Group)
+    public static class SharedAwt extends Awt {
+    }
+
+    @Benchmark
+    public void newtFrame(Newt state) {
+        state.queue();
+        state.input.processEvents();
+    }
+
+    @Benchmark
+    public void awtFrame(Awt state) {
+        state.queue();
+        state.input.processEvents();
+    }
+
+    @Benchmark
+    @Group("newt")
+    @GroupThreads(1)
+    public void newtQueue(SharedNewt state) {
+        state.queue();
+    }
+
+    @Benchmark
+    @Group("newt")
+    @GroupThreads(1)
+    public void newtProcess(SharedNewt state) {
+        state.input.processEvents();
+    }
+
+    @Benchmark
+    @Group("awt")
+    @GroupThreads(1)
+    public void awtQueue(SharedAwt state) {
+        state.queue();
+    }
+
+    @Benchmark
+    @Group("awt")
+    @GroupThreads(1)
+    public void awtProcess(SharedAwt state) {
+        state.input.processEvents();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(InputBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,84 @@
+package com.badlogic.gdx.backends.jogl.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.badlogic.gdx.backends.jogamp.JoglPreferences;
+import com.badlogic.gdx.files.FileHandle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the {@link JoglPreferences} of a typical game, a hundred entries, stored in a temporary file rather than in
+ * ~/.prefs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PreferencesBenchmark {
+
+    private static final int ENTRIES = 100;
+
+    private File file;
+    private JoglPreferences preferences;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        file = File.createTempFile("gdx-prefs", ".xml");
+        file.delete();
+        preferences = new JoglPreferences(new FileHandle(file));
+        for (int i = 0; i < ENTRIES; i++) {
+            preferences.putInteger("score" + i, i);
+            preferences.putString("name" + i, "player" + i);
+        }
+        preferences.flush();
+    }
+
+    @TearDown
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Benchmark
+    public int get() {
+        next = (next + 1) % ENTRIES;
+        return preferences.getInteger("score" + next);
+    }
+
+    @Benchmark
+    public void put() {
+        next = (next + 1) % ENTRIES;
+        preferences.putInteger("score" + next, next);
+    }
+
+    @Benchmark
+    public void flush() {
+        preferences.flush();
+    }
+
+    @Benchmark
+    public JoglPreferences load() {
+        return new JoglPreferences(new FileHandle(file));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PreferencesBenchmark.class.getSimpleName()).build()).run();
+    }
+}
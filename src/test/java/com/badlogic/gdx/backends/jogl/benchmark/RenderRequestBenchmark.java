@@ -0,0 +1,99 @@
+package com.badlogic.gdx.backends.jogl.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import com.badlogic.gdx.backends.jogamp.JoglFrameState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures what requesting rendering costs the producer threads, e.g. the input and network threads, while the render loop
+ * renders frames. With the former monitor, held by the rendering thread for the whole frame, a request waits for the frame to
+ * end; with {@link JoglFrameState} it never waits, whatever the frame does. Compare the times of the {@code request} methods.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RenderRequestBenchmark {
+
+    /** the work of a frame, in Blackhole tokens */
+    private static final long FRAME = 20000;
+
+    /** The frame state before {@link JoglFrameState}, a flag guarded by the monitor the frame holds. */
+    @State(Scope.Group)
+    public static class MonitorState {
+        boolean requestRendering;
+
+        synchronized void requestRendering() {
+            requestRendering = true;
+        }
+
+        synchronized void frame() {
+            requestRendering = false;
+            Blackhole.consumeCPU(FRAME);
+        }
+    }
+
+    @State(Scope.Group)
+    public static class AtomicState {
+        final JoglFrameState state = new JoglFrameState();
+
+        public AtomicState() {
+            state.resume();
+        }
+    }
+
+    @Benchmark
+    @Group("monitor")
+    @GroupThreads(1)
+    public void monitorRender(MonitorState state) {
+        state.frame();
+    }
+
+    @Benchmark
+    @Group("monitor")
+    @GroupThreads(3)
+    public void monitorRequest(MonitorState state) {
+        state.requestRendering();
+    }
+
+    @Benchmark
+    @Group("atomic")
+    @GroupThreads(1)
+    public void atomicRender(AtomicState state) {
+        if (state.state.beginFrame()) {
+            try {
+                state.state.consumeRenderRequest();
+                Blackhole.consumeCPU(FRAME);
+            } finally {
+                state.state.endFrame();
+            }
+        }
+    }
+
+    @Benchmark
+    @Group("atomic")
+    @GroupThreads(3)
+    public void atomicRequest(AtomicState state) {
+        state.state.requestRendering();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(RenderRequestBenchmark.class.getSimpleName()).build()).run();
+    }
+}
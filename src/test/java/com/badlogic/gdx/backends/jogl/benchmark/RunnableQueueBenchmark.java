@@ -0,0 +1,107 @@
+package com.badlogic.gdx.backends.jogl.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import com.badlogic.gdx.backends.jogamp.JoglRunnableQueue;
+import com.badlogic.gdx.utils.Array;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Control;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Three threads post runnables while the rendering thread runs them, the way {@code postRunnable} and
+ * {@code executeRunnables} use the {@link JoglRunnableQueue}. The {@code locked} group is the former locked array, copied by
+ * the rendering thread, for comparison. The posting threads wait while a thousand runnables are queued, so the scores are
+ * bound by the slower side rather than by an ever growing queue.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RunnableQueueBenchmark {
+
+    private static final int BACKLOG = 1000;
+
+    private static final Runnable RUNNABLE = new Runnable() {
+        @Override
+        public void run() {
+        }
+    };
+
+    @State(Scope.Group)
+    public static class Queue {
+        final JoglRunnableQueue queue = new JoglRunnableQueue(60);
+    }
+
+    @State(Scope.Group)
+    public static class Locked {
+        volatile int depth;
+        final Array<Runnable> runnables = new Array<Runnable>();
+        final Array<Runnable> executedRunnables = new Array<Runnable>();
+    }
+
+    @Benchmark
+    @Group("queue")
+    @GroupThreads(3)
+    public void queuePost(Queue state, Control control) {
+        // the rendering thread may already be stopped at the end of an iteration
+        while (state.queue.getDepth() >= BACKLOG && !control.stopMeasurement) {
+            Thread.yield();
+        }
+        state.queue.post(RUNNABLE);
+    }
+
+    @Benchmark
+    @Group("queue")
+    @GroupThreads(1)
+    public int queueRun(Queue state) {
+        return state.queue.run();
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(3)
+    public void lockedPost(Locked state, Control control) {
+        while (state.depth >= BACKLOG && !control.stopMeasurement) {
+            Thread.yield();
+        }
+        synchronized (state.runnables) {
+            state.runnables.add(RUNNABLE);
+            state.depth = state.runnables.size;
+        }
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(1)
+    public int lockedRun(Locked state) {
+        synchronized (state.runnables) {
+            for (int i = state.runnables.size - 1; i >= 0; i--)
+                state.executedRunnables.add(state.runnables.get(i));
+            state.runnables.clear();
+            state.depth = 0;
+        }
+        final int count = state.executedRunnables.size;
+        while (state.executedRunnables.size > 0) {
+            state.executedRunnables.pop().run();
+        }
+        return count;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(RunnableQueueBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,57 @@
+package com.badlogic.gdx.backends.jogl;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import com.badlogic.gdx.backends.jogamp.JoglFlightRecorder;
+import com.badlogic.gdx.backends.jogamp.JoglGL20;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class JoglFlightRecordingTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testEventsAreRecorded() throws IOException {
+        Assert.assertTrue(JoglFlightRecorder.isAvailable());
+        final JoglGL20 gl = new JoglGL20(new StubGL().gl, false);
+        final File file = folder.newFile("backend.jfr");
+        final Recording recording = new Recording();
+        try {
+            recording.enable("com.badlogic.gdx.backends.jogamp.Frame");
+            recording.enable("com.badlogic.gdx.backends.jogamp.ShaderCompile");
+            recording.disable("com.badlogic.gdx.backends.jogamp.Audio");
+            recording.start();
+            final Object frame = JoglFlightRecorder.begin(JoglFlightRecorder.FRAME);
+            Assert.assertNotNull(frame);
+            gl.glCompileShader(7);
+            // disabled by the recording
+            Assert.assertNull(JoglFlightRecorder.begin(JoglFlightRecorder.AUDIO));
+            JoglFlightRecorder.commit(frame, 42, 1, 0);
+            recording.stop();
+            recording.dump(file.toPath());
+        } finally {
+            recording.close();
+        }
+
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(file.toPath());
+        Assert.assertEquals(2, events.size());
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().endsWith("Frame")) {
+                Assert.assertEquals(42, event.getLong("frameId"));
+                Assert.assertTrue(event.getBoolean("rendered"));
+            } else {
+                Assert.assertEquals(7, event.getInt("shader"));
+                Assert.assertEquals(-1, event.getLong("frameId"));
+            }
+        }
+    }
+}